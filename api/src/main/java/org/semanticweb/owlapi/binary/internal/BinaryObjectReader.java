@@ -0,0 +1,534 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.binary.internal;
+
+import static org.semanticweb.owlapi.binary.internal.BinaryVocabulary.IRI_TYPE;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationSubject;
+import org.semanticweb.owlapi.model.OWLAnnotationValue;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLDArgument;
+import org.semanticweb.owlapi.model.SWRLIArgument;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+/**
+ * Decodes OWL objects written by {@link BinaryObjectRenderer}, either from a whole binary snapshot
+ * or one object at a time.
+ *
+ * @author ignazio
+ * @since 5.1.18
+ * @see BinaryVocabulary
+ */
+public class BinaryObjectReader {
+
+    private ByteBuffer in;
+    private final OWLDataFactory df;
+    private final RemappingIndividualProvider anonProvider;
+    private final List<String> strings;
+    private final List<IRI> iris;
+    // entity caches, only used when decoding a whole snapshot
+    @Nullable
+    private final OWLClass[] classes;
+    @Nullable
+    private final OWLObjectProperty[] objectProperties;
+    @Nullable
+    private final OWLDataProperty[] dataProperties;
+    @Nullable
+    private final OWLAnnotationProperty[] annotationProperties;
+    @Nullable
+    private final OWLNamedIndividual[] individuals;
+    @Nullable
+    private final OWLDatatype[] datatypes;
+
+    /**
+     * Reader for a whole snapshot: the string and IRI tables are read from the input.
+     *
+     * @param in buffer positioned after the header
+     * @param df data factory
+     * @param anonProvider provider for anonymous individuals
+     */
+    public BinaryObjectReader(ByteBuffer in, OWLDataFactory df,
+        RemappingIndividualProvider anonProvider) {
+        this.in = in;
+        this.df = df;
+        this.anonProvider = anonProvider;
+        int stringCount = readCount();
+        strings = new ArrayList<>(stringCount);
+        for (int i = 0; i < stringCount; i++) {
+            byte[] b = new byte[readCount()];
+            in.get(b);
+            strings.add(new String(b, StandardCharsets.UTF_8));
+        }
+        int iriCount = readCount();
+        iris = new ArrayList<>(iriCount);
+        for (int i = 0; i < iriCount; i++) {
+            iris.add(IRI.create(readString(), readString()));
+        }
+        classes = new OWLClass[iriCount];
+        objectProperties = new OWLObjectProperty[iriCount];
+        dataProperties = new OWLDataProperty[iriCount];
+        annotationProperties = new OWLAnnotationProperty[iriCount];
+        individuals = new OWLNamedIndividual[iriCount];
+        datatypes = new OWLDatatype[iriCount];
+    }
+
+    /**
+     * Reader for single objects encoded by a {@link BinaryObjectRenderer}; the tables are shared
+     * with the renderer and can grow between reads. Anonymous individuals are not remapped.
+     *
+     * @param df data factory
+     * @param strings string table
+     * @param iris IRI table
+     * @see #read(ByteBuffer)
+     */
+    public BinaryObjectReader(OWLDataFactory df, List<String> strings, List<IRI> iris) {
+        in = ByteBuffer.allocate(0);
+        this.df = df;
+        anonProvider = new RemappingIndividualProvider(false, df);
+        this.strings = strings;
+        this.iris = iris;
+        classes = null;
+        objectProperties = null;
+        dataProperties = null;
+        annotationProperties = null;
+        individuals = null;
+        datatypes = null;
+    }
+
+    /**
+     * @param <T> expected type
+     * @param buffer buffer positioned at the start of an encoded object
+     * @return the decoded object
+     */
+    public <T> T read(ByteBuffer buffer) {
+        in = buffer;
+        return read();
+    }
+
+    /**
+     * @return next unsigned variable length integer
+     */
+    public int readInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new OWLParserException("Malformed integer in binary snapshot");
+            }
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Reads the size of a table, list or string. Each element takes at least one byte, so sizes
+     * larger than the bytes left are rejected before anything is allocated for them.
+     *
+     * @return next count
+     * @throws OWLParserException if the count is negative or larger than the bytes left
+     */
+    public int readCount() {
+        int count = readInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new OWLParserException("Corrupt binary snapshot: count " + count
+                + " exceeds the " + in.remaining() + " bytes left");
+        }
+        return count;
+    }
+
+    /**
+     * @return next string
+     */
+    public String readString() {
+        return strings.get(readInt());
+    }
+
+    /**
+     * @return next IRI
+     */
+    public IRI readIRI() {
+        return iris.get(readInt());
+    }
+
+    /**
+     * @return next optional IRI, written as index plus one
+     */
+    @Nullable
+    public IRI readOptionalIRI() {
+        int index = readInt();
+        return index == 0 ? null : iris.get(index - 1);
+    }
+
+    /**
+     * @param <T> expected type
+     * @return next list of objects
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> readList() {
+        int size = readCount();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) read());
+        }
+        return list;
+    }
+
+    /**
+     * @param <T> expected type
+     * @return next object
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read() {
+        return (T) readObject();
+    }
+
+    private OWLObject readObject() {
+        int type = readInt();
+        if (type >= 2000 && type < 3000) {
+            return readAxiom(type - 2000, readList());
+        }
+        switch (type) {
+            case IRI_TYPE:
+                return readIRI();
+            case 1001:
+                return clazz(readInt());
+            case 1002:
+                return objectProperty(readInt());
+            case 1003:
+                return df.getOWLObjectInverseOf(this.<OWLObjectPropertyExpression>read().asOWLObjectProperty());
+            case 1004:
+                return dataProperty(readInt());
+            case 1005:
+                return individual(readInt());
+            case 1006:
+                return annotationProperty(readInt());
+            case 1007:
+                return anonProvider.getOWLAnonymousIndividual(readString());
+            default:
+                return readExpression(type);
+        }
+    }
+
+    private OWLObject readExpression(int type) {
+        switch (type) {
+            case 3001:
+                return df.getOWLObjectIntersectionOf(this.<OWLClassExpression>readList());
+            case 3002:
+                return df.getOWLObjectUnionOf(this.<OWLClassExpression>readList());
+            case 3003:
+                return df.getOWLObjectComplementOf(read());
+            case 3004:
+                return df.getOWLObjectOneOf(this.<OWLIndividual>readList().stream());
+            case 3005:
+                return df.getOWLObjectSomeValuesFrom(read(), read());
+            case 3006:
+                return df.getOWLObjectAllValuesFrom(read(), read());
+            case 3007:
+                return df.getOWLObjectHasValue(read(), read());
+            case 3008:
+                return df.getOWLObjectMinCardinality(readInt(), read(), read());
+            case 3009:
+                return df.getOWLObjectExactCardinality(readInt(), read(), read());
+            case 3010:
+                return df.getOWLObjectMaxCardinality(readInt(), read(), read());
+            case 3011:
+                return df.getOWLObjectHasSelf(read());
+            case 3012:
+                return df.getOWLDataSomeValuesFrom(read(), this.<OWLDataRange>read());
+            case 3013:
+                return df.getOWLDataAllValuesFrom(read(), this.<OWLDataRange>read());
+            case 3014:
+                return df.getOWLDataHasValue(read(), this.<OWLLiteral>read());
+            case 3015:
+                return df.getOWLDataMinCardinality(readInt(), read(), this.<OWLDataRange>read());
+            case 3016:
+                return df.getOWLDataExactCardinality(readInt(), read(), this.<OWLDataRange>read());
+            case 3017:
+                return df.getOWLDataMaxCardinality(readInt(), read(), this.<OWLDataRange>read());
+            case 4001:
+                return datatype(readInt());
+            case 4002:
+                return df.getOWLDataComplementOf(this.<OWLDataRange>read());
+            case 4003:
+                return df.getOWLDataOneOf(this.<OWLLiteral>readList().stream());
+            case 4004:
+                return df.getOWLDataIntersectionOf(this.<OWLDataRange>readList());
+            case 4005:
+                return df.getOWLDataUnionOf(this.<OWLDataRange>readList());
+            case 4006:
+                return df.getOWLDatatypeRestriction(read(), readList());
+            case 4007:
+                return df.getOWLFacetRestriction(OWLFacet.getFacet(readIRI()),
+                    this.<OWLLiteral>read());
+            case 4008:
+                return literal();
+            case 5001:
+                return annotation();
+            default:
+                return readRuleObject(type);
+        }
+    }
+
+    private OWLObject readRuleObject(int type) {
+        switch (type) {
+            case 6001:
+                return df.getSWRLClassAtom(read(), read());
+            case 6002:
+                return df.getSWRLDataRangeAtom(this.<OWLDataRange>read(), read());
+            case 6003:
+                return df.getSWRLObjectPropertyAtom(read(), read(), read());
+            case 6004:
+                return df.getSWRLDataPropertyAtom(read(), read(), read());
+            case 6005:
+                return df.getSWRLBuiltInAtom(readIRI(), this.<SWRLDArgument>readList());
+            case 6006:
+                return df.getSWRLVariable(readIRI());
+            case 6007:
+                return df.getSWRLIndividualArgument(read());
+            case 6008:
+                return df.getSWRLLiteralArgument(read());
+            case 6009:
+                return df.getSWRLSameIndividualAtom(this.<SWRLIArgument>read(), read());
+            case 6010:
+                return df.getSWRLDifferentIndividualsAtom(this.<SWRLIArgument>read(), read());
+            default:
+                throw new OWLParserException("Unknown object type in binary snapshot: " + type);
+        }
+    }
+
+    private OWLAxiom readAxiom(int type, List<OWLAnnotation> a) {
+        switch (type) {
+            case 0:
+                return df.getOWLDeclarationAxiom(this.<OWLEntity>read(), a);
+            case 1:
+                return df.getOWLEquivalentClassesAxiom(this.<OWLClassExpression>readList(), a);
+            case 2:
+                return df.getOWLSubClassOfAxiom(this.<OWLClassExpression>read(),
+                    this.<OWLClassExpression>read(), a);
+            case 3:
+                return df.getOWLDisjointClassesAxiom(this.<OWLClassExpression>readList(), a);
+            case 4:
+                return df.getOWLDisjointUnionAxiom(read(), this.<OWLClassExpression>readList(), a);
+            case 5:
+                return df.getOWLClassAssertionAxiom(this.<OWLClassExpression>read(),
+                    this.<OWLIndividual>read(), a);
+            case 6:
+                return df.getOWLSameIndividualAxiom(this.<OWLIndividual>readList(), a);
+            case 7:
+                return df.getOWLDifferentIndividualsAxiom(this.<OWLIndividual>readList(), a);
+            case 8:
+                return df.getOWLObjectPropertyAssertionAxiom(read(), read(), read(), a);
+            case 9:
+                return df.getOWLNegativeObjectPropertyAssertionAxiom(read(), read(), read(), a);
+            case 10:
+                return df.getOWLDataPropertyAssertionAxiom(read(), read(),
+                    this.<OWLLiteral>read(), a);
+            case 11:
+                return df.getOWLNegativeDataPropertyAssertionAxiom(read(), read(),
+                    this.<OWLLiteral>read(), a);
+            case 12:
+                return df.getOWLEquivalentObjectPropertiesAxiom(
+                    this.<OWLObjectPropertyExpression>readList(), a);
+            case 13:
+                return df.getOWLSubObjectPropertyOfAxiom(this.<OWLObjectPropertyExpression>read(),
+                    this.<OWLObjectPropertyExpression>read(), a);
+            case 14:
+                return df.getOWLInverseObjectPropertiesAxiom(read(), read(), a);
+            case 15:
+                return df.getOWLFunctionalObjectPropertyAxiom(read(), a);
+            case 16:
+                return df.getOWLInverseFunctionalObjectPropertyAxiom(read(), a);
+            case 17:
+                return df.getOWLSymmetricObjectPropertyAxiom(read(), a);
+            case 18:
+                return df.getOWLAsymmetricObjectPropertyAxiom(read(), a);
+            case 19:
+                return df.getOWLTransitiveObjectPropertyAxiom(read(), a);
+            case 20:
+                return df.getOWLReflexiveObjectPropertyAxiom(read(), a);
+            case 21:
+                return df.getOWLIrreflexiveObjectPropertyAxiom(read(), a);
+            case 22:
+                return df.getOWLObjectPropertyDomainAxiom(read(), read(), a);
+            case 23:
+                return df.getOWLObjectPropertyRangeAxiom(read(), read(), a);
+            case 24:
+                return df.getOWLDisjointObjectPropertiesAxiom(
+                    this.<OWLObjectPropertyExpression>readList(), a);
+            case 25:
+                return df.getOWLSubPropertyChainOfAxiom(
+                    this.<OWLObjectPropertyExpression>readList(), read(), a);
+            case 26:
+                return df.getOWLEquivalentDataPropertiesAxiom(
+                    this.<OWLDataPropertyExpression>readList(), a);
+            case 27:
+                return df.getOWLSubDataPropertyOfAxiom(this.<OWLDataPropertyExpression>read(),
+                    this.<OWLDataPropertyExpression>read(), a);
+            case 28:
+                return df.getOWLFunctionalDataPropertyAxiom(read(), a);
+            case 29:
+                return df.getOWLDataPropertyDomainAxiom(read(), read(), a);
+            case 30:
+                return df.getOWLDataPropertyRangeAxiom(read(), this.<OWLDataRange>read(), a);
+            case 31:
+                return df.getOWLDisjointDataPropertiesAxiom(
+                    this.<OWLDataPropertyExpression>readList(), a);
+            case 32:
+                return df.getOWLHasKeyAxiom(read(), readList(), a);
+            case 33:
+                return df.getSWRLRule(this.<SWRLAtom>readList(), this.<SWRLAtom>readList(), a);
+            case 34:
+                return df.getOWLAnnotationAssertionAxiom(read(), this.<OWLAnnotationSubject>read(),
+                    this.<OWLAnnotationValue>read(), a);
+            case 35:
+                return df.getOWLSubAnnotationPropertyOfAxiom(read(), read(), a);
+            case 36:
+                return df.getOWLAnnotationPropertyRangeAxiom(read(), readIRI(), a);
+            case 37:
+                return df.getOWLAnnotationPropertyDomainAxiom(read(), readIRI(), a);
+            case 38:
+                return df.getOWLDatatypeDefinitionAxiom(read(), this.<OWLDataRange>read(), a);
+            default:
+                throw new OWLParserException("Unknown axiom type in binary snapshot: " + type);
+        }
+    }
+
+    private OWLLiteral literal() {
+        OWLDatatype datatype = datatype(readInt());
+        String literal = readString();
+        String lang = readString();
+        if (lang.isEmpty()) {
+            return df.getOWLLiteral(literal, datatype);
+        }
+        return df.getOWLLiteral(literal, lang);
+    }
+
+    private OWLAnnotation annotation() {
+        List<OWLAnnotation> annotations = readList();
+        OWLAnnotationProperty property = read();
+        OWLAnnotationValue value = read();
+        return df.getOWLAnnotation(property, value, annotations);
+    }
+
+    private OWLClass clazz(int i) {
+        OWLClass[] cache = classes;
+        if (cache == null) {
+            return df.getOWLClass(iris.get(i));
+        }
+        OWLClass e = cache[i];
+        if (e == null) {
+            e = df.getOWLClass(iris.get(i));
+            cache[i] = e;
+        }
+        return e;
+    }
+
+    private OWLObjectProperty objectProperty(int i) {
+        OWLObjectProperty[] cache = objectProperties;
+        if (cache == null) {
+            return df.getOWLObjectProperty(iris.get(i));
+        }
+        OWLObjectProperty e = cache[i];
+        if (e == null) {
+            e = df.getOWLObjectProperty(iris.get(i));
+            cache[i] = e;
+        }
+        return e;
+    }
+
+    private OWLDataProperty dataProperty(int i) {
+        OWLDataProperty[] cache = dataProperties;
+        if (cache == null) {
+            return df.getOWLDataProperty(iris.get(i));
+        }
+        OWLDataProperty e = cache[i];
+        if (e == null) {
+            e = df.getOWLDataProperty(iris.get(i));
+            cache[i] = e;
+        }
+        return e;
+    }
+
+    private OWLAnnotationProperty annotationProperty(int i) {
+        OWLAnnotationProperty[] cache = annotationProperties;
+        if (cache == null) {
+            return df.getOWLAnnotationProperty(iris.get(i));
+        }
+        OWLAnnotationProperty e = cache[i];
+        if (e == null) {
+            e = df.getOWLAnnotationProperty(iris.get(i));
+            cache[i] = e;
+        }
+        return e;
+    }
+
+    private OWLNamedIndividual individual(int i) {
+        OWLNamedIndividual[] cache = individuals;
+        if (cache == null) {
+            return df.getOWLNamedIndividual(iris.get(i));
+        }
+        OWLNamedIndividual e = cache[i];
+        if (e == null) {
+            e = df.getOWLNamedIndividual(iris.get(i));
+            cache[i] = e;
+        }
+        return e;
+    }
+
+    private OWLDatatype datatype(int i) {
+        OWLDatatype[] cache = datatypes;
+        if (cache == null) {
+            return df.getOWLDatatype(iris.get(i));
+        }
+        OWLDatatype e = cache[i];
+        if (e == null) {
+            e = df.getOWLDatatype(iris.get(i));
+            cache[i] = e;
+        }
+        return e;
+    }
+}
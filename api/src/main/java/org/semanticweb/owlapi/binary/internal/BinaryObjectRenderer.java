@@ -0,0 +1,816 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.binary.internal;
+
+import static org.semanticweb.owlapi.binary.internal.BinaryVocabulary.IRI_TYPE;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAsymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLCardinalityRestriction;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataComplementOf;
+import org.semanticweb.owlapi.model.OWLDataExactCardinality;
+import org.semanticweb.owlapi.model.OWLDataHasValue;
+import org.semanticweb.owlapi.model.OWLDataIntersectionOf;
+import org.semanticweb.owlapi.model.OWLDataMaxCardinality;
+import org.semanticweb.owlapi.model.OWLDataMinCardinality;
+import org.semanticweb.owlapi.model.OWLDataOneOf;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDataSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataUnionOf;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
+import org.semanticweb.owlapi.model.OWLDatatypeRestriction;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLFacetRestriction;
+import org.semanticweb.owlapi.model.OWLFunctionalDataPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLHasKeyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLIrreflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLNaryBooleanClassExpression;
+import org.semanticweb.owlapi.model.OWLNaryDataRange;
+import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectComplementOf;
+import org.semanticweb.owlapi.model.OWLObjectExactCardinality;
+import org.semanticweb.owlapi.model.OWLObjectHasSelf;
+import org.semanticweb.owlapi.model.OWLObjectHasValue;
+import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
+import org.semanticweb.owlapi.model.OWLObjectInverseOf;
+import org.semanticweb.owlapi.model.OWLObjectMaxCardinality;
+import org.semanticweb.owlapi.model.OWLObjectMinCardinality;
+import org.semanticweb.owlapi.model.OWLObjectOneOf;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectUnionOf;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
+import org.semanticweb.owlapi.model.OWLPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLQuantifiedRestriction;
+import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
+import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLUnaryPropertyAxiom;
+import org.semanticweb.owlapi.model.SWRLBinaryAtom;
+import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLDataPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLDataRangeAtom;
+import org.semanticweb.owlapi.model.SWRLDifferentIndividualsAtom;
+import org.semanticweb.owlapi.model.SWRLIndividualArgument;
+import org.semanticweb.owlapi.model.SWRLLiteralArgument;
+import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
+import org.semanticweb.owlapi.model.SWRLVariable;
+
+/**
+ * Encodes OWL objects in the binary snapshot format. Strings and IRIs are interned while objects
+ * are written; the tables must be saved ahead of the encoded body for a reader to decode it.
+ *
+ * @author ignazio
+ * @since 5.1.18
+ * @see BinaryVocabulary
+ */
+public class BinaryObjectRenderer implements OWLObjectVisitor {
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(1 << 16);
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final List<String> stringTable = new ArrayList<>();
+    private final Map<IRI, Integer> iris = new HashMap<>();
+    private final List<IRI> iriTable = new ArrayList<>();
+
+    /**
+     * @return the encoded objects
+     */
+    public ByteArrayOutputStream getBody() {
+        return body;
+    }
+
+    /**
+     * Encode a single object, discarding anything written before. The strings and IRIs it refers
+     * to are added to the tables.
+     *
+     * @param o object to encode
+     * @return the encoded object
+     */
+    public byte[] encode(OWLObject o) {
+        body.reset();
+        write(o);
+        return body.toByteArray();
+    }
+
+    /**
+     * @return strings in index order
+     */
+    public List<String> getStringTable() {
+        return stringTable;
+    }
+
+    /**
+     * @return IRIs in index order
+     */
+    public List<IRI> getIRITable() {
+        return iriTable;
+    }
+
+    /**
+     * @param i unsigned integer to write as a variable length quantity
+     */
+    public void writeInt(int i) {
+        writeInt(body, i);
+    }
+
+    /**
+     * @param out output to write to
+     * @param i unsigned integer to write as a variable length quantity
+     */
+    public static void writeInt(ByteArrayOutputStream out, int i) {
+        int value = i;
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * @param s string to write; written as an index in the string table
+     */
+    public void writeString(String s) {
+        writeInt(stringIndex(s));
+    }
+
+    /**
+     * @param iri IRI to write; written as an index in the IRI table
+     */
+    public void writeIRI(IRI iri) {
+        writeInt(iriIndex(iri));
+    }
+
+    /**
+     * @param o object to write, preceded by its type index
+     */
+    public void write(OWLObject o) {
+        o.accept(this);
+    }
+
+    /**
+     * @param objects objects to write, preceded by their number
+     */
+    public void write(Collection<? extends OWLObject> objects) {
+        writeInt(objects.size());
+        objects.forEach(this::write);
+    }
+
+    /**
+     * @param s string to intern
+     * @return index of the string in the string table
+     */
+    public int stringIndex(String s) {
+        Integer index = strings.get(s);
+        if (index == null) {
+            index = Integer.valueOf(stringTable.size());
+            strings.put(s, index);
+            stringTable.add(s);
+        }
+        return index.intValue();
+    }
+
+    /**
+     * @param iri IRI to intern
+     * @return index of the IRI in the IRI table
+     */
+    public int iriIndex(IRI iri) {
+        Integer index = iris.get(iri);
+        if (index == null) {
+            // make sure the strings are interned as well
+            stringIndex(iri.getNamespace());
+            stringIndex(iri.getFragment());
+            index = Integer.valueOf(iriTable.size());
+            iris.put(iri, index);
+            iriTable.add(iri);
+        }
+        return index.intValue();
+    }
+
+    /**
+     * @param s string to encode
+     * @return UTF-8 bytes
+     */
+    public static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void start(OWLObject o) {
+        writeInt(o.typeIndex());
+    }
+
+    private void start(OWLAxiom axiom) {
+        writeInt(axiom.typeIndex());
+        write(axiom.annotationsAsList());
+    }
+
+    private void entity(OWLEntity e) {
+        start(e);
+        writeIRI(e.getIRI());
+    }
+
+    private void nary(OWLAxiom axiom, List<? extends OWLObject> operands) {
+        start(axiom);
+        write(operands);
+    }
+
+    private void unaryProperty(OWLUnaryPropertyAxiom<?> axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+    }
+
+    private void assertion(OWLPropertyAssertionAxiom<?, ?> axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        write(axiom.getSubject());
+        write(axiom.getObject());
+    }
+
+    private void quantified(OWLQuantifiedRestriction<?> ce) {
+        start(ce);
+        write(ce.getProperty());
+        write(ce.getFiller());
+    }
+
+    private void cardinality(OWLCardinalityRestriction<?> ce) {
+        start(ce);
+        writeInt(ce.getCardinality());
+        write(ce.getProperty());
+        write(ce.getFiller());
+    }
+
+    private void binaryAtom(SWRLBinaryAtom<?, ?> node, OWLObject predicate) {
+        start(node);
+        write(predicate);
+        write(node.getFirstArgument());
+        write(node.getSecondArgument());
+    }
+
+    // entities, IRIs and literals
+
+    @Override
+    public void visit(IRI iri) {
+        writeInt(IRI_TYPE);
+        writeIRI(iri);
+    }
+
+    @Override
+    public void visit(OWLClass ce) {
+        entity(ce);
+    }
+
+    @Override
+    public void visit(OWLDatatype node) {
+        entity(node);
+    }
+
+    @Override
+    public void visit(OWLObjectProperty property) {
+        entity(property);
+    }
+
+    @Override
+    public void visit(OWLDataProperty property) {
+        entity(property);
+    }
+
+    @Override
+    public void visit(OWLAnnotationProperty property) {
+        entity(property);
+    }
+
+    @Override
+    public void visit(OWLNamedIndividual individual) {
+        entity(individual);
+    }
+
+    @Override
+    public void visit(OWLAnonymousIndividual individual) {
+        start(individual);
+        writeString(individual.getID().getID());
+    }
+
+    @Override
+    public void visit(OWLLiteral node) {
+        start(node);
+        writeIRI(node.getDatatype().getIRI());
+        writeString(node.getLiteral());
+        writeString(node.getLang());
+    }
+
+    @Override
+    public void visit(OWLAnnotation node) {
+        start(node);
+        write(node.annotationsAsList());
+        write(node.getProperty());
+        write(node.getValue());
+    }
+
+    @Override
+    public void visit(OWLObjectInverseOf property) {
+        start(property);
+        write(property.getInverse());
+    }
+
+    // class expressions
+
+    private void naryBoolean(OWLNaryBooleanClassExpression ce) {
+        start(ce);
+        write(ce.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLObjectIntersectionOf ce) {
+        naryBoolean(ce);
+    }
+
+    @Override
+    public void visit(OWLObjectUnionOf ce) {
+        naryBoolean(ce);
+    }
+
+    @Override
+    public void visit(OWLObjectComplementOf ce) {
+        start(ce);
+        write(ce.getOperand());
+    }
+
+    @Override
+    public void visit(OWLObjectOneOf ce) {
+        start(ce);
+        write(ce.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLObjectSomeValuesFrom ce) {
+        quantified(ce);
+    }
+
+    @Override
+    public void visit(OWLObjectAllValuesFrom ce) {
+        quantified(ce);
+    }
+
+    @Override
+    public void visit(OWLObjectHasValue ce) {
+        start(ce);
+        write(ce.getProperty());
+        write(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectMinCardinality ce) {
+        cardinality(ce);
+    }
+
+    @Override
+    public void visit(OWLObjectExactCardinality ce) {
+        cardinality(ce);
+    }
+
+    @Override
+    public void visit(OWLObjectMaxCardinality ce) {
+        cardinality(ce);
+    }
+
+    @Override
+    public void visit(OWLObjectHasSelf ce) {
+        start(ce);
+        write(ce.getProperty());
+    }
+
+    @Override
+    public void visit(OWLDataSomeValuesFrom ce) {
+        quantified(ce);
+    }
+
+    @Override
+    public void visit(OWLDataAllValuesFrom ce) {
+        quantified(ce);
+    }
+
+    @Override
+    public void visit(OWLDataHasValue ce) {
+        start(ce);
+        write(ce.getProperty());
+        write(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataMinCardinality ce) {
+        cardinality(ce);
+    }
+
+    @Override
+    public void visit(OWLDataExactCardinality ce) {
+        cardinality(ce);
+    }
+
+    @Override
+    public void visit(OWLDataMaxCardinality ce) {
+        cardinality(ce);
+    }
+
+    // data ranges
+
+    private void naryDataRange(OWLNaryDataRange node) {
+        start(node);
+        write(node.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLDataComplementOf node) {
+        start(node);
+        write(node.getDataRange());
+    }
+
+    @Override
+    public void visit(OWLDataOneOf node) {
+        start(node);
+        write(node.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLDataIntersectionOf node) {
+        naryDataRange(node);
+    }
+
+    @Override
+    public void visit(OWLDataUnionOf node) {
+        naryDataRange(node);
+    }
+
+    @Override
+    public void visit(OWLDatatypeRestriction node) {
+        start(node);
+        write(node.getDatatype());
+        write(node.facetRestrictionsAsList());
+    }
+
+    @Override
+    public void visit(OWLFacetRestriction node) {
+        start(node);
+        writeIRI(node.getFacet().getIRI());
+        write(node.getFacetValue());
+    }
+
+    // axioms
+
+    @Override
+    public void visit(OWLDeclarationAxiom axiom) {
+        start(axiom);
+        write(axiom.getEntity());
+    }
+
+    @Override
+    public void visit(OWLSubClassOfAxiom axiom) {
+        start(axiom);
+        write(axiom.getSubClass());
+        write(axiom.getSuperClass());
+    }
+
+    @Override
+    public void visit(OWLEquivalentClassesAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLDisjointClassesAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLDisjointUnionAxiom axiom) {
+        start(axiom);
+        write(axiom.getOWLClass());
+        write(axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLClassAssertionAxiom axiom) {
+        start(axiom);
+        write(axiom.getClassExpression());
+        write(axiom.getIndividual());
+    }
+
+    @Override
+    public void visit(OWLSameIndividualAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLDifferentIndividualsAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyAssertionAxiom axiom) {
+        assertion(axiom);
+    }
+
+    @Override
+    public void visit(OWLNegativeObjectPropertyAssertionAxiom axiom) {
+        assertion(axiom);
+    }
+
+    @Override
+    public void visit(OWLDataPropertyAssertionAxiom axiom) {
+        assertion(axiom);
+    }
+
+    @Override
+    public void visit(OWLNegativeDataPropertyAssertionAxiom axiom) {
+        assertion(axiom);
+    }
+
+    @Override
+    public void visit(OWLEquivalentObjectPropertiesAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLDisjointObjectPropertiesAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLEquivalentDataPropertiesAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLDisjointDataPropertiesAxiom axiom) {
+        nary(axiom, axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLSubObjectPropertyOfAxiom axiom) {
+        start(axiom);
+        write(axiom.getSubProperty());
+        write(axiom.getSuperProperty());
+    }
+
+    @Override
+    public void visit(OWLSubDataPropertyOfAxiom axiom) {
+        start(axiom);
+        write(axiom.getSubProperty());
+        write(axiom.getSuperProperty());
+    }
+
+    @Override
+    public void visit(OWLSubAnnotationPropertyOfAxiom axiom) {
+        start(axiom);
+        write(axiom.getSubProperty());
+        write(axiom.getSuperProperty());
+    }
+
+    @Override
+    public void visit(OWLInverseObjectPropertiesAxiom axiom) {
+        start(axiom);
+        write(axiom.getFirstProperty());
+        write(axiom.getSecondProperty());
+    }
+
+    @Override
+    public void visit(OWLFunctionalObjectPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLInverseFunctionalObjectPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLSymmetricObjectPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLAsymmetricObjectPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLTransitiveObjectPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLReflexiveObjectPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLIrreflexiveObjectPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLFunctionalDataPropertyAxiom axiom) {
+        unaryProperty(axiom);
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyDomainAxiom axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        write(axiom.getDomain());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyRangeAxiom axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        write(axiom.getRange());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyDomainAxiom axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        write(axiom.getDomain());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyRangeAxiom axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        write(axiom.getRange());
+    }
+
+    @Override
+    public void visit(OWLSubPropertyChainOfAxiom axiom) {
+        start(axiom);
+        write(axiom.getPropertyChain());
+        write(axiom.getSuperProperty());
+    }
+
+    @Override
+    public void visit(OWLDatatypeDefinitionAxiom axiom) {
+        start(axiom);
+        write(axiom.getDatatype());
+        write(axiom.getDataRange());
+    }
+
+    @Override
+    public void visit(OWLHasKeyAxiom axiom) {
+        start(axiom);
+        write(axiom.getClassExpression());
+        write(axiom.getOperandsAsList());
+    }
+
+    @Override
+    public void visit(OWLAnnotationAssertionAxiom axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        write(axiom.getSubject());
+        write(axiom.getValue());
+    }
+
+    @Override
+    public void visit(OWLAnnotationPropertyDomainAxiom axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        writeIRI(axiom.getDomain());
+    }
+
+    @Override
+    public void visit(OWLAnnotationPropertyRangeAxiom axiom) {
+        start(axiom);
+        write(axiom.getProperty());
+        writeIRI(axiom.getRange());
+    }
+
+    // rules
+
+    @Override
+    public void visit(SWRLRule rule) {
+        start(rule);
+        write(rule.bodyList());
+        write(rule.headList());
+    }
+
+    @Override
+    public void visit(SWRLClassAtom node) {
+        start(node);
+        write(node.getPredicate());
+        write(node.getArgument());
+    }
+
+    @Override
+    public void visit(SWRLDataRangeAtom node) {
+        start(node);
+        write(node.getPredicate());
+        write(node.getArgument());
+    }
+
+    @Override
+    public void visit(SWRLObjectPropertyAtom node) {
+        binaryAtom(node, node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLDataPropertyAtom node) {
+        binaryAtom(node, node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLBuiltInAtom node) {
+        start(node);
+        writeIRI(node.getPredicate());
+        write(node.getArguments());
+    }
+
+    @Override
+    public void visit(SWRLVariable node) {
+        start(node);
+        writeIRI(node.getIRI());
+    }
+
+    @Override
+    public void visit(SWRLIndividualArgument node) {
+        start(node);
+        write(node.getIndividual());
+    }
+
+    @Override
+    public void visit(SWRLLiteralArgument node) {
+        start(node);
+        write(node.getLiteral());
+    }
+
+    @Override
+    public void visit(SWRLSameIndividualAtom node) {
+        start(node);
+        write(node.getFirstArgument());
+        write(node.getSecondArgument());
+    }
+
+    @Override
+    public void visit(SWRLDifferentIndividualsAtom node) {
+        start(node);
+        write(node.getFirstArgument());
+        write(node.getSecondArgument());
+    }
+}
@@ -0,0 +1,85 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+
+/**
+ * A file input source that parsers able to work on bytes can memory map, instead of reading the
+ * file through a stream and a reader. Such parsers tokenize the mapped UTF-8 bytes directly and
+ * only decode strings for IRIs and literals; all other parsers read the file as for a
+ * {@link FileDocumentSource}.
+ *
+ * @author ignazio
+ * @since 5.1.18
+ */
+public class MappedFileDocumentSource extends FileDocumentSource {
+
+    /**
+     * Files are mapped in regions of {@code 1 << REGION_BITS} bytes, since a single buffer cannot
+     * address more than 2GB.
+     */
+    public static final int REGION_BITS = 30;
+    private final File file;
+
+    /**
+     * @param file The file from which a concrete representation of an ontology will be obtained.
+     */
+    public MappedFileDocumentSource(File file) {
+        this(file, null, null);
+    }
+
+    /**
+     * @param file The file from which a concrete representation of an ontology will be obtained.
+     * @param format ontology format. Can be null.
+     * @param mime mime type
+     */
+    public MappedFileDocumentSource(File file, @Nullable OWLDocumentFormat format,
+        @Nullable String mime) {
+        super(file, format, mime);
+        this.file = file;
+    }
+
+    /**
+     * Map the file read only. Every region except the last is exactly {@code 1 << REGION_BITS}
+     * bytes long, so that byte {@code i} of the file is at position
+     * {@code i & ((1 << REGION_BITS) - 1)} of region {@code i >>> REGION_BITS}. The mapping stays
+     * valid until the buffers are garbage collected.
+     *
+     * @return mapped regions of the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public ByteBuffer[] map() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long regionSize = 1L << REGION_BITS;
+            int count = (int) Math.max(1, (size + regionSize - 1) >>> REGION_BITS);
+            ByteBuffer[] regions = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long start = i * regionSize;
+                regions[i] =
+                    channel.map(MapMode.READ_ONLY, start, Math.min(regionSize, size - start));
+            }
+            return regions;
+        }
+    }
+}
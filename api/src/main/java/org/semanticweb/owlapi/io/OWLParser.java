@@ -13,8 +13,10 @@
 package org.semanticweb.owlapi.io;
 
 import java.io.Serializable;
+import java.util.function.Consumer;
 
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -83,6 +85,38 @@ public interface OWLParser extends Serializable {
     OWLDocumentFormat parse(OWLOntologyDocumentSource documentSource, OWLOntology ontology,
         OWLOntologyLoaderConfiguration configuration);
 
+    /**
+     * Parses the ontology with a concrete representation in {@code documentSource} and passes its
+     * axioms to {@code consumer}, one at a time, as soon as they are parsed. Axioms are not added to
+     * {@code ontology}, which only receives the ontology id, imports declarations and ontology
+     * annotations; imports are loaded as in
+     * {@link #parse(OWLOntologyDocumentSource, OWLOntology, OWLOntologyLoaderConfiguration)}.
+     * Parsers that support this method do not keep parsed axioms in memory; duplicate axioms in the
+     * document are passed to the consumer more than once.
+     *
+     * @param documentSource the source of a concrete representation of the document to parse
+     * @param ontology the ontology to which the ontology header is added
+     * @param configuration parsing options for the parser
+     * @param consumer consumer for the parsed axioms
+     * @return the format of the parsed ontology
+     * @throws OWLParserException if there was a parsing problem parsing the ontology.
+     * @throws UnsupportedOperationException if this parser does not support streaming
+     * @throws UnloadableImportException if one or more imports could not be loaded.
+     */
+    default OWLDocumentFormat parse(OWLOntologyDocumentSource documentSource, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration configuration, Consumer<OWLAxiom> consumer) {
+        throw new UnsupportedOperationException(getName() + " does not support streaming parsing");
+    }
+
+    /**
+     * @return true if
+     *         {@link #parse(OWLOntologyDocumentSource, OWLOntology, OWLOntologyLoaderConfiguration, Consumer)}
+     *         is supported
+     */
+    default boolean supportsStreaming() {
+        return false;
+    }
+
     /**
      * @return a unique name for the parser, typically the simple class name
      */
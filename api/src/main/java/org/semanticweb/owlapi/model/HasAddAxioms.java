@@ -49,4 +49,21 @@ public interface HasAddAxioms {
      *         {@link HasApplyChanges#applyChangesAndGetDetails(java.util.List)}
      */
     ChangeApplied addAxioms(OWLOntology ont, Stream<? extends OWLAxiom> axioms);
+
+    /**
+     * Adds a large batch of axioms to an ontology without generating a change object per axiom.
+     * Change listeners are not notified; progress listeners receive a single begin/end pair for
+     * the batch. Meant for loading axioms into an ontology, e.g., from a parser or an extraction
+     * job, where nothing needs to track individual changes. The default implementation is
+     * equivalent to {@link #addAxioms(OWLOntology, Collection)}.
+     *
+     * @param ont The ontology to which the axioms should be added.
+     * @param axioms The axioms to be added.
+     * @return ChangeApplied.SUCCESSFULLY if any axiom is added, ChangeApplied.NO_OPERATION if all
+     *         axioms were already present, ChangeApplied.UNSUCCESSFULLY if the ontology cannot be
+     *         modified.
+     */
+    default ChangeApplied addAxiomsInBulk(OWLOntology ont, Collection<? extends OWLAxiom> axioms) {
+        return addAxioms(ont, axioms);
+    }
 }
@@ -45,6 +45,18 @@ public interface HasDirectAddAxioms {
      */
     ChangeApplied addAxioms(OWLAxiom... axioms);
 
+    /**
+     * Adds a large batch of axioms without generating a change object per axiom; see
+     * {@link HasAddAxioms#addAxiomsInBulk(OWLOntology, Collection)}.
+     *
+     * @param axioms The axioms to be added. Not {@code null}.
+     * @return ChangeApplied.SUCCESSFULLY if any axiom is added, ChangeApplied.NO_OPERATION if all
+     *         axioms were already present, ChangeApplied.UNSUCCESSFULLY otherwise.
+     */
+    default ChangeApplied addAxiomsInBulk(Collection<? extends OWLAxiom> axioms) {
+        return addAxioms(axioms);
+    }
+
     /**
      * A convenience method that adds a set of axioms to an ontology. The appropriate AddAxiom
      * change objects are automatically generated.
@@ -82,6 +82,15 @@ public interface OWLDataFactory extends SWRLProvider, EntityProvider, EntityByTy
      */
     void purge();
 
+    /**
+     * @return a data factory that creates a new instance for each class expression, data range and
+     *         axiom, for callers that rely on the identity of their objects; this factory if it
+     *         does not share structurally equal objects
+     */
+    default OWLDataFactory getUnsharedFactory() {
+        return this;
+    }
+
     /**
      * Shorthand for
      * {@code getOWLAnnotation(getRDFSLabel(), getOWLLiteral(value))}
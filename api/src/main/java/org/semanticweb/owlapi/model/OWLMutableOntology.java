@@ -12,8 +12,11 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.model;
 
+import java.util.Collection;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+
 /**
  * Marker interface for ontologies where mutating actions must have an effect.
  *
@@ -30,4 +33,30 @@ public interface OWLMutableOntology extends OWLOntology {
     default void setLock(@SuppressWarnings("unused") ReadWriteLock lock) {
         // do nothing in the default implementation
     }
+
+    /**
+     * Add a batch of axioms directly to the ontology, without change objects. This is the bulk
+     * counterpart of {@link #applyDirectChange(OWLOntologyChange)}, and is called by the manager
+     * for {@link OWLOntologyManager#addAxiomsInBulk(OWLOntology, java.util.Collection)}.
+     * Implementations can build their indexes for the whole batch at once; the default
+     * implementation applies one {@link AddAxiom} change per axiom.
+     *
+     * @param axioms axioms to add
+     * @return ChangeApplied.SUCCESSFULLY if any axiom is added, ChangeApplied.NO_OPERATION if all
+     *         axioms were already present, ChangeApplied.UNSUCCESSFULLY if the ontology cannot be
+     *         modified.
+     */
+    default ChangeApplied applyDirectBulkAdd(Collection<? extends OWLAxiom> axioms) {
+        ChangeApplied result = ChangeApplied.NO_OPERATION;
+        for (OWLAxiom ax : axioms) {
+            ChangeApplied applied = applyDirectChange(new AddAxiom(this, ax));
+            if (applied == ChangeApplied.UNSUCCESSFULLY) {
+                return applied;
+            }
+            if (applied == ChangeApplied.SUCCESSFULLY) {
+                result = applied;
+            }
+        }
+        return result;
+    }
 }
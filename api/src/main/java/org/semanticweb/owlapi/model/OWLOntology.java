@@ -117,6 +117,11 @@ public interface OWLOntology extends OWLObject, HasAnnotations, HasDirectImports
         return getOWLOntologyManager().addAxioms(this, axioms);
     }
 
+    @Override
+    default ChangeApplied addAxiomsInBulk(Collection<? extends OWLAxiom> axioms) {
+        return getOWLOntologyManager().addAxiomsInBulk(this, axioms);
+    }
+
     @Override
     default ChangeApplied addAxioms(OWLAxiom... axioms) {
         return addAxioms(Arrays.asList(axioms));
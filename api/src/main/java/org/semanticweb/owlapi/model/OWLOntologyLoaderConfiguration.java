@@ -16,18 +16,31 @@ import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ACCEP
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ALLOW_DUPLICATES_IN_CONSTRUCT_SETS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.AUTHORIZATION_VALUE;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BANNED_PARSERS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BULK_AXIOM_LOADING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONNECTION_TIMEOUT;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.DEFLATE_LITERALS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.DENSE_ENTITY_IDS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_CACHE_SIZE;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_CACHE_WEIGHT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_EXPANSION_LIMIT;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FREEZE_AFTER_LOAD;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INITIALIZE_INDEXES_AFTER_LOAD;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FOLLOW_REDIRECTS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.HASH_CONSING;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LITERAL_DICTIONARY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_IMPORT_HANDLING_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_ONTOLOGY_HEADER_STRATEGY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_IMPORTS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_PARSING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARSE_WITH_STRICT_CONFIGURATION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PRIORITY_COLLECTION_SORTING;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RECORD_CACHE_STATISTICS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPAIR_ILLEGAL_PUNNINGS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPORT_STACK_TRACES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RETRIES_TO_ATTEMPT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.SKIP_MODULE_ANNOTATIONS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.STREAMING_RDF_TRANSLATION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.TREAT_DUBLINCORE_AS_BUILTIN;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.TRIM_TO_SIZE;
 
@@ -270,6 +283,102 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
         return TRIM_TO_SIZE.getValue(Boolean.class, overrides).booleanValue();
     }
 
+    /**
+     * @return true if ontology should be frozen after load
+     */
+    public boolean shouldFreezeAfterLoad() {
+        return FREEZE_AFTER_LOAD.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if lazy indexes should be built in parallel after load
+     */
+    public boolean shouldInitializeIndexesAfterLoad() {
+        return INITIALIZE_INDEXES_AFTER_LOAD.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if documents should be parsed in parallel, where the parser supports it
+     */
+    public boolean shouldParseInParallel() {
+        return PARALLEL_PARSING.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if parsers should add the axioms they read in bulk, without a change per axiom,
+     *         where the parser supports it
+     */
+    public boolean shouldAddAxiomsInBulk() {
+        return BULK_AXIOM_LOADING.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if imported documents should be loaded in parallel
+     */
+    public boolean shouldLoadImportsInParallel() {
+        return PARALLEL_IMPORTS.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if RDF parsers should translate the annotations of each named subject when the
+     *         statements about the subject end, rather than at the end of the document
+     */
+    public boolean shouldStreamRDFTranslation() {
+        return STREAMING_RDF_TRANSLATION.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if data factories should give IRIs and entities dense int ids
+     */
+    public boolean shouldUseDenseEntityIds() {
+        return DENSE_ENTITY_IDS.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return max number of entities of each type cached by a data factory; negative values
+     *         mean that the global cache size is used
+     */
+    public int getEntityCacheSize() {
+        return ENTITY_CACHE_SIZE.getValue(Integer.class, overrides).intValue();
+    }
+
+    /**
+     * @return max total length of the IRIs cached by a data factory for each entity type, or 0
+     *         if entity caches are bounded by number of entities
+     */
+    public int getEntityCacheWeight() {
+        return ENTITY_CACHE_WEIGHT.getValue(Integer.class, overrides).intValue();
+    }
+
+    /**
+     * @return true if caches should record statistics
+     */
+    public boolean shouldRecordCacheStatistics() {
+        return RECORD_CACHE_STATISTICS.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if data factories should intern string literals in a literal dictionary
+     */
+    public boolean shouldUseLiteralDictionary() {
+        return LITERAL_DICTIONARY.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if long lexical forms in the literal dictionary should be deflated
+     */
+    public boolean shouldDeflateLiterals() {
+        return DEFLATE_LITERALS.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if the data factory should share structurally equal class expressions, data
+     *         ranges and axioms
+     */
+    public boolean shouldUseHashConsing() {
+        return HASH_CONSING.getValue(Boolean.class, overrides).booleanValue();
+    }
+
     /**
      * @param b true if HTTP compression should be accepted
      * @return a copy of this configuration with accepting HTTP compression set to the new value
@@ -503,6 +612,175 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
         return configuration;
     }
 
+    /**
+     * @param value new value for freeze after load
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setFreezeAfterLoad(boolean value) {
+        if (shouldFreezeAfterLoad() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(FREEZE_AFTER_LOAD, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for initialize indexes after load
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setInitializeIndexesAfterLoad(boolean value) {
+        if (shouldInitializeIndexesAfterLoad() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(INITIALIZE_INDEXES_AFTER_LOAD, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for parallel parsing
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setParallelParsing(boolean value) {
+        if (shouldParseInParallel() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(PARALLEL_PARSING, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for bulk loading of parsed axioms
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setAddAxiomsInBulk(boolean value) {
+        if (shouldAddAxiomsInBulk() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(BULK_AXIOM_LOADING, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for parallel loading of imports
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setLoadImportsInParallel(boolean value) {
+        if (shouldLoadImportsInParallel() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(PARALLEL_IMPORTS, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for streaming RDF translation
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setStreamRDFTranslation(boolean value) {
+        if (shouldStreamRDFTranslation() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(STREAMING_RDF_TRANSLATION, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for dense entity ids
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setUseDenseEntityIds(boolean value) {
+        if (shouldUseDenseEntityIds() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(DENSE_ENTITY_IDS, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param size new max number of cached entities of each type
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setEntityCacheSize(int size) {
+        if (getEntityCacheSize() == size) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(ENTITY_CACHE_SIZE, Integer.valueOf(size));
+        return configuration;
+    }
+
+    /**
+     * @param weight new max total length of cached IRIs for each entity type, or 0
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setEntityCacheWeight(int weight) {
+        if (getEntityCacheWeight() == weight) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(ENTITY_CACHE_WEIGHT, Integer.valueOf(weight));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for recording cache statistics
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setRecordCacheStatistics(boolean value) {
+        if (shouldRecordCacheStatistics() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(RECORD_CACHE_STATISTICS, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for the literal dictionary
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setUseLiteralDictionary(boolean value) {
+        if (shouldUseLiteralDictionary() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(LITERAL_DICTIONARY, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for deflating long lexical forms in the literal dictionary
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setDeflateLiterals(boolean value) {
+        if (shouldDeflateLiterals() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(DEFLATE_LITERALS, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @param value new value for sharing structurally equal objects in the data factory
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setUseHashConsing(boolean value) {
+        if (shouldUseHashConsing() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(HASH_CONSING, Boolean.valueOf(value));
+        return configuration;
+    }
+
     /**
      * @return true if module extraction should not add annotation axioms to the module.
      */
@@ -91,6 +91,119 @@ public enum ConfigurationOptions {
     ALLOW_DUPLICATES_IN_CONSTRUCT_SETS  (Boolean.FALSE),
     /**Max number of elements for caches.*/
     CACHE_SIZE                          (Integer.valueOf(2048)),
+    /** True if ontology indexes 
+     * should use lock free, non 
+     * copying reads. Writes are 
+     * still serialized per index. 
+     * Useful when many threads 
+     * query the same ontology.*/
+    LOCK_FREE_INDEX_READS               (Boolean.FALSE),
+    /** True if ontologies should 
+     * be frozen after load. Frozen 
+     * ontologies use compact, read 
+     * only indexes and reject all 
+     * further changes.*/
+    FREEZE_AFTER_LOAD                   (Boolean.FALSE),
+    /** True if lazy ontology indexes 
+     * should be built in parallel 
+     * after load. If set to false, 
+     * each index is built on the 
+     * first query that needs it.*/
+    INITIALIZE_INDEXES_AFTER_LOAD       (Boolean.FALSE),
+    /** True if ontology indexes 
+     * should keep axioms in an off 
+     * heap, binary encoded store. 
+     * Axioms are decoded on access; 
+     * this trades query speed for a 
+     * smaller heap.*/
+    OFF_HEAP_AXIOMS                     (Boolean.FALSE),
+    /** True if parsers that support 
+     * it should split the document 
+     * at axiom boundaries and parse 
+     * the pieces in parallel, while 
+     * the document is read or from 
+     * a mapped file. Used for 
+     * functional syntax; N-Triples 
+     * and N-Quads documents are 
+     * split at line boundaries and 
+     * read in blocks instead.*/
+    PARALLEL_PARSING                    (Boolean.FALSE),
+    /** True if parsers that support 
+     * it should add the axioms they 
+     * read to the ontology in bulk. 
+     * No change is generated for each 
+     * axiom: change listeners are not 
+     * notified of the parsed axioms. 
+     * Used for functional syntax and 
+     * binary snapshots.*/
+    BULK_AXIOM_LOADING                  (Boolean.FALSE),
+    /** True if the imports closure 
+     * of a loaded ontology should be 
+     * resolved first and its documents 
+     * parsed concurrently, on a pool 
+     * with one thread per core.*/
+    PARALLEL_IMPORTS                    (Boolean.FALSE),
+    /** True if RDF parsers should 
+     * translate annotation literals 
+     * of a named subject as soon as 
+     * the statements about the subject 
+     * end, instead of holding them 
+     * until the end of the document. 
+     * Suits documents that declare 
+     * annotation properties first and 
+     * group statements by subject; 
+     * the ontology is the same as 
+     * without streaming. Ignored in 
+     * strict mode and when annotation 
+     * axioms are not loaded.*/
+    STREAMING_RDF_TRANSLATION           (Boolean.FALSE),
+    /** True if the data factory 
+     * should intern IRIs and entities 
+     * in a dictionary that gives each 
+     * IRI a dense int id. Equal IRIs, 
+     * and equal entities from the same 
+     * factory, are then the same 
+     * object. The IRI dictionary is 
+     * shared and never purged; each 
+     * factory purges only its own 
+     * entities.*/
+    DENSE_ENTITY_IDS                    (Boolean.FALSE),
+    /** Max number of entities of 
+     * each type cached by a data 
+     * factory. Each data factory has 
+     * its own caches. Negative values 
+     * mean that CACHE_SIZE is used.*/
+    ENTITY_CACHE_SIZE                   (Integer.valueOf(-1)),
+    /** If positive, the entity caches 
+     * of a data factory are bounded by 
+     * the total length of the cached 
+     * IRIs, for each entity type, 
+     * rather than by number of entities.*/
+    ENTITY_CACHE_WEIGHT                 (Integer.valueOf(0)),
+    /** True if caches should record 
+     * hit, miss and eviction counts.*/
+    RECORD_CACHE_STATISTICS             (Boolean.FALSE),
+    /** True if the data factory 
+     * should intern string and 
+     * language tagged literals in a 
+     * dictionary of its own. Long 
+     * lexical forms are kept as 
+     * Latin-1 or UTF-8 bytes and 
+     * decoded on access.*/
+    LITERAL_DICTIONARY                  (Boolean.FALSE),
+    /** True if long lexical forms in 
+     * the literal dictionary should 
+     * also be deflated, against a 
+     * preset dictionary sampled from 
+     * the first long forms seen.*/
+    DEFLATE_LITERALS                    (Boolean.FALSE),
+    /** True if the data factory 
+     * should return one shared 
+     * instance for structurally 
+     * equal class expressions, data 
+     * ranges and axioms. Instances 
+     * are held weakly.*/
+    HASH_CONSING                        (Boolean.FALSE),
     /** False if named graph IRIs should
      * not be created for formats like
      * TriG and RDF/JSON. This is the 
@@ -126,7 +126,8 @@ public class OWLObjectDesharer implements OWLObjectVisitorEx<OWLObject> {
      * @param m The manager providing data factory and config to be used for the duplication.
      */
     public OWLObjectDesharer(OWLOntologyManager m) {
-        df = m.getOWLDataFactory();
+        // a sharing data factory would return the shared instances again
+        df = m.getOWLDataFactory().getUnsharedFactory();
     }
 
     /**
@@ -1,8 +1,8 @@
 package org.semanticweb.owlapi.util;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
@@ -12,6 +12,7 @@ import org.semanticweb.owlapi.model.providers.AnonymousIndividualByIdProvider;
 /**
  * A provider for anonymous individuals that remaps input ids consistently across all requests. This
  * class obeys the preferences set in {@link OWLOntologyManager#getOntologyWriterConfiguration()}.
+ * Instances can be shared between threads parsing parts of the same document.
  */
 public class RemappingIndividualProvider implements AnonymousIndividualByIdProvider {
 
@@ -35,7 +36,7 @@ public class RemappingIndividualProvider implements AnonymousIndividualByIdProvi
         this.df = df;
         shouldRemapAllAnonymousIndividualsIds = remap;
         if (shouldRemapAllAnonymousIndividualsIds) {
-            map = new HashMap<>();
+            map = new ConcurrentHashMap<>();
         } else {
             map = Collections.emptyMap();
         }
@@ -48,8 +49,7 @@ public class RemappingIndividualProvider implements AnonymousIndividualByIdProvi
         }
         OWLAnonymousIndividual toReturn = map.get(nodeId);
         if (toReturn == null) {
-            toReturn = df.getOWLAnonymousIndividual();
-            map.put(nodeId, toReturn);
+            toReturn = map.computeIfAbsent(nodeId, x -> df.getOWLAnonymousIndividual());
         }
         return toReturn;
     }
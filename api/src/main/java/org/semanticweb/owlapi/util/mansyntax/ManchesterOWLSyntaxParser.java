@@ -12,8 +12,11 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.util.mansyntax;
 
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -168,6 +171,28 @@ public interface ManchesterOWLSyntaxParser extends HasOntologyLoaderConfiguratio
      */
     ManchesterSyntaxDocumentFormat parseOntology(OWLOntology ont);
 
+    /**
+     * Parse an ontology and pass its axioms to a consumer, one frame at a time, instead of adding
+     * them to the ontology. The ontology only receives the ontology id, imports declarations and
+     * ontology annotations. The default implementation parses into the ontology with
+     * {@link #parseOntology(OWLOntology)}, then passes the axioms to the consumer and removes them
+     * from the ontology; implementations can override it to avoid holding all the axioms at once.
+     *
+     * @param ont ontology
+     * @param consumer consumer for the parsed axioms
+     * @return format
+     * @throws OWLParserException        parsing error
+     * @throws UnloadableImportException import error
+     */
+    default ManchesterSyntaxDocumentFormat parseOntology(OWLOntology ont,
+        Consumer<OWLAxiom> consumer) {
+        ManchesterSyntaxDocumentFormat format = parseOntology(ont);
+        List<OWLAxiom> axioms = asList(ont.axioms());
+        axioms.forEach(consumer);
+        ont.removeAxioms(axioms);
+        return format;
+    }
+
     /**
      * @return list of class expressions
      */
@@ -0,0 +1,83 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+
+/**
+ * Several threads query a concurrent ontology while one thread keeps adding and removing an
+ * axiom, as a reasoner and an editor sharing an ontology do. The readers run boolean and count
+ * queries, which contend with the writer for the lock shared by the manager and its ontologies.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Group)
+public class ConcurrencyBenchmark {
+
+    @Param({"10000"})
+    public int classes;
+    private OWLOntology ontology;
+    private OWLAxiom[] axioms;
+    private OWLAxiom edit;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        ontology = SyntheticOntologies
+            .ontology(OWLManager.createConcurrentOWLOntologyManager(), classes);
+        OWLDataFactory df = ontology.getOWLOntologyManager().getOWLDataFactory();
+        axioms = ontology.axioms().limit(1024).toArray(OWLAxiom[]::new);
+        edit = df.getOWLDeclarationAxiom(SyntheticOntologies.cls(df, classes * 2));
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int read(Cursor cursor) {
+        OWLAxiom axiom = axioms[cursor.next++ & axioms.length - 1];
+        return ontology.containsAxiom(axiom) ? ontology.getAxiomCount() : 0;
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ChangeApplied write() {
+        ontology.addAxiom(edit);
+        return ontology.removeAxiom(edit);
+    }
+}
@@ -0,0 +1,116 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/**
+ * Throughput of {@link OWLDataFactory} entity, literal and axiom creation over a fixed pool of
+ * names, so that the entity caches are exercised as they are during parsing. Use {@code -t} to
+ * measure the factory under contention.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class DataFactoryBenchmark {
+
+    @Param({"10000"})
+    public int entities;
+    @Param({"false", "true"})
+    public boolean denseIds;
+    private OWLDataFactory df;
+    private String[] names;
+    private IRI[] iris;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        df = new OWLDataFactoryImpl(
+            new OWLOntologyLoaderConfiguration().setUseDenseEntityIds(denseIds));
+        names = new String[entities];
+        iris = new IRI[entities];
+        for (int i = 0; i < entities; i++) {
+            names[i] = SyntheticOntologies.NS + "E" + i;
+            iris[i] = IRI.create(names[i]);
+        }
+    }
+
+    private int next() {
+        return ThreadLocalRandom.current().nextInt(entities);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public IRI iri() {
+        return IRI.create(names[next()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLClass owlClass() {
+        return df.getOWLClass(iris[next()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLClass owlClassFromString() {
+        return df.getOWLClass(names[next()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLEntity objectProperty() {
+        return df.getOWLObjectProperty(iris[next()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLEntity namedIndividual() {
+        return df.getOWLNamedIndividual(iris[next()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLLiteral stringLiteral() {
+        return df.getOWLLiteral(names[next()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLLiteral intLiteral() {
+        return df.getOWLLiteral(next());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLAxiom subClassOf() {
+        return df.getOWLSubClassOfAxiom(df.getOWLClass(iris[next()]),
+            df.getOWLClass(iris[next()]));
+    }
+}
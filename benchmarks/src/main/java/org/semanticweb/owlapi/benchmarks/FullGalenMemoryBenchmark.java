@@ -6,8 +6,15 @@ import java.nio.file.FileSystems;
 public class FullGalenMemoryBenchmark {
 
     public static void main(String[] args) throws Exception {
-        MemoryBenchmark.memoryProfile(FileSystems.getDefault().getPath(
-            "/Users/ignazio/full-galen.owl"), FileSystems.getDefault().getPath(
-            "fullgalen.hprof"));
+        if (args.length == 0 || args.length > 2) {
+            System.err.println("usage: " + FullGalenMemoryBenchmark.class.getCanonicalName()
+                + " <path to full-galen.owl> [dense]");
+            System.exit(1);
+        }
+        if (args.length > 1 && "dense".equals(args[1])) {
+            MemoryBenchmark.useDenseEntityIds();
+        }
+        MemoryBenchmark.memoryProfile(FileSystems.getDefault().getPath(args[0]),
+            FileSystems.getDefault().getPath("fullgalen.hprof"));
     }
 }
@@ -10,9 +10,23 @@ import org.obolibrary.oboformat.parser.OBOFormatParser;
 public class GazetteerMemoryBenchmark {
 
     public static void main(String[] args) throws Exception {
-        memoryProfile(FileSystems.getDefault().getPath("/Users/ignazio/gaz-fixed.obo"),
-            FileSystems.getDefault()
-                .getPath("gazetteer" + new Date() + ".hprof"));
+        if (args.length == 0 || args.length > 2) {
+            System.err.println("usage: " + GazetteerMemoryBenchmark.class.getCanonicalName()
+                + " <path to gaz.obo> [plain|literals|deflate]");
+            System.exit(1);
+        }
+        Path ontologyPath = FileSystems.getDefault().getPath(args[0]);
+        Path hprofPath = FileSystems.getDefault().getPath("gazetteer" + new Date() + ".hprof");
+        if (args.length == 1) {
+            memoryProfile(ontologyPath, hprofPath);
+            return;
+        }
+        // the heap is compared after translating to OWL, where the literals are created
+        if (!"plain".equals(args[1])) {
+            MemoryBenchmark.useLiteralDictionary("deflate".equals(args[1]));
+        }
+        MemoryBenchmark.memoryProfile(ontologyPath, hprofPath);
+        System.exit(0);
     }
 
     public static void memoryProfile(Path ontologyPath, Path hprofPath) throws IOException {
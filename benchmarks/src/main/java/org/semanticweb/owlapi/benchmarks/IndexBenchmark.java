@@ -0,0 +1,96 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import uk.ac.manchester.cs.owl.owlapi.Internals;
+
+/**
+ * Cost of building the {@link Internals} indexes for a generated ontology: adding the axioms one
+ * at a time and in bulk, which fills the eagerly built indexes, and initializing all the lazily
+ * built indexes of an already filled {@link Internals}.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+
+    @Param({"10000"})
+    public int classes;
+    private List<OWLAxiom> axioms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        axioms = SyntheticOntologies.axioms(OWLManager.getOWLDataFactory(), classes);
+    }
+
+    @State(Scope.Thread)
+    public static class Empty {
+
+        Internals internals;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            internals = new Internals();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+
+        Internals internals;
+
+        @Setup(Level.Invocation)
+        public void setUp(IndexBenchmark benchmark) {
+            internals = new Internals();
+            internals.addAxioms(benchmark.axioms);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Internals addAxiom(Empty state) {
+        for (OWLAxiom ax : axioms) {
+            state.internals.addAxiom(ax);
+        }
+        return state.internals;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<OWLAxiom> addAxioms(Empty state) {
+        return state.internals.addAxioms(axioms);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int initializeIndexes(Filled state) {
+        return state.internals.initializeIndexes().size();
+    }
+}
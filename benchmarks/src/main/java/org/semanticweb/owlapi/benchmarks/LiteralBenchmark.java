@@ -0,0 +1,92 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImpl;
+
+/**
+ * Creation and decoding of string literals with OBO style definitions and synonyms, for each
+ * literal storage mode: plain strings, per literal GZIP compression, the literal dictionary and
+ * the literal dictionary with deflated lexical forms. Heap usage on a real ontology is measured
+ * with {@link GazetteerMemoryBenchmark}.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class LiteralBenchmark {
+
+    private static final String[] WORDS = {"populated", "place", "located", "in", "the",
+        "administrative", "region", "of", "a", "river", "valley", "near", "border", "with",
+        "county", "district", "settlement", "historical", "municipality", "province"};
+    @Param({"plain", "gzip", "literals", "deflate"})
+    public String mode;
+    @Param({"10000"})
+    public int literals;
+    private OWLDataFactory df;
+    private String[] forms;
+    private OWLLiteral[] created;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        df = new OWLDataFactoryImpl(
+            new OWLOntologyLoaderConfiguration().setUseLiteralDictionary(!"plain".equals(mode))
+                .setDeflateLiterals("deflate".equals(mode)));
+        forms = new String[literals];
+        created = new OWLLiteral[literals];
+        for (int i = 0; i < literals; i++) {
+            StringBuilder b = new StringBuilder();
+            for (int w = 0; w < 8 + i % 24; w++) {
+                b.append(WORDS[(i * 7 + w * 13) % WORDS.length]).append(' ');
+            }
+            forms[i] = b.append(i).toString();
+            created[i] = create(forms[i]);
+        }
+    }
+
+    private OWLLiteral create(String form) {
+        if ("gzip".equals(mode)) {
+            return new OWLLiteralImpl(form, "en", null);
+        }
+        return df.getOWLLiteral(form, "en");
+    }
+
+    private int next() {
+        return ThreadLocalRandom.current().nextInt(literals);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public OWLLiteral create() {
+        return create(forms[next()]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public String decode() {
+        return created[next()].getLiteral();
+    }
+}
@@ -0,0 +1,142 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.search.EntitySearcher;
+
+import uk.ac.manchester.cs.owl.owlapi.HasInitializeIndexes;
+
+/**
+ * Multi-threaded throughput of {@link EntitySearcher} and {@link OWLOntology} index lookups on a
+ * generated ontology, with the default manager, the concurrent manager and the default manager
+ * with lock free index reads. All indexes are built before measuring, so that only lookups are
+ * timed; use {@code -t} to change the number of threads.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    private static final String LOCK_FREE =
+        "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOCK_FREE_INDEX_READS";
+    @Param({"default", "concurrent", "lockfree"})
+    public String manager;
+    @Param({"10000"})
+    public int classes;
+    private OWLOntology ontology;
+    private OWLClass[] classArray;
+    private OWLNamedIndividual[] individuals;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        OWLOntologyManager m = "concurrent".equals(manager)
+            ? OWLManager.createConcurrentOWLOntologyManager()
+            : OWLManager.createOWLOntologyManager();
+        if ("lockfree".equals(manager)) {
+            // read by each ontology as its indexes are created
+            System.setProperty(LOCK_FREE, "true");
+        }
+        try {
+            ontology = SyntheticOntologies.ontology(m, classes);
+        } finally {
+            System.clearProperty(LOCK_FREE);
+        }
+        if (ontology instanceof HasInitializeIndexes) {
+            ((HasInitializeIndexes) ontology).initializeIndexes();
+        }
+        OWLDataFactory df = m.getOWLDataFactory();
+        classArray = new OWLClass[classes];
+        individuals = new OWLNamedIndividual[classes];
+        for (int i = 0; i < classes; i++) {
+            classArray[i] = SyntheticOntologies.cls(df, i);
+            individuals[i] = SyntheticOntologies.individual(df, i);
+        }
+    }
+
+    private int next() {
+        return ThreadLocalRandom.current().nextInt(classes);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public long superClasses() {
+        return EntitySearcher.getSuperClasses(classArray[next()], ontology).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public long subClasses() {
+        return EntitySearcher.getSubClasses(classArray[next()], ontology).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public long equivalentClasses() {
+        return EntitySearcher.getEquivalentClasses(classArray[next()], ontology).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public long instances() {
+        return EntitySearcher.getIndividuals(classArray[next()], ontology).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public long annotations() {
+        return EntitySearcher.getAnnotations(classArray[next()], ontology).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public int objectPropertyValues() {
+        return EntitySearcher.getObjectPropertyValues(individuals[next()], ontology).size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public long referencingAxioms() {
+        return ontology.referencingAxioms(classArray[next()]).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(8)
+    public boolean containsClassInSignature() {
+        return ontology.containsClassInSignature(classArray[next()].getIRI());
+    }
+}
@@ -0,0 +1,104 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import uk.ac.manchester.cs.owl.owlapi.ConcurrentMapPointer;
+import uk.ac.manchester.cs.owl.owlapi.Internals;
+import uk.ac.manchester.cs.owl.owlapi.MapPointer;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/**
+ * Multi-threaded lookup throughput for the synchronized {@link MapPointer} against the lock free
+ * {@link ConcurrentMapPointer}.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class MapPointerBenchmark {
+
+    @Param({"synchronized", "lockfree"})
+    public String implementation;
+    @Param({"10000"})
+    public int keys;
+    private MapPointer<OWLClass, OWLAxiom> pointer;
+    private List<OWLClass> classes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OWLDataFactory df = new OWLDataFactoryImpl();
+        Internals ints = new Internals();
+        if ("lockfree".equals(implementation)) {
+            pointer = new ConcurrentMapPointer<>(null, null, true, ints, OWLAxiom.class);
+        } else {
+            pointer = new MapPointer<>(null, null, true, ints, OWLAxiom.class);
+        }
+        classes = new ArrayList<>(keys);
+        for (int i = 0; i < keys; i++) {
+            OWLClass c = df.getOWLClass("urn:benchmark:C" + i);
+            classes.add(c);
+            // between one and eight axioms per key, to exercise all bucket shapes
+            for (int j = 0; j <= i % 8; j++) {
+                pointer.put(c, df.getOWLSubClassOfAxiom(c,
+                    df.getOWLClass("urn:benchmark:D" + (i + j))));
+            }
+        }
+    }
+
+    private OWLClass next() {
+        return classes.get(ThreadLocalRandom.current().nextInt(classes.size()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(32)
+    public long getValues() {
+        return pointer.getValues(next()).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(32)
+    public boolean containsKey() {
+        return pointer.containsKey(next());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(32)
+    public int countValues() {
+        return pointer.countValues(next());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(32)
+    public long keySet() {
+        return pointer.keySet().limit(100).count();
+    }
+}
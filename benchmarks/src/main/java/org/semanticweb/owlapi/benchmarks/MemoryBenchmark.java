@@ -30,17 +30,24 @@ public class MemoryBenchmark {
 
     @SuppressWarnings("javadoc")
     public static void main(String[] args) throws Exception {
-        if (args.length > 2) {
+        if (args.length == 0 || args.length > 3) {
             System.err.println("usage: " + MemoryBenchmark.class.getCanonicalName()
-                + "<src-ontology> <dest-hprof>");
+                + " <src-ontology> [<dest-hprof> [frozen|offheap|dense|literals|deflate|shared]]");
+            System.exit(1);
         }
-        String filename = "/Users/ses/ontologies/GO/go.ofn";
-        if (args.length > 0) {
-            filename = args[0];
-        }
-        Path ontologyPath = FileSystems.getDefault().getPath(filename);
+        Path ontologyPath = FileSystems.getDefault().getPath(args[0]);
         Path hprofPath = getHprofPath(args, ontologyPath);
-        memoryProfile(ontologyPath, hprofPath);
+        String mode = args.length > 2 ? args[2] : "";
+        if ("dense".equals(mode)) {
+            useDenseEntityIds();
+        }
+        if ("literals".equals(mode) || "deflate".equals(mode)) {
+            useLiteralDictionary("deflate".equals(mode));
+        }
+        if ("shared".equals(mode)) {
+            useHashConsing();
+        }
+        memoryProfile(ontologyPath, hprofPath, "frozen".equals(mode), "offheap".equals(mode));
         System.exit(0);
     }
 
@@ -56,6 +63,44 @@ public class MemoryBenchmark {
     public static void memoryProfile(Path ontologyPath, Path hprofPath)
         throws OWLOntologyCreationException,
         IOException {
+        memoryProfile(ontologyPath, hprofPath, false);
+    }
+
+    /**
+     * Run memory profiling for an input ontology and output the dump file to
+     * the hprof path provided
+     *
+     * @param ontologyPath input ontology
+     * @param hprofPath dump file path for output
+     * @param frozen true if the ontology should be frozen after load
+     * @throws OWLOntologyCreationException if the ontology cannot be created or loaded
+     * @throws IOException if the dump file cannot be created
+     */
+    public static void memoryProfile(Path ontologyPath, Path hprofPath, boolean frozen)
+        throws OWLOntologyCreationException,
+        IOException {
+        memoryProfile(ontologyPath, hprofPath, frozen, false);
+    }
+
+    /**
+     * Run memory profiling for an input ontology and output the dump file to
+     * the hprof path provided
+     *
+     * @param ontologyPath input ontology
+     * @param hprofPath dump file path for output
+     * @param frozen true if the ontology should be frozen after load
+     * @param offHeap true if the ontology indexes should keep axioms off heap
+     * @throws OWLOntologyCreationException if the ontology cannot be created or loaded
+     * @throws IOException if the dump file cannot be created
+     */
+    public static void memoryProfile(Path ontologyPath, Path hprofPath, boolean frozen,
+        boolean offHeap) throws OWLOntologyCreationException, IOException {
+        if (offHeap) {
+            // read by each ontology as its indexes are created
+            System.setProperty(
+                "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.OFF_HEAP_AXIOMS",
+                "true");
+        }
         OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
         File file = ontologyPath.toFile();
         manager.getIRIMappers().add(new AutoIRIMapper(file.getParentFile(), false));
@@ -66,7 +111,7 @@ public class MemoryBenchmark {
             ds = new FileDocumentSource(file);
         }
         OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
-            .setStrict(false);
+            .setStrict(false).setFreezeAfterLoad(frozen);
         long start = System.currentTimeMillis();
         OWLOntology ontology = manager.loadOntologyFromOntologyDocument(ds, config);
         System.out.println(
@@ -75,6 +120,38 @@ public class MemoryBenchmark {
         manager.removeOntology(ontology);
     }
 
+    /**
+     * Make data factories created from now on intern IRIs and entities with dense int ids.
+     */
+    public static void useDenseEntityIds() {
+        System.setProperty(
+            "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.DENSE_ENTITY_IDS",
+            "true");
+    }
+
+    /**
+     * Make data factories created from now on intern string literals in a literal dictionary.
+     *
+     * @param deflate true if long lexical forms should also be deflated
+     */
+    public static void useLiteralDictionary(boolean deflate) {
+        System.setProperty(
+            "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LITERAL_DICTIONARY",
+            "true");
+        System.setProperty(
+            "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.DEFLATE_LITERALS",
+            Boolean.toString(deflate));
+    }
+
+    /**
+     * Make data factories created from now on share structurally equal class expressions and
+     * axioms.
+     */
+    public static void useHashConsing() {
+        System.setProperty(
+            "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.HASH_CONSING", "true");
+    }
+
     protected static HotSpotDiagnosticMXBean getDiagnostics() throws IOException {
         HotSpotDiagnosticMXBean hotSpotDiagnosticMXBean = newPlatformMXBeanProxy(
             getPlatformMBeanServer(),
@@ -9,9 +9,12 @@ import java.nio.file.FileSystems;
 public class NCBITaxonMemoryBenchmark {
 
     public static void main(String[] args) throws Exception {
-        MemoryBenchmark.memoryProfile(
-            FileSystems.getDefault().getPath(
-                "/Users/ignazio/workspace/benchmarks/ncbitaxon/src/main/resources/ncbitaxon.rdf.ofn.gz"),
+        if (args.length != 1) {
+            System.err.println("usage: " + NCBITaxonMemoryBenchmark.class.getCanonicalName()
+                + " <path to ncbitaxon.rdf.ofn.gz>");
+            System.exit(1);
+        }
+        MemoryBenchmark.memoryProfile(FileSystems.getDefault().getPath(args[0]),
             FileSystems.getDefault().getPath("ncbitaxon.hprof"));
     }
 }
@@ -0,0 +1,107 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Load time of an N-Triples dump with the sequential Rio parser and with parallel tokenising. Set
+ * {@code file} to an existing dump; if left empty, a dump with about {@code triples} generated
+ * triples is used, 50M by default, which is about 5GB.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class ParallelNTriplesBenchmark {
+
+    private static final String RDF = "<http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String RDFS = "<http://www.w3.org/2000/01/rdf-schema#";
+    private static final String OWL = "<http://www.w3.org/2002/07/owl#";
+    @Param({"sequential", "parallel"})
+    public String mode;
+    @Param({""})
+    public String file;
+    @Param({"50000000"})
+    public int triples;
+    private File input;
+    private boolean generated;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (!file.isEmpty()) {
+            input = new File(file);
+            return;
+        }
+        generated = true;
+        input = File.createTempFile("generated", ".nt");
+        try (Writer w = new BufferedWriter(Files.newBufferedWriter(input.toPath(),
+            StandardCharsets.UTF_8))) {
+            w.write("<urn:benchmark> " + RDF + "type> " + OWL + "Ontology> .\n");
+            w.write("<urn:benchmark#p> " + RDF + "type> " + OWL + "ObjectProperty> .\n");
+            for (int i = 0; i < triples / 8; i++) {
+                String c = "<urn:benchmark#C" + i + '>';
+                w.write(c + ' ' + RDF + "type> " + OWL + "Class> .\n");
+                w.write(c + ' ' + RDFS + "subClassOf> _:r" + i + " .\n");
+                w.write("_:r" + i + ' ' + RDF + "type> " + OWL + "Restriction> .\n");
+                w.write("_:r" + i + ' ' + OWL + "onProperty> <urn:benchmark#p> .\n");
+                w.write("_:r" + i + ' ' + OWL + "someValuesFrom> <urn:benchmark#C" + i / 2
+                    + "> .\n");
+                w.write(c + ' ' + RDFS + "subClassOf> <urn:benchmark#C" + i / 3 + "> .\n");
+                w.write(c + ' ' + RDFS + "label> \"class " + i + "\"@en .\n");
+                w.write(c + ' ' + RDFS + "comment> \"the \\\"class\\\" numbered " + i
+                    + "\" .\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (generated) {
+            input.delete();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public int load() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
+            .setParallelParsing("parallel".equals(mode));
+        OWLOntology o = manager.loadOntologyFromOntologyDocument(
+            new FileDocumentSource(input, new NTriplesDocumentFormat()), config);
+        int count = o.getAxiomCount();
+        manager.removeOntology(o);
+        return count;
+    }
+}
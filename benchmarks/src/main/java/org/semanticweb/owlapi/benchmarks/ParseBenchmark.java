@@ -0,0 +1,71 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+/**
+ * Load time of a generated ontology in each syntax that can be both written and read. The document
+ * is rendered once per trial and parsed from memory, with the format set on the document source so
+ * that no other parser is tried first. KRSS2 is left out: the KRSS2 parser does not read back
+ * everything the KRSS2 renderer writes.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"functional", "owlxml", "manchester", "rdfxml", "turtle", "obo", "binary", "ntriples",
+        "nquads", "trig", "jsonld", "rdfjson"})
+    public String syntax;
+    @Param({"10000"})
+    public int classes;
+    private byte[] document;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException, OWLOntologyStorageException {
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLOntology o = SyntheticOntologies.ontology(manager, classes);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        manager.saveOntology(o, SyntheticOntologies.format(syntax), out);
+        document = out.toByteArray();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int parse() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLOntology o = manager.loadOntologyFromOntologyDocument(
+            new StreamDocumentSource(new ByteArrayInputStream(document),
+                SyntheticOntologies.ONTOLOGY_IRI, SyntheticOntologies.format(syntax), null));
+        return o.getAxiomCount();
+    }
+}
@@ -0,0 +1,97 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+/**
+ * Single axiom edits interleaved with signature queries, as done by an editor that refreshes its
+ * entity lists after each change. One edit adds a new class, the other only adds a reference to
+ * classes that are already in the signature. The axiom benchmark queries the signatures of single
+ * axioms, as locality checks and index building do.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Thread)
+public class SignatureBenchmark {
+
+    @Param({"10000"})
+    public int classes;
+    private OWLOntology ontology;
+    private OWLAxiom newClass;
+    private OWLAxiom existingClasses;
+    private OWLAxiom[] axioms;
+    private OWLEntity probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        ontology = SyntheticOntologies.ontology(OWLManager.createOWLOntologyManager(), classes);
+        OWLDataFactory df = ontology.getOWLOntologyManager().getOWLDataFactory();
+        newClass = df.getOWLDeclarationAxiom(SyntheticOntologies.cls(df, classes * 2));
+        existingClasses = df.getOWLDisjointClassesAxiom(SyntheticOntologies.cls(df, 0),
+            SyntheticOntologies.cls(df, classes - 1));
+        axioms = ontology.axioms().toArray(OWLAxiom[]::new);
+        probe = SyntheticOntologies.cls(df, classes / 2);
+    }
+
+    private long editAndQuery(OWLAxiom axiom) {
+        ontology.addAxiom(axiom);
+        long count = ontology.classesInSignature().count();
+        ontology.removeAxiom(axiom);
+        return count + ontology.signature().count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long addNewClass() {
+        return editAndQuery(newClass);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long referenceExistingClasses() {
+        return editAndQuery(existingClasses);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long axiomSignatures() {
+        long count = 0;
+        for (OWLAxiom axiom : axioms) {
+            count += axiom.classesInSignature().count();
+            count += axiom.objectPropertiesInSignature().count();
+            if (axiom.containsEntityInSignature(probe)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
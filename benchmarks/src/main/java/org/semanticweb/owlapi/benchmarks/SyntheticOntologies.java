@@ -0,0 +1,187 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.semanticweb.owlapi.formats.BinaryDocumentFormat;
+import org.semanticweb.owlapi.formats.DLSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.DLSyntaxHTMLDocumentFormat;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.KRSS2DocumentFormat;
+import org.semanticweb.owlapi.formats.LatexDocumentFormat;
+import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.NQuadsDocumentFormat;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFJsonDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFJsonLDDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TrigDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Ontologies generated at benchmark time, so that the benchmarks need neither a download nor a
+ * local copy of a real ontology. For {@code n} classes, the generated ontology has a class
+ * hierarchy with existential restrictions, equivalent and disjoint classes, one individual per
+ * class with class, object and data property assertions, labels, and {@code n/100} object and data
+ * properties with hierarchies, domains and ranges; about eleven axioms per class in all.
+ */
+public final class SyntheticOntologies {
+
+    /** Namespace of all generated entities. */
+    public static final String NS = "urn:benchmark#";
+    /** IRI of the generated ontology. */
+    public static final IRI ONTOLOGY_IRI = IRI.create("urn:benchmark");
+    private static final Map<String, Supplier<OWLDocumentFormat>> FORMATS = formats();
+
+    private SyntheticOntologies() {}
+
+    private static Map<String, Supplier<OWLDocumentFormat>> formats() {
+        Map<String, Supplier<OWLDocumentFormat>> map = new LinkedHashMap<>();
+        map.put("functional", FunctionalSyntaxDocumentFormat::new);
+        map.put("owlxml", OWLXMLDocumentFormat::new);
+        map.put("manchester", ManchesterSyntaxDocumentFormat::new);
+        map.put("rdfxml", RDFXMLDocumentFormat::new);
+        map.put("turtle", TurtleDocumentFormat::new);
+        map.put("obo", OBODocumentFormat::new);
+        map.put("krss2", KRSS2DocumentFormat::new);
+        map.put("binary", BinaryDocumentFormat::new);
+        map.put("ntriples", NTriplesDocumentFormat::new);
+        map.put("nquads", NQuadsDocumentFormat::new);
+        map.put("trig", TrigDocumentFormat::new);
+        map.put("jsonld", RDFJsonLDDocumentFormat::new);
+        map.put("rdfjson", RDFJsonDocumentFormat::new);
+        map.put("dl", DLSyntaxDocumentFormat::new);
+        map.put("dlhtml", DLSyntaxHTMLDocumentFormat::new);
+        map.put("latex", LatexDocumentFormat::new);
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * @param syntax short name of a syntax, as used in the benchmark parameters
+     * @return a new format instance for the syntax
+     * @throws IllegalArgumentException if the syntax is unknown
+     */
+    public static OWLDocumentFormat format(String syntax) {
+        Supplier<OWLDocumentFormat> supplier = FORMATS.get(syntax);
+        if (supplier == null) {
+            throw new IllegalArgumentException(
+                "Unknown syntax: " + syntax + "; known syntaxes: " + FORMATS.keySet());
+        }
+        return supplier.get();
+    }
+
+    /**
+     * @param df data factory
+     * @param i index
+     * @return the i-th generated class
+     */
+    public static OWLClass cls(OWLDataFactory df, int i) {
+        return df.getOWLClass(NS, "C" + i);
+    }
+
+    /**
+     * @param df data factory
+     * @param i index
+     * @return the i-th generated individual
+     */
+    public static OWLNamedIndividual individual(OWLDataFactory df, int i) {
+        return df.getOWLNamedIndividual(NS, "i" + i);
+    }
+
+    /**
+     * @param df data factory used to create the axioms
+     * @param classes number of classes to generate
+     * @return the generated axioms, in a fixed order
+     */
+    public static List<OWLAxiom> axioms(OWLDataFactory df, int classes) {
+        int n = Math.max(2, classes);
+        int properties = Math.max(1, n / 100);
+        List<OWLAxiom> axioms = new ArrayList<>(n * 12);
+        OWLAnnotationProperty label = df.getRDFSLabel();
+        OWLObjectProperty[] objectProperties = new OWLObjectProperty[properties];
+        OWLDataProperty[] dataProperties = new OWLDataProperty[properties];
+        for (int k = 0; k < properties; k++) {
+            objectProperties[k] = df.getOWLObjectProperty(NS, "p" + k);
+            dataProperties[k] = df.getOWLDataProperty(NS, "d" + k);
+            axioms.add(df.getOWLDeclarationAxiom(objectProperties[k]));
+            axioms.add(df.getOWLDeclarationAxiom(dataProperties[k]));
+            axioms.add(df.getOWLObjectPropertyDomainAxiom(objectProperties[k], cls(df, k)));
+            axioms.add(df.getOWLObjectPropertyRangeAxiom(objectProperties[k], cls(df, k + 1)));
+            axioms.add(df.getOWLDataPropertyDomainAxiom(dataProperties[k], cls(df, k)));
+            axioms.add(df.getOWLDataPropertyRangeAxiom(dataProperties[k], df.getIntegerOWLDatatype()));
+            if (k > 0) {
+                axioms.add(df.getOWLSubObjectPropertyOfAxiom(objectProperties[k],
+                    objectProperties[k / 2]));
+                axioms.add(df.getOWLSubDataPropertyOfAxiom(dataProperties[k], dataProperties[k / 2]));
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            OWLClass c = cls(df, i);
+            OWLObjectProperty p = objectProperties[i % properties];
+            axioms.add(df.getOWLDeclarationAxiom(c));
+            axioms.add(df.getOWLAnnotationAssertionAxiom(label, c.getIRI(),
+                df.getOWLLiteral("class " + i)));
+            if (i > 0) {
+                axioms.add(df.getOWLSubClassOfAxiom(c, cls(df, (i - 1) / 2)));
+            }
+            axioms.add(df.getOWLSubClassOfAxiom(c,
+                df.getOWLObjectSomeValuesFrom(p, cls(df, (int) ((i * 7L) % n)))));
+            if (i % 10 == 9) {
+                axioms.add(df.getOWLEquivalentClassesAxiom(c, df.getOWLObjectIntersectionOf(
+                    cls(df, i - 1), df.getOWLObjectSomeValuesFrom(p, cls(df, i / 3)))));
+            }
+            if (i % 20 == 19) {
+                axioms.add(df.getOWLDisjointClassesAxiom(c, cls(df, i - 2)));
+            }
+            OWLNamedIndividual ind = individual(df, i);
+            axioms.add(df.getOWLDeclarationAxiom(ind));
+            axioms.add(df.getOWLClassAssertionAxiom(c, ind));
+            axioms.add(df.getOWLObjectPropertyAssertionAxiom(p, ind, individual(df, i / 2)));
+            axioms.add(df.getOWLDataPropertyAssertionAxiom(dataProperties[i % properties], ind, i));
+        }
+        return axioms;
+    }
+
+    /**
+     * @param manager manager to create the ontology with
+     * @param classes number of classes to generate
+     * @return a new ontology containing {@link #axioms(OWLDataFactory, int)}
+     * @throws OWLOntologyCreationException if the ontology cannot be created
+     */
+    public static OWLOntology ontology(OWLOntologyManager manager, int classes)
+        throws OWLOntologyCreationException {
+        OWLOntology o = manager.createOntology(ONTOLOGY_IRI);
+        o.addAxiomsInBulk(axioms(manager.getOWLDataFactory(), classes));
+        return o;
+    }
+}
@@ -56,6 +56,7 @@ import org.semanticweb.owlapi.owlxml.parser.OWLXMLParserFactory;
 import org.semanticweb.owlapi.owlxml.renderer.OWLXMLStorerFactory;
 import org.semanticweb.owlapi.rdf.rdfxml.parser.RDFXMLParserFactory;
 import org.semanticweb.owlapi.rdf.rdfxml.renderer.RDFXMLStorerFactory;
+import org.semanticweb.owlapi.rdf.turtle.parser.FastTurtleOntologyParserFactory;
 import org.semanticweb.owlapi.rdf.turtle.parser.TurtleOntologyParserFactory;
 import org.semanticweb.owlapi.rdf.turtle.renderer.TurtleStorerFactory;
 
@@ -164,6 +165,13 @@ class ParsersStorersTestCase extends TestBase {
             new TurtleDocumentFormat(), true, true, true, true);
     }
 
+    @ParameterizedTest
+    @MethodSource("getData")
+    void testFastTurtle(OWLAxiom object) throws Exception {
+        test(object, new TurtleStorerFactory(), new FastTurtleOntologyParserFactory(),
+            new TurtleDocumentFormat(), true, true, true, true);
+    }
+
     @ParameterizedTest
     @MethodSource("getData")
     void testFSS(OWLAxiom object) throws Exception {
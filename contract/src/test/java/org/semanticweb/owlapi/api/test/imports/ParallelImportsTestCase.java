@@ -0,0 +1,150 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.functional.parser.OWLFunctionalSyntaxOWLParserFactory;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLParser;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.util.AutoIRIMapper;
+import org.semanticweb.owlapi.util.SimpleIRIMapper;
+
+class ParallelImportsTestCase extends TestBase {
+
+    private final OWLOntologyLoaderConfiguration parallel =
+        new OWLOntologyLoaderConfiguration().setLoadImportsInParallel(true);
+
+    /** Names of the threads that created a parser, one entry per parsed document. */
+    private final List<String> parserThreads = new CopyOnWriteArrayList<>();
+
+    private class RecordingParserFactory extends OWLFunctionalSyntaxOWLParserFactory {
+
+        @Override
+        public OWLParser createParser() {
+            parserThreads.add(Thread.currentThread().getName());
+            return super.createParser();
+        }
+    }
+
+    private void assertParsedInParallel(int documents) {
+        assertEquals(documents, parserThreads.size(), parserThreads.toString());
+        parserThreads.forEach(t -> assertTrue(t.startsWith("owlapi-imports-"), t));
+    }
+
+    private File write(String name, String... imports) throws IOException {
+        StringBuilder b = new StringBuilder();
+        b.append("Prefix(:=<urn:test:").append(name).append("#>)\n");
+        b.append("Ontology(<urn:test:").append(name).append(">\n");
+        for (String i : imports) {
+            b.append("Import(<urn:test:").append(i).append(">)\n");
+        }
+        for (int i = 0; i < 100; i++) {
+            b.append("SubClassOf(:C").append(i).append(" <urn:test:shared#C").append(i)
+                .append(">)\n");
+        }
+        b.append(")\n");
+        File f = new File(folder, name + ".ofn");
+        Files.write(f.toPath(), b.toString().getBytes(StandardCharsets.UTF_8));
+        SimpleIRIMapper mapper = new SimpleIRIMapper(IRI.create("urn:test:" + name), IRI.create(f));
+        m.getIRIMappers().add(mapper);
+        m1.getIRIMappers().add(mapper);
+        return f;
+    }
+
+    private static Set<OWLAxiom> closure(OWLOntology o) {
+        return o.importsClosure().flatMap(OWLOntology::axioms).collect(Collectors.toSet());
+    }
+
+    private static Set<IRI> closureIRIs(OWLOntology o) {
+        return asUnorderedSet(
+            o.importsClosure().map(x -> x.getOntologyID().getOntologyIRI().get()));
+    }
+
+    private void assertSameLoad(File root, OWLOntologyManager sequentialManager,
+        OWLOntologyManager parallelManager) throws OWLOntologyCreationException {
+        OWLOntology expected = sequentialManager.loadOntologyFromOntologyDocument(root);
+        OWLOntology actual = parallelManager
+            .loadOntologyFromOntologyDocument(new FileDocumentSource(root), parallel);
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(sequentialManager.ontologies().count(), parallelManager.ontologies().count());
+        assertEquals(closureIRIs(expected), closureIRIs(actual));
+        assertEquals(closure(expected), closure(actual));
+        assertEquals(asUnorderedSet(expected.directImports().map(OWLOntology::getOntologyID)),
+            asUnorderedSet(actual.directImports().map(OWLOntology::getOntologyID)));
+        actual.importsClosure()
+            .forEach(o -> assertEquals(parallelManager, o.getOWLOntologyManager()));
+    }
+
+    @Test
+    void shouldLoadSameImportsGraph() throws Exception {
+        File root = write("root", "a", "b");
+        write("a", "c", "d");
+        write("b", "d", "e");
+        write("c");
+        write("d", "e");
+        write("e");
+        m1.getOntologyParsers().set(new RecordingParserFactory());
+        assertSameLoad(root, m, m1);
+        assertParsedInParallel(6);
+    }
+
+    @Test
+    void shouldLoadCyclicImports() throws Exception {
+        File root = write("root", "a");
+        write("a", "b");
+        write("b", "root", "a");
+        m1.getOntologyParsers().set(new RecordingParserFactory());
+        assertSameLoad(root, m, m1);
+        assertParsedInParallel(3);
+    }
+
+    @Test
+    void shouldFallBackForRdfImports() throws Exception {
+        m.getIRIMappers().add(new AutoIRIMapper(new File(RESOURCES, "importscyclic"), true));
+        m1.getIRIMappers().add(new AutoIRIMapper(new File(RESOURCES, "importscyclic"), true));
+        assertSameLoad(new File(RESOURCES, "importscyclic/D.owl"), m, m1);
+    }
+
+    @Test
+    void shouldReportMissingImports() throws Exception {
+        File root = write("root", "a", "missing");
+        write("a");
+        Exception expected =
+            assertThrows(Exception.class, () -> m.loadOntologyFromOntologyDocument(root));
+        Exception actual = assertThrows(Exception.class,
+            () -> m1.loadOntologyFromOntologyDocument(new FileDocumentSource(root), parallel));
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(0, m1.ontologies().count());
+    }
+}
@@ -0,0 +1,160 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectPropertyAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.functional.parser.OWLFunctionalSyntaxOWLParser;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeProgressListener;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+
+import uk.ac.manchester.cs.owl.owlapi.HasFreeze;
+
+class BulkAddAxiomsTestCase extends TestBase {
+
+    private static List<OWLAxiom> axioms() {
+        List<OWLAxiom> list = new ArrayList<>();
+        list.add(Declaration(A));
+        list.add(ClassAssertion(A, I));
+        list.add(ObjectPropertyAssertion(P, I, J));
+        // enough axioms of one type, and for one key, to go past the small set sizes
+        for (int i = 0; i < 20; i++) {
+            list.add(SubClassOf(A, Class(iri("X" + i))));
+            list.add(SubClassOf(Class(iri("Y" + i)), B));
+        }
+        return list;
+    }
+
+    private static void assertSameIndexes(OWLOntology expected, OWLOntology actual) {
+        assertEquals(asSet(expected.axioms()), asSet(actual.axioms()));
+        assertEquals(expected.getAxiomCount(), actual.getAxiomCount());
+        assertEquals(asSet(expected.signature()), asSet(actual.signature()));
+        assertEquals(asSet(expected.subClassAxiomsForSubClass(A)),
+            asSet(actual.subClassAxiomsForSubClass(A)));
+        assertEquals(asSet(expected.subClassAxiomsForSuperClass(B)),
+            asSet(actual.subClassAxiomsForSuperClass(B)));
+        assertEquals(asSet(expected.classAssertionAxioms(I)),
+            asSet(actual.classAssertionAxioms(I)));
+        assertEquals(asSet(expected.referencingAxioms(A)), asSet(actual.referencingAxioms(A)));
+        assertEquals(asSet(expected.referencingAxioms(I)), asSet(actual.referencingAxioms(I)));
+    }
+
+    private void shouldBuildSameIndexes(OWLOntologyManager manager)
+        throws OWLOntologyCreationException {
+        OWLOntology expected = manager.createOntology();
+        OWLOntology actual = manager.createOntology();
+        // initialize some indexes before adding, and leave others to be built afterwards
+        expected.subClassAxiomsForSubClass(A).count();
+        actual.subClassAxiomsForSubClass(A).count();
+        actual.add(SubClassOf(A, Class(iri("X0"))));
+        expected.add(axioms());
+        assertEquals(ChangeApplied.SUCCESSFULLY, actual.addAxiomsInBulk(axioms()));
+        assertSameIndexes(expected, actual);
+        assertEquals(ChangeApplied.NO_OPERATION, actual.addAxiomsInBulk(axioms()));
+    }
+
+    @Test
+    void shouldBuildSameIndexesAsSingleAdds() throws OWLOntologyCreationException {
+        shouldBuildSameIndexes(m);
+    }
+
+    @Test
+    void shouldBuildSameIndexesInConcurrentOntologies() throws OWLOntologyCreationException {
+        shouldBuildSameIndexes(OWLManager.createConcurrentOWLOntologyManager());
+    }
+
+    @Test
+    void shouldNotBroadcastIndividualChanges() throws OWLOntologyCreationException {
+        OWLOntology o = m.createOntology();
+        AtomicInteger changes = new AtomicInteger();
+        AtomicInteger begin = new AtomicInteger();
+        AtomicInteger end = new AtomicInteger();
+        m.addOntologyChangeListener(list -> changes.addAndGet(list.size()));
+        m.addOntologyChangeProgessListener(new OWLOntologyChangeProgressListener() {
+
+            @Override
+            public void begin(int size) {
+                begin.addAndGet(size);
+            }
+
+            @Override
+            public void appliedChange(OWLOntologyChange change) {
+                changes.incrementAndGet();
+            }
+
+            @Override
+            public void end() {
+                end.incrementAndGet();
+            }
+        });
+        o.addAxiomsInBulk(axioms());
+        assertEquals(0, changes.get());
+        assertEquals(axioms().size(), begin.get());
+        assertEquals(1, end.get());
+        assertEquals(axioms().size(), o.getAxiomCount());
+    }
+
+    private void assertParsedAxiomChanges(OWLOntologyLoaderConfiguration config,
+        boolean broadcast) throws OWLOntologyCreationException {
+        FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
+        OWLOntology o = m.createOntology();
+        o.add(axioms());
+        String text = saveOntology(o, format).toString();
+        OWLOntologyManager manager = setupManager();
+        OWLOntology parsed = manager.createOntology();
+        AtomicInteger changes = new AtomicInteger();
+        manager.addOntologyChangeListener(
+            list -> changes.addAndGet((int) list.stream().filter(c -> c.isAddAxiom()).count()));
+        new OWLFunctionalSyntaxOWLParser().parse(
+            new StringDocumentSource(text, "string:ontology", format, null), parsed, config);
+        assertEquals(asSet(o.logicalAxioms()), asSet(parsed.logicalAxioms()));
+        assertEquals(broadcast ? parsed.getAxiomCount() : 0, changes.get());
+    }
+
+    @Test
+    void shouldBroadcastParsedAxiomsUnlessBulkLoadingIsSet() throws OWLOntologyCreationException {
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration();
+        assertParsedAxiomChanges(config, true);
+        assertParsedAxiomChanges(config.setAddAxiomsInBulk(true), false);
+    }
+
+    @Test
+    void shouldRejectBulkAddToFrozenOntology() throws OWLOntologyCreationException {
+        OWLOntology o = m.createOntology();
+        o.add(Declaration(A));
+        ((HasFreeze) o).freeze();
+        assertEquals(ChangeApplied.UNSUCCESSFULLY, o.addAxiomsInBulk(axioms()));
+        assertEquals(1, o.getAxiomCount());
+    }
+}
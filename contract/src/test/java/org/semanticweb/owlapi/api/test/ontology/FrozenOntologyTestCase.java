@@ -0,0 +1,105 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectPropertyAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import uk.ac.manchester.cs.owl.owlapi.HasFreeze;
+
+class FrozenOntologyTestCase extends TestBase {
+
+    private OWLOntology ontology() {
+        OWLOntology o = getOWLOntology();
+        o.add(Declaration(A), Declaration(B), SubClassOf(A, B), SubClassOf(B, C),
+            ClassAssertion(A, I), ObjectPropertyAssertion(P, I, J));
+        return o;
+    }
+
+    @Test
+    void shouldAnswerQueriesAfterFreeze() {
+        OWLOntology o = ontology();
+        OWLOntology expected = ontology();
+        ((HasFreeze) o).freeze();
+        assertTrue(((HasFreeze) o).isFrozen());
+        assertEquals(asSet(expected.axioms()), asSet(o.axioms()));
+        assertEquals(expected.getAxiomCount(), o.getAxiomCount());
+        assertEquals(asSet(expected.signature()), asSet(o.signature()));
+        assertEquals(asSet(expected.subClassAxiomsForSubClass(A)),
+            asSet(o.subClassAxiomsForSubClass(A)));
+        assertEquals(asSet(expected.subClassAxiomsForSuperClass(C)),
+            asSet(o.subClassAxiomsForSuperClass(C)));
+        assertEquals(asSet(expected.classAssertionAxioms(I)), asSet(o.classAssertionAxioms(I)));
+        assertEquals(asSet(expected.objectPropertyAssertionAxioms(I)),
+            asSet(o.objectPropertyAssertionAxioms(I)));
+        assertEquals(asSet(expected.axioms(A)), asSet(o.axioms(A)));
+        assertTrue(o.containsClassInSignature(C.getIRI(), Imports.EXCLUDED));
+        assertFalse(o.containsClassInSignature(D.getIRI(), Imports.EXCLUDED));
+    }
+
+    @Test
+    void shouldRejectChangesAfterFreeze() {
+        OWLOntology o = ontology();
+        ((HasFreeze) o).freeze();
+        assertEquals(ChangeApplied.UNSUCCESSFULLY, o.add(SubClassOf(C, D)));
+        assertEquals(ChangeApplied.UNSUCCESSFULLY, o.remove(SubClassOf(A, B)));
+        assertFalse(o.containsAxiom(SubClassOf(C, D)));
+        assertTrue(o.containsAxiom(SubClassOf(A, B)));
+    }
+
+    @Test
+    void shouldFreezeAfterLoad() {
+        OWLOntology o = loadOntologyWithConfig(
+            saveOntology(ontology(), new FunctionalSyntaxDocumentFormat()),
+            new OWLOntologyLoaderConfiguration().setFreezeAfterLoad(true));
+        assertTrue(((HasFreeze) o).isFrozen());
+        assertEquals(asSet(ontology().logicalAxioms()), asSet(o.logicalAxioms()));
+    }
+
+    @Test
+    void shouldStayFrozenAfterSerialization() throws IOException, ClassNotFoundException {
+        OWLOntology o = ontology();
+        ((HasFreeze) o).freeze();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream stream = new ObjectOutputStream(out);
+        stream.writeObject(m);
+        stream.flush();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()));
+        OWLOntologyManager copy = (OWLOntologyManager) in.readObject();
+        OWLOntology o1 = copy.getOntology(o.getOntologyID());
+        assertTrue(((HasFreeze) o1).isFrozen());
+        assertEquals(asSet(o.axioms()), asSet(o1.axioms()));
+        assertEquals(asSet(o.subClassAxiomsForSubClass(A)), asSet(o1.subClassAxiomsForSubClass(A)));
+    }
+}
@@ -0,0 +1,74 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.EquivalentClasses;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+import uk.ac.manchester.cs.owl.owlapi.HasInitializeIndexes;
+
+class InitializeIndexesTestCase extends TestBase {
+
+    private OWLOntology ontology() {
+        OWLOntology o = getOWLOntology();
+        o.add(SubClassOf(A, B), SubClassOf(B, C), EquivalentClasses(C, D), ClassAssertion(A, I));
+        return o;
+    }
+
+    @Test
+    void shouldReportTimeForEachIndex() {
+        OWLOntology o = ontology();
+        Map<String, Long> timings = ((HasInitializeIndexes) o).initializeIndexes();
+        assertTrue(timings.containsKey("subClassAxiomsBySubPosition"));
+        assertTrue(timings.containsKey("classAxiomsByClass"));
+        timings.values().forEach(t -> assertNotNull(t));
+        assertEquals(asSet(ontology().subClassAxiomsForSubClass(A)),
+            asSet(o.subClassAxiomsForSubClass(A)));
+        assertEquals(asSet(ontology().axioms(C)), asSet(o.axioms(C)));
+        assertEquals(asSet(ontology().classAssertionAxioms(I)), asSet(o.classAssertionAxioms(I)));
+    }
+
+    @Test
+    void shouldKeepIndexesUpdatedAfterInitialization() {
+        OWLOntology o = ontology();
+        ((HasInitializeIndexes) o).initializeIndexes();
+        o.add(SubClassOf(A, C));
+        o.remove(SubClassOf(A, B));
+        assertEquals(Collections.singleton(SubClassOf(A, C)),
+            asSet(o.subClassAxiomsForSubClass(A)));
+    }
+
+    @Test
+    void shouldInitializeIndexesAfterLoad() {
+        OWLOntology o = loadOntologyWithConfig(
+            saveOntology(ontology(), new FunctionalSyntaxDocumentFormat()),
+            new OWLOntologyLoaderConfiguration().setInitializeIndexesAfterLoad(true));
+        assertEquals(asSet(ontology().logicalAxioms()), asSet(o.logicalAxioms()));
+        assertEquals(asSet(ontology().equivalentClassesAxioms(D)),
+            asSet(o.equivalentClassesAxioms(D)));
+    }
+}
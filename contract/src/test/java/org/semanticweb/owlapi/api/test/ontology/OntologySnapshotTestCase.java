@@ -0,0 +1,132 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectPropertyAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import uk.ac.manchester.cs.owl.owlapi.HasSnapshot;
+
+class OntologySnapshotTestCase extends TestBase {
+
+    private OWLOntology ontology() {
+        OWLOntology o = getOWLOntology();
+        o.add(Declaration(A), Declaration(B), SubClassOf(A, B), SubClassOf(B, C),
+            ClassAssertion(A, I), ObjectPropertyAssertion(P, I, J));
+        return o;
+    }
+
+    @Test
+    void shouldNotSeeLaterChanges() {
+        OWLOntology o = ontology();
+        OWLOntology expected = ontology();
+        OWLOntology snapshot = ((HasSnapshot) o).snapshot();
+        o.remove(SubClassOf(A, B), ClassAssertion(A, I));
+        o.add(SubClassOf(C, D), Declaration(D), ClassAssertion(D, I));
+        o.applyChange(new AddOntologyAnnotation(o, df.getRDFSComment("changed")));
+        assertEquals(asSet(expected.axioms()), asSet(snapshot.axioms()));
+        assertEquals(expected.getAxiomCount(), snapshot.getAxiomCount());
+        assertEquals(asSet(expected.signature()), asSet(snapshot.signature()));
+        assertEquals(asSet(expected.subClassAxiomsForSubClass(A)),
+            asSet(snapshot.subClassAxiomsForSubClass(A)));
+        assertEquals(asSet(expected.subClassAxiomsForSuperClass(C)),
+            asSet(snapshot.subClassAxiomsForSuperClass(C)));
+        assertEquals(asSet(expected.classAssertionAxioms(I)),
+            asSet(snapshot.classAssertionAxioms(I)));
+        assertEquals(asSet(expected.axioms(A)), asSet(snapshot.axioms(A)));
+        assertTrue(snapshot.containsAxiom(SubClassOf(A, B)));
+        assertFalse(snapshot.containsAxiom(SubClassOf(C, D)));
+        assertFalse(snapshot.containsClassInSignature(D.getIRI(), Imports.EXCLUDED));
+        assertFalse(snapshot.isDeclared(D));
+        assertEquals(0L, snapshot.annotations().count());
+        assertEquals(o.getOntologyID(), snapshot.getOntologyID());
+    }
+
+    @Test
+    void shouldRejectChanges() {
+        OWLOntology o = ontology();
+        OWLOntology snapshot = ((HasSnapshot) o).snapshot();
+        assertEquals(ChangeApplied.UNSUCCESSFULLY, snapshot.add(SubClassOf(C, D)));
+        assertFalse(snapshot.containsAxiom(SubClassOf(C, D)));
+        assertFalse(o.containsAxiom(SubClassOf(C, D)));
+    }
+
+    @Test
+    void shouldResolveImportsOfSnapshot() throws Exception {
+        OWLOntology o = ontology();
+        OWLOntology imported = m.createOntology(IRI.create("urn:test:", "imported"));
+        imported.add(SubClassOf(C, D));
+        o.applyChange(
+            new AddImport(o, df.getOWLImportsDeclaration(IRI.create("urn:test:", "imported"))));
+        OWLOntology snapshot = ((HasSnapshot) o).snapshot();
+        o.remove(SubClassOf(B, C));
+        Set<OWLOntology> closure = asSet(snapshot.importsClosure());
+        assertEquals(2, closure.size());
+        assertTrue(closure.contains(snapshot));
+        assertTrue(closure.contains(imported));
+        assertTrue(snapshot.containsAxiom(SubClassOf(C, D), Imports.INCLUDED,
+            AxiomAnnotations.CONSIDER_AXIOM_ANNOTATIONS));
+        assertTrue(snapshot.containsAxiom(SubClassOf(B, C), Imports.INCLUDED,
+            AxiomAnnotations.CONSIDER_AXIOM_ANNOTATIONS));
+    }
+
+    @Test
+    void shouldReadConsistentlyWhileWritersProceed() throws Exception {
+        OWLOntologyManager manager = OWLManager.createConcurrentOWLOntologyManager();
+        OWLOntology o = manager.createOntology();
+        for (int i = 0; i < 200; i++) {
+            o.add(SubClassOf(df.getOWLClass("urn:test:C" + i), A));
+        }
+        OWLOntology snapshot = ((HasSnapshot) o).snapshot();
+        Set<OWLAxiom> expected = asSet(snapshot.axioms());
+        // streams are consumed after the query has released the ontology lock, so they must
+        // not see the changes applied in between
+        for (int i = 0; i < 200; i++) {
+            Stream<OWLAxiom> axioms = snapshot.axioms();
+            Stream<OWLSubClassOfAxiom> bySuperClass = snapshot.subClassAxiomsForSuperClass(A);
+            Stream<OWLClass> classes = snapshot.classesInSignature();
+            o.add(SubClassOf(df.getOWLClass("urn:test:D" + i), A));
+            o.remove(SubClassOf(df.getOWLClass("urn:test:C" + i), A));
+            assertEquals(expected, asSet(axioms));
+            assertEquals(expected, asSet(bySuperClass));
+            assertEquals(201, classes.count());
+            assertEquals(200, snapshot.getAxiomCount());
+        }
+        assertEquals(expected, asSet(snapshot.axioms()));
+        assertEquals(200, o.getAxiomCount());
+    }
+}
@@ -0,0 +1,153 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.RDFSLabel;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.binary.parser.BinaryOWLParser;
+import org.semanticweb.owlapi.formats.BinaryDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentTarget;
+import org.semanticweb.owlapi.io.UnparsableOntologyException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.SWRLVariable;
+
+class BinarySnapshotTestCase extends TestBase {
+
+    static List<String> files() {
+        return Arrays.asList("koala.owl", "primer.functionalsyntax.txt", "HasKey.rdf",
+            "DataComplementOf.rdf", "ObjectQualifiedCardinality.rdf", "extraBlankNodes.owl",
+            "annotatedpropertychain.ttl.rdf", "AnnotatedPropertyAssertions.rdf");
+    }
+
+    private byte[] snapshot(OWLOntology o) throws OWLOntologyStorageException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        o.saveOntology(new BinaryDocumentFormat(), new StreamDocumentTarget(out));
+        return out.toByteArray();
+    }
+
+    private OWLOntology reload(byte[] snapshot) throws OWLOntologyCreationException {
+        return setupManager().loadOntologyFromOntologyDocument(
+            new StreamDocumentSource(new ByteArrayInputStream(snapshot)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("files")
+    void shouldRoundTripFiles(String file) throws Exception {
+        OWLOntology o = loadOntology(file);
+        OWLOntology reloaded = reload(snapshot(o));
+        assertTrue(reloaded.getFormat() instanceof BinaryDocumentFormat);
+        equal(o, reloaded);
+    }
+
+    @Test
+    void shouldRoundTripRulesAndAnnotations() throws Exception {
+        OWLOntology o = getOWLOntology();
+        SWRLVariable x = df.getSWRLVariable(IRI.create("urn:test:var#", "x"));
+        OWLAnonymousIndividual anon = df.getOWLAnonymousIndividual();
+        o.add(Declaration(A), SubClassOf(A, B, Collections.singleton(df.getRDFSLabel(Literal("sub", "en")))),
+            AnnotationAssertion(RDFSLabel(), A.getIRI(), Literal("è a class")),
+            AnnotationAssertion(RDFSLabel(), anon, Literal(42)),
+            df.getSWRLRule(Collections.singleton(df.getSWRLClassAtom(A, x)),
+                Collections.singleton(df.getSWRLBuiltInAtom(IRI.create("urn:test:builtin"),
+                    Arrays.asList(x, df.getSWRLLiteralArgument(Literal(true)))))));
+        equal(o, reload(snapshot(o)));
+    }
+
+    @Test
+    void shouldLoadFromMappedFile() throws Exception {
+        OWLOntology o = loadOntology("koala.owl");
+        File file = new File(folder, "koala.owlb");
+        o.saveOntology(new BinaryDocumentFormat(), IRI.create(file));
+        OWLOntology reloaded =
+            setupManager().loadOntologyFromOntologyDocument(new FileDocumentSource(file));
+        assertEquals(o.getOntologyID(), reloaded.getOntologyID());
+        equal(o, reloaded);
+    }
+
+    @Test
+    void shouldRefuseCharacterTargets() {
+        // string targets only accept characters
+        assertThrows(OWLRuntimeException.class,
+            () -> saveOntology(getOWLOntology(), new BinaryDocumentFormat()));
+    }
+
+    private void assertRejected(byte[] snapshot, String message) {
+        UnparsableOntologyException e =
+            assertThrows(UnparsableOntologyException.class, () -> reload(snapshot));
+        assertTrue(e.getExceptions().entrySet().stream()
+            .filter(p -> p.getKey() instanceof BinaryOWLParser)
+            .anyMatch(p -> p.getValue().getMessage().contains(message)), e.getMessage());
+    }
+
+    @Test
+    void shouldRejectTruncatedSnapshots() throws Exception {
+        byte[] snapshot = snapshot(loadOntology("koala.owl"));
+        for (int length : new int[] {9, snapshot.length / 2, snapshot.length - 1}) {
+            assertRejected(Arrays.copyOf(snapshot, length), "binary snapshot");
+        }
+    }
+
+    @Test
+    void shouldRejectCountsLargerThanTheInput() throws Exception {
+        byte[] snapshot = snapshot(getOWLOntology());
+        // the string table size follows the header; a count of 2^31 - 1 must not be allocated
+        assertTrue(snapshot[8] >= 0, "the table size of an empty ontology takes one byte");
+        ByteArrayOutputStream corrupt = new ByteArrayOutputStream();
+        corrupt.write(snapshot, 0, 8);
+        corrupt.write(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}, 0, 5);
+        corrupt.write(snapshot, 9, snapshot.length - 9);
+        assertRejected(corrupt.toByteArray(), "count 2147483647 exceeds");
+    }
+
+    @Test
+    void shouldRejectUnknownTags() throws Exception {
+        OWLOntology o = getOWLOntology();
+        o.add(Declaration(A));
+        byte[] snapshot = snapshot(o);
+        // the body ends with the only axiom: declaration tag 2000, no annotations, class tag 1001
+        byte[] declaration = {(byte) 0xD0, 0x0F, 0x00, (byte) 0xE9, 0x07};
+        int tag = snapshot.length - declaration.length - 1;
+        assertArrayEquals(declaration,
+            Arrays.copyOfRange(snapshot, tag, tag + declaration.length));
+        // axiom tag 2999
+        snapshot[tag] = (byte) 0xB7;
+        snapshot[tag + 1] = 0x17;
+        assertRejected(snapshot, "Unknown axiom type");
+    }
+}
@@ -0,0 +1,82 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.MappedFileDocumentSource;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+class MappedFileDocumentSourceTestCase extends TestBase {
+
+    private OWLOntology load(File file, boolean mapped) throws OWLOntologyCreationException {
+        FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
+        return setupManager().loadOntologyFromOntologyDocument(
+            mapped ? new MappedFileDocumentSource(file, format, null)
+                : new FileDocumentSource(file, format));
+    }
+
+    private void assertSameOntology(File file) throws OWLOntologyCreationException {
+        OWLOntology expected = load(file, false);
+        OWLOntology actual = load(file, true);
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(asSet(expected.annotations()), asSet(actual.annotations()));
+        assertEquals(asSet(expected.axioms()), asSet(actual.axioms()));
+    }
+
+    @Test
+    void shouldParseMappedFileLikeStream() throws Exception {
+        File file = new File(folder, "koala.ofn");
+        String text =
+            saveOntology(loadOntology("koala.owl"), new FunctionalSyntaxDocumentFormat()).toString();
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        assertSameOntology(file);
+    }
+
+    @Test
+    void shouldDecodeUTF8AndSkipComments() throws Exception {
+        File file = new File(folder, "unicode.ofn");
+        String text = "\uFEFFPrefix(:=<urn:test#>)\n"
+            + "Prefix(rdfs:=<http://www.w3.org/2000/01/rdf-schema#>)\n"
+            + "Ontology(<urn:test:ontology>\n"
+            + "# comment with ( and é\n"
+            + "Declaration(Class(:Cé))\n"
+            + "AnnotationAssertion(rdfs:label :Cé \"café \\\"日本\\\"\"@fr)\n"
+            + "AnnotationAssertion(rdfs:comment <urn:test#é> "
+            + "\"1\"^^<http://www.w3.org/2001/XMLSchema#integer>)\n"
+            + "SubClassOf(:Cé ObjectMinCardinality(12 :p))\n"
+            + ")";
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        assertSameOntology(file);
+        assertEquals(4, load(file, true).getAxiomCount());
+    }
+
+    @Test
+    void shouldFailOnMalformedMappedFile() throws Exception {
+        File file = new File(folder, "broken.ofn");
+        Files.write(file.toPath(),
+            "Ontology(<urn:test:ontology> SubClassOf(".getBytes(StandardCharsets.UTF_8));
+        assertThrows(OWLOntologyCreationException.class, () -> load(file, true));
+    }
+}
@@ -0,0 +1,111 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.MappedFileDocumentSource;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+class ParallelFunctionalSyntaxParsingTestCase extends TestBase {
+
+    private static final int SIZE = 5000;
+    private final OWLOntologyLoaderConfiguration parallel =
+        new OWLOntologyLoaderConfiguration().setParallelParsing(true);
+
+    private static String document(String broken) {
+        StringBuilder b = new StringBuilder();
+        b.append("Prefix(:=<urn:test#>)\n");
+        b.append("Prefix(rdfs:=<http://www.w3.org/2000/01/rdf-schema#>)\n");
+        b.append("Ontology(<urn:test:ontology>\n");
+        b.append("Annotation(rdfs:comment \"header (with parens\")\n");
+        for (int i = 0; i < SIZE; i++) {
+            b.append("# a comment with an unbalanced paren (\n");
+            b.append("Declaration(Class(<urn:test#C").append(i).append(">))\n");
+            if (i == SIZE - 10) {
+                b.append(broken).append('\n');
+            }
+            b.append("SubClassOf(Annotation(rdfs:label \"a \\\"quoted\\\" ) label\") :C").append(i)
+                .append(" :C").append(i + 1).append(")\n");
+            b.append("ClassAssertion(:C").append(i).append(" _:shared)\n");
+        }
+        b.append(")\n");
+        return b.toString();
+    }
+
+    private static Set<OWLAxiom> named(OWLOntology o) {
+        return o.axioms().filter(ax -> !ax.isOfType(AxiomType.CLASS_ASSERTION))
+            .collect(Collectors.toSet());
+    }
+
+    @Test
+    void shouldParseSameAxiomsInParallel() {
+        String text = document("");
+        OWLOntology expected = loadOntologyFromString(text, new FunctionalSyntaxDocumentFormat());
+        OWLOntology actual =
+            loadOntologyFromString(text, new FunctionalSyntaxDocumentFormat(), parallel);
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(asSet(expected.annotations()), asSet(actual.annotations()));
+        assertEquals(expected.getAxiomCount(), actual.getAxiomCount());
+        assertEquals(named(expected), named(actual));
+        // the same blank node in different chunks must be the same individual
+        Set<OWLIndividual> individuals = actual.axioms(AxiomType.CLASS_ASSERTION)
+            .map(ax -> ax.getIndividual()).collect(Collectors.toSet());
+        assertEquals(1, individuals.size());
+        assertEquals(SIZE, actual.axioms(AxiomType.CLASS_ASSERTION).count());
+    }
+
+    @Test
+    void shouldParseMappedFileInParallel() throws Exception {
+        String text = document("");
+        File file = new File(folder, "parallel.ofn");
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        OWLOntology expected = loadOntologyFromString(text, new FunctionalSyntaxDocumentFormat());
+        OWLOntology actual = setupManager().loadOntologyFromOntologyDocument(
+            new MappedFileDocumentSource(file, new FunctionalSyntaxDocumentFormat(), null),
+            parallel);
+        assertEquals(expected.getAxiomCount(), actual.getAxiomCount());
+        assertEquals(named(expected), named(actual));
+    }
+
+    @Test
+    void shouldRejectTruncatedDocuments() {
+        String text = document("");
+        String truncated = text.substring(0, text.lastIndexOf(')'));
+        assertThrows(OWLRuntimeException.class, () -> loadOntologyFromString(truncated,
+            new FunctionalSyntaxDocumentFormat(), parallel));
+    }
+
+    @Test
+    void shouldReportErrorsInChunks() {
+        String text = document("SubClassOf(:C1)");
+        assertThrows(OWLRuntimeException.class, () -> loadOntologyFromString(text,
+            new FunctionalSyntaxDocumentFormat(), parallel));
+    }
+}
@@ -0,0 +1,129 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.NQuadsDocumentFormat;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+class ParallelNTriplesParsingTestCase extends TestBase {
+
+    private static final int SIZE = 3000;
+    private static final String RDF = "<http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String RDFS = "<http://www.w3.org/2000/01/rdf-schema#";
+    private static final String OWL = "<http://www.w3.org/2002/07/owl#";
+    private final OWLOntologyLoaderConfiguration parallel =
+        new OWLOntologyLoaderConfiguration().setParallelParsing(true);
+
+    /**
+     * A document larger than a block, with blank nodes shared across blocks, escapes, comments,
+     * blank lines and a list without explicit types.
+     */
+    private static String document(String graph, int brokenLine) {
+        StringBuilder b = new StringBuilder();
+        b.append("<urn:test:ontology> ").append(RDF).append("type> ").append(OWL)
+            .append("Ontology>").append(graph).append(" .\n");
+        b.append("<urn:test#p> ").append(RDF).append("type> ").append(OWL)
+            .append("ObjectProperty> .\r\n\n");
+        for (int i = 0; i < SIZE; i++) {
+            String c = "<urn:test#C" + i + '>';
+            b.append(c).append(' ').append(RDF).append("type> ").append(OWL).append("Class> .\n");
+            b.append(c).append(' ').append(RDFS).append("subClassOf> _:r").append(i)
+                .append(graph).append(".\n");
+            b.append("_:r").append(i).append(' ').append(RDF).append("type> ").append(OWL)
+                .append("Restriction> .\n");
+            b.append("_:r").append(i).append(' ').append(OWL)
+                .append("onProperty> <urn:test#p> .\n");
+            b.append("_:r").append(i).append('\t').append(OWL).append("someValuesFrom> ")
+                .append("<urn:test#C").append(i + 1).append("> . # trailing comment\n");
+            b.append("# a comment with \"quotes\" and <brackets>\n");
+            b.append(c).append(' ').append(RDFS).append("label> \"class \\\"").append(i)
+                .append("\\\"\\t\\u00E9\\U0001F600\"@en").append(graph).append(" .\n");
+            b.append(c).append(' ').append(RDFS).append("comment> \"").append(i)
+                .append("\"^^<http://www.w3.org/2001/XMLSchema#integer> .\n");
+            if (b.length() > brokenLine && brokenLine > 0) {
+                b.append(c).append(' ').append(RDFS).append("comment> \"unterminated .\n");
+                brokenLine = 0;
+            }
+            b.append("_:shared ").append(RDF).append("type> ").append(c).append(" .\n");
+        }
+        b.append("<urn:test#U> ").append(OWL).append("equivalentClass> _:u .\n");
+        b.append("_:u ").append(RDF).append("type> ").append(OWL).append("Class> .\n");
+        b.append("_:u ").append(OWL).append("unionOf> _:l1 .\n");
+        b.append("_:l1 ").append(RDF).append("first> <urn:test#C0> .\n");
+        b.append("_:l1 ").append(RDF).append("rest> _:l2 .\n");
+        b.append("_:l2 ").append(RDF).append("first> <urn:test#C1> .\n");
+        b.append("_:l2 ").append(RDF).append("rest> ").append(RDF).append("nil> .");
+        return b.toString();
+    }
+
+    private static Set<OWLAxiom> named(OWLOntology o) {
+        return o.axioms().filter(ax -> !ax.isOfType(AxiomType.CLASS_ASSERTION))
+            .collect(Collectors.toSet());
+    }
+
+    private static void assertSameOntology(OWLOntology expected, OWLOntology actual) {
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(expected.getAxiomCount(), actual.getAxiomCount());
+        assertEquals(named(expected), named(actual));
+        // the same blank node in different blocks must be the same individual
+        Set<OWLIndividual> individuals = actual.axioms(AxiomType.CLASS_ASSERTION)
+            .map(ax -> ax.getIndividual()).collect(Collectors.toSet());
+        assertEquals(1, individuals.size());
+        assertEquals(SIZE, actual.axioms(AxiomType.CLASS_ASSERTION).count());
+    }
+
+    @Test
+    void shouldParseSameOntologyInParallel() {
+        String text = document("", 0);
+        assertTrue(text.length() > 2 << 20);
+        OWLOntology expected = loadOntologyFromString(text, new NTriplesDocumentFormat());
+        assertSameOntology(expected,
+            loadOntologyFromString(text, new NTriplesDocumentFormat(), parallel));
+        assertEquals(4 * SIZE + 2, named(expected).size());
+    }
+
+    @Test
+    void shouldIgnoreGraphLabelsInQuads() {
+        OWLOntology expected =
+            loadOntologyFromString(document("", 0), new NTriplesDocumentFormat());
+        String quads = document(" <urn:test:graph>", 0);
+        assertSameOntology(expected,
+            loadOntologyFromString(quads, new NQuadsDocumentFormat(), parallel));
+    }
+
+    @Test
+    void shouldReportErrorsWithDocumentLineNumbers() {
+        String text = document("", 3 << 19);
+        int line = 1 + (int) text.substring(0, text.indexOf("\"unterminated")).chars()
+            .filter(c -> c == '\n').count();
+        OWLRuntimeException e = assertThrows(OWLRuntimeException.class,
+            () -> loadOntologyFromString(text, new NTriplesDocumentFormat(), parallel));
+        assertTrue(e.getMessage().contains("Unterminated literal (Line " + line + ')'),
+            e.getMessage());
+    }
+}
@@ -0,0 +1,81 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.functional.parser.OWLFunctionalSyntaxOWLParser;
+import org.semanticweb.owlapi.io.OWLParser;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.manchestersyntax.parser.ManchesterOWLSyntaxOntologyParser;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.owlxml.parser.OWLXMLParser;
+import org.semanticweb.owlapi.rdf.rdfxml.parser.RDFXMLParser;
+
+class StreamingParserTestCase extends TestBase {
+
+    static Stream<Arguments> parsers() {
+        return Stream.of(
+            Arguments.of(new FunctionalSyntaxDocumentFormat(), new OWLFunctionalSyntaxOWLParser()),
+            Arguments.of(new OWLXMLDocumentFormat(), new OWLXMLParser()),
+            Arguments.of(new ManchesterSyntaxDocumentFormat(),
+                new ManchesterOWLSyntaxOntologyParser()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("parsers")
+    void shouldStreamAxiomsWithoutAddingThem(OWLDocumentFormat format, OWLParser parser)
+        throws Exception {
+        OWLOntology o = loadOntology("koala.owl");
+        String text = saveOntology(o, format).toString();
+        OWLOntology expected = loadOntologyFromString(text, format);
+        OWLOntology header = m1.createOntology();
+        List<OWLAxiom> axioms = new ArrayList<>();
+        assertTrue(parser.supportsStreaming());
+        parser.parse(new StringDocumentSource(text), header,
+            m1.getOntologyLoaderConfiguration(), axioms::add);
+        assertEquals(asSet(expected.axioms()), new HashSet<>(axioms));
+        assertEquals(expected.getOntologyID(), header.getOntologyID());
+        assertEquals(0, header.getAxiomCount());
+    }
+
+    @Test
+    void shouldRefuseStreamingIfUnsupported() throws Exception {
+        OWLParser parser = new RDFXMLParser();
+        assertFalse(parser.supportsStreaming());
+        OWLOntology header = m1.createOntology();
+        assertThrows(UnsupportedOperationException.class,
+            () -> parser.parse(new StringDocumentSource(""), header,
+                m1.getOntologyLoaderConfiguration(), ax -> {
+                }));
+    }
+}
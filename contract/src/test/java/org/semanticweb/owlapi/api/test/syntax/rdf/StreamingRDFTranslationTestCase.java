@@ -0,0 +1,180 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test.syntax.rdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.rdf.rdfxml.parser.OWLRDFConsumer;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+
+class StreamingRDFTranslationTestCase extends TestBase {
+
+    private final OWLOntologyLoaderConfiguration streaming =
+        new OWLOntologyLoaderConfiguration().setStreamRDFTranslation(true);
+
+    static Stream<Arguments> rdfFormats() {
+        return Stream.of(Arguments.of(new RDFXMLDocumentFormat()),
+            Arguments.of(new TurtleDocumentFormat()), Arguments.of(new NTriplesDocumentFormat()));
+    }
+
+    private void assertSameTranslation(String text, OWLDocumentFormat format) {
+        OWLOntology expected = loadOntologyFromString(text, format);
+        OWLOntology actual = loadOntologyWithConfig(
+            new StringDocumentSource(text, "string:ontology", format, null), streaming);
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(asUnorderedSet(expected.annotations()), asUnorderedSet(actual.annotations()));
+        assertEquals(asUnorderedSet(expected.axioms()), asUnorderedSet(actual.axioms()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rdfFormats")
+    void shouldTranslateAnnotationsAsTheyArrive(OWLDocumentFormat format) throws Exception {
+        OWLOntology o = m.createOntology(IRI.create("urn:test:streaming"));
+        OWLAnnotationProperty definition = df.getOWLAnnotationProperty("urn:test:streaming#def");
+        OWLAnnotationProperty xref = df.getOWLAnnotationProperty("urn:test:streaming#xref");
+        m.applyChange(new AddOntologyAnnotation(o,
+            df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("ontology comment"))));
+        o.add(df.getOWLDeclarationAxiom(definition), df.getOWLDeclarationAxiom(xref));
+        for (int i = 0; i < 20; i++) {
+            OWLClass c = df.getOWLClass("urn:test:streaming#C" + i);
+            o.add(df.getOWLDeclarationAxiom(c),
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), c.getIRI(),
+                    df.getOWLLiteral("class " + i)),
+                df.getOWLAnnotationAssertionAxiom(definition, c.getIRI(),
+                    df.getOWLLiteral("definition " + i),
+                    Collections.singleton(
+                        df.getOWLAnnotation(xref, df.getOWLLiteral("source " + i)))));
+            if (i > 0) {
+                o.add(df.getOWLSubClassOfAxiom(c, df.getOWLClass("urn:test:streaming#C0")));
+            }
+        }
+        assertSameTranslation(saveOntology(o, format).toString(), format);
+    }
+
+    @Test
+    void shouldKeepAnnotationsOfAxiomNodesAndLateDeclarations() {
+        String input = "@prefix : <urn:test:late#> .\n"
+            + "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+            + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .\n"
+            + "<urn:test:late> a owl:Ontology .\n"
+            + ":A a owl:Class ; rdfs:label \"a\" ; :note \"declared later\" .\n"
+            // the comment precedes the type that makes the node an axiom
+            + ":ax rdfs:comment \"on the axiom\" ; a owl:Axiom ; owl:annotatedSource :A ;\n"
+            + "    owl:annotatedProperty rdfs:label ; owl:annotatedTarget \"a\" .\n"
+            + ":note a owl:AnnotationProperty .\n";
+        assertSameTranslation(input, new TurtleDocumentFormat());
+        OWLOntology o = loadOntologyWithConfig(
+            new StringDocumentSource(input, "string:ontology", new TurtleDocumentFormat(), null),
+            streaming);
+        assertTrue(o.annotationAssertionAxioms(iri("urn:test:late#", "A"))
+            .anyMatch(ax -> ax.annotations().findAny().isPresent()));
+    }
+
+    @Test
+    void shouldTranslateHeldLiteralsWhenTheSubjectChanges() throws Exception {
+        IRI a = IRI.create("urn:test:held#", "A");
+        IRI b = IRI.create("urn:test:held#", "B");
+        OWLAxiom label = df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), a,
+            df.getOWLLiteral("a"));
+        RecordingConsumer consumer = new RecordingConsumer(
+            m.createOntology(IRI.create("urn:test:held")), streaming);
+        consumer.statementWithLiteralValue(a, OWLRDFVocabulary.RDFS_LABEL.getIRI(), "a", null,
+            null);
+        assertTrue(consumer.added.isEmpty());
+        // the first statement about B ends the statements about A
+        consumer.statementWithResourceValue(b, OWLRDFVocabulary.RDF_TYPE.getIRI(),
+            OWLRDFVocabulary.OWL_CLASS.getIRI());
+        assertTrue(consumer.added.contains(label));
+        RecordingConsumer buffered = new RecordingConsumer(
+            m.createOntology(IRI.create("urn:test:buffered")), config);
+        buffered.statementWithLiteralValue(a, OWLRDFVocabulary.RDFS_LABEL.getIRI(), "a", null,
+            null);
+        buffered.statementWithResourceValue(b, OWLRDFVocabulary.RDF_TYPE.getIRI(),
+            OWLRDFVocabulary.OWL_CLASS.getIRI());
+        assertFalse(buffered.added.contains(label));
+        buffered.endModel();
+        assertTrue(buffered.added.contains(label));
+    }
+
+    @Test
+    void shouldTranslateOntologyAnnotationBeforeTheOntologyTypeAsInBufferedMode() {
+        String type = " <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> ";
+        String ontology = "<http://www.w3.org/2002/07/owl#Ontology> .\n";
+        // not grouped by subject: the comment ends before the second ontology is typed
+        String input = "<urn:test:first>" + type + ontology
+            + "<urn:test:second> <http://www.w3.org/2000/01/rdf-schema#comment> \"c\" .\n"
+            + "<urn:test:first#A>" + type + "<http://www.w3.org/2002/07/owl#Class> .\n"
+            + "<urn:test:second>" + type + ontology;
+        assertSameTranslation(input, new NTriplesDocumentFormat());
+        OWLOntology o = loadOntologyWithConfig(new StringDocumentSource(input,
+            "string:ontology", new NTriplesDocumentFormat(), null), streaming);
+        assertEquals(1, o.annotations().count());
+        assertFalse(o.annotationAssertionAxioms(IRI.create("urn:test:second")).findAny()
+            .isPresent());
+    }
+
+    @Test
+    void shouldTranslateAnnotationsOfLateAxiomNodesAsInBufferedMode() {
+        String input = "@prefix : <urn:test:node#> .\n"
+            + "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+            + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .\n"
+            + "<urn:test:node> a owl:Ontology .\n"
+            + ":A a owl:Class ; rdfs:label \"a\" .\n"
+            // the statements about the axiom node are split, so its comment is translated first
+            + ":ax rdfs:comment \"on the axiom\" .\n"
+            + ":A rdfs:comment \"on the class\" .\n"
+            + ":ax a owl:Axiom ; owl:annotatedSource :A ;\n"
+            + "    owl:annotatedProperty rdfs:label ; owl:annotatedTarget \"a\" .\n";
+        assertSameTranslation(input, new TurtleDocumentFormat());
+    }
+
+    private static class RecordingConsumer extends OWLRDFConsumer {
+
+        final List<OWLAxiom> added = new ArrayList<>();
+
+        RecordingConsumer(OWLOntology ontology, OWLOntologyLoaderConfiguration configuration) {
+            super(ontology, configuration);
+        }
+
+        @Override
+        protected void addAxiom(OWLAxiom axiom) {
+            added.add(axiom);
+            super.addAxiom(axiom);
+        }
+    }
+}
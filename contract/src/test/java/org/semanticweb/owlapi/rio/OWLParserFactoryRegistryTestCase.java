@@ -14,6 +14,7 @@ import org.semanticweb.owlapi.manchestersyntax.parser.ManchesterOWLSyntaxOntolog
 import org.semanticweb.owlapi.oboformat.OBOFormatOWLAPIParserFactory;
 import org.semanticweb.owlapi.owlxml.parser.OWLXMLParserFactory;
 import org.semanticweb.owlapi.rdf.rdfxml.parser.RDFXMLParserFactory;
+import org.semanticweb.owlapi.rdf.turtle.parser.FastTurtleOntologyParserFactory;
 import org.semanticweb.owlapi.rdf.turtle.parser.TurtleOntologyParserFactory;
 import org.semanticweb.owlapi.util.PriorityCollection;
 
@@ -34,6 +35,7 @@ class OWLParserFactoryRegistryTestCase {
         factories.add(OWLXMLParserFactory.class);
         factories.add(OWLFunctionalSyntaxOWLParserFactory.class);
         factories.add(TurtleOntologyParserFactory.class);
+        factories.add(FastTurtleOntologyParserFactory.class);
         factories.add(ManchesterOWLSyntaxOntologyParserFactory.class);
         factories.add(OBOFormatOWLAPIParserFactory.class);
         factories.add(KRSS2OWLParserFactory.class);
@@ -0,0 +1,167 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+/**
+ * A long lexical form stored as bytes: Latin-1 if all its characters fit, UTF-8 otherwise,
+ * optionally deflated against a preset dictionary shared by the forms of a
+ * {@link LiteralDictionary}. The string is decoded on each access and not kept.
+ *
+ * @author ignazio
+ */
+final class CompactLexicalForm {
+
+    private static final ThreadLocal<Deflater> DEFLATERS =
+        ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    private static final ThreadLocal<Inflater> INFLATERS =
+        ThreadLocal.withInitial(() -> new Inflater(true));
+    private final byte[] bytes;
+    private final boolean latin1;
+    /** Number of bytes before deflating; equal to the array length if not deflated. */
+    private final int length;
+    private final int hash;
+    /** Preset dictionary used to deflate the bytes, or null if they are not deflated. */
+    @Nullable
+    private final byte[] preset;
+
+    private CompactLexicalForm(byte[] bytes, boolean latin1, int length, int hash,
+        @Nullable byte[] preset) {
+        this.bytes = bytes;
+        this.latin1 = latin1;
+        this.length = length;
+        this.hash = hash;
+        this.preset = preset;
+    }
+
+    /**
+     * @param s lexical form
+     * @param preset preset dictionary for deflating, or null if the bytes should not be deflated
+     * @return compact form of s; if deflating does not make the form smaller, the form is not
+     *         deflated
+     */
+    static CompactLexicalForm encode(String s, @Nullable byte[] preset) {
+        boolean latin1 = isLatin1(s);
+        byte[] raw = s.getBytes(latin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        if (preset != null) {
+            byte[] deflated = deflate(raw, preset);
+            if (deflated.length < raw.length) {
+                return new CompactLexicalForm(deflated, latin1, raw.length, s.hashCode(), preset);
+            }
+        }
+        return new CompactLexicalForm(raw, latin1, raw.length, s.hashCode(), null);
+    }
+
+    private static boolean isLatin1(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] deflate(byte[] raw, byte[] preset) {
+        Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        deflater.setDictionary(preset);
+        deflater.setInput(raw);
+        deflater.finish();
+        // deflated data can be slightly larger than the input; such forms are not kept anyway
+        byte[] out = new byte[raw.length + 64];
+        int size = 0;
+        while (!deflater.finished() && size < out.length) {
+            size += deflater.deflate(out, size, out.length - size);
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    /**
+     * @return the lexical form
+     */
+    String decode() {
+        byte[] p = preset;
+        byte[] raw = p == null ? bytes : inflate(p);
+        return new String(raw, latin1 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param s string to compare
+     * @return true if s is the decoded form; Latin-1 forms that are not deflated are compared
+     *         without decoding
+     */
+    boolean contentEquals(String s) {
+        if (hash != s.hashCode()) {
+            return false;
+        }
+        if (preset != null || !latin1) {
+            return decode().equals(s);
+        }
+        if (s.length() != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if ((bytes[i] & 0xFF) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] inflate(byte[] p) {
+        Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        inflater.setDictionary(p);
+        inflater.setInput(bytes);
+        byte[] out = new byte[length];
+        try {
+            int size = 0;
+            while (size < length && !inflater.finished()) {
+                int n = inflater.inflate(out, size, length - size);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                size += n;
+            }
+            if (size != length) {
+                throw new OWLRuntimeException("Truncated lexical form: " + size + " of " + length);
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new OWLRuntimeException(e);
+        }
+    }
+
+    /**
+     * @return hash code of the decoded string
+     */
+    int stringHash() {
+        return hash;
+    }
+
+    /**
+     * @return number of bytes held by this form
+     */
+    int storedBytes() {
+        return bytes.length;
+    }
+}
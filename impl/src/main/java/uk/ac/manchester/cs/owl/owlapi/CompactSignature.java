@@ -0,0 +1,138 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterator.SORTED;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObject;
+
+/**
+ * The signature of an object, entities and anonymous individuals together, as one sorted array.
+ * Objects sort by type index first, so the primitives of each type form a contiguous range of the
+ * array, found by binary search; streams over a range do not copy the array.
+ *
+ * @author ignazio
+ */
+final class CompactSignature {
+
+    // type indexes of the primitives, as returned by typeIndex()
+    static final int CLASS = 1001;
+    static final int OBJECT_PROPERTY = 1002;
+    static final int DATA_PROPERTY = 1004;
+    static final int NAMED_INDIVIDUAL = 1005;
+    static final int ANNOTATION_PROPERTY = 1006;
+    static final int ANONYMOUS_INDIVIDUAL = 1007;
+    static final int DATATYPE = 4001;
+    static final OWLObject[] EMPTY = new OWLObject[0];
+    private static final int CHARACTERISTICS = DISTINCT | IMMUTABLE | NONNULL | SORTED | ORDERED;
+
+    private CompactSignature() {}
+
+    /**
+     * @param o object whose signature is required
+     * @return sorted array of the entities and anonymous individuals in the signature of o
+     */
+    static OWLObject[] of(HasIncrementalSignatureGenerationSupport o) {
+        Set<OWLEntity> entities = new TreeSet<>();
+        o.addSignatureEntitiesToSet(entities);
+        Set<OWLAnonymousIndividual> anonymous = new TreeSet<>();
+        o.addAnonymousIndividualsToSet(anonymous);
+        if (entities.isEmpty() && anonymous.isEmpty()) {
+            return EMPTY;
+        }
+        OWLObject[] array = new OWLObject[entities.size() + anonymous.size()];
+        int i = 0;
+        for (OWLEntity e : entities) {
+            array[i++] = e;
+        }
+        for (OWLAnonymousIndividual a : anonymous) {
+            array[i++] = a;
+        }
+        if (!entities.isEmpty() && !anonymous.isEmpty()) {
+            Arrays.sort(array);
+        }
+        return array;
+    }
+
+    /**
+     * @param array sorted signature
+     * @param typeIndex type index
+     * @return index of the first element with type index not lower than typeIndex
+     */
+    private static int lowerBound(OWLObject[] array, int typeIndex) {
+        int low = 0;
+        int high = array.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid].typeIndex() < typeIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <T> Stream<T> stream(OWLObject[] array, int from, int to) {
+        if (from == to) {
+            return Stream.empty();
+        }
+        return StreamSupport.stream(Spliterators.spliterator(array, from, to, CHARACTERISTICS),
+            false);
+    }
+
+    /**
+     * @param array sorted signature
+     * @param typeIndex type index of the required primitives
+     * @param <T> type of the primitives
+     * @return the primitives with the type index, in order
+     */
+    static <T> Stream<T> ofType(OWLObject[] array, int typeIndex) {
+        return stream(array, lowerBound(array, typeIndex), lowerBound(array, typeIndex + 1));
+    }
+
+    /**
+     * @param array sorted signature
+     * @return the entities in the signature, in order
+     */
+    static Stream<OWLEntity> entities(OWLObject[] array) {
+        int from = lowerBound(array, ANONYMOUS_INDIVIDUAL);
+        int to = lowerBound(array, ANONYMOUS_INDIVIDUAL + 1);
+        if (from == to) {
+            return stream(array, 0, array.length);
+        }
+        return Stream.concat(stream(array, 0, from), stream(array, to, array.length));
+    }
+
+    /**
+     * @param array sorted signature
+     * @param o entity or anonymous individual
+     * @return true if o is in the signature
+     */
+    static boolean contains(OWLObject[] array, OWLObject o) {
+        return Arrays.binarySearch(array, o) >= 0;
+    }
+}
@@ -0,0 +1,379 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
+import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitCollectionVisitor;
+import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
+
+/**
+ * A map pointer optimised for concurrent reads. Writes are serialized on the pointer monitor, as
+ * in {@link MapPointer}, but reads never acquire it: keys live in a {@link ConcurrentHashMap} and
+ * each value collection is either an immutable copy-on-write list (for small collections) or a
+ * concurrent set (for large ones). Readers stream directly over these structures, without copying
+ * them. Iteration is weakly consistent: a reader sees every value present when the lookup started
+ * and may or may not see values added concurrently.
+ *
+ * @author ignazio
+ * @param <K> key
+ * @param <V> value
+ */
+public class ConcurrentMapPointer<K, V extends OWLAxiom> extends MapPointer<K, V> {
+
+    /**
+     * Value collections up to this size are kept as immutable lists and copied on write; larger
+     * collections are promoted to concurrent sets.
+     */
+    private static final int COPY_ON_WRITE_THRESHOLD = 16;
+    private final ConcurrentHashMap<K, Collection<V>> map = new ConcurrentHashMap<>(17, 0.75F, 1);
+    /** Set at the start of initialization; guarded by this. */
+    private volatile boolean initialized;
+    /** Set once initialization is complete; readers only need to check this flag. */
+    private volatile boolean ready;
+    private volatile int size = 0;
+    private volatile int version = 0;
+    @Nullable
+    private volatile SoftReference<IRISnapshot> iris;
+
+    /**
+     * @param t type of axioms contained
+     * @param v visitor
+     * @param initialized true if initialized
+     * @param i internals containing this pointer
+     * @param valueWithness witness for the value type
+     */
+    public ConcurrentMapPointer(@Nullable AxiomType<?> t, @Nullable OWLAxiomVisitorEx<?> v,
+        boolean initialized, Internals i, Class<V> valueWithness) {
+        super(t, v, initialized, i, valueWithness);
+        this.initialized = initialized;
+        ready = initialized;
+    }
+
+    private void ensureReady() {
+        if (!ready) {
+            init();
+        }
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    @Override
+    public synchronized ConcurrentMapPointer<K, V> init() {
+        if (initialized) {
+            return this;
+        }
+        initialized = true;
+        loadInitialValues();
+        ready = true;
+        return this;
+    }
+
+    /**
+     * Populate the map on first access. Called with the monitor held, after the pointer has been
+     * marked initialized, so that {@link #put(Object, OWLAxiom)} can be used.
+     */
+    @SuppressWarnings("unchecked")
+    protected void loadInitialValues() {
+        if (visitor == null || type == null) {
+            return;
+        }
+        AxiomType<?> t = type;
+        if (visitor instanceof InitVisitor) {
+            InitVisitor<K> v = (InitVisitor<K>) visitor;
+            forEachAxiomToIndex(t, ax -> putInternal(ax.accept(v), (V) ax));
+        } else if (visitor instanceof InitCollectionVisitor) {
+            InitCollectionVisitor<K> v = (InitCollectionVisitor<K>) visitor;
+            forEachAxiomToIndex(t,
+                ax -> ax.accept(v).forEach(key -> putInternal(key, (V) ax)));
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<K, V> consumer) {
+        ensureReady();
+        map.forEach((k, values) -> values.forEach(v -> consumer.accept(k, v)));
+    }
+
+    @Override
+    public boolean containsReference(K e) {
+        return lookup(e) != null;
+    }
+
+    @Override
+    public boolean containsReference(IRI e) {
+        SoftReference<IRISnapshot> ref = iris;
+        IRISnapshot snapshot = ref == null ? null : ref.get();
+        int current = version;
+        if (snapshot == null || snapshot.version != current) {
+            Set<IRI> set = CollectionFactory.createSet();
+            map.keySet().forEach(k -> consumer(set, k));
+            snapshot = new IRISnapshot(current, set);
+            iris = new SoftReference<>(snapshot);
+        }
+        return snapshot.iris.contains(e);
+    }
+
+    @Override
+    public String toString() {
+        return initialized + map.toString();
+    }
+
+    @Override
+    public Stream<K> keySet() {
+        ensureReady();
+        return map.keySet().stream();
+    }
+
+    @Override
+    public Stream<V> getValues(K key) {
+        return get(key);
+    }
+
+    @Override
+    public void forEach(K key, Consumer<V> function) {
+        ensureReady();
+        Collection<V> t = lookup(key);
+        if (t != null) {
+            t.forEach(function);
+        }
+    }
+
+    @Override
+    protected void forEachUnlocked(K key, Consumer<V> function) {
+        forEach(key, function);
+    }
+
+    @Override
+    public boolean matchOnValues(K key, Predicate<V> function) {
+        return get(key).anyMatch(function);
+    }
+
+    @Override
+    public Collection<V> getValuesAsCollection(K key) {
+        ensureReady();
+        Collection<V> t = lookup(key);
+        if (t == null) {
+            return Collections.emptyList();
+        }
+        if (t instanceof List) {
+            // immutable snapshot, safe to share
+            return t;
+        }
+        return Collections.unmodifiableCollection(t);
+    }
+
+    @Override
+    public int countValues(K key) {
+        ensureReady();
+        Collection<V> t = lookup(key);
+        if (t == null) {
+            return 0;
+        }
+        return t.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O extends V> Stream<O> values(K key, @SuppressWarnings("unused") Class<O> classType) {
+        return (Stream<O>) get(key);
+    }
+
+    @Override
+    public <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
+        ensureReady();
+        List<OWLAxiom> toReturn = new ArrayList<>();
+        for (AxiomType<?> at : filter.getAxiomTypes()) {
+            // This method is only used for MapPointer<AxiomType, OWLAxiom>
+            Collection<V> collection = lookup(at);
+            if (collection != null) {
+                collection.stream().filter(x -> filter.pass(x, key)).forEach(toReturn::add);
+            }
+        }
+        return toReturn;
+    }
+
+    @Override
+    public synchronized boolean put(K key, V value) {
+        // lazy init: no elements added until a recall is made
+        if (!initialized) {
+            return false;
+        }
+        return putInternal(key, value);
+    }
+
+    @Override
+    public synchronized List<V> putAll(K key, Collection<? extends V> values) {
+        return putEach(key, values);
+    }
+
+    @Override
+    public synchronized boolean remove(K key, V value) {
+        if (!initialized) {
+            return false;
+        }
+        return removeInternal(key, value);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        ensureReady();
+        return lookup(key) != null;
+    }
+
+    @Override
+    public boolean contains(K key, V value) {
+        ensureReady();
+        Collection<V> t = lookup(key);
+        if (t == null) {
+            return false;
+        }
+        return t.contains(value);
+    }
+
+    @Override
+    public Stream<V> getAllValues() {
+        ensureReady();
+        return map.values().stream().flatMap(Collection::stream);
+    }
+
+    @Override
+    public int size() {
+        ensureReady();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        ensureReady();
+        return size == 0;
+    }
+
+    @Nullable
+    private Collection<V> lookup(@Nullable Object key) {
+        // ConcurrentHashMap does not accept null keys, the other map pointers do
+        if (key == null) {
+            return null;
+        }
+        return map.get(key);
+    }
+
+    private Stream<V> get(K key) {
+        ensureReady();
+        Collection<V> t = lookup(key);
+        if (t == null) {
+            return Stream.empty();
+        }
+        return t.stream();
+    }
+
+    // Writers below are only called with the monitor held.
+
+    private boolean putInternal(@Nullable K k, V v) {
+        if (k == null) {
+            return false;
+        }
+        Collection<V> t = map.get(k);
+        if (t == null) {
+            map.put(k, Collections.singletonList(v));
+            written(1);
+            return true;
+        }
+        if (t.contains(v)) {
+            return false;
+        }
+        if (t instanceof List) {
+            if (t.size() < COPY_ON_WRITE_THRESHOLD) {
+                Object[] values = Arrays.copyOf(t.toArray(), t.size() + 1);
+                values[t.size()] = v;
+                map.put(k, immutableList(values));
+            } else {
+                Set<V> set = ConcurrentHashMap.newKeySet(t.size() * 2);
+                set.addAll(t);
+                set.add(v);
+                map.put(k, set);
+            }
+        } else {
+            t.add(v);
+        }
+        written(1);
+        return true;
+    }
+
+    private boolean removeInternal(K k, V v) {
+        Collection<V> t = lookup(k);
+        if (t == null || !t.contains(v)) {
+            return false;
+        }
+        if (t.size() == 1) {
+            map.remove(k);
+        } else if (t instanceof List) {
+            Object[] values = new Object[t.size() - 1];
+            int index = 0;
+            for (V value : t) {
+                if (!value.equals(v)) {
+                    values[index++] = value;
+                }
+            }
+            map.put(k, immutableList(values));
+        } else {
+            t.remove(v);
+        }
+        written(-1);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<V> immutableList(Object[] values) {
+        return Collections.unmodifiableList((List<V>) (List<?>) Arrays.asList(values));
+    }
+
+    private void written(int delta) {
+        size += delta;
+        version++;
+    }
+
+    private static class IRISnapshot {
+
+        final int version;
+        final Set<IRI> iris;
+
+        IRISnapshot(int version, Set<IRI> iris) {
+            this.version = version;
+            this.iris = iris;
+        }
+    }
+}
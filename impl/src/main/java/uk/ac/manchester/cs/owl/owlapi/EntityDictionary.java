@@ -0,0 +1,191 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+/**
+ * Dictionary that gives each interned IRI a dense int id, starting from 0. Entities are interned
+ * by the id of their IRI in {@link Entities} tables, one for each data factory. An entity id is
+ * the IRI id times the number of entity types plus the index of the entity type, so entities that
+ * pun the same IRI have distinct ids, and the ids of equal entities from different factories are
+ * the same.
+ * <p>
+ * IRIs are interned by the data factory when {@code ConfigurationOptions.DENSE_ENTITY_IDS} is
+ * set. IRI ids are stable for the lifetime of the JVM: the IRI dictionary is shared by all
+ * factories and never purged, so it should only be used when the set of IRIs in use is bounded.
+ * Purging a factory only drops its own entity table. Lookups of IRIs that are already interned,
+ * e.g., the IRI of an entity, only index an array.
+ *
+ * @author ignazio
+ */
+public final class EntityDictionary {
+
+    static final int CLASS = 0;
+    static final int OBJECT_PROPERTY = 1;
+    static final int DATA_PROPERTY = 2;
+    static final int ANNOTATION_PROPERTY = 3;
+    static final int NAMED_INDIVIDUAL = 4;
+    static final int DATATYPE = 5;
+    private static final int KINDS = 6;
+    private static final Object LOCK = new Object();
+    private static final ConcurrentHashMap<IRI, DenseIRI> IDS = new ConcurrentHashMap<>();
+    /** Interned IRIs by id. Replaced, never changed, when it grows. Guarded by LOCK for writes. */
+    private static volatile DenseIRI[] iris = new DenseIRI[1024];
+    private static int size;
+
+    private EntityDictionary() {}
+
+    /**
+     * @param iri IRI to intern
+     * @return the interned IRI equal to the argument
+     */
+    static DenseIRI intern(IRI iri) {
+        if (iri instanceof DenseIRI) {
+            return (DenseIRI) iri;
+        }
+        DenseIRI dense = IDS.get(iri);
+        if (dense != null) {
+            return dense;
+        }
+        synchronized (LOCK) {
+            dense = IDS.get(iri);
+            if (dense == null) {
+                dense = new DenseIRI(iri, size);
+                DenseIRI[] array = iris;
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                array[size++] = dense;
+                iris = array;
+                IDS.put(dense, dense);
+            }
+            return dense;
+        }
+    }
+
+    /**
+     * @param iri IRI
+     * @return the id of the IRI, or -1 if the IRI was not created by the dictionary
+     */
+    public static int id(IRI iri) {
+        return iri instanceof DenseIRI ? ((DenseIRI) iri).id : -1;
+    }
+
+    /**
+     * @param entity entity
+     * @return the id of the entity, or -1 if its IRI was not created by the dictionary
+     */
+    public static int id(OWLEntity entity) {
+        int id = id(entity.getIRI());
+        if (id < 0) {
+            return -1;
+        }
+        return id * KINDS + kind(entity);
+    }
+
+    private static int kind(OWLEntity entity) {
+        if (entity.isOWLClass()) {
+            return CLASS;
+        }
+        if (entity.isOWLObjectProperty()) {
+            return OBJECT_PROPERTY;
+        }
+        if (entity.isOWLDataProperty()) {
+            return DATA_PROPERTY;
+        }
+        if (entity.isOWLAnnotationProperty()) {
+            return ANNOTATION_PROPERTY;
+        }
+        if (entity.isOWLNamedIndividual()) {
+            return NAMED_INDIVIDUAL;
+        }
+        return DATATYPE;
+    }
+
+    /**
+     * @param id IRI id
+     * @return the interned IRI with the id
+     * @throws IndexOutOfBoundsException if no IRI has the id
+     */
+    public static IRI iri(int id) {
+        DenseIRI[] array = iris;
+        DenseIRI iri = id < array.length ? array[id] : null;
+        if (iri == null) {
+            throw new IndexOutOfBoundsException("No IRI with id " + id);
+        }
+        return iri;
+    }
+
+    /**
+     * @return number of interned IRIs; ids range from 0 to this value, excluded
+     */
+    public static int size() {
+        synchronized (LOCK) {
+            return size;
+        }
+    }
+
+    /**
+     * Interned entities of one data factory, by IRI id, one table per entity type.
+     */
+    static final class Entities {
+
+        /** Guarded by this object for writes. */
+        private final OWLEntity[][] tables = new OWLEntity[KINDS][0];
+
+        /**
+         * @param iri IRI of the entity
+         * @param kind entity type index, one of the constants in {@link EntityDictionary}
+         * @param constructor entity constructor, called at most once for each IRI and type
+         * @return the interned entity
+         */
+        @SuppressWarnings("unchecked")
+        <E extends OWLEntity> E entity(IRI iri, int kind, Function<IRI, E> constructor) {
+            DenseIRI dense = intern(iri);
+            OWLEntity[] table = tables[kind];
+            if (dense.id < table.length) {
+                // entities are immutable, so a racy read sees a fully built entity or null
+                OWLEntity e = table[dense.id];
+                if (e != null) {
+                    return (E) e;
+                }
+            }
+            synchronized (this) {
+                table = tables[kind];
+                if (dense.id >= table.length) {
+                    table = Arrays.copyOf(table, Math.max(dense.id + 1, table.length * 2));
+                    tables[kind] = table;
+                }
+                OWLEntity e = table[dense.id];
+                if (e == null) {
+                    e = constructor.apply(dense);
+                    table[dense.id] = e;
+                }
+                return (E) e;
+            }
+        }
+
+        /**
+         * Drops the interned entities; IRIs and their ids are kept.
+         */
+        synchronized void purge() {
+            Arrays.fill(tables, new OWLEntity[0]);
+        }
+    }
+}
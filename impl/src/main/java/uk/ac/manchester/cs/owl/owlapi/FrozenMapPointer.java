@@ -0,0 +1,280 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+/**
+ * A read only, compact copy of a {@link MapPointer}. Keys are stored in an array sorted by hash
+ * code, with exactly one slot per key; values are stored in a parallel array, either as the single
+ * axiom for the key or as an exactly sized array of axioms. There is no spare capacity and no
+ * locking: the content never changes after construction, so all reads are safe without
+ * synchronization. Attempts to modify the pointer throw {@link UnsupportedOperationException}.
+ *
+ * @author ignazio
+ * @param <K> key
+ * @param <V> value
+ */
+public class FrozenMapPointer<K, V extends OWLAxiom> extends MapPointer<K, V> {
+
+    static final String FROZEN = "Ontology indexes are frozen and cannot be modified";
+    private final int[] hashes;
+    private final Object[] keys;
+    private final Object[] values;
+    private final int size;
+    @Nullable
+    private volatile Set<IRI> iris;
+
+    /**
+     * @param source pointer to copy; it will be initialized if it is not
+     * @param i internals containing this pointer
+     * @param valueWithness witness for the value type
+     */
+    public FrozenMapPointer(MapPointer<K, V> source, Internals i, Class<V> valueWithness) {
+        super(source.type, source.visitor, true, i, valueWithness);
+        Object[] sortedKeys = source.keySet().toArray();
+        Arrays.sort(sortedKeys, Comparator.comparingInt(Object::hashCode));
+        keys = sortedKeys;
+        hashes = new int[keys.length];
+        values = new Object[keys.length];
+        int count = 0;
+        for (int index = 0; index < keys.length; index++) {
+            @SuppressWarnings("unchecked")
+            Collection<V> c = source.getValuesAsCollection((K) keys[index]);
+            hashes[index] = keys[index].hashCode();
+            values[index] = c.size() == 1 ? c.iterator().next() : c.toArray();
+            count += c.size();
+        }
+        size = count;
+    }
+
+    private int indexOf(@Nullable Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int h = key.hashCode();
+        int low = 0;
+        int high = hashes.length;
+        // lower bound: first index whose hash is not smaller than h
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (hashes[mid] < h) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int index = low; index < hashes.length && hashes[index] == h; index++) {
+            if (keys[index].equals(key)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<V> valuesAt(int index) {
+        if (index < 0) {
+            return Collections.emptyList();
+        }
+        Object o = values[index];
+        if (o instanceof Object[]) {
+            return Collections.unmodifiableList((List<V>) (List<?>) Arrays.asList((Object[]) o));
+        }
+        return Collections.singletonList((V) o);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<V> streamAt(int index) {
+        if (index < 0) {
+            return Stream.empty();
+        }
+        Object o = values[index];
+        if (o instanceof Object[]) {
+            return (Stream<V>) (Stream<?>) Arrays.stream((Object[]) o);
+        }
+        return Stream.of((V) o);
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return true;
+    }
+
+    @Override
+    public FrozenMapPointer<K, V> init() {
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<K, V> consumer) {
+        for (int index = 0; index < keys.length; index++) {
+            K k = (K) keys[index];
+            valuesAt(index).forEach(v -> consumer.accept(k, v));
+        }
+    }
+
+    @Override
+    public boolean containsReference(K e) {
+        return indexOf(e) > -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean containsReference(IRI e) {
+        Set<IRI> set = iris;
+        if (set == null) {
+            set = CollectionFactory.createSet();
+            for (Object k : keys) {
+                consumer(set, (K) k);
+            }
+            iris = set;
+        }
+        return set.contains(e);
+    }
+
+    @Override
+    public String toString() {
+        return "frozen" + Arrays.toString(keys);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<K> keySet() {
+        return (Stream<K>) (Stream<?>) Arrays.stream(keys);
+    }
+
+    @Override
+    public Stream<V> getValues(K key) {
+        return streamAt(indexOf(key));
+    }
+
+    @Override
+    public void forEach(K key, Consumer<V> function) {
+        valuesAt(indexOf(key)).forEach(function);
+    }
+
+    @Override
+    protected void forEachUnlocked(K key, Consumer<V> function) {
+        forEach(key, function);
+    }
+
+    @Override
+    public boolean matchOnValues(K key, Predicate<V> function) {
+        return streamAt(indexOf(key)).anyMatch(function);
+    }
+
+    @Override
+    public Collection<V> getValuesAsCollection(K key) {
+        return valuesAt(indexOf(key));
+    }
+
+    @Override
+    public int countValues(K key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return 0;
+        }
+        Object o = values[index];
+        return o instanceof Object[] ? ((Object[]) o).length : 1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O extends V> Stream<O> values(K key, @SuppressWarnings("unused") Class<O> classType) {
+        return (Stream<O>) streamAt(indexOf(key));
+    }
+
+    @Override
+    public <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
+        List<OWLAxiom> toReturn = new ArrayList<>();
+        for (AxiomType<?> at : filter.getAxiomTypes()) {
+            streamAt(indexOf(at)).filter(x -> filter.pass(x, key)).forEach(toReturn::add);
+        }
+        return toReturn;
+    }
+
+    @Override
+    public boolean put(K key, V value) {
+        throw new UnsupportedOperationException(FROZEN);
+    }
+
+    @Override
+    public List<V> putAll(K key, Collection<? extends V> values) {
+        throw new UnsupportedOperationException(FROZEN);
+    }
+
+    @Override
+    public boolean remove(K key, V value) {
+        throw new UnsupportedOperationException(FROZEN);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return indexOf(key) > -1;
+    }
+
+    @Override
+    public boolean contains(K key, V value) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        Object o = values[index];
+        if (o instanceof Object[]) {
+            for (Object v : (Object[]) o) {
+                if (v.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return o.equals(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<V> getAllValues() {
+        return Arrays.stream(values).flatMap(o -> o instanceof Object[]
+            ? (Stream<V>) (Stream<?>) Arrays.stream((Object[]) o) : Stream.of((V) o));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,39 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+
+/**
+ * Implemented by ontologies that can provide point in time, read only views of their content.
+ *
+ * @author ignazio
+ */
+public interface HasSnapshot {
+
+    /**
+     * Take a snapshot of the ontology. The snapshot is a read only ontology with the ontology id,
+     * imports declarations, annotations and axioms of this ontology at the time of the call;
+     * changes applied to this ontology afterwards are not visible through the snapshot. Taking a
+     * snapshot does not copy the ontology: while the snapshot is reachable, this ontology records
+     * the axioms added or removed since the snapshot was taken, and the snapshot corrects the
+     * answers of the current indexes with them. The record is released when the snapshot is
+     * garbage collected.
+     * <p>
+     * Imported ontologies are not part of the snapshot: the imports closure of a snapshot contains
+     * the ontologies currently loaded in the manager for its imports declarations.
+     *
+     * @return read only view of the ontology as it is now
+     */
+    OWLOntology snapshot();
+}
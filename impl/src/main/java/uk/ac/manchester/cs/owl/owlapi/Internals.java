@@ -49,6 +49,7 @@ import static org.semanticweb.owlapi.util.CollectionFactory.createSyncSet;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.ANNOTSUPERNAMED;
 import static uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.CLASSCOLLECTIONS;
@@ -68,12 +69,22 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -94,6 +105,7 @@ import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLClassAxiom;
 import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
@@ -137,6 +149,7 @@ import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
 import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
 import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.semanticweb.owlapi.search.Filters;
 import org.semanticweb.owlapi.util.AbstractCollector;
@@ -151,6 +164,10 @@ public class Internals implements Serializable {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(Internals.class);
     //@formatter:off
+    private final boolean lockFreeReads = ConfigurationOptions.LOCK_FREE_INDEX_READS.getValue(Boolean.class, Collections.emptyMap()).booleanValue();
+    private final boolean offHeap = ConfigurationOptions.OFF_HEAP_AXIOMS.getValue(Boolean.class, Collections.emptyMap()).booleanValue();
+    @Nullable
+    private transient OffHeapAxiomStore store = offHeap ? new OffHeapAxiomStore() : null;
     private final AddAxiomVisitor addChangeVisitor = new AddAxiomVisitor();
     private final RemoveAxiomVisitor removeChangeVisitor = new RemoveAxiomVisitor();
     private final ReferenceChecker refChecker = new ReferenceChecker();
@@ -207,10 +224,27 @@ public class Internals implements Serializable {
     protected transient MapPointer<OWLDatatype, OWLAxiom>           owlDatatypeReferences = build(OWLAxiom.class);
     protected transient MapPointer<OWLAnnotationProperty, OWLAxiom> owlAnnotationPropertyReferences = build(OWLAxiom.class);
     protected transient MapPointer<OWLEntity, OWLDeclarationAxiom>  declarationsByEntity = build(OWLDeclarationAxiom.class);
+    protected transient SortedSignature<OWLClass>                   classSignature = new SortedSignature<>();
+    protected transient SortedSignature<OWLObjectProperty>          objectPropertySignature = new SortedSignature<>();
+    protected transient SortedSignature<OWLDataProperty>            dataPropertySignature = new SortedSignature<>();
+    protected transient SortedSignature<OWLNamedIndividual>         individualSignature = new SortedSignature<>();
+    protected transient SortedSignature<OWLAnonymousIndividual>     anonymousIndividualSignature = new SortedSignature<>();
+    protected transient SortedSignature<OWLDatatype>                datatypeSignature = new SortedSignature<>();
+    protected transient SortedSignature<OWLAnnotationProperty>      annotationPropertySignature = new SortedSignature<>();
     //@formatter:on
 
+    private boolean frozen = false;
     @Nullable
     private List<OWLAxiom> axiomsForSerialization;
+    /** Snapshots that still need to know about axiom changes; see {@link #snapshot()}. */
+    private transient List<WeakReference<SnapshotInternals>> snapshots =
+        new CopyOnWriteArrayList<>();
+    /**
+     * Held for writing while axioms change and snapshots exist, and for reading while a snapshot
+     * combines these indexes with its own changes, so that a snapshot query never sees an axiom in
+     * these indexes before the snapshot has been told about it.
+     */
+    private transient ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
 
     /**
      * @param p pointer
@@ -224,9 +258,25 @@ public class Internals implements Serializable {
         return p.contains(k, v);
     }
 
+    /**
+     * @param df data factory of the ontology owning these indexes; off heap axioms are decoded with
+     *        it
+     */
+    void setDataFactory(OWLDataFactory df) {
+        OffHeapAxiomStore s = store;
+        if (s != null) {
+            s.setDataFactory(df);
+        }
+    }
+
     @SuppressWarnings("null")
     private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
+        snapshots = new CopyOnWriteArrayList<>();
+        snapshotLock = new ReentrantReadWriteLock();
+        if (offHeap) {
+            store = new OffHeapAxiomStore();
+        }
         axiomsByType = build(OWLAxiom.class);
         owlClassReferences = build(OWLAxiom.class);
         owlObjectPropertyReferences = build(OWLAxiom.class);
@@ -236,6 +286,13 @@ public class Internals implements Serializable {
         owlDatatypeReferences = build(OWLAxiom.class);
         owlAnnotationPropertyReferences = build(OWLAxiom.class);
         declarationsByEntity = build(OWLDeclarationAxiom.class);
+        classSignature = new SortedSignature<>();
+        objectPropertySignature = new SortedSignature<>();
+        dataPropertySignature = new SortedSignature<>();
+        individualSignature = new SortedSignature<>();
+        anonymousIndividualSignature = new SortedSignature<>();
+        datatypeSignature = new SortedSignature<>();
+        annotationPropertySignature = new SortedSignature<>();
         classAssertionAxiomsByClass =
             buildLazy(CLASS_ASSERTION, CLASSEXPRESSIONS, OWLClassAssertionAxiom.class);
         annotationAssertionAxiomsBySubject =
@@ -310,8 +367,159 @@ public class Internals implements Serializable {
             buildLazy(DIFFERENT_INDIVIDUALS, ICOLLECTIONS, OWLDifferentIndividualsAxiom.class);
         sameIndividualsAxiomsByIndividual =
             buildLazy(SAME_INDIVIDUAL, ICOLLECTIONS, OWLSameIndividualAxiom.class);
+        importsDeclarations.thaw();
+        ontologyAnnotations.thaw();
+        generalClassAxioms.thaw();
+        propertyChainSubPropertyAxioms.thaw();
         axiomsForSerialization.forEach(this::addAxiom);
         axiomsForSerialization = null;
+        if (frozen) {
+            frozen = false;
+            freeze();
+        }
+    }
+
+    /**
+     * Build all lazily initialized indexes in parallel, on the common fork/join pool, instead of
+     * waiting for the first query that needs each of them. Indexes that are already initialized are
+     * skipped.
+     *
+     * @return the time taken to build each index, in nanoseconds, keyed by index name
+     */
+    public Map<String, Long> initializeIndexes() {
+        Map<String, MapPointer<?, ?>> indexes = lazyIndexes();
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+        new ArrayList<>(indexes.entrySet()).parallelStream().forEach(e -> {
+            long start = System.nanoTime();
+            e.getValue().init();
+            timings.put(e.getKey(), Long.valueOf(System.nanoTime() - start));
+        });
+        Map<String, Long> toReturn = new LinkedHashMap<>();
+        indexes.keySet().forEach(k -> toReturn.put(k, timings.get(k)));
+        return toReturn;
+    }
+
+    private Map<String, MapPointer<?, ?>> lazyIndexes() {
+        Map<String, MapPointer<?, ?>> indexes = new LinkedHashMap<>();
+        indexes.put("classAssertionAxiomsByClass", classAssertionAxiomsByClass);
+        indexes.put("annotationAssertionAxiomsBySubject", annotationAssertionAxiomsBySubject);
+        indexes.put("subClassAxiomsBySubPosition", subClassAxiomsBySubPosition);
+        indexes.put("subClassAxiomsBySuperPosition", subClassAxiomsBySuperPosition);
+        indexes.put("objectSubPropertyAxiomsBySubPosition", objectSubPropertyAxiomsBySubPosition);
+        indexes.put("objectSubPropertyAxiomsBySuperPosition", objectSubPropertyAxiomsBySuperPosition);
+        indexes.put("dataSubPropertyAxiomsBySubPosition", dataSubPropertyAxiomsBySubPosition);
+        indexes.put("dataSubPropertyAxiomsBySuperPosition", dataSubPropertyAxiomsBySuperPosition);
+        indexes.put("classAxiomsByClass", classAxiomsByClass);
+        indexes.put("equivalentClassesAxiomsByClass", equivalentClassesAxiomsByClass);
+        indexes.put("disjointClassesAxiomsByClass", disjointClassesAxiomsByClass);
+        indexes.put("disjointUnionAxiomsByClass", disjointUnionAxiomsByClass);
+        indexes.put("hasKeyAxiomsByClass", hasKeyAxiomsByClass);
+        indexes.put("equivalentObjectPropertyAxiomsByProperty", equivalentObjectPropertyAxiomsByProperty);
+        indexes.put("disjointObjectPropertyAxiomsByProperty", disjointObjectPropertyAxiomsByProperty);
+        indexes.put("objectPropertyDomainAxiomsByProperty", objectPropertyDomainAxiomsByProperty);
+        indexes.put("objectPropertyRangeAxiomsByProperty", objectPropertyRangeAxiomsByProperty);
+        indexes.put("functionalObjectPropertyAxiomsByProperty", functionalObjectPropertyAxiomsByProperty);
+        indexes.put("inverseFunctionalPropertyAxiomsByProperty", inverseFunctionalPropertyAxiomsByProperty);
+        indexes.put("symmetricPropertyAxiomsByProperty", symmetricPropertyAxiomsByProperty);
+        indexes.put("asymmetricPropertyAxiomsByProperty", asymmetricPropertyAxiomsByProperty);
+        indexes.put("reflexivePropertyAxiomsByProperty", reflexivePropertyAxiomsByProperty);
+        indexes.put("irreflexivePropertyAxiomsByProperty", irreflexivePropertyAxiomsByProperty);
+        indexes.put("transitivePropertyAxiomsByProperty", transitivePropertyAxiomsByProperty);
+        indexes.put("inversePropertyAxiomsByProperty", inversePropertyAxiomsByProperty);
+        indexes.put("equivalentDataPropertyAxiomsByProperty", equivalentDataPropertyAxiomsByProperty);
+        indexes.put("disjointDataPropertyAxiomsByProperty", disjointDataPropertyAxiomsByProperty);
+        indexes.put("dataPropertyDomainAxiomsByProperty", dataPropertyDomainAxiomsByProperty);
+        indexes.put("dataPropertyRangeAxiomsByProperty", dataPropertyRangeAxiomsByProperty);
+        indexes.put("functionalDataPropertyAxiomsByProperty", functionalDataPropertyAxiomsByProperty);
+        indexes.put("classAssertionAxiomsByIndividual", classAssertionAxiomsByIndividual);
+        indexes.put("objectPropertyAssertionsByIndividual", objectPropertyAssertionsByIndividual);
+        indexes.put("dataPropertyAssertionsByIndividual", dataPropertyAssertionsByIndividual);
+        indexes.put("negativeObjectPropertyAssertionAxiomsByIndividual", negativeObjectPropertyAssertionAxiomsByIndividual);
+        indexes.put("negativeDataPropertyAssertionAxiomsByIndividual", negativeDataPropertyAssertionAxiomsByIndividual);
+        indexes.put("differentIndividualsAxiomsByIndividual", differentIndividualsAxiomsByIndividual);
+        indexes.put("sameIndividualsAxiomsByIndividual", sameIndividualsAxiomsByIndividual);
+        return indexes;
+    }
+
+    /**
+     * Build all indexes and replace them with compact, read only copies. After this call,
+     * all attempts to add or remove axioms, annotations or imports declarations will throw an
+     * {@link UnsupportedOperationException}. Queries are unaffected, and do not require locking.
+     */
+    public synchronized void freeze() {
+        if (frozen) {
+            return;
+        }
+        initializeIndexes();
+        classAssertionAxiomsByClass = freeze(classAssertionAxiomsByClass, OWLClassAssertionAxiom.class);
+        annotationAssertionAxiomsBySubject = freeze(annotationAssertionAxiomsBySubject, OWLAnnotationAssertionAxiom.class);
+        subClassAxiomsBySubPosition = freeze(subClassAxiomsBySubPosition, OWLSubClassOfAxiom.class);
+        subClassAxiomsBySuperPosition = freeze(subClassAxiomsBySuperPosition, OWLSubClassOfAxiom.class);
+        objectSubPropertyAxiomsBySubPosition = freeze(objectSubPropertyAxiomsBySubPosition, OWLSubObjectPropertyOfAxiom.class);
+        objectSubPropertyAxiomsBySuperPosition = freeze(objectSubPropertyAxiomsBySuperPosition, OWLSubObjectPropertyOfAxiom.class);
+        dataSubPropertyAxiomsBySubPosition = freeze(dataSubPropertyAxiomsBySubPosition, OWLSubDataPropertyOfAxiom.class);
+        dataSubPropertyAxiomsBySuperPosition = freeze(dataSubPropertyAxiomsBySuperPosition, OWLSubDataPropertyOfAxiom.class);
+        classAxiomsByClass = freeze(classAxiomsByClass, OWLClassAxiom.class);
+        equivalentClassesAxiomsByClass = freeze(equivalentClassesAxiomsByClass, OWLEquivalentClassesAxiom.class);
+        disjointClassesAxiomsByClass = freeze(disjointClassesAxiomsByClass, OWLDisjointClassesAxiom.class);
+        disjointUnionAxiomsByClass = freeze(disjointUnionAxiomsByClass, OWLDisjointUnionAxiom.class);
+        hasKeyAxiomsByClass = freeze(hasKeyAxiomsByClass, OWLHasKeyAxiom.class);
+        equivalentObjectPropertyAxiomsByProperty = freeze(equivalentObjectPropertyAxiomsByProperty, OWLEquivalentObjectPropertiesAxiom.class);
+        disjointObjectPropertyAxiomsByProperty = freeze(disjointObjectPropertyAxiomsByProperty, OWLDisjointObjectPropertiesAxiom.class);
+        objectPropertyDomainAxiomsByProperty = freeze(objectPropertyDomainAxiomsByProperty, OWLObjectPropertyDomainAxiom.class);
+        objectPropertyRangeAxiomsByProperty = freeze(objectPropertyRangeAxiomsByProperty, OWLObjectPropertyRangeAxiom.class);
+        functionalObjectPropertyAxiomsByProperty = freeze(functionalObjectPropertyAxiomsByProperty, OWLFunctionalObjectPropertyAxiom.class);
+        inverseFunctionalPropertyAxiomsByProperty = freeze(inverseFunctionalPropertyAxiomsByProperty, OWLInverseFunctionalObjectPropertyAxiom.class);
+        symmetricPropertyAxiomsByProperty = freeze(symmetricPropertyAxiomsByProperty, OWLSymmetricObjectPropertyAxiom.class);
+        asymmetricPropertyAxiomsByProperty = freeze(asymmetricPropertyAxiomsByProperty, OWLAsymmetricObjectPropertyAxiom.class);
+        reflexivePropertyAxiomsByProperty = freeze(reflexivePropertyAxiomsByProperty, OWLReflexiveObjectPropertyAxiom.class);
+        irreflexivePropertyAxiomsByProperty = freeze(irreflexivePropertyAxiomsByProperty, OWLIrreflexiveObjectPropertyAxiom.class);
+        transitivePropertyAxiomsByProperty = freeze(transitivePropertyAxiomsByProperty, OWLTransitiveObjectPropertyAxiom.class);
+        inversePropertyAxiomsByProperty = freeze(inversePropertyAxiomsByProperty, OWLInverseObjectPropertiesAxiom.class);
+        equivalentDataPropertyAxiomsByProperty = freeze(equivalentDataPropertyAxiomsByProperty, OWLEquivalentDataPropertiesAxiom.class);
+        disjointDataPropertyAxiomsByProperty = freeze(disjointDataPropertyAxiomsByProperty, OWLDisjointDataPropertiesAxiom.class);
+        dataPropertyDomainAxiomsByProperty = freeze(dataPropertyDomainAxiomsByProperty, OWLDataPropertyDomainAxiom.class);
+        dataPropertyRangeAxiomsByProperty = freeze(dataPropertyRangeAxiomsByProperty, OWLDataPropertyRangeAxiom.class);
+        functionalDataPropertyAxiomsByProperty = freeze(functionalDataPropertyAxiomsByProperty, OWLFunctionalDataPropertyAxiom.class);
+        classAssertionAxiomsByIndividual = freeze(classAssertionAxiomsByIndividual, OWLClassAssertionAxiom.class);
+        objectPropertyAssertionsByIndividual = freeze(objectPropertyAssertionsByIndividual, OWLObjectPropertyAssertionAxiom.class);
+        dataPropertyAssertionsByIndividual = freeze(dataPropertyAssertionsByIndividual, OWLDataPropertyAssertionAxiom.class);
+        negativeObjectPropertyAssertionAxiomsByIndividual = freeze(negativeObjectPropertyAssertionAxiomsByIndividual, OWLNegativeObjectPropertyAssertionAxiom.class);
+        negativeDataPropertyAssertionAxiomsByIndividual = freeze(negativeDataPropertyAssertionAxiomsByIndividual, OWLNegativeDataPropertyAssertionAxiom.class);
+        differentIndividualsAxiomsByIndividual = freeze(differentIndividualsAxiomsByIndividual, OWLDifferentIndividualsAxiom.class);
+        sameIndividualsAxiomsByIndividual = freeze(sameIndividualsAxiomsByIndividual, OWLSameIndividualAxiom.class);
+        axiomsByType = freeze(axiomsByType, OWLAxiom.class);
+        owlClassReferences = freeze(owlClassReferences, OWLAxiom.class);
+        owlObjectPropertyReferences = freeze(owlObjectPropertyReferences, OWLAxiom.class);
+        owlDataPropertyReferences = freeze(owlDataPropertyReferences, OWLAxiom.class);
+        owlIndividualReferences = freeze(owlIndividualReferences, OWLAxiom.class);
+        owlAnonymousIndividualReferences = freeze(owlAnonymousIndividualReferences, OWLAxiom.class);
+        owlDatatypeReferences = freeze(owlDatatypeReferences, OWLAxiom.class);
+        owlAnnotationPropertyReferences = freeze(owlAnnotationPropertyReferences, OWLAxiom.class);
+        declarationsByEntity = freeze(declarationsByEntity, OWLDeclarationAxiom.class);
+        importsDeclarations.freeze();
+        ontologyAnnotations.freeze();
+        generalClassAxioms.freeze();
+        propertyChainSubPropertyAxioms.freeze();
+        frozen = true;
+    }
+
+    /**
+     * @return true if this instance has been frozen
+     * @see #freeze()
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private <K, V extends OWLAxiom> MapPointer<K, V> freeze(MapPointer<K, V> p,
+        Class<V> valueWithness) {
+        if (p instanceof OffHeapMapPointer) {
+            // keep the values off heap
+            ((OffHeapMapPointer<K, V>) p).freeze();
+            return p;
+        }
+        return new FrozenMapPointer<>(p, this, valueWithness);
     }
 
     /**
@@ -622,16 +830,46 @@ public class Internals implements Serializable {
 
     protected <K, V extends OWLAxiom> MapPointer<K, V> buildLazy(AxiomType<?> t,
         OWLAxiomVisitorEx<?> v, Class<V> valueWithness) {
-        return new MapPointer<>(t, v, false, this, valueWithness);
+        return newPointer(t, v, false, valueWithness);
     }
 
-    protected ClassAxiomByClassPointer buildClassAxiomByClass() {
+    protected MapPointer<OWLClass, OWLClassAxiom> buildClassAxiomByClass() {
+        OffHeapAxiomStore s = store;
+        if (s != null) {
+            return new OffHeapClassAxiomByClassPointer(null, null, false, this, s);
+        }
+        if (lockFreeReads) {
+            return new ConcurrentClassAxiomByClassPointer(null, null, false, this);
+        }
         return new ClassAxiomByClassPointer(null, null, false, this);
     }
 
     protected <K, V extends OWLAxiom> MapPointer<K, V> build(@Nullable AxiomType<?> t,
         @Nullable OWLAxiomVisitorEx<?> v, Class<V> valueWithness) {
-        return new MapPointer<>(t, v, true, this, valueWithness);
+        return newPointer(t, v, true, valueWithness);
+    }
+
+    /**
+     * @param t type of axioms contained
+     * @param v visitor
+     * @param initialized true if initialized
+     * @param valueWithness witness for the value type
+     * @param <K> key type
+     * @param <V> value type
+     * @return a new map pointer; the implementation depends on
+     *         {@link ConfigurationOptions#OFF_HEAP_AXIOMS} and
+     *         {@link ConfigurationOptions#LOCK_FREE_INDEX_READS}
+     */
+    protected <K, V extends OWLAxiom> MapPointer<K, V> newPointer(@Nullable AxiomType<?> t,
+        @Nullable OWLAxiomVisitorEx<?> v, boolean initialized, Class<V> valueWithness) {
+        OffHeapAxiomStore s = store;
+        if (s != null) {
+            return new OffHeapMapPointer<>(t, v, initialized, this, valueWithness, s);
+        }
+        if (lockFreeReads) {
+            return new ConcurrentMapPointer<>(t, v, initialized, this, valueWithness);
+        }
+        return new MapPointer<>(t, v, initialized, this, valueWithness);
     }
 
     /**
@@ -640,102 +878,257 @@ public class Internals implements Serializable {
      */
     public boolean addAxiom(final OWLAxiom axiom) {
         checkNotNull(axiom, "axiom cannot be null");
+        if (snapshots.isEmpty()) {
+            return addAxiomToIndexes(axiom);
+        }
+        return changeAxioms(() -> Boolean.valueOf(addAxiomToIndexes(axiom))).booleanValue();
+    }
+
+    private boolean addAxiomToIndexes(OWLAxiom axiom) {
         if (axiomsByType.put(axiom.getAxiomType(), axiom)) {
             axiom.accept(addChangeVisitor);
-            AbstractCollector referenceAdder = new AbstractCollector() {
-
-                @Override
-                public void visit(OWLClass ce) {
-                    owlClassReferences.put(ce, axiom);
-                }
-
-                @Override
-                public void visit(OWLObjectProperty property) {
-                    owlObjectPropertyReferences.put(property, axiom);
-                }
-
-                @Override
-                public void visit(OWLDataProperty property) {
-                    owlDataPropertyReferences.put(property, axiom);
-                }
-
-                @Override
-                public void visit(OWLNamedIndividual individual) {
-                    owlIndividualReferences.put(individual, axiom);
-                }
-
-                @Override
-                public void visit(OWLAnnotationProperty property) {
-                    owlAnnotationPropertyReferences.put(property, axiom);
-                }
-
-                @Override
-                public void visit(OWLDatatype node) {
-                    owlDatatypeReferences.put(node, axiom);
-                }
-
-                @Override
-                public void visit(OWLAnonymousIndividual individual) {
-                    owlAnonymousIndividualReferences.put(individual, axiom);
-                }
-            };
-            axiom.accept(referenceAdder);
+            axiom.accept(new ReferenceAdder(axiom));
+            updateSnapshots(axiom, true);
             return true;
         }
         return false;
     }
 
+    /**
+     * Add a batch of axioms in one pass. Axioms are grouped by type, so that each value collection
+     * in the axioms by type index is sized once for the batch; the other initialized indexes are
+     * then updated for the axioms that were actually added. Indexes that have not been initialized
+     * are left alone, and will be built in one pass on first use.
+     *
+     * @param axioms axioms to add
+     * @return the axioms that were not already included
+     */
+    public List<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms) {
+        Map<AxiomType<?>, List<OWLAxiom>> byType = new LinkedHashMap<>();
+        for (OWLAxiom ax : axioms) {
+            checkNotNull(ax, "axiom cannot be null");
+            byType.computeIfAbsent(ax.getAxiomType(), t -> new ArrayList<>()).add(ax);
+        }
+        if (snapshots.isEmpty()) {
+            return addAxiomsToIndexes(axioms.size(), byType);
+        }
+        return changeAxioms(() -> addAxiomsToIndexes(axioms.size(), byType));
+    }
+
+    private List<OWLAxiom> addAxiomsToIndexes(int size, Map<AxiomType<?>, List<OWLAxiom>> byType) {
+        List<OWLAxiom> added = new ArrayList<>(size);
+        ReferenceAdder referenceAdder = new ReferenceAdder(null);
+        byType.forEach((t, list) -> {
+            for (OWLAxiom ax : axiomsByType.putAll(t, list)) {
+                ax.accept(addChangeVisitor);
+                referenceAdder.axiom = ax;
+                ax.accept(referenceAdder);
+                updateSnapshots(ax, true);
+                added.add(ax);
+            }
+        });
+        return added;
+    }
+
     /**
      * @param axiom axiom to remove
      * @return true if removed
      */
     public boolean removeAxiom(final OWLAxiom axiom) {
         checkNotNull(axiom, "axiom cannot be null");
+        if (snapshots.isEmpty()) {
+            return removeAxiomFromIndexes(axiom);
+        }
+        return changeAxioms(() -> Boolean.valueOf(removeAxiomFromIndexes(axiom))).booleanValue();
+    }
+
+    private boolean removeAxiomFromIndexes(OWLAxiom axiom) {
         if (axiomsByType.remove(axiom.getAxiomType(), axiom)) {
             axiom.accept(removeChangeVisitor);
             AbstractCollector referenceRemover = new AbstractCollector() {
 
                 @Override
                 public void visit(OWLClass ce) {
-                    owlClassReferences.remove(ce, axiom);
+                    removeReference(owlClassReferences, classSignature, ce, axiom);
                 }
 
                 @Override
                 public void visit(OWLObjectProperty property) {
-                    owlObjectPropertyReferences.remove(property, axiom);
+                    removeReference(owlObjectPropertyReferences, objectPropertySignature, property, axiom);
                 }
 
                 @Override
                 public void visit(OWLDataProperty property) {
-                    owlDataPropertyReferences.remove(property, axiom);
+                    removeReference(owlDataPropertyReferences, dataPropertySignature, property, axiom);
                 }
 
                 @Override
                 public void visit(OWLNamedIndividual individual) {
-                    owlIndividualReferences.remove(individual, axiom);
+                    removeReference(owlIndividualReferences, individualSignature, individual, axiom);
                 }
 
                 @Override
                 public void visit(OWLAnnotationProperty property) {
-                    owlAnnotationPropertyReferences.remove(property, axiom);
+                    removeReference(owlAnnotationPropertyReferences, annotationPropertySignature, property, axiom);
                 }
 
                 @Override
                 public void visit(OWLDatatype node) {
-                    owlDatatypeReferences.remove(node, axiom);
+                    removeReference(owlDatatypeReferences, datatypeSignature, node, axiom);
                 }
 
                 @Override
                 public void visit(OWLAnonymousIndividual individual) {
-                    owlAnonymousIndividualReferences.remove(individual, axiom);
+                    removeReference(owlAnonymousIndividualReferences, anonymousIndividualSignature, individual, axiom);
                 }
             };
             axiom.accept(referenceRemover);
+            updateSnapshots(axiom, false);
             return true;
         }
         return false;
     }
 
+    /**
+     * Take a snapshot of the axioms, imports declarations and ontology annotations. Nothing is
+     * copied but the imports declarations and the annotations: the snapshot answers queries with
+     * these indexes, corrected by the axioms added or removed since the snapshot was taken. This
+     * instance reports those changes to the snapshot for as long as the snapshot is reachable.
+     * Queries on the snapshot can run concurrently with changes to this instance: each change to
+     * the axioms, and each query step of the snapshot, is atomic with respect to the other. Taking
+     * the snapshot must not run concurrently with changes.
+     *
+     * @return read only view of the current content
+     */
+    public Internals snapshot() {
+        SnapshotInternals snapshot = new SnapshotInternals(this);
+        snapshots.add(new WeakReference<>(snapshot));
+        return snapshot;
+    }
+
+    private <T> T changeAxioms(Supplier<T> change) {
+        Lock lock = snapshotLock.writeLock();
+        lock.lock();
+        try {
+            return change.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param query query of a snapshot of this instance
+     * @param <T> result type
+     * @return result of the query, computed while the axioms of this instance cannot change
+     */
+    <T> T readForSnapshot(Supplier<T> query) {
+        Lock lock = snapshotLock.readLock();
+        lock.lock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateSnapshots(OWLAxiom axiom, boolean added) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        for (WeakReference<SnapshotInternals> reference : snapshots) {
+            SnapshotInternals snapshot = reference.get();
+            if (snapshot == null) {
+                snapshots.remove(reference);
+            } else if (added) {
+                snapshot.axiomAdded(axiom);
+            } else {
+                snapshot.axiomRemoved(axiom);
+            }
+        }
+    }
+
+    /**
+     * Add a reference to the reference index, and to the sorted signature if this is the first
+     * reference to the primitive.
+     */
+    private static <E extends OWLObject> void addReference(MapPointer<E, OWLAxiom> references,
+        SortedSignature<E> signature, E e, OWLAxiom axiom) {
+        if (references.put(e, axiom) && signature.isTracking()
+            && references.countValues(e) == 1) {
+            signature.add(e);
+        }
+    }
+
+    /**
+     * Remove a reference from the reference index, and the primitive from the sorted signature if
+     * nothing else refers to it. Datatypes and annotation properties can also be referred to by
+     * ontology annotations.
+     */
+    private <E extends OWLObject> void removeReference(MapPointer<E, OWLAxiom> references,
+        SortedSignature<E> signature, E e, OWLAxiom axiom) {
+        if (references.remove(e, axiom) && signature.isTracking() && !references.containsKey(e)
+            && !referencedByOntologyAnnotations(e)) {
+            signature.remove(e);
+        }
+    }
+
+    private boolean referencedByOntologyAnnotations(OWLObject e) {
+        return (e instanceof OWLDatatype || e instanceof OWLAnnotationProperty)
+            && ontologyAnnotations.stream().anyMatch(a -> a.containsEntityInSignature((OWLEntity) e));
+    }
+
+    /**
+     * @return the classes referenced by axioms, sorted
+     */
+    public List<OWLClass> getClassesInSignature() {
+        return classSignature.get(owlClassReferences::keySet);
+    }
+
+    /**
+     * @return the object properties referenced by axioms, sorted
+     */
+    public List<OWLObjectProperty> getObjectPropertiesInSignature() {
+        return objectPropertySignature.get(owlObjectPropertyReferences::keySet);
+    }
+
+    /**
+     * @return the data properties referenced by axioms, sorted
+     */
+    public List<OWLDataProperty> getDataPropertiesInSignature() {
+        return dataPropertySignature.get(owlDataPropertyReferences::keySet);
+    }
+
+    /**
+     * @return the named individuals referenced by axioms, sorted
+     */
+    public List<OWLNamedIndividual> getIndividualsInSignature() {
+        return individualSignature.get(owlIndividualReferences::keySet);
+    }
+
+    /**
+     * @return the anonymous individuals referenced by axioms, sorted
+     */
+    public List<OWLAnonymousIndividual> getAnonymousIndividualsInSignature() {
+        return anonymousIndividualSignature.get(owlAnonymousIndividualReferences::keySet);
+    }
+
+    /**
+     * @return the datatypes referenced by axioms or ontology annotations, sorted
+     */
+    public List<OWLDatatype> getDatatypesInSignature() {
+        return datatypeSignature.get(() -> Stream.concat(owlDatatypeReferences.keySet(),
+            ontologyAnnotations.stream().flatMap(OWLAnnotation::datatypesInSignature)));
+    }
+
+    /**
+     * @return the annotation properties referenced by axioms or ontology annotations, sorted
+     */
+    public List<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
+        return annotationPropertySignature
+            .get(() -> Stream.concat(owlAnnotationPropertyReferences.keySet(), ontologyAnnotations
+                .stream().flatMap(OWLAnnotation::annotationPropertiesInSignature)));
+    }
+
     /**
      * @param e entity to check
      * @return true if the entity is declared in the ontology
@@ -818,7 +1211,12 @@ public class Internals implements Serializable {
      * @return true if annotation added
      */
     public boolean addOntologyAnnotation(OWLAnnotation ann) {
-        return ontologyAnnotations.add(ann);
+        if (!ontologyAnnotations.add(ann)) {
+            return false;
+        }
+        ann.datatypesInSignature().forEach(datatypeSignature::add);
+        ann.annotationPropertiesInSignature().forEach(annotationPropertySignature::add);
+        return true;
     }
 
     /**
@@ -826,7 +1224,17 @@ public class Internals implements Serializable {
      * @return true if annotation removed
      */
     public boolean removeOntologyAnnotation(OWLAnnotation ann) {
-        return ontologyAnnotations.remove(ann);
+        if (!ontologyAnnotations.remove(ann)) {
+            return false;
+        }
+        ann.datatypesInSignature().filter(
+            d -> !owlDatatypeReferences.containsKey(d) && !referencedByOntologyAnnotations(d))
+            .forEach(datatypeSignature::remove);
+        ann.annotationPropertiesInSignature()
+            .filter(p -> !owlAnnotationPropertyReferences.containsKey(p)
+                && !referencedByOntologyAnnotations(p))
+            .forEach(annotationPropertySignature::remove);
+        return true;
     }
 
     /**
@@ -986,24 +1394,44 @@ public class Internals implements Serializable {
 
     protected class SetPointer<K extends Serializable> implements Serializable {
 
-        private final Set<K> set = createSyncSet();
+        private Set<K> set = createSyncSet();
+        /** Sorted content, once frozen. */
+        @Nullable
+        private List<K> frozenContent;
 
         public boolean isEmpty() {
+            if (frozenContent != null) {
+                return frozenContent.isEmpty();
+            }
             return set.isEmpty();
         }
 
         public boolean add(K k) {
+            if (frozenContent != null) {
+                throw new UnsupportedOperationException(FrozenMapPointer.FROZEN);
+            }
             return set.add(k);
         }
 
         public boolean remove(K k) {
+            if (frozenContent != null) {
+                throw new UnsupportedOperationException(FrozenMapPointer.FROZEN);
+            }
             return set.remove(k);
         }
 
         public Stream<K> stream() {
+            List<K> frozenList = frozenContent;
+            if (frozenList != null) {
+                return frozenList.stream();
+            }
             if (set.isEmpty()) {
                 return Stream.empty();
             }
+            return sorted().stream();
+        }
+
+        private List<K> sorted() {
             List<K> toReturn = new ArrayList<>(set);
             try {
                 toReturn.sort(null);
@@ -1011,7 +1439,76 @@ public class Internals implements Serializable {
                 // print a warning and leave the list unsorted
                 LOGGER.warn("Misbehaving triple comparator, leaving triples unsorted", e);
             }
-            return toReturn.stream();
+            return toReturn;
+        }
+
+        void freeze() {
+            if (frozenContent == null) {
+                frozenContent = Collections.unmodifiableList(sorted());
+                set = Collections.emptySet();
+            }
+        }
+
+        void thaw() {
+            List<K> frozenList = frozenContent;
+            if (frozenList != null) {
+                set = createSyncSet();
+                set.addAll(frozenList);
+                frozenContent = null;
+            }
+        }
+    }
+
+    /**
+     * Adds an axiom to the reference indexes of the entities in its signature. The axiom can be
+     * replaced between visits, so that a batch of axioms can share one instance.
+     */
+    class ReferenceAdder extends AbstractCollector {
+
+        @Nullable
+        OWLAxiom axiom;
+
+        ReferenceAdder(@Nullable OWLAxiom axiom) {
+            this.axiom = axiom;
+        }
+
+        private OWLAxiom axiom() {
+            return verifyNotNull(axiom);
+        }
+
+        @Override
+        public void visit(OWLClass ce) {
+            addReference(owlClassReferences, classSignature, ce, axiom());
+        }
+
+        @Override
+        public void visit(OWLObjectProperty property) {
+            addReference(owlObjectPropertyReferences, objectPropertySignature, property, axiom());
+        }
+
+        @Override
+        public void visit(OWLDataProperty property) {
+            addReference(owlDataPropertyReferences, dataPropertySignature, property, axiom());
+        }
+
+        @Override
+        public void visit(OWLNamedIndividual individual) {
+            addReference(owlIndividualReferences, individualSignature, individual, axiom());
+        }
+
+        @Override
+        public void visit(OWLAnnotationProperty property) {
+            addReference(owlAnnotationPropertyReferences, annotationPropertySignature, property, axiom());
+        }
+
+        @Override
+        public void visit(OWLDatatype node) {
+            addReference(owlDatatypeReferences, datatypeSignature, node, axiom());
+        }
+
+        @Override
+        public void visit(OWLAnonymousIndividual individual) {
+            addReference(owlAnonymousIndividualReferences, anonymousIndividualSignature, individual, axiom());
         }
     }
 
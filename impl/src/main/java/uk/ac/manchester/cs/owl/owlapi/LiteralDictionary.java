@@ -0,0 +1,116 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+/**
+ * Interns string and language tagged literals for one data factory. Equal literals are the same
+ * object, so each lexical form is stored once. Lexical forms longer than {@link #LONG_FORM}
+ * characters are stored as {@link CompactLexicalForm}s; if deflating is enabled, the first long
+ * forms are sampled into a preset dictionary, and the long forms that follow are deflated against
+ * it. Preset dictionaries work well for the short, repetitive definitions and synonyms common in
+ * OBO ontologies, where deflating each form on its own gains little.
+ * <p>
+ * Literals are kept until {@link #clear()} is called.
+ *
+ * @author ignazio
+ */
+final class LiteralDictionary {
+
+    /** Lexical forms longer than this are stored as bytes. */
+    static final int LONG_FORM = 64;
+    /** Deflate window size, and therefore the largest useful preset dictionary. */
+    private static final int PRESET_SIZE = 32 * 1024;
+    private final boolean deflate;
+    private final ConcurrentHashMap<OWLLiteral, OWLLiteral> literals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> languages = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile byte[] preset;
+    /** Long forms seen before the preset dictionary is complete. Guarded by this. */
+    @Nullable
+    private ByteArrayOutputStream sample;
+
+    /**
+     * @param deflate true if long forms should be deflated against a preset dictionary
+     */
+    LiteralDictionary(boolean deflate) {
+        this.deflate = deflate;
+        sample = deflate ? new ByteArrayOutputStream() : null;
+    }
+
+    /**
+     * @param lexical lexical form
+     * @param lang normalised language tag, empty for xsd:string literals
+     * @return interned literal
+     */
+    OWLLiteral literal(String lexical, String lang) {
+        OWLLiteral probe = new OWLLiteralImplCompact(lexical, lang);
+        OWLLiteral known = literals.get(probe);
+        if (known != null) {
+            return known;
+        }
+        String tag = languages.computeIfAbsent(lang, l -> l);
+        OWLLiteral literal = lexical.length() > LONG_FORM
+            ? new OWLLiteralImplCompact(compact(lexical), tag)
+            : new OWLLiteralImplCompact(lexical, tag);
+        known = literals.putIfAbsent(literal, literal);
+        return known == null ? literal : known;
+    }
+
+    private CompactLexicalForm compact(String lexical) {
+        byte[] p = preset;
+        if (p == null && deflate) {
+            p = train(lexical);
+        }
+        return CompactLexicalForm.encode(lexical, p);
+    }
+
+    @Nullable
+    private synchronized byte[] train(String lexical) {
+        ByteArrayOutputStream s = sample;
+        if (s != null) {
+            byte[] bytes = lexical.getBytes(StandardCharsets.UTF_8);
+            s.write(bytes, 0, bytes.length);
+            if (s.size() >= PRESET_SIZE) {
+                // zlib favours the end of the dictionary, which is where the most recent forms are
+                byte[] all = s.toByteArray();
+                preset = Arrays.copyOfRange(all, all.length - PRESET_SIZE, all.length);
+                sample = null;
+            }
+        }
+        return preset;
+    }
+
+    /**
+     * @return number of interned literals
+     */
+    int size() {
+        return literals.size();
+    }
+
+    /**
+     * Drops all interned literals. The preset dictionary, if any, is kept.
+     */
+    void clear() {
+        literals.clear();
+        languages.clear();
+    }
+}
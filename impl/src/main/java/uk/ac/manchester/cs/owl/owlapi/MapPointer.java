@@ -57,15 +57,20 @@ import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
 public class MapPointer<K, V extends OWLAxiom> {
 
     @Nullable
-    private final AxiomType<?> type;
+    protected final AxiomType<?> type;
     @Nullable
-    private final OWLAxiomVisitorEx<?> visitor;
+    protected final OWLAxiomVisitorEx<?> visitor;
     private boolean initialized;
     protected final Internals i;
     @Nullable
     private SoftReference<Set<IRI>> iris;
     private int size = 0;
-    private final ObjectObjectHashMap<K, Collection<V>> map = new ObjectObjectHashMap<>(17, 0.75F);
+    /**
+     * Allocated on the first addition, so that empty pointers, and subclasses that keep their own
+     * storage, do not carry an empty hash map.
+     */
+    @Nullable
+    private ObjectObjectHashMap<K, Collection<V>> map;
     private final Class<V> valueWithness;
 
     /**
@@ -98,7 +103,7 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @return true if an entity with the same iri as the input exists in the collection
      */
     public synchronized boolean containsReference(K e) {
-        return map.containsKey(e);
+        return map != null && map.containsKey(e);
     }
 
     /**
@@ -119,7 +124,9 @@ public class MapPointer<K, V extends OWLAxiom> {
     private Set<IRI> initSet() {
         Set<IRI> set = CollectionFactory.createSet();
         ObjectProcedure<K> consumer = k -> consumer(set, k);
-        map.keys().forEach(consumer);
+        if (map != null) {
+            map.keys().forEach(consumer);
+        }
         iris = new SoftReference<>(set);
         return set;
     }
@@ -155,18 +162,28 @@ public class MapPointer<K, V extends OWLAxiom> {
         assert t != null;
         if (visitor instanceof InitVisitor) {
             InitVisitor<K> v = (InitVisitor<K>) visitor;
-            i.getAxiomsByType().forEach(t, ax -> putInternal(ax.accept(v), (V) ax));
+            forEachAxiomToIndex(t, ax -> putInternal(ax.accept(v), (V) ax));
         } else if (visitor instanceof InitCollectionVisitor) {
             InitCollectionVisitor<K> v = (InitCollectionVisitor<K>) visitor;
-            i.getAxiomsByType().forEach(t,
+            forEachAxiomToIndex(t,
                 ax -> ax.accept(v).forEach(key -> putInternal(key, (V) ax)));
         }
         return this;
     }
 
+    /**
+     * @param t axiom type to index
+     * @param function function to apply to each axiom of the specified type; the axioms by type
+     *        index is neither locked nor copied, so that several indexes can be initialized
+     *        concurrently
+     */
+    protected void forEachAxiomToIndex(AxiomType<?> t, Consumer<OWLAxiom> function) {
+        i.getAxiomsByType().forEachUnlocked(t, function);
+    }
+
     @Override
     public synchronized String toString() {
-        return initialized + map.toString();
+        return initialized + (map == null ? "[]" : map.toString());
     }
 
     /**
@@ -176,7 +193,9 @@ public class MapPointer<K, V extends OWLAxiom> {
         init();
         List<K> l = new ArrayList<>();
         Consumer<ObjectCursor<K>> p = c -> l.add(c.value);
-        map.keys().forEach(p);
+        if (map != null) {
+            map.keys().forEach(p);
+        }
         return l.stream();
     }
 
@@ -186,7 +205,7 @@ public class MapPointer<K, V extends OWLAxiom> {
      */
     public synchronized Stream<V> getValues(K key) {
         init();
-        Collection<V> t = map.get(key);
+        Collection<V> t = lookup(key);
         if (t == null) {
             return Stream.empty();
         }
@@ -208,6 +227,22 @@ public class MapPointer<K, V extends OWLAxiom> {
         get(key).forEach(function);
     }
 
+    /**
+     * Apply a function to the values of a key without copying them and without holding the monitor
+     * of this pointer. Only safe while no thread modifies this pointer; indexes are initialized
+     * under the ontology read lock, or by the only thread using the ontology, so they can scan the
+     * axioms by type index this way. Subclasses with their own storage must override this method.
+     *
+     * @param key key to look up
+     * @param function consumer to apply
+     */
+    protected void forEachUnlocked(K key, Consumer<V> function) {
+        Collection<V> t = lookup(key);
+        if (t != null) {
+            t.forEach(function);
+        }
+    }
+
     /**
      * @param key key to look up
      * @param function predicate to evaluate
@@ -224,7 +259,7 @@ public class MapPointer<K, V extends OWLAxiom> {
      */
     public synchronized Collection<V> getValuesAsCollection(K key) {
         init();
-        Collection<V> t = map.get(key);
+        Collection<V> t = lookup(key);
         if (t == null) {
             return Collections.emptyList();
         }
@@ -247,7 +282,7 @@ public class MapPointer<K, V extends OWLAxiom> {
     }
 
     private int count(K k) {
-        Collection<V> t = map.get(k);
+        Collection<V> t = lookup(k);
         if (t == null) {
             return 0;
         }
@@ -264,7 +299,7 @@ public class MapPointer<K, V extends OWLAxiom> {
     public synchronized <O extends V> Stream<O> values(K key,
         @SuppressWarnings("unused") Class<O> classType) {
         init();
-        Collection<V> t = map.get(key);
+        Collection<V> t = lookup(key);
         if (t == null) {
             return Stream.empty();
         }
@@ -289,7 +324,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         for (AxiomType<?> at : filter.getAxiomTypes()) {
             // This method is only used for MapPointer<AxiomType, OWLAxiom>
             @SuppressWarnings("unchecked")
-            Collection<V> collection = map.get((K) at);
+            Collection<V> collection = lookup((K) at);
             if (collection != null) {
                 collection.stream().filter(x -> filter.pass(x, key)).forEach(toReturn::add);
             }
@@ -311,6 +346,63 @@ public class MapPointer<K, V extends OWLAxiom> {
         return putInternal(key, value);
     }
 
+    /**
+     * Add many values for the same key. The value collection is sized once for the whole batch,
+     * instead of growing one value at a time.
+     *
+     * @param key key to add
+     * @param values values to add
+     * @return the values that were not already present, in iteration order
+     */
+    public synchronized List<V> putAll(K key, Collection<? extends V> values) {
+        // lazy init: no elements added until a recall is made
+        if (!initialized) {
+            return Collections.emptyList();
+        }
+        iris = null;
+        List<V> added = new ArrayList<>(values.size());
+        Collection<V> set = lookup(key);
+        int existing = set == null ? 0 : set.size();
+        if (key == null || set instanceof HPPCSet || existing + values.size() <= 3) {
+            for (V v : values) {
+                if (putInternal(key, v)) {
+                    added.add(v);
+                }
+            }
+            return added;
+        }
+        HPPCSet<V> target = new HPPCSet<>(existing + values.size(), valueWithness);
+        if (set != null) {
+            target.addAll(set);
+        }
+        for (V v : values) {
+            if (target.add(v)) {
+                added.add(v);
+            }
+        }
+        map().put(key, target);
+        size += added.size();
+        return added;
+    }
+
+    /**
+     * Implementation of {@link #putAll(Object, Collection)} for subclasses that do not use the map
+     * in this class.
+     *
+     * @param key key to add
+     * @param values values to add
+     * @return the values that were not already present, in iteration order
+     */
+    protected List<V> putEach(K key, Collection<? extends V> values) {
+        List<V> added = new ArrayList<>(values.size());
+        for (V v : values) {
+            if (put(key, v)) {
+                added.add(v);
+            }
+        }
+        return added;
+    }
+
     /**
      * @param key key to look up
      * @param value value to remove
@@ -330,7 +422,7 @@ public class MapPointer<K, V extends OWLAxiom> {
      */
     public synchronized boolean containsKey(K key) {
         init();
-        return map.containsKey(key);
+        return map != null && map.containsKey(key);
     }
 
     /**
@@ -371,10 +463,10 @@ public class MapPointer<K, V extends OWLAxiom> {
         if (k == null) {
             return false;
         }
-        Collection<V> set = map.get(k);
+        Collection<V> set = lookup(k);
         if (set == null) {
             set = Collections.singleton(v);
-            map.put(k, set);
+            map().put(k, set);
             size++;
             return true;
         }
@@ -383,14 +475,14 @@ public class MapPointer<K, V extends OWLAxiom> {
                 return false;
             } else {
                 set = new SmallSet<>(set);
-                map.put(k, set);
+                map().put(k, set);
             }
         } else if (set.size() == 3) {
             if (set.contains(v)) {
                 return false;
             } else {
                 set = new HPPCSet<>(set, v, valueWithness);
-                map.put(k, set);
+                map().put(k, set);
                 size++;
                 return true;
             }
@@ -403,7 +495,7 @@ public class MapPointer<K, V extends OWLAxiom> {
     }
 
     private boolean containsEntry(K k, V v) {
-        Collection<V> t = map.get(k);
+        Collection<V> t = lookup(k);
         if (t == null) {
             return false;
         }
@@ -411,13 +503,13 @@ public class MapPointer<K, V extends OWLAxiom> {
     }
 
     private boolean removeInternal(K k, V v) {
-        Collection<V> t = map.get(k);
+        Collection<V> t = lookup(k);
         if (t == null) {
             return false;
         }
         if (t.size() == 1) {
             if (t.contains(v)) {
-                map.remove(k);
+                map().remove(k);
                 size--;
                 return true;
             } else {
@@ -429,7 +521,7 @@ public class MapPointer<K, V extends OWLAxiom> {
             size--;
         }
         if (t.isEmpty()) {
-            map.remove(k);
+            map().remove(k);
         }
         return removed;
     }
@@ -437,12 +529,28 @@ public class MapPointer<K, V extends OWLAxiom> {
     private Stream<V> values() {
         List<V> l = new ArrayList<>();
         Consumer<ObjectCursor<Collection<V>>> c = q -> l.addAll(q.value);
-        map.values().forEach(c);
+        if (map != null) {
+            map.values().forEach(c);
+        }
         return l.stream();
     }
 
+    private ObjectObjectHashMap<K, Collection<V>> map() {
+        ObjectObjectHashMap<K, Collection<V>> m = map;
+        if (m == null) {
+            m = new ObjectObjectHashMap<>(17, 0.75F);
+            map = m;
+        }
+        return m;
+    }
+
+    @Nullable
+    private Collection<V> lookup(@Nullable K k) {
+        return map == null ? null : map.get(k);
+    }
+
     private Stream<V> get(K k) {
-        Collection<V> t = map.get(k);
+        Collection<V> t = lookup(k);
         if (t == null) {
             return Stream.empty();
         }
@@ -498,6 +606,12 @@ class HPPCSet<S> implements Collection<S> {
         return witness.isInstance(o) && delegate.contains(witness.cast(o));
     }
 
+    @Override
+    public void forEach(Consumer<? super S> action) {
+        ObjectProcedure<S> p = action::accept;
+        delegate.forEach(p);
+    }
+
     @Override
     public Iterator<S> iterator() {
         List<S> l = new ArrayList<>();
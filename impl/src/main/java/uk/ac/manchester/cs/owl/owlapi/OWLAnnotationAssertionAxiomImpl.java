@@ -99,4 +99,23 @@ public class OWLAnnotationAssertionAxiomImpl extends OWLAxiomImpl
     public OWLAnnotation getAnnotation() {
         return new OWLAnnotationImplNotAnnotated(property, value);
     }
+
+    @Override
+    protected int componentCount() {
+        return 4;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getSubject();
+            case 1:
+                return getProperty();
+            case 2:
+                return getValue();
+            default:
+                return annotations;
+        }
+    }
 }
@@ -75,4 +75,21 @@ public class OWLAnnotationImplNotAnnotated extends OWLObjectImpl implements OWLA
         return property.isDeprecated() && value instanceof OWLLiteral
             && ((OWLLiteral) value).isBoolean() && ((OWLLiteral) value).parseBoolean();
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return getValue();
+            default:
+                return annotationsAsList();
+        }
+    }
 }
@@ -70,4 +70,21 @@ public class OWLAnnotationPropertyDomainAxiomImpl extends OWLAxiomImpl
     public OWLAnnotationProperty getProperty() {
         return property;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return getDomain();
+            default:
+                return annotations;
+        }
+    }
 }
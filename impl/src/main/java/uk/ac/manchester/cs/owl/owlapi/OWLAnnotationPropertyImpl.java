@@ -41,4 +41,14 @@ public class OWLAnnotationPropertyImpl extends OWLObjectImpl implements OWLAnnot
     public String toStringID() {
         return iri.toString();
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return iri;
+    }
 }
@@ -70,4 +70,21 @@ public class OWLAnnotationPropertyRangeAxiomImpl extends OWLAxiomImpl
     public IRI getRange() {
         return range;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return getRange();
+            default:
+                return annotations;
+        }
+    }
 }
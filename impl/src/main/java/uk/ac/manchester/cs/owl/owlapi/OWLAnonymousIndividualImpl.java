@@ -54,4 +54,14 @@ public class OWLAnonymousIndividualImpl extends OWLIndividualImpl implements
     public Optional<OWLAnonymousIndividual> asAnonymousIndividual() {
         return optional(this);
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return nodeId;
+    }
 }
@@ -1,5 +1,6 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
@@ -16,9 +17,20 @@ import org.semanticweb.owlapi.search.Filters;
  * @since 4.0.0
  */
 public abstract class OWLAxiomIndexImpl extends OWLObjectImpl
-    implements OWLAxiomIndex, HasTrimToSize {
+    implements OWLAxiomIndex, HasTrimToSize, HasFreeze, HasInitializeIndexes {
 
-    protected final Internals ints = new Internals();
+    protected final Internals ints;
+
+    protected OWLAxiomIndexImpl() {
+        this(new Internals());
+    }
+
+    /**
+     * @param ints indexes to use
+     */
+    protected OWLAxiomIndexImpl(Internals ints) {
+        this.ints = ints;
+    }
 
     @Override
     public void trimToSize() {
@@ -26,6 +38,21 @@ public abstract class OWLAxiomIndexImpl extends OWLObjectImpl
         // ints.trimToSize();
     }
 
+    @Override
+    public Map<String, Long> initializeIndexes() {
+        return ints.initializeIndexes();
+    }
+
+    @Override
+    public void freeze() {
+        ints.freeze();
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return ints.isFrozen();
+    }
+
     @Override
     public Stream<OWLDatatypeDefinitionAxiom> datatypeDefinitions(OWLDatatype datatype) {
         // XXX stream better?
@@ -43,4 +43,21 @@ public abstract class OWLCardinalityRestrictionImpl<F extends OWLPropertyRange>
     public F getFiller() {
         return filler;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return Integer.valueOf(cardinality);
+            default:
+                return getFiller();
+        }
+    }
 }
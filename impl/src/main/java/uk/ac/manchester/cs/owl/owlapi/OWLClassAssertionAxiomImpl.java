@@ -78,4 +78,21 @@ public class OWLClassAssertionAxiomImpl extends OWLIndividualAxiomImpl
         return new OWLSubClassOfAxiomImpl(new OWLObjectOneOfImpl(getIndividual()),
             getClassExpression(), NO_ANNOTATIONS);
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getIndividual();
+            case 1:
+                return getClassExpression();
+            default:
+                return annotations;
+        }
+    }
 }
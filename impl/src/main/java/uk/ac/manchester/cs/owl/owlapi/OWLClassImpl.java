@@ -106,4 +106,14 @@ public class OWLClassImpl extends OWLClassExpressionImpl implements OWLClass, Se
     public Stream<OWLClassExpression> disjunctSet() {
         return Stream.of((OWLClassExpression) this);
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return iri;
+    }
 }
@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -108,6 +109,7 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
 import org.semanticweb.owlapi.model.OWLObjectComplementOf;
 import org.semanticweb.owlapi.model.OWLObjectExactCardinality;
@@ -158,6 +160,8 @@ import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -214,10 +218,11 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
     private static final String ENTITY_TYPE_CANNOT_BE_NULL = "entityType cannot be null";
     private static final String ANNOTATIONS_CANNOT_BE_NULL = "annotations cannot be null";
     private final boolean useCompression = false;
-    private transient OWLDataFactoryInternals dataFactoryInternals =
-        new OWLDataFactoryInternalsImpl(useCompression);
+    private transient OWLDataFactoryInternals dataFactoryInternals;
 
     private OWLOntologyLoaderConfiguration config;
+    @Nullable
+    private transient volatile OWLDataFactory unshared;
 
     /**
      * Constructor for injection
@@ -232,6 +237,19 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
      */
     public OWLDataFactoryImpl(OWLOntologyLoaderConfiguration config) {
         this.config = config;
+        dataFactoryInternals = internals(config, useCompression);
+    }
+
+    private static OWLDataFactoryInternals internals(OWLOntologyLoaderConfiguration config,
+        boolean useCompression) {
+        if (config.shouldUseDenseEntityIds()) {
+            return new OWLDataFactoryInternalsImplDenseIds(useCompression, config);
+        }
+        return new OWLDataFactoryInternalsImpl(useCompression, config);
+    }
+
+    private <T extends OWLObject> T share(T object) {
+        return dataFactoryInternals.share(object);
     }
 
     private static void checkAnnotations(Collection<OWLAnnotation> o) {
@@ -240,7 +258,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
 
     private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
-        dataFactoryInternals = new OWLDataFactoryInternalsImpl(useCompression);
+        dataFactoryInternals = internals(config, useCompression);
     }
 
     @Override
@@ -248,6 +266,29 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         dataFactoryInternals.purge();
     }
 
+    @Override
+    public OWLDataFactory getUnsharedFactory() {
+        if (!config.shouldUseHashConsing()) {
+            return this;
+        }
+        OWLDataFactory f = unshared;
+        if (f == null) {
+            // benign race: at worst, two equivalent factories are created
+            f = new OWLDataFactoryImpl(config.setUseHashConsing(false));
+            unshared = f;
+        }
+        return f;
+    }
+
+    /**
+     * @return statistics for the interning caches of this data factory, by cache name. Counts are
+     *         only recorded if {@link OWLOntologyLoaderConfiguration#shouldRecordCacheStatistics()}
+     *         is true.
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        return dataFactoryInternals.getCacheStats();
+    }
+
     @Override
     public <E extends OWLEntity> E getOWLEntity(EntityType<E> entityType, IRI iri) {
         checkNotNull(entityType, ENTITY_TYPE_CANNOT_BE_NULL);
@@ -373,13 +414,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
 
     @Override
     public OWLDataOneOf getOWLDataOneOf(Stream<? extends OWLLiteral> values) {
-        return new OWLDataOneOfImpl(values);
+        return share(new OWLDataOneOfImpl(values));
     }
 
     @Override
     public OWLDataComplementOf getOWLDataComplementOf(OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
-        return new OWLDataComplementOfImpl(dataRange);
+        return share(new OWLDataComplementOfImpl(dataRange));
     }
 
     @Override
@@ -397,12 +438,12 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
     @Override
     public OWLDataIntersectionOf getOWLDataIntersectionOf(
         Stream<? extends OWLDataRange> dataRanges) {
-        return new OWLDataIntersectionOfImpl(sortedList(OWLDataRange.class, dataRanges));
+        return share(new OWLDataIntersectionOfImpl(sortedList(OWLDataRange.class, dataRanges)));
     }
 
     @Override
     public OWLDataUnionOf getOWLDataUnionOf(Stream<? extends OWLDataRange> dataRanges) {
-        return new OWLDataUnionOfImpl(sortedList(OWLDataRange.class, dataRanges));
+        return share(new OWLDataUnionOfImpl(sortedList(OWLDataRange.class, dataRanges)));
     }
 
     @Override
@@ -410,7 +451,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLFacetRestriction> facetRestrictions) {
         checkNotNull(dataType, DATATYPE_CANNOT_BE_NULL);
         checkIterableNotNull(facetRestrictions, "facets", true);
-        return new OWLDatatypeRestrictionImpl(dataType, facetRestrictions);
+        return share(new OWLDatatypeRestrictionImpl(dataType, facetRestrictions));
     }
 
     @Override
@@ -419,28 +460,29 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(dataType, DATATYPE_CANNOT_BE_NULL);
         checkNotNull(facet, FACET_CANNOT_BE_NULL);
         checkNotNull(typedLiteral, TYPED_CONSTANT_CANNOT_BE_NULL);
-        return new OWLDatatypeRestrictionImpl(dataType,
-            CollectionFactory.createSet(getOWLFacetRestriction(facet, typedLiteral)));
+        return share(new OWLDatatypeRestrictionImpl(dataType,
+            CollectionFactory.createSet(getOWLFacetRestriction(facet, typedLiteral))));
     }
 
     @Override
     public OWLFacetRestriction getOWLFacetRestriction(OWLFacet facet, OWLLiteral facetValue) {
         checkNotNull(facet, FACET_CANNOT_BE_NULL);
         checkNotNull(facetValue, FACET_VALUE_CANNOT_BE_NULL);
-        return new OWLFacetRestrictionImpl(facet, facetValue);
+        return share(new OWLFacetRestrictionImpl(facet, facetValue));
     }
 
     @Override
     public OWLObjectIntersectionOf getOWLObjectIntersectionOf(
         Stream<? extends OWLClassExpression> operands) {
-        return new OWLObjectIntersectionOfImpl(sortedList(OWLClassExpression.class, operands));
+        return share(
+            new OWLObjectIntersectionOfImpl(sortedList(OWLClassExpression.class, operands)));
     }
 
     @Override
     public OWLObjectIntersectionOf getOWLObjectIntersectionOf(
         Collection<? extends OWLClassExpression> operands) {
-        return new OWLObjectIntersectionOfImpl(
-            sortedList(OWLClassExpression.class, operands.stream()));
+        return share(new OWLObjectIntersectionOfImpl(
+            sortedList(OWLClassExpression.class, operands.stream())));
     }
 
     @Override
@@ -448,7 +490,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataAllValuesFromImpl(property, dataRange);
+        return share(new OWLDataAllValuesFromImpl(property, dataRange));
     }
 
     @Override
@@ -462,7 +504,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype());
+        return share(new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -471,7 +513,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLDataExactCardinalityImpl(property, cardinality, dataRange);
+        return share(new OWLDataExactCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -485,7 +527,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype());
+        return share(new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -494,7 +536,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
-        return new OWLDataMaxCardinalityImpl(property, cardinality, dataRange);
+        return share(new OWLDataMaxCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -508,7 +550,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype());
+        return share(new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -517,7 +559,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMinCardinalityImpl(property, cardinality, dataRange);
+        return share(new OWLDataMinCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -531,7 +573,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataSomeValuesFromImpl(property, dataRange);
+        return share(new OWLDataSomeValuesFromImpl(property, dataRange));
     }
 
     @Override
@@ -545,13 +587,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLLiteral value) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(value, VALUE_CANNOT_BE_NULL);
-        return new OWLDataHasValueImpl(property, value);
+        return share(new OWLDataHasValueImpl(property, value));
     }
 
     @Override
     public OWLObjectComplementOf getOWLObjectComplementOf(OWLClassExpression operand) {
         checkNotNull(operand, "operand");
-        return new OWLObjectComplementOfImpl(operand);
+        return share(new OWLObjectComplementOfImpl(operand));
     }
 
     @Override
@@ -559,12 +601,12 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectAllValuesFromImpl(property, classExpression);
+        return share(new OWLObjectAllValuesFromImpl(property, classExpression));
     }
 
     @Override
     public OWLObjectOneOf getOWLObjectOneOf(Stream<? extends OWLIndividual> values) {
-        return new OWLObjectOneOfImpl(values.map(x -> x));
+        return share(new OWLObjectOneOfImpl(values.map(x -> x)));
     }
 
     @Override
@@ -572,7 +614,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING);
+        return share(new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -581,7 +623,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLObjectExactCardinalityImpl(property, cardinality, classExpression);
+        return share(new OWLObjectExactCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
@@ -589,7 +631,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING);
+        return share(new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -598,7 +640,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLObjectMinCardinalityImpl(property, cardinality, classExpression);
+        return share(new OWLObjectMinCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
@@ -606,7 +648,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING);
+        return share(new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -615,13 +657,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression);
+        return share(new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
     public OWLObjectHasSelf getOWLObjectHasSelf(OWLObjectPropertyExpression property) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectHasSelfImpl(property);
+        return share(new OWLObjectHasSelfImpl(property));
     }
 
     @Override
@@ -629,7 +671,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectSomeValuesFromImpl(property, classExpression);
+        return share(new OWLObjectSomeValuesFromImpl(property, classExpression));
     }
 
     @Override
@@ -637,17 +679,18 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLIndividual individual) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
-        return new OWLObjectHasValueImpl(property, individual);
+        return share(new OWLObjectHasValueImpl(property, individual));
     }
 
     @Override
     public OWLObjectUnionOf getOWLObjectUnionOf(Stream<? extends OWLClassExpression> operands) {
-        return new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands));
+        return share(new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands)));
     }
 
     @Override
     public OWLObjectUnionOf getOWLObjectUnionOf(Collection<? extends OWLClassExpression> operands) {
-        return new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands.stream()));
+        return share(
+            new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands.stream())));
     }
 
     @Override
@@ -655,7 +698,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression propertyExpression, Collection<OWLAnnotation> annotations) {
         checkNotNull(propertyExpression, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression, annotations);
+        return share(new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression, annotations));
     }
 
     @Override
@@ -665,7 +708,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(domain, DOMAIN_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDataPropertyDomainAxiomImpl(property, domain, annotations);
+        return share(new OWLDataPropertyDomainAxiomImpl(property, domain, annotations));
     }
 
     @Override
@@ -675,7 +718,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(owlDataRange, OWL_DATA_RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDataPropertyRangeAxiomImpl(property, owlDataRange, annotations);
+        return share(new OWLDataPropertyRangeAxiomImpl(property, owlDataRange, annotations));
     }
 
     @Override
@@ -692,7 +735,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(subProperty, SUB_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+        return share(new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty, annotations));
     }
 
     @Override
@@ -700,7 +743,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkNotNull(owlEntity, OWL_ENTITY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDeclarationAxiomImpl(owlEntity, annotations);
+        return share(new OWLDeclarationAxiomImpl(owlEntity, annotations));
     }
 
     @Override
@@ -708,8 +751,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<? extends OWLIndividual> individuals, Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(individuals, INDIVIDUALS_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLDifferentIndividualsAxiomImpl(
-            sortedList(OWLIndividual.class, individuals.stream()), annotations);
+        return share(new OWLDifferentIndividualsAxiomImpl(
+            sortedList(OWLIndividual.class, individuals.stream()), annotations));
     }
 
     @Override
@@ -740,7 +783,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
                 makeSingletonDisjoinClassWarningAnnotation(annotations, classExpression,
                     OWL_THING));
         }
-        return new OWLDisjointClassesAxiomImpl(sortedList, annotations);
+        return share(new OWLDisjointClassesAxiomImpl(sortedList, annotations));
     }
 
     protected Set<OWLAnnotation> makeSingletonDisjoinClassWarningAnnotation(
@@ -767,8 +810,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLDisjointDataPropertiesAxiomImpl(
-            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations);
+        return share(new OWLDisjointDataPropertiesAxiomImpl(
+            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -777,8 +820,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLDisjointObjectPropertiesAxiomImpl(
-            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations);
+        return share(new OWLDisjointObjectPropertiesAxiomImpl(
+            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -787,8 +830,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(classExpressions, CLASS_EXPRESSIONS_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentClassesAxiomImpl(
-            sortedList(OWLClassExpression.class, classExpressions.stream()), annotations);
+        return share(new OWLEquivalentClassesAxiomImpl(
+            sortedList(OWLClassExpression.class, classExpressions.stream()), annotations));
     }
 
     @Override
@@ -797,8 +840,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentDataPropertiesAxiomImpl(
-            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations);
+        return share(new OWLEquivalentDataPropertiesAxiomImpl(
+            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -806,7 +849,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLFunctionalDataPropertyAxiomImpl(property, annotations);
+        return share(new OWLFunctionalDataPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -814,7 +857,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLFunctionalObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLFunctionalObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -831,7 +874,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDataPropertyAssertionAxiomImpl(subject, property, object, annotations);
+        return share(new OWLDataPropertyAssertionAxiomImpl(subject, property, object, annotations));
     }
 
     @Override
@@ -842,8 +885,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property, object,
-            annotations);
+        return share(new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property, object,
+            annotations));
     }
 
     @Override
@@ -854,8 +897,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLNegativeObjectPropertyAssertionAxiomImpl(subject, property, object,
-            annotations);
+        return share(new OWLNegativeObjectPropertyAssertionAxiomImpl(subject, property, object,
+            annotations));
     }
 
     @Override
@@ -864,7 +907,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLClassAssertionAxiomImpl(individual, classExpression, annotations);
+        return share(new OWLClassAssertionAxiomImpl(individual, classExpression, annotations));
     }
 
     @Override
@@ -872,7 +915,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLInverseFunctionalObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLInverseFunctionalObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -880,7 +923,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -890,7 +933,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyDomainAxiomImpl(property, classExpression, annotations);
+        return share(new OWLObjectPropertyDomainAxiomImpl(property, classExpression, annotations));
     }
 
     @Override
@@ -900,7 +943,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(range, RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyRangeAxiomImpl(property, range, annotations);
+        return share(new OWLObjectPropertyRangeAxiomImpl(property, range, annotations));
     }
 
     @Override
@@ -910,7 +953,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(subProperty, SUB_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+        return share(new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty, annotations));
     }
 
     @Override
@@ -918,7 +961,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLReflexiveObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLReflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -926,8 +969,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<? extends OWLIndividual> individuals, Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(individuals, INDIVIDUALS_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLSameIndividualAxiomImpl(sortedList(OWLIndividual.class, individuals.stream()),
-            annotations);
+        return share(new OWLSameIndividualAxiomImpl(
+            sortedList(OWLIndividual.class, individuals.stream()), annotations));
     }
 
     @Override
@@ -936,7 +979,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(subClass, SUBCLASS_CANNOT_BE_NULL);
         checkNotNull(superClass, SUPERCLASS_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubClassOfAxiomImpl(subClass, superClass, annotations);
+        return share(new OWLSubClassOfAxiomImpl(subClass, superClass, annotations));
     }
 
     @Override
@@ -944,7 +987,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSymmetricObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLSymmetricObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -952,13 +995,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLTransitiveObjectPropertyAxiomImpl(property, annotations);
+        return share(new OWLTransitiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
     public OWLObjectInverseOf getOWLObjectInverseOf(OWLObjectProperty property) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectInverseOfImpl(property);
+        return share(new OWLObjectInverseOfImpl(property));
     }
 
     @Override
@@ -968,8 +1011,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(forwardProperty, FORWARD_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(inverseProperty, INVERSE_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLInverseObjectPropertiesAxiomImpl(forwardProperty, inverseProperty,
-            annotations);
+        return share(new OWLInverseObjectPropertiesAxiomImpl(forwardProperty, inverseProperty,
+            annotations));
     }
 
     @Override
@@ -979,7 +1022,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkIterableNotNull(chain, CHAIN_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLSubPropertyChainAxiomImpl(chain, superProperty, annotations);
+        return share(new OWLSubPropertyChainAxiomImpl(chain, superProperty, annotations));
     }
 
     @Override
@@ -989,7 +1032,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(ce, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkIterableNotNull(objectProperties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLHasKeyAxiomImpl(ce, objectProperties, annotations);
+        return share(new OWLHasKeyAxiomImpl(ce, objectProperties, annotations));
     }
 
     @Override
@@ -998,8 +1041,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkNotNull(owlClass, OWL_CLASS_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDisjointUnionAxiomImpl(owlClass,
-            sortedList(OWLClassExpression.class, classExpressions), annotations);
+        return share(new OWLDisjointUnionAxiomImpl(owlClass,
+            sortedList(OWLClassExpression.class, classExpressions), annotations));
     }
 
     @Override
@@ -1008,8 +1051,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentObjectPropertiesAxiomImpl(
-            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations);
+        return share(new OWLEquivalentObjectPropertiesAxiomImpl(
+            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -1020,7 +1063,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyAssertionAxiomImpl(individual, property, object, annotations);
+        return share(
+            new OWLObjectPropertyAssertionAxiomImpl(individual, property, object, annotations));
     }
 
     @Override
@@ -1030,7 +1074,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(sub, SUB_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(sup, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations);
+        return share(new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations));
     }
 
     // Annotations
@@ -1079,7 +1123,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(value, VALUE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAnnotationAssertionAxiomImpl(subject, property, value, annotations);
+        return share(new OWLAnnotationAssertionAxiomImpl(subject, property, value, annotations));
     }
 
     @Override
@@ -1094,7 +1138,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(prop, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(domain, DOMAIN_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyDomainAxiomImpl(prop, domain, annotations);
+        return share(new OWLAnnotationPropertyDomainAxiomImpl(prop, domain, annotations));
     }
 
     @Override
@@ -1103,7 +1147,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(prop, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(range, RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations);
+        return share(new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations));
     }
 
     // SWRL
@@ -1113,7 +1157,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkIterableNotNull(body, BODY_CANNOT_BE_NULL, true);
         checkIterableNotNull(head, HEAD_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new SWRLRuleImpl(body, head, annotations);
+        return share(new SWRLRuleImpl(body, head, annotations));
     }
 
     @Override
@@ -1121,7 +1165,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<? extends SWRLAtom> head) {
         checkIterableNotNull(body, BODY_CANNOT_BE_NULL, true);
         checkIterableNotNull(head, HEAD_CANNOT_BE_NULL, true);
-        return new SWRLRuleImpl(body, head);
+        return share(new SWRLRuleImpl(body, head));
     }
 
     @Override
@@ -1210,7 +1254,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(datatype, DATATYPE_CANNOT_BE_NULL);
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange, annotations);
+        return share(new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange, annotations));
     }
 
     @Override
@@ -13,6 +13,8 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.semanticweb.owlapi.model.IRI;
@@ -24,8 +26,11 @@ import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 /**
  * @author ignazio Mutable state in an OWLDataFactory is encapsulated by this interface
  */
@@ -42,6 +47,23 @@ public interface OWLDataFactoryInternals extends Serializable {
      */
     void purge();
 
+    /**
+     * @return statistics for the caches used by this object, by cache name; empty if no cache is
+     *         used. Counts are zero unless statistics are enabled in the configuration.
+     */
+    default Map<String, CacheStats> getCacheStats() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * @param object newly created class expression, data range or axiom
+     * @param <T> object type
+     * @return the shared instance equal to object, or object itself if objects are not shared
+     */
+    default <T extends OWLObject> T share(T object) {
+        return object;
+    }
+
     /**
      * @param iri new object property IRI
      * @return a new OWLObjectProperty object, or a cached one depending on policies
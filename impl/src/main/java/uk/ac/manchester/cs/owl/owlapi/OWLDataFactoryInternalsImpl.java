@@ -12,9 +12,16 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package uk.ac.manchester.cs.owl.owlapi;
 
+import static uk.ac.manchester.cs.owl.owlapi.InternalizedEntities.LANGSTRING;
+import static uk.ac.manchester.cs.owl.owlapi.InternalizedEntities.XSDSTRING;
+
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
@@ -22,15 +29,27 @@ import org.semanticweb.owlapi.model.OWLAnnotationValue;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 /**
+ * Data factory internals that intern entities and annotations in caches owned by this object, so
+ * that data factories do not share or evict each other's entries. Entity caches are bounded by
+ * number of entities or by total IRI length, see
+ * {@link OWLOntologyLoaderConfiguration#getEntityCacheSize()} and
+ * {@link OWLOntologyLoaderConfiguration#getEntityCacheWeight()}.
+ *
  * @author ignazio
  */
 public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCache {
@@ -42,28 +61,85 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
      * reused extremely frequently. for ontologies in the OBO family, a few annotations will be
      * reused extremely frequently.
      */
-    //@formatter:off
-    private static final LoadingCache<IRI, OWLAnnotationProperty>   annotationProperties = builder(OWLAnnotationPropertyImpl::new);
-    private static final LoadingCache<OWLAnnotation, OWLAnnotation> annotations =          builder(OWLDataFactoryInternalsImpl::ann);
-    private static final LoadingCache<IRI, OWLClass>                classes =              builder(OWLClassImpl::new);
-    private static final LoadingCache<IRI, OWLObjectProperty>       objectProperties =     builder(OWLObjectPropertyImpl::new);
-    private static final LoadingCache<IRI, OWLDataProperty>         dataProperties =       builder(OWLDataPropertyImpl::new);
-    private static final LoadingCache<IRI, OWLDatatype>             datatypes =            builder(OWLDatatypeImpl::new);
-    private static final LoadingCache<IRI, OWLNamedIndividual>      individuals =          builder(OWLNamedIndividualImpl::new);
-    //@formatter:on
+    private final transient LoadingCache<OWLAnnotation, OWLAnnotation> annotations;
+    private final transient LoadingCache<IRI, OWLAnnotationProperty> annotationProperties;
+    private final transient LoadingCache<IRI, OWLClass> classes;
+    private final transient LoadingCache<IRI, OWLObjectProperty> objectProperties;
+    private final transient LoadingCache<IRI, OWLDataProperty> dataProperties;
+    private final transient LoadingCache<IRI, OWLDatatype> datatypes;
+    private final transient LoadingCache<IRI, OWLNamedIndividual> individuals;
+    /** Interned string literals, or null if literals are not interned. */
+    @Nullable
+    private final transient LiteralDictionary literals;
+    /**
+     * Canonical class expressions, data ranges and axioms, or null if they are not shared. Guava
+     * interners are weak and split into segments that are locked separately; replaced on purge.
+     */
+    @Nullable
+    private transient volatile Interner<OWLObject> objects;
+    private final boolean hashConsing;
+
     /**
      * @param useCompression true if literals should be compressed
      */
     public OWLDataFactoryInternalsImpl(boolean useCompression) {
+        this(useCompression, new OWLOntologyLoaderConfiguration());
+    }
+
+    /**
+     * @param useCompression true if literals should be compressed
+     * @param config configuration for cache sizes and statistics
+     */
+    public OWLDataFactoryInternalsImpl(boolean useCompression,
+        OWLOntologyLoaderConfiguration config) {
         super(useCompression);
+        annotations = builder(config, size()).build(OWLDataFactoryInternalsImpl::ann);
+        annotationProperties = entityCache(config, OWLAnnotationPropertyImpl::new);
+        classes = entityCache(config, OWLClassImpl::new);
+        objectProperties = entityCache(config, OWLObjectPropertyImpl::new);
+        dataProperties = entityCache(config, OWLDataPropertyImpl::new);
+        datatypes = entityCache(config, OWLDatatypeImpl::new);
+        individuals = entityCache(config, OWLNamedIndividualImpl::new);
+        literals = config.shouldUseLiteralDictionary()
+            ? new LiteralDictionary(config.shouldDeflateLiterals()) : null;
+        hashConsing = config.shouldUseHashConsing();
+        objects = interner(hashConsing);
+    }
+
+    @Nullable
+    private static Interner<OWLObject> interner(boolean hashConsing) {
+        if (!hashConsing) {
+            return null;
+        }
+        return Interners.newBuilder().weak()
+            .concurrencyLevel(Math.max(4, Runtime.getRuntime().availableProcessors() * 2)).build();
     }
 
     private static OWLAnnotation ann(OWLAnnotation o) {
         return o;
     }
 
-    private static <F, T> LoadingCache<F, T> builder(CacheLoader<F, T> f) {
-        return Caffeine.newBuilder().weakKeys().maximumSize(size()).build(f);
+    private static Caffeine<Object, Object> builder(OWLOntologyLoaderConfiguration config,
+        long size) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().weakKeys();
+        if (size >= 0) {
+            builder.maximumSize(size);
+        }
+        if (config.shouldRecordCacheStatistics()) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    private static <T> LoadingCache<IRI, T> entityCache(OWLOntologyLoaderConfiguration config,
+        CacheLoader<IRI, T> f) {
+        int weight = config.getEntityCacheWeight();
+        if (weight > 0) {
+            return builder(config, -1).maximumWeight(weight)
+                .weigher((IRI iri, T e) -> iri.length()).build(f);
+        }
+        int size = config.getEntityCacheSize();
+        return builder(config, size < 0 ? size() : size).build(f);
     }
 
     protected static long size() {
@@ -71,6 +147,19 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
             .longValue();
     }
 
+    @Override
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> map = new LinkedHashMap<>();
+        map.put("classes", classes.stats());
+        map.put("objectProperties", objectProperties.stats());
+        map.put("dataProperties", dataProperties.stats());
+        map.put("individuals", individuals.stats());
+        map.put("datatypes", datatypes.stats());
+        map.put("annotationProperties", annotationProperties.stats());
+        map.put("annotations", annotations.stats());
+        return map;
+    }
+
     @Override
     public OWLClass getOWLClass(IRI iri) {
         return classes.get(iri);
@@ -85,8 +174,48 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
         individuals.invalidateAll();
         annotationProperties.invalidateAll();
         annotations.invalidateAll();
+        if (literals != null) {
+            literals.clear();
+        }
+        objects = interner(hashConsing);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OWLObject> T share(T object) {
+        Interner<OWLObject> interner = objects;
+        if (interner == null) {
+            return object;
+        }
+        return (T) interner.intern(object);
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(String value) {
+        if (literals == null) {
+            return super.getOWLLiteral(value);
+        }
+        return literals.literal(value, "");
     }
 
+    @Override
+    public OWLLiteral getOWLLiteral(String literal, @Nullable String lang) {
+        if (literals == null) {
+            return super.getOWLLiteral(literal, lang);
+        }
+        return literals.literal(literal, normaliseLang(lang));
+    }
+
+    @Override
+    protected OWLLiteral getBasicLiteral(String lexicalValue, String lang,
+        @Nullable OWLDatatype datatype) {
+        // other combinations of datatype and language tag keep their current representation
+        if (literals == null || !(lang.isEmpty() ? XSDSTRING : LANGSTRING).equals(datatype)) {
+            return super.getBasicLiteral(lexicalValue, lang, datatype);
+        }
+        // language tags are not normalised here, as for the other literal implementations
+        return literals.literal(lexicalValue, lang);
+    }
     @Override
     public OWLObjectProperty getOWLObjectProperty(IRI iri) {
         return objectProperties.get(iri);
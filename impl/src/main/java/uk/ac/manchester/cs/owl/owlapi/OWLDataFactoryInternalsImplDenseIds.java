@@ -0,0 +1,84 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+/**
+ * Interns entities in the {@link EntityDictionary} instead of size limited caches, so that each
+ * entity and its IRI have a dense int id and equal entities from this factory are the same object.
+ * The entity table belongs to this factory and is dropped by {@link #purge()}; the IRIs and their
+ * ids are shared by all factories and kept.
+ *
+ * @author ignazio
+ */
+public class OWLDataFactoryInternalsImplDenseIds extends OWLDataFactoryInternalsImpl {
+
+    private final EntityDictionary.Entities entities = new EntityDictionary.Entities();
+
+    /**
+     * @param useCompression true if literals should be compressed
+     * @param config configuration for the annotation cache
+     */
+    public OWLDataFactoryInternalsImplDenseIds(boolean useCompression,
+        OWLOntologyLoaderConfiguration config) {
+        super(useCompression, config);
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        entities.purge();
+    }
+
+    @Override
+    public OWLClass getOWLClass(IRI iri) {
+        return entities.entity(iri, EntityDictionary.CLASS, OWLClassImpl::new);
+    }
+
+    @Override
+    public OWLObjectProperty getOWLObjectProperty(IRI iri) {
+        return entities.entity(iri, EntityDictionary.OBJECT_PROPERTY,
+            OWLObjectPropertyImpl::new);
+    }
+
+    @Override
+    public OWLDataProperty getOWLDataProperty(IRI iri) {
+        return entities.entity(iri, EntityDictionary.DATA_PROPERTY,
+            OWLDataPropertyImpl::new);
+    }
+
+    @Override
+    public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
+        return entities.entity(iri, EntityDictionary.NAMED_INDIVIDUAL,
+            OWLNamedIndividualImpl::new);
+    }
+
+    @Override
+    public OWLDatatype getOWLDatatype(IRI iri) {
+        return entities.entity(iri, EntityDictionary.DATATYPE, OWLDatatypeImpl::new);
+    }
+
+    @Override
+    public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
+        return entities.entity(iri, EntityDictionary.ANNOTATION_PROPERTY,
+            OWLAnnotationPropertyImpl::new);
+    }
+}
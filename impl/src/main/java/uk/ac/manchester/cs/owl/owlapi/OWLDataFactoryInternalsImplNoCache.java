@@ -103,12 +103,7 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
 
     @Override
     public OWLLiteral getOWLLiteral(String literal, @Nullable String lang) {
-        String normalisedLang;
-        if (lang == null) {
-            normalisedLang = "";
-        } else {
-            normalisedLang = lang.trim().toLowerCase(Locale.ENGLISH);
-        }
+        String normalisedLang = normaliseLang(lang);
         if (normalisedLang.isEmpty()) {
             if (useCompression) {
                 return new OWLLiteralImpl(literal, null, XSDSTRING);
@@ -122,6 +117,17 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
         }
     }
 
+    /**
+     * @param lang language tag, or null
+     * @return the language tag, trimmed and in lower case; empty for null
+     */
+    protected static String normaliseLang(@Nullable String lang) {
+        if (lang == null) {
+            return "";
+        }
+        return lang.trim().toLowerCase(Locale.ENGLISH);
+    }
+
     @Override
     public OWLLiteral getOWLLiteral(int value) {
         return new OWLLiteralImplInteger(value);
@@ -42,4 +42,14 @@ public abstract class OWLDataPropertyCharacteristicAxiomImpl extends OWLProperty
     public OWLDataPropertyExpression getProperty() {
         return property;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? getProperty() : annotations;
+    }
 }
@@ -50,4 +50,14 @@ public class OWLDataPropertyImpl extends OWLObjectImpl implements OWLDataPropert
     public boolean isBuiltIn() {
         return builtin;
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return iri;
+    }
 }
@@ -70,4 +70,21 @@ public class OWLDatatypeDefinitionAxiomImpl extends OWLAxiomImpl
     public OWLDataRange getDataRange() {
         return dataRange;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getDatatype();
+            case 1:
+                return getDataRange();
+            default:
+                return annotations;
+        }
+    }
 }
@@ -108,4 +108,14 @@ public class OWLDatatypeImpl extends OWLObjectImpl implements OWLDatatype {
     public boolean isOWLDatatype() {
         return true;
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return iri;
+    }
 }
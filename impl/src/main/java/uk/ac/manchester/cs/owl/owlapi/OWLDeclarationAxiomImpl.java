@@ -58,4 +58,14 @@ public class OWLDeclarationAxiomImpl extends OWLAxiomImpl implements OWLDeclarat
     public OWLEntity getEntity() {
         return entity;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? getEntity() : annotations;
+    }
 }
@@ -100,4 +100,21 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements OWLD
     public OWLDisjointClassesAxiom getOWLDisjointClassesAxiom() {
         return new OWLDisjointClassesAxiomImpl(classExpressions, NO_ANNOTATIONS);
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getOWLClass();
+            case 1:
+                return getOperandsAsList();
+            default:
+                return annotations;
+        }
+    }
 }
@@ -84,4 +84,21 @@ public class OWLHasKeyAxiomImpl extends OWLLogicalAxiomImpl implements OWLHasKey
     public List<OWLPropertyExpression> getOperandsAsList() {
         return propertyExpressions;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getClassExpression();
+            case 1:
+                return getOperandsAsList();
+            default:
+                return annotations;
+        }
+    }
 }
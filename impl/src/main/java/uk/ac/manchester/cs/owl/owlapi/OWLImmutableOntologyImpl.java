@@ -17,10 +17,11 @@ import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
-import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.empty;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.streamFromSorted;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
@@ -36,9 +37,7 @@ import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.EntityType;
-import org.semanticweb.owlapi.model.HasAnnotationPropertiesInSignature;
 import org.semanticweb.owlapi.model.HasAxiomsByType;
-import org.semanticweb.owlapi.model.HasDatatypesInSignature;
 import org.semanticweb.owlapi.model.HasSignature;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -82,45 +81,12 @@ import org.semanticweb.owlapi.util.OWLAPIStreamUtils;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
-
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
  */
 public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
-    implements OWLOntology, Serializable {
-    // @formatter:off
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLEntity>>              ontsignatures =                      
-        build(OWLImmutableOntologyImpl::build);
-    protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLAnonymousIndividual>> ontanonCaches =                    build(key -> asList(key.ints.get(OWLAnonymousIndividual.class, OWLAxiom.class).get().keySet().distinct().sorted()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLClass>>              ontclassesSignatures =              build(key -> asList(key.ints.get(OWLClass.class, OWLAxiom.class).get().keySet().distinct().sorted()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLDataProperty>>       ontdataPropertySignatures =         build(key -> asList(key.ints.get(OWLDataProperty.class, OWLAxiom.class).get().keySet().distinct().sorted()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLObjectProperty>>     ontobjectPropertySignatures =       build(key -> asList(key.ints.get(OWLObjectProperty.class, OWLAxiom.class).get().keySet().distinct().sorted()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLDatatype>>           ontdatatypeSignatures =             build(key -> asList(Stream.concat(key.ints.get(OWLDatatype.class, OWLAxiom.class).get().keySet(), key.ints.getOntologyAnnotations().flatMap(HasDatatypesInSignature::datatypesInSignature)).distinct().sorted()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLNamedIndividual>>    ontindividualSignatures =           build(key -> asList(key.ints.get(OWLNamedIndividual.class, OWLAxiom.class).get().keySet().distinct().sorted()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLAnnotationProperty>> ontannotationPropertiesSignatures = build(key -> asList(Stream.concat(key.ints.get(OWLAnnotationProperty.class, OWLAxiom.class, Navigation.IN_SUB_POSITION).get().keySet(),key.ints.getOntologyAnnotations().flatMap(HasAnnotationPropertiesInSignature::annotationPropertiesInSignature)).distinct().sorted()));
-    // @formatter:on
-    protected static void invalidateOntologyCaches(OWLImmutableOntologyImpl o) {
-        ontsignatures.invalidate(o);
-        ontanonCaches.invalidate(o);
-        ontclassesSignatures.invalidate(o);
-        ontdataPropertySignatures.invalidate(o);
-        ontobjectPropertySignatures.invalidate(o);
-        ontdatatypeSignatures.invalidate(o);
-        ontindividualSignatures.invalidate(o);
-        ontannotationPropertiesSignatures.invalidate(o);
-    }
-
-    private static Set<OWLEntity> build(OWLImmutableOntologyImpl key) {
-        Stream<OWLEntity> stream =
-            Stream.of(key.classesInSignature(), key.objectPropertiesInSignature(),
-                key.dataPropertiesInSignature(), key.individualsInSignature(),
-                key.datatypesInSignature(), key.annotationPropertiesInSignature(),
-                key.annotations().flatMap(OWLAnnotation::signature)).flatMap(x -> x);
-        return asSet(stream.distinct().sorted());
-    }
-
+    implements OWLOntology, HasSnapshot, Serializable {
     @Nullable
     protected OWLOntologyManager manager;
     protected OWLDataFactory df;
@@ -134,6 +100,26 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
         this.manager = checkNotNull(manager, "manager cannot be null");
         this.ontologyID = checkNotNull(ontologyID, "ontologyID cannot be null");
         df = manager.getOWLDataFactory();
+        ints.setDataFactory(df);
+    }
+
+    /**
+     * @param manager ontology manager
+     * @param ontologyID ontology id
+     * @param ints indexes to use
+     */
+    protected OWLImmutableOntologyImpl(OWLOntologyManager manager, OWLOntologyID ontologyID,
+        Internals ints) {
+        super(ints);
+        this.manager = checkNotNull(manager, "manager cannot be null");
+        this.ontologyID = checkNotNull(ontologyID, "ontologyID cannot be null");
+        df = manager.getOWLDataFactory();
+        ints.setDataFactory(df);
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        ints.setDataFactory(df);
     }
 
     private static void add(Set<IRI> punned, Set<IRI> test, OWLEntity e) {
@@ -168,6 +154,11 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
         this.manager = manager;
     }
 
+    @Override
+    public OWLOntology snapshot() {
+        return new OWLOntologySnapshotImpl(getOWLOntologyManager(), ontologyID, ints.snapshot());
+    }
+
     @Override
     public OWLOntologyID getOntologyID() {
         return ontologyID;
@@ -392,52 +383,49 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public boolean containsEntityInSignature(OWLEntity owlEntity) {
-        // Do not use the cached signature if it has not been created already.
-        // Creating the cache while this method is called during updates leads to very expensive
-        // lookups.
-        Set<OWLEntity> set = ontsignatures.getIfPresent(this);
-        if (set == null) {
-            if (ints.containsReference(owlEntity)) {
-                return true;
-            }
-            return annotations().flatMap(OWLAnnotation::signature).anyMatch(owlEntity::equals);
+        if (ints.containsReference(owlEntity)) {
+            return true;
         }
-        return set.contains(owlEntity);
+        return annotations().flatMap(OWLAnnotation::signature).anyMatch(owlEntity::equals);
     }
 
     @Override
     public Stream<OWLEntity> signature() {
-        return streamFromSorted(ontsignatures.get(this));
+        // the per type signatures are sorted, and entity types sort in this order
+        return Stream.of(ints.getClassesInSignature(), ints.getObjectPropertiesInSignature(),
+            ints.getDataPropertiesInSignature(), ints.getIndividualsInSignature(),
+            ints.getAnnotationPropertiesInSignature(), ints.getDatatypesInSignature())
+            .flatMap(List::stream);
     }
 
     @Override
     public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
-        return streamFromSorted(ontanonCaches.get(this));
+        return streamFromSorted(ints.getAnonymousIndividualsInSignature());
     }
 
     @Override
     public Stream<OWLClass> classesInSignature() {
-        return streamFromSorted(ontclassesSignatures.get(this));
+        return streamFromSorted(ints.getClassesInSignature());
     }
 
     @Override
     public Stream<OWLDataProperty> dataPropertiesInSignature() {
-        return streamFromSorted(ontdataPropertySignatures.get(this));
+        return streamFromSorted(ints.getDataPropertiesInSignature());
     }
 
     @Override
     public Stream<OWLObjectProperty> objectPropertiesInSignature() {
-        return streamFromSorted(ontobjectPropertySignatures.get(this));
+        return streamFromSorted(ints.getObjectPropertiesInSignature());
     }
 
     @Override
     public Stream<OWLNamedIndividual> individualsInSignature() {
-        return streamFromSorted(ontindividualSignatures.get(this));
+        return streamFromSorted(ints.getIndividualsInSignature());
     }
 
     @Override
     public Stream<OWLDatatype> datatypesInSignature() {
-        return streamFromSorted(ontdatatypeSignatures.get(this));
+        return streamFromSorted(ints.getDatatypesInSignature());
     }
 
     @Override
@@ -447,7 +435,7 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public Stream<OWLAnnotationProperty> annotationPropertiesInSignature() {
-        return streamFromSorted(ontannotationPropertiesSignatures.get(this));
+        return streamFromSorted(ints.getAnnotationPropertiesInSignature());
     }
 
     @Override
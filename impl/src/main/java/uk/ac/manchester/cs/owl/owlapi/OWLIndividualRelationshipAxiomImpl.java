@@ -62,4 +62,23 @@ public abstract class OWLIndividualRelationshipAxiomImpl<P extends OWLPropertyEx
     public O getObject() {
         return o;
     }
+
+    @Override
+    protected int componentCount() {
+        return 4;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getSubject();
+            case 1:
+                return getProperty();
+            case 2:
+                return getObject();
+            default:
+                return annotations;
+        }
+    }
 }
@@ -0,0 +1,124 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObject;
+
+/**
+ * An OWLLiteral with datatype xsd:string or rdf:langString, created by a
+ * {@link LiteralDictionary}. The lexical form is either a string or a {@link CompactLexicalForm},
+ * which is decoded on each call to {@link #getLiteral()}. Equal to, and with the same hash code
+ * as, the {@link OWLLiteralImplString} or {@link OWLLiteralImplPlain} with the same lexical form
+ * and language tag; instances are serialized as those classes.
+ *
+ * @author ignazio
+ */
+final class OWLLiteralImplCompact extends OWLObjectImpl implements OWLLiteral {
+
+    private final transient Object lexical;
+    private final String lang;
+
+    /**
+     * @param lexical the lexical form, as a string or a compact form
+     * @param lang the normalised language tag; empty for xsd:string literals
+     */
+    OWLLiteralImplCompact(Object lexical, String lang) {
+        this.lexical = lexical;
+        this.lang = lang;
+    }
+
+    @Override
+    public String getLiteral() {
+        if (lexical instanceof CompactLexicalForm) {
+            return ((CompactLexicalForm) lexical).decode();
+        }
+        return (String) lexical;
+    }
+
+    @Override
+    public boolean hasLang() {
+        return !lang.isEmpty();
+    }
+
+    @Override
+    public String getLang() {
+        return lang;
+    }
+
+    @Override
+    public boolean hasLang(@Nullable String l) {
+        if (l == null || l.isEmpty()) {
+            return lang.isEmpty();
+        }
+        return lang.equalsIgnoreCase(l.trim());
+    }
+
+    @Override
+    public OWLDatatype getDatatype() {
+        return lang.isEmpty() ? InternalizedEntities.XSDSTRING : InternalizedEntities.LANGSTRING;
+    }
+
+    @Override
+    public int initHashCode() {
+        int hash = hashIndex();
+        hash = OWLObject.hashIteration(hash, getDatatype().hashCode());
+        // the lexical form is not decoded to compute the hash code
+        int lexicalHash = lexical instanceof CompactLexicalForm
+            ? ((CompactLexicalForm) lexical).stringHash() : lexical.hashCode();
+        hash = OWLObject.hashIteration(hash, lexicalHash * 65536);
+        return OWLObject.hashIteration(hash, lang.hashCode());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof OWLLiteralImplCompact) {
+            // avoids decoding in the dictionary, which probes with a literal holding a string
+            OWLLiteralImplCompact other = (OWLLiteralImplCompact) obj;
+            return hashCode() == other.hashCode() && lang.equals(other.lang)
+                && sameLexicalForm(lexical, other.lexical);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private static boolean sameLexicalForm(Object a, Object b) {
+        if (a instanceof CompactLexicalForm) {
+            if (b instanceof CompactLexicalForm) {
+                return ((CompactLexicalForm) a).decode().equals(((CompactLexicalForm) b).decode());
+            }
+            return ((CompactLexicalForm) a).contentEquals((String) b);
+        }
+        if (b instanceof CompactLexicalForm) {
+            return ((CompactLexicalForm) b).contentEquals((String) a);
+        }
+        return a.equals(b);
+    }
+
+    private Object writeReplace() {
+        if (lang.isEmpty()) {
+            return new OWLLiteralImplString(getLiteral());
+        }
+        return new OWLLiteralImplPlain(getLiteral(), lang);
+    }
+}
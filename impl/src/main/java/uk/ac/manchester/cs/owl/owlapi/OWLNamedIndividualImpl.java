@@ -41,4 +41,14 @@ public class OWLNamedIndividualImpl extends OWLIndividualImpl implements OWLName
     public IRI getIRI() {
         return iri;
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return iri;
+    }
 }
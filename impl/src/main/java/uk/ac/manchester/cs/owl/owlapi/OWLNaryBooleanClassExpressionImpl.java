@@ -48,4 +48,14 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends OWLAnonymousClas
     public List<OWLClassExpression> getOperandsAsList() {
         return operands;
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return operands;
+    }
 }
@@ -69,4 +69,14 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
         }
         return result;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? classExpressions : annotations;
+    }
 }
@@ -58,4 +58,14 @@ public abstract class OWLNaryIndividualAxiomImpl extends OWLIndividualAxiomImpl
     public List<OWLIndividual> getOperandsAsList() {
         return individuals;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? individuals : annotations;
+    }
 }
@@ -60,4 +60,14 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression>
     public Set<P> getPropertiesMinus(P property) {
         return asUnorderedSet(properties.stream().filter(x -> !x.equals(property)));
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? properties : annotations;
+    }
 }
@@ -42,4 +42,14 @@ public class OWLObjectComplementOfImpl extends OWLAnonymousClassExpressionImpl i
     public OWLClassExpression getOperand() {
         return operand;
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return getOperand();
+    }
 }
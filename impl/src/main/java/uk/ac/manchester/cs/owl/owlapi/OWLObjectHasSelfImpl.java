@@ -37,4 +37,14 @@ public class OWLObjectHasSelfImpl extends OWLAnonymousClassExpressionImpl implem
     public OWLObjectPropertyExpression getProperty() {
         return property;
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return getProperty();
+    }
 }
@@ -13,18 +13,15 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
-import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.compareIterators;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.equalStreams;
-import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.streamFromSorted;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -44,10 +41,6 @@ import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.util.OWLClassExpressionCollector;
 
-import com.github.benmanes.caffeine.cache.CacheLoader;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
-
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -60,74 +53,72 @@ public abstract class OWLObjectImpl
      */
     protected static final Set<OWLAnnotation> NO_ANNOTATIONS = Collections.emptySet();
 
-    // @formatter:off
-    protected static LoadingCache<OWLObjectImpl, Set<OWLEntity>>              signatures =                      build(key -> key.addSignatureEntitiesToSet(new TreeSet<>()));
-    protected static LoadingCache<OWLObjectImpl, Set<OWLAnonymousIndividual>> anonCaches =                      build(key -> key.addAnonymousIndividualsToSet(new TreeSet<>()));
-    protected static LoadingCache<OWLObjectImpl, List<OWLClass>>              classesSignatures =               build(key -> cacheSig(key, OWLEntity::isOWLClass,               OWLEntity::asOWLClass));
-    protected static LoadingCache<OWLObjectImpl, List<OWLDataProperty>>       dataPropertySignatures =          build(key -> cacheSig(key, OWLEntity::isOWLDataProperty,        OWLEntity::asOWLDataProperty));
-    protected static LoadingCache<OWLObjectImpl, List<OWLObjectProperty>>     objectPropertySignatures =        build(key -> cacheSig(key, OWLEntity::isOWLObjectProperty,      OWLEntity::asOWLObjectProperty));
-    protected static LoadingCache<OWLObjectImpl, List<OWLDatatype>>           datatypeSignatures =              build(key -> cacheSig(key, OWLEntity::isOWLDatatype,            OWLEntity::asOWLDatatype));
-    protected static LoadingCache<OWLObjectImpl, List<OWLNamedIndividual>>    individualSignatures =            build(key -> cacheSig(key, OWLEntity::isOWLNamedIndividual,     OWLEntity::asOWLNamedIndividual));
-    protected static LoadingCache<OWLObjectImpl, List<OWLAnnotationProperty>> annotationPropertiesSignatures =  build(key -> cacheSig(key, OWLEntity::isOWLAnnotationProperty,  OWLEntity::asOWLAnnotationProperty));
-    // @formatter:on
-    static <Q, T> LoadingCache<Q, T> build(CacheLoader<Q, T> c) {
-        return Caffeine.newBuilder().weakKeys().maximumSize(size()).build(c);
-    }
-
     protected static long size() {
         return ConfigurationOptions.CACHE_SIZE.getValue(Integer.class, Collections.emptyMap())
             .longValue();
     }
 
-    static <T> List<T> cacheSig(OWLObject o, Predicate<OWLEntity> p, Function<OWLEntity, T> f) {
-        return asList(o.signature().filter(p).map(f));
-    }
-
     protected int hashCode = 0;
+    /**
+     * Entities and anonymous individuals in the signature of this object, sorted; null until the
+     * signature is first requested. Objects are immutable, so the array never changes.
+     */
+    @Nullable
+    private transient volatile OWLObject[] sortedSignature;
+
+    private OWLObject[] sortedSignature() {
+        OWLObject[] array = sortedSignature;
+        if (array == null) {
+            // benign race: concurrent callers compute equal arrays
+            array = CompactSignature.of(this);
+            sortedSignature = array;
+        }
+        return array;
+    }
 
     @Override
     public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
-        return anonCaches.get(this).stream();
+        return CompactSignature.ofType(sortedSignature(), CompactSignature.ANONYMOUS_INDIVIDUAL);
     }
 
     @Override
     public Stream<OWLEntity> signature() {
-        return signatures.get(this).stream();
+        return CompactSignature.entities(sortedSignature());
     }
 
     @Override
     public boolean containsEntityInSignature(OWLEntity owlEntity) {
-        return signatures.get(this).contains(owlEntity);
+        return CompactSignature.contains(sortedSignature(), owlEntity);
     }
 
     @Override
     public Stream<OWLClass> classesInSignature() {
-        return streamFromSorted(classesSignatures.get(this));
+        return CompactSignature.ofType(sortedSignature(), CompactSignature.CLASS);
     }
 
     @Override
     public Stream<OWLDataProperty> dataPropertiesInSignature() {
-        return streamFromSorted(dataPropertySignatures.get(this));
+        return CompactSignature.ofType(sortedSignature(), CompactSignature.DATA_PROPERTY);
     }
 
     @Override
     public Stream<OWLObjectProperty> objectPropertiesInSignature() {
-        return streamFromSorted(objectPropertySignatures.get(this));
+        return CompactSignature.ofType(sortedSignature(), CompactSignature.OBJECT_PROPERTY);
     }
 
     @Override
     public Stream<OWLNamedIndividual> individualsInSignature() {
-        return streamFromSorted(individualSignatures.get(this));
+        return CompactSignature.ofType(sortedSignature(), CompactSignature.NAMED_INDIVIDUAL);
     }
 
     @Override
     public Stream<OWLDatatype> datatypesInSignature() {
-        return streamFromSorted(datatypeSignatures.get(this));
+        return CompactSignature.ofType(sortedSignature(), CompactSignature.DATATYPE);
     }
 
     @Override
     public Stream<OWLAnnotationProperty> annotationPropertiesInSignature() {
-        return streamFromSorted(annotationPropertiesSignatures.get(this));
+        return CompactSignature.ofType(sortedSignature(), CompactSignature.ANNOTATION_PROPERTY);
     }
 
     @Override
@@ -150,9 +141,93 @@ public abstract class OWLObjectImpl
         if (typeIndex() != other.typeIndex() || hashCode() != other.hashCode()) {
             return false;
         }
+        int count = componentCount();
+        if (count >= 0 && other instanceof OWLObjectImpl
+            && ((OWLObjectImpl) other).componentCount() == count) {
+            OWLObjectImpl o = (OWLObjectImpl) other;
+            for (int i = 0; i < count; i++) {
+                if (!equalComponents(component(i), o.component(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
         return equalStreams(components(), other.components());
     }
 
+    /**
+     * Indexed access to the components of this object, used by {@link #equals(Object)} and
+     * {@link #compareTo(OWLObject)} to avoid creating streams and iterators. Subclasses that override
+     * this method must also override {@link #component(int)}.
+     *
+     * @return the number of elements in {@link #components()}, or -1 if indexed access is not
+     *         supported
+     */
+    protected int componentCount() {
+        return -1;
+    }
+
+    /**
+     * @param index component index, between 0 and {@link #componentCount()} excluded
+     * @return the component at the index, in the same order as {@link #components()}; lists must be
+     *         returned as stored, not copied
+     */
+    protected Object component(int index) {
+        throw new IndexOutOfBoundsException("No indexed components: " + index);
+    }
+
+    private static boolean equalComponents(Object o1, Object o2) {
+        if (o1 == o2) {
+            return true;
+        }
+        if (o1 instanceof RandomAccess && o2 instanceof RandomAccess && o1 instanceof List
+            && o2 instanceof List) {
+            List<?> l1 = (List<?>) o1;
+            List<?> l2 = (List<?>) o2;
+            int size = l1.size();
+            if (size != l2.size()) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (!l1.get(i).equals(l2.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return o1.equals(o2);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareComponents(Object o1, Object o2) {
+        if (o1 == o2) {
+            return 0;
+        }
+        if (o1 instanceof RandomAccess && o2 instanceof RandomAccess && o1 instanceof List
+            && o2 instanceof List) {
+            List<?> l1 = (List<?>) o1;
+            List<?> l2 = (List<?>) o2;
+            int size = Math.min(l1.size(), l2.size());
+            for (int i = 0; i < size; i++) {
+                int diff = compareComponents(l1.get(i), l2.get(i));
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return Boolean.compare(l1.size() > size, l2.size() > size);
+        }
+        if (o1 instanceof Collection && o2 instanceof Collection) {
+            return compareIterators(((Collection<?>) o1).iterator(),
+                ((Collection<?>) o2).iterator());
+        }
+        if (o1 instanceof Comparable && o2 instanceof Comparable) {
+            return ((Comparable) o1).compareTo(o2);
+        }
+        // same failure as the iterator based comparison
+        return compareIterators(Collections.singleton(o1).iterator(),
+            Collections.singleton(o2).iterator());
+    }
+
     @Override
     public int hashCode() {
         if (hashCode == 0) {
@@ -169,6 +244,18 @@ public abstract class OWLObjectImpl
         if (diff != 0) {
             return diff;
         }
+        int count = componentCount();
+        if (count >= 0 && o instanceof OWLObjectImpl
+            && ((OWLObjectImpl) o).componentCount() == count) {
+            OWLObjectImpl other = (OWLObjectImpl) o;
+            for (int i = 0; i < count; i++) {
+                diff = compareComponents(component(i), other.component(i));
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return 0;
+        }
         return compareIterators(components().iterator(), o.components().iterator());
     }
 
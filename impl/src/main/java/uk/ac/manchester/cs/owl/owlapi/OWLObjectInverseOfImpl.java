@@ -39,4 +39,14 @@ public class OWLObjectInverseOfImpl extends OWLObjectImpl implements OWLObjectIn
     public OWLObjectProperty getNamedProperty() {
         return inverseProperty;
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return getInverse();
+    }
 }
@@ -71,4 +71,14 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
         return new OWLObjectUnionOfImpl(
             sorted(OWLClassExpression.class, individuals().map(OWLObjectOneOfImpl::new)));
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return values;
+    }
 }
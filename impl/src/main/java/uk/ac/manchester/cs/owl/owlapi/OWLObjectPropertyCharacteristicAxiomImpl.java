@@ -43,4 +43,14 @@ public abstract class OWLObjectPropertyCharacteristicAxiomImpl extends
     public OWLObjectPropertyExpression getProperty() {
         return property;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? getProperty() : annotations;
+    }
 }
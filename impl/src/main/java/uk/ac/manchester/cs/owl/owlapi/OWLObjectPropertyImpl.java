@@ -56,4 +56,14 @@ public class OWLObjectPropertyImpl extends OWLObjectImpl implements OWLObjectPro
     public OWLObjectInverseOf getInverseProperty() {
         return new OWLObjectInverseOfImpl(this);
     }
+
+    @Override
+    protected int componentCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object component(@SuppressWarnings("unused") int index) {
+        return iri;
+    }
 }
@@ -14,9 +14,11 @@ package uk.ac.manchester.cs.owl.owlapi;
 
 import static org.semanticweb.owlapi.model.parameters.ChangeApplied.NO_OPERATION;
 import static org.semanticweb.owlapi.model.parameters.ChangeApplied.SUCCESSFULLY;
+import static org.semanticweb.owlapi.model.parameters.ChangeApplied.UNSUCCESSFULLY;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -25,6 +27,7 @@ import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.ChangeDetails;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLMutableOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyChangeVisitorEx;
@@ -52,15 +55,43 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         super(manager, ontologyID);
     }
 
+    /**
+     * @param manager ontology manager
+     * @param ontologyID ontology id
+     * @param ints indexes to use
+     */
+    protected OWLOntologyImpl(OWLOntologyManager manager, OWLOntologyID ontologyID,
+        Internals ints) {
+        super(manager, ontologyID, ints);
+    }
+
     @Override
     public ChangeApplied applyDirectChange(OWLOntologyChange change) {
+        if (ints.isFrozen()) {
+            return UNSUCCESSFULLY;
+        }
         OWLOntologyChangeFilter changeFilter = new OWLOntologyChangeFilter();
         return change.accept(changeFilter);
     }
 
+    @Override
+    public ChangeApplied applyDirectBulkAdd(Collection<? extends OWLAxiom> axioms) {
+        if (ints.isFrozen()) {
+            return UNSUCCESSFULLY;
+        }
+        if (ints.addAxioms(axioms).isEmpty()) {
+            return NO_OPERATION;
+        }
+        return SUCCESSFULLY;
+    }
+
     @Override
     public ChangeDetails applyChangesAndGetDetails(List<? extends OWLOntologyChange> changes) {
         List<OWLOntologyChange> enactedChanges = new ArrayList<>();
+        if (ints.isFrozen()) {
+            // frozen indexes cannot be modified
+            return new ChangeDetails(UNSUCCESSFULLY, enactedChanges);
+        }
         ChangeApplied appliedChanges = SUCCESSFULLY;
         OWLOntologyChangeFilter changeFilter = new OWLOntologyChangeFilter();
         for (OWLOntologyChange change : changes) {
@@ -84,7 +115,6 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         @Override
         public ChangeApplied visit(RemoveAxiom change) {
             if (ints.removeAxiom(change.getAxiom())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -97,7 +127,6 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
                 // force hashcode recomputation
                 hashCode = 0;
                 ontologyID = id;
-                invalidateOntologyCaches(OWLOntologyImpl.this);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -106,7 +135,6 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         @Override
         public ChangeApplied visit(AddAxiom change) {
             if (ints.addAxiom(change.getAxiom())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -115,7 +143,6 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         @Override
         public ChangeApplied visit(AddImport change) {
             if (ints.addImportsDeclaration(change.getImportDeclaration())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -124,7 +151,6 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         @Override
         public ChangeApplied visit(RemoveImport change) {
             if (ints.removeImportsDeclaration(change.getImportDeclaration())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -133,7 +159,6 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         @Override
         public ChangeApplied visit(AddOntologyAnnotation change) {
             if (ints.addOntologyAnnotation(change.getAnnotation())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -142,7 +167,6 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         @Override
         public ChangeApplied visit(RemoveOntologyAnnotation change) {
             if (ints.removeOntologyAnnotation(change.getAnnotation())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -674,6 +674,29 @@ public class OWLOntologyManagerImpl
         return applyChanges(asList(axioms.map(ax -> new AddAxiom(ont, ax))));
     }
 
+    @Override
+    public ChangeApplied addAxiomsInBulk(OWLOntology ont, Collection<? extends OWLAxiom> axioms) {
+        if (!(ont instanceof OWLMutableOntology)) {
+            // the regular path reports the failure
+            return addAxioms(ont, axioms);
+        }
+        writeLock.lock();
+        try {
+            Collection<? extends OWLAxiom> toAdd = axioms;
+            OWLOntologyLoaderConfiguration ontologyConfig =
+                ontologyConfigurationsByOntologyID.get(ont.getOntologyID());
+            if (ontologyConfig != null && !ontologyConfig.isLoadAnnotationAxioms()) {
+                toAdd = asList(axioms.stream().filter(ax -> !(ax instanceof OWLAnnotationAxiom)));
+            }
+            fireBeginChanges(toAdd.size());
+            ChangeApplied result = ((OWLMutableOntology) ont).applyDirectBulkAdd(toAdd);
+            fireEndChanges();
+            return result;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     @Override
     public ChangeApplied removeAxiom(OWLOntology ont, OWLAxiom axiom) {
         return applyChanges(list(new RemoveAxiom(ont, axiom)));
@@ -1039,6 +1062,12 @@ public class OWLOntologyManagerImpl
     protected OWLOntology loadOntology(@Nullable IRI ontologyIRI,
         OWLOntologyDocumentSource documentSource, OWLOntologyLoaderConfiguration configuration)
         throws OWLOntologyCreationException {
+        if (configuration.shouldLoadImportsInParallel() && loadCount.get() == 0) {
+            OWLOntology o = loadWithImportsInParallel(documentSource, configuration);
+            if (o != null) {
+                return o;
+            }
+        }
         writeLock.lock();
         try {
             if (loadCount.get() != importsLoadCount.get()) {
@@ -1109,9 +1138,7 @@ public class OWLOntologyManagerImpl
                     // Store the ontology to the document IRI mapping
                     documentIRIsByID.put(ontology.getOntologyID(), documentSource.getDocumentIRI());
                     ontologyConfigurationsByOntologyID.put(ontology.getOntologyID(), configuration);
-                    if (ontology instanceof HasTrimToSize && configuration.shouldTrimToSize()) {
-                        ((HasTrimToSize) ontology).trimToSize();
-                    }
+                    afterLoad(ontology, configuration);
                     return ontology;
                 } catch (OWLOntologyRenameException e) {
                     // We loaded an ontology from a document and the
@@ -1124,6 +1151,107 @@ public class OWLOntologyManagerImpl
         return null;
     }
 
+    private static void afterLoad(OWLOntology ontology,
+        OWLOntologyLoaderConfiguration configuration) {
+        if (ontology instanceof HasTrimToSize && configuration.shouldTrimToSize()) {
+            ((HasTrimToSize) ontology).trimToSize();
+        }
+        if (ontology instanceof HasInitializeIndexes
+            && configuration.shouldInitializeIndexesAfterLoad()) {
+            ((HasInitializeIndexes) ontology).initializeIndexes()
+                .forEach((index, time) -> LOGGER.debug("Index {} built in {} ns", index, time));
+        }
+        if (ontology instanceof HasFreeze && configuration.shouldFreezeAfterLoad()) {
+            ((HasFreeze) ontology).freeze();
+        }
+    }
+
+    /**
+     * Parses the document and its imports closure concurrently, then adds all the parsed
+     * ontologies to this manager in one step. The imports of the added ontologies are then
+     * requested as in a sequential load; they are all found in the manager, except for documents
+     * that could not be parsed on their own, which are loaded sequentially.
+     *
+     * @param documentSource root document
+     * @param configuration load configuration
+     * @return the loaded ontology, or null if the root document could not be parsed on its own
+     *         and must be loaded sequentially
+     * @throws OWLOntologyCreationException if the load is interrupted
+     */
+    @Nullable
+    private OWLOntology loadWithImportsInParallel(OWLOntologyDocumentSource documentSource,
+        OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        List<ParallelImportsLoader.ParsedDocument> documents = new ParallelImportsLoader(this,
+            configuration, iri -> contains(iri) || documentIRIsByID.containsValue(iri),
+            iri -> getDocumentIRIFromMappers(new OWLOntologyID(optional(iri), emptyOptional())))
+                .load(documentSource);
+        if (!documents.get(0).isComplete()) {
+            return null;
+        }
+        writeLock.lock();
+        try {
+            loadCount.incrementAndGet();
+            broadcastChanges.set(false);
+            List<OWLOntology> added = new ArrayList<>();
+            try {
+                for (ParallelImportsLoader.ParsedDocument document : documents) {
+                    if (!document.isComplete()) {
+                        continue;
+                    }
+                    OWLOntology ontology = verifyNotNull(document.ontology);
+                    OWLOntologyID id = ontology.getOntologyID();
+                    IRI documentIRI = document.source.getDocumentIRI();
+                    if (ontologiesByID.containsKey(id)
+                        || documentIRIsByID.containsValue(documentIRI)) {
+                        continue;
+                    }
+                    boolean imported = !added.isEmpty();
+                    fireStartedLoadingEvent(id, documentIRI, imported);
+                    ontology.setOWLOntologyManager(this);
+                    if (ontology instanceof OWLMutableOntology) {
+                        ((OWLMutableOntology) ontology).setLock(lock);
+                    }
+                    ontologiesByID.put(id, ontology);
+                    documentIRIsByID.put(id, documentIRI);
+                    ontologyConfigurationsByOntologyID.put(id, configuration);
+                    ontologyFormatsByOntology.put(id, verifyNotNull(document.format));
+                    added.add(ontology);
+                    fireFinishedLoadingEvent(id, documentIRI, imported, null);
+                }
+                if (added.isEmpty() || added.get(0) != documents.get(0).ontology) {
+                    // the root is already in this manager; the sequential load reports it
+                    added.forEach(o -> removeOntology(o.getOntologyID()));
+                    return null;
+                }
+                resetImportsClosureCache();
+                for (OWLOntology ontology : added) {
+                    ontology.importsDeclarations()
+                        .forEach(d -> makeLoadImportRequest(d, configuration));
+                }
+            } catch (RuntimeException e) {
+                added.forEach(o -> removeOntology(o.getOntologyID()));
+                if (e instanceof OWLRuntimeException
+                    && e.getCause() instanceof OWLOntologyCreationException) {
+                    throw (OWLOntologyCreationException) e.getCause();
+                }
+                throw e;
+            } finally {
+                if (loadCount.decrementAndGet() == 0) {
+                    broadcastChanges.set(true);
+                }
+            }
+            for (OWLOntology ontology : added) {
+                if (configuration.shouldRepairIllegalPunnings()) {
+                    fixIllegalPunnings(ontology);
+                }
+                afterLoad(ontology, configuration);
+            }
+            return added.get(0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     protected void fixIllegalPunnings(OWLOntology o) {
         Collection<IRI> illegals = OWLDocumentFormat.determineIllegalPunnings(true,
             Imports.INCLUDED.stream(o).flatMap(HasSignature::unsortedSignature),
@@ -0,0 +1,68 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * An ontology over a snapshot of the indexes of another ontology, see
+ * {@link HasSnapshot#snapshot()}. The indexes are frozen, so changes are rejected as for a frozen
+ * ontology. The snapshot is not managed by its manager, so imports are resolved here rather than by
+ * the manager; other versions of the snapshotted ontology are left out of the imports closure.
+ *
+ * @author ignazio
+ */
+public class OWLOntologySnapshotImpl extends OWLOntologyImpl {
+
+    /**
+     * @param manager manager of the snapshotted ontology
+     * @param ontologyID ontology id at the time of the snapshot
+     * @param ints snapshot of the indexes
+     */
+    public OWLOntologySnapshotImpl(OWLOntologyManager manager, OWLOntologyID ontologyID,
+        Internals ints) {
+        super(manager, ontologyID, ints);
+    }
+
+    @Override
+    public OWLOntology snapshot() {
+        return this;
+    }
+
+    @Override
+    public Stream<OWLOntology> directImports() {
+        OWLOntologyManager m = getOWLOntologyManager();
+        return importsDeclarations().map(m::getImportedOntology).filter(Objects::nonNull)
+            .filter(o -> !o.getOntologyID().equals(ontologyID));
+    }
+
+    @Override
+    public Stream<OWLOntology> imports() {
+        Set<OWLOntology> result = new LinkedHashSet<>();
+        directImports().filter(result::add).forEach(o -> o.importsClosure()
+            .filter(x -> !x.getOntologyID().equals(ontologyID)).forEach(result::add));
+        return result.stream();
+    }
+
+    @Override
+    public Stream<OWLOntology> importsClosure() {
+        return Stream.concat(Stream.of(this), imports());
+    }
+}
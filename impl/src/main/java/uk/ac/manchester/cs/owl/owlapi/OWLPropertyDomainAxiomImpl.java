@@ -46,4 +46,21 @@ public abstract class OWLPropertyDomainAxiomImpl<P extends OWLPropertyExpression
     public OWLClassExpression getDomain() {
         return domain;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return getDomain();
+            default:
+                return annotations;
+        }
+    }
 }
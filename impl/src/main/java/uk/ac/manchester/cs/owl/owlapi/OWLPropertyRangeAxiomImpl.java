@@ -45,4 +45,21 @@ public abstract class OWLPropertyRangeAxiomImpl<P extends OWLPropertyExpression,
     public R getRange() {
         return range;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return getRange();
+            default:
+                return annotations;
+        }
+    }
 }
@@ -39,4 +39,14 @@ public abstract class OWLQuantifiedRestrictionImpl<F extends OWLPropertyRange> e
     public F getFiller() {
         return filler;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? getProperty() : getFiller();
+    }
 }
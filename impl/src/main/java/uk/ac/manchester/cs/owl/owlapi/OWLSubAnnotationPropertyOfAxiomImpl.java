@@ -70,4 +70,21 @@ public class OWLSubAnnotationPropertyOfAxiomImpl extends OWLAxiomImpl
     public OWLAnnotationProperty getSuperProperty() {
         return superProperty;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getSubProperty();
+            case 1:
+                return getSuperProperty();
+            default:
+                return annotations;
+        }
+    }
 }
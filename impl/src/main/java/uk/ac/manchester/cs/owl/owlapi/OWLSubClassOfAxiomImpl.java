@@ -72,4 +72,21 @@ public class OWLSubClassOfAxiomImpl extends OWLClassAxiomImpl implements OWLSubC
     public boolean isGCI() {
         return subClass.isAnonymous();
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getSubClass();
+            case 1:
+                return getSuperClass();
+            default:
+                return annotations;
+        }
+    }
 }
@@ -52,4 +52,21 @@ public abstract class OWLSubPropertyAxiomImpl<P extends OWLPropertyExpression>
     public P getSuperProperty() {
         return superProperty;
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return getSubProperty();
+            case 1:
+                return getSuperProperty();
+            default:
+                return annotations;
+        }
+    }
 }
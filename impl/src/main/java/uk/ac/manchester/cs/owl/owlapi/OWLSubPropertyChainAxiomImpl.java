@@ -21,6 +21,7 @@ import java.util.stream.Stream;
 
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
 
@@ -69,6 +70,15 @@ public class OWLSubPropertyChainAxiomImpl extends OWLPropertyAxiomImpl
         return new ArrayList<>(propertyChain);
     }
 
+    @Override
+    public int initHashCode() {
+        // same as the interface default, without the defensive copy of the chain
+        int hash = hashIndex();
+        hash = OWLObject.hashIteration(hash, propertyChain.hashCode());
+        hash = OWLObject.hashIteration(hash, superProperty.hashCode());
+        return OWLObject.hashIteration(hash, annotations.hashCode());
+    }
+
     @Override
     public OWLObjectPropertyExpression getSuperProperty() {
         return superProperty;
@@ -83,4 +93,21 @@ public class OWLSubPropertyChainAxiomImpl extends OWLPropertyAxiomImpl
             return false;
         }
     }
+
+    @Override
+    protected int componentCount() {
+        return 3;
+    }
+
+    @Override
+    protected Object component(int index) {
+        switch (index) {
+            case 0:
+                return propertyChain;
+            case 1:
+                return getSuperProperty();
+            default:
+                return annotations;
+        }
+    }
 }
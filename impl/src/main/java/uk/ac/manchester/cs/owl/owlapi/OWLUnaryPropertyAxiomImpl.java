@@ -43,4 +43,14 @@ public abstract class OWLUnaryPropertyAxiomImpl<P extends OWLPropertyExpression>
     public P getProperty() {
         return property;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? getProperty() : annotations;
+    }
 }
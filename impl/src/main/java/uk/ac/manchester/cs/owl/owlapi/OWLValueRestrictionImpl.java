@@ -36,4 +36,14 @@ public abstract class OWLValueRestrictionImpl<V extends OWLObject> extends
     public V getFiller() {
         return value;
     }
+
+    @Override
+    protected int componentCount() {
+        return 2;
+    }
+
+    @Override
+    protected Object component(int index) {
+        return index == 0 ? getProperty() : getFiller();
+    }
 }
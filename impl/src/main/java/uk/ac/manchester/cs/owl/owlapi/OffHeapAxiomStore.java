@@ -0,0 +1,311 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.binary.internal.BinaryObjectReader;
+import org.semanticweb.owlapi.binary.internal.BinaryObjectRenderer;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+/**
+ * Axioms encoded in off heap memory, with the binary snapshot encoding. Each stored axiom is
+ * identified by an integer id; indexes keep ids instead of axioms, and axioms are decoded when
+ * read. Strings and IRIs are interned on heap, shared by all the axioms. Axioms are decoded by the
+ * data factory of the owning ontology, so that decoded objects are cached and interned as any other
+ * object created by that factory.
+ * <p>
+ * Ids are reference counted: an axiom is released when no index refers to it any longer. Memory
+ * used by released axioms is not reclaimed until the store is discarded, but ids are reused.
+ * The store is shared by all the indexes of an ontology, so all its methods are synchronized.
+ *
+ * @author ignazio
+ * @since 5.1.18
+ */
+public class OffHeapAxiomStore {
+
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+    private static final int DECODED_CACHE_SIZE = 1024;
+    private final BinaryObjectRenderer encoder = new BinaryObjectRenderer();
+    @Nullable
+    private OWLDataFactory df;
+    @Nullable
+    private BinaryObjectReader decoder;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    /** Chunk index in the high 32 bits and offset in the low 32 bits; -1 for free ids. */
+    private long[] addresses = new long[1024];
+    private int[] hashes = new int[1024];
+    private int[] references = new int[1024];
+    private int[] freeIds = new int[16];
+    private int freeCount = 0;
+    private int nextId = 0;
+    private int size = 0;
+    /** Open addressing table from axiom hash code to id. */
+    private int[] table = emptyTable(2048);
+    private int usedSlots = 0;
+    private long offHeapBytes = 0;
+    /**
+     * Last axiom looked up, and its id. An axiom added to an ontology is put in several indexes in
+     * a row; this avoids decoding it again for each of them.
+     */
+    @Nullable
+    private OWLAxiom lastAxiom;
+    private int lastId = -1;
+    /**
+     * Small direct mapped cache of decoded axioms, indexed by id; large axioms read through many
+     * keys in a row, e.g., disjoint classes axioms, are decoded only once.
+     */
+    private final OWLAxiom[] decoded = new OWLAxiom[DECODED_CACHE_SIZE];
+    private final int[] decodedIds = emptyCache();
+
+    private static int[] emptyCache() {
+        int[] t = new int[DECODED_CACHE_SIZE];
+        Arrays.fill(t, EMPTY);
+        return t;
+    }
+
+    private static int[] emptyTable(int length) {
+        int[] t = new int[length];
+        Arrays.fill(t, EMPTY);
+        return t;
+    }
+
+    /**
+     * @param factory data factory of the owning ontology, used to decode axioms
+     */
+    public synchronized void setDataFactory(OWLDataFactory factory) {
+        if (factory != df) {
+            df = factory;
+            decoder = null;
+        }
+    }
+
+    private BinaryObjectReader decoder() {
+        BinaryObjectReader d = decoder;
+        if (d == null) {
+            OWLDataFactory f = df;
+            if (f == null) {
+                // not owned by an ontology; axioms must decode exactly as they were added,
+                // including degenerate operand sets
+                f = new OWLDataFactoryImpl(
+                    new OWLOntologyLoaderConfiguration().withAllowDuplicatesInConstructSets(true));
+                df = f;
+            }
+            d = new BinaryObjectReader(f, encoder.getStringTable(), encoder.getIRITable());
+            decoder = d;
+        }
+        return d;
+    }
+
+    /**
+     * @param id axiom id
+     * @return the axiom, decoded from off heap memory
+     */
+    public synchronized OWLAxiom get(int id) {
+        int cacheSlot = id & (DECODED_CACHE_SIZE - 1);
+        if (decodedIds[cacheSlot] == id) {
+            return decoded[cacheSlot];
+        }
+        long address = addresses[id];
+        ByteBuffer chunk = chunks.get((int) (address >>> 32)).duplicate();
+        // cast needed for Java 8 compatibility: position(int) returns ByteBuffer from Java 9
+        ((Buffer) chunk).position((int) address);
+        OWLAxiom axiom = decoder().read(chunk);
+        decoded[cacheSlot] = axiom;
+        decodedIds[cacheSlot] = id;
+        return axiom;
+    }
+
+    /**
+     * @param axiom axiom to look up
+     * @return the id of the axiom, or -1 if the axiom is not stored
+     */
+    public synchronized int idOf(OWLAxiom axiom) {
+        if (axiom == lastAxiom) {
+            return lastId;
+        }
+        int id = find(axiom);
+        if (id >= 0) {
+            lastAxiom = axiom;
+            lastId = id;
+        }
+        return id;
+    }
+
+    private int find(OWLAxiom axiom) {
+        int hash = axiom.hashCode();
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask;; slot = (slot + 1) & mask) {
+            int id = table[slot];
+            if (id == EMPTY) {
+                return -1;
+            }
+            if (id != DELETED && hashes[id] == hash && get(id).equals(axiom)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Add a reference to an axiom, storing it if needed.
+     *
+     * @param axiom axiom to reference
+     * @return id of the axiom
+     */
+    public synchronized int acquire(OWLAxiom axiom) {
+        int id = idOf(axiom);
+        if (id < 0) {
+            id = store(axiom);
+        }
+        references[id]++;
+        return id;
+    }
+
+    /**
+     * Add a reference to an axiom already stored.
+     *
+     * @param id axiom id
+     */
+    public synchronized void acquire(int id) {
+        references[id]++;
+    }
+
+    /**
+     * Remove a reference to an axiom; the axiom is released when no references are left.
+     *
+     * @param id axiom id
+     */
+    public synchronized void release(int id) {
+        if (--references[id] > 0) {
+            return;
+        }
+        if (id == lastId) {
+            lastAxiom = null;
+            lastId = -1;
+        }
+        int cacheSlot = id & (DECODED_CACHE_SIZE - 1);
+        if (decodedIds[cacheSlot] == id) {
+            decoded[cacheSlot] = null;
+            decodedIds[cacheSlot] = EMPTY;
+        }
+        int mask = table.length - 1;
+        int slot = spread(hashes[id]) & mask;
+        while (table[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = DELETED;
+        addresses[id] = -1;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+        size--;
+    }
+
+    /**
+     * @return number of axioms stored
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return number of bytes allocated off heap
+     */
+    public synchronized long offHeapBytes() {
+        return offHeapBytes;
+    }
+
+    private int store(OWLAxiom axiom) {
+        if ((usedSlots + 1) * 2 > table.length) {
+            rehash();
+        }
+        byte[] encoded = encoder.encode(axiom);
+        int id = freeCount > 0 ? freeIds[--freeCount] : newId();
+        addresses[id] = append(encoded);
+        hashes[id] = axiom.hashCode();
+        references[id] = 0;
+        int mask = table.length - 1;
+        int slot = spread(hashes[id]) & mask;
+        while (table[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (table[slot] == EMPTY) {
+            usedSlots++;
+        }
+        table[slot] = id;
+        size++;
+        lastAxiom = axiom;
+        lastId = id;
+        return id;
+    }
+
+    private int newId() {
+        if (nextId == addresses.length) {
+            int length = addresses.length * 2;
+            addresses = Arrays.copyOf(addresses, length);
+            hashes = Arrays.copyOf(hashes, length);
+            references = Arrays.copyOf(references, length);
+        }
+        return nextId++;
+    }
+
+    private long append(byte[] encoded) {
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (chunk == null || chunk.remaining() < encoded.length) {
+            // axioms larger than a chunk get a chunk of their own
+            chunk = ByteBuffer.allocateDirect(Math.max(CHUNK_SIZE, encoded.length));
+            offHeapBytes += chunk.capacity();
+            chunks.add(chunk);
+        }
+        long address = ((long) (chunks.size() - 1) << 32) | chunk.position();
+        chunk.put(encoded);
+        return address;
+    }
+
+    private void rehash() {
+        int length = table.length;
+        // only grow if the table is full of live ids rather than deleted slots
+        if (size * 4 > length) {
+            length *= 2;
+        }
+        table = emptyTable(length);
+        usedSlots = 0;
+        int mask = length - 1;
+        for (int id = 0; id < nextId; id++) {
+            if (addresses[id] >= 0) {
+                int slot = spread(hashes[id]) & mask;
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id;
+                usedSlots++;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,427 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
+import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+import com.carrotsearch.hppcrt.cursors.ObjectObjectCursor;
+import com.carrotsearch.hppcrt.maps.IntIntHashMap;
+import com.carrotsearch.hppcrt.maps.ObjectObjectHashMap;
+
+import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitCollectionVisitor;
+import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
+
+/**
+ * A map pointer that keeps values in an {@link OffHeapAxiomStore}: only keys and axiom ids are kept
+ * on heap, and axioms are decoded when read. Locking is the same as in {@link MapPointer}.
+ *
+ * @author ignazio
+ * @param <K> key
+ * @param <V> value
+ */
+public class OffHeapMapPointer<K, V extends OWLAxiom> extends MapPointer<K, V> {
+
+    private final OffHeapAxiomStore store;
+    private final ObjectObjectHashMap<K, Ids> map = new ObjectObjectHashMap<>(17, 0.75F);
+    private boolean initialized;
+    private boolean frozen;
+    private int size = 0;
+    @Nullable
+    private SoftReference<Set<IRI>> iris;
+
+    /**
+     * @param t type of axioms contained
+     * @param v visitor
+     * @param initialized true if initialized
+     * @param i internals containing this pointer
+     * @param valueWithness witness for the value type
+     * @param store store for the values
+     */
+    public OffHeapMapPointer(@Nullable AxiomType<?> t, @Nullable OWLAxiomVisitorEx<?> v,
+        boolean initialized, Internals i, Class<V> valueWithness, OffHeapAxiomStore store) {
+        super(t, v, initialized, i, valueWithness);
+        this.initialized = initialized;
+        this.store = store;
+    }
+
+    /**
+     * Make this pointer read only. Values stay off heap, unlike with {@link FrozenMapPointer}; any
+     * further attempt to add or remove values throws an {@link UnsupportedOperationException}.
+     */
+    public synchronized void freeze() {
+        init();
+        frozen = true;
+    }
+
+    @Override
+    public synchronized boolean isInitialized() {
+        return initialized;
+    }
+
+    @Override
+    public synchronized OffHeapMapPointer<K, V> init() {
+        if (initialized) {
+            return this;
+        }
+        initialized = true;
+        loadInitialValues();
+        return this;
+    }
+
+    /**
+     * Populate the map on first access. Called with the monitor held, after the pointer has been
+     * marked initialized.
+     */
+    @SuppressWarnings("unchecked")
+    protected void loadInitialValues() {
+        if (visitor == null || type == null) {
+            return;
+        }
+        AxiomType<?> t = type;
+        if (visitor instanceof InitVisitor) {
+            InitVisitor<K> v = (InitVisitor<K>) visitor;
+            forEachAxiomToIndex(t, ax -> putInternal(ax.accept(v), (V) ax));
+        } else if (visitor instanceof InitCollectionVisitor) {
+            InitCollectionVisitor<K> v = (InitCollectionVisitor<K>) visitor;
+            forEachAxiomToIndex(t,
+                ax -> ax.accept(v).forEach(key -> putInternal(key, (V) ax)));
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<K, V> consumer) {
+        List<K> keys = new ArrayList<>();
+        List<V> values = new ArrayList<>();
+        synchronized (this) {
+            init();
+            for (ObjectObjectCursor<K, Ids> c : map) {
+                for (int index = 0; index < c.value.size; index++) {
+                    keys.add(c.key);
+                    values.add(decode(c.value.values[index]));
+                }
+            }
+        }
+        for (int index = 0; index < keys.size(); index++) {
+            consumer.accept(keys.get(index), values.get(index));
+        }
+    }
+
+    @Override
+    public synchronized boolean containsReference(K e) {
+        return map.containsKey(e);
+    }
+
+    @Override
+    public synchronized boolean containsReference(IRI e) {
+        Set<IRI> set = iris == null ? null : iris.get();
+        if (set == null) {
+            Set<IRI> newSet = CollectionFactory.createSet();
+            for (ObjectObjectCursor<K, Ids> c : map) {
+                consumer(newSet, c.key);
+            }
+            iris = new SoftReference<>(newSet);
+            set = newSet;
+        }
+        return set.contains(e);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return initialized + map.toString();
+    }
+
+    @Override
+    public synchronized Stream<K> keySet() {
+        init();
+        List<K> keys = new ArrayList<>(map.size());
+        for (ObjectObjectCursor<K, Ids> c : map) {
+            keys.add(c.key);
+        }
+        return keys.stream();
+    }
+
+    @Override
+    public synchronized Stream<V> getValues(K key) {
+        return getValuesAsCollection(key).stream();
+    }
+
+    @Override
+    public void forEach(K key, Consumer<V> function) {
+        getValuesAsCollection(key).forEach(function);
+    }
+
+    @Override
+    protected void forEachUnlocked(K key, Consumer<V> function) {
+        Ids ids = map.get(key);
+        if (ids != null) {
+            for (int index = 0; index < ids.size; index++) {
+                function.accept(decode(ids.values[index]));
+            }
+        }
+    }
+
+    @Override
+    public boolean matchOnValues(K key, Predicate<V> function) {
+        return getValuesAsCollection(key).stream().anyMatch(function);
+    }
+
+    @Override
+    public synchronized Collection<V> getValuesAsCollection(K key) {
+        init();
+        Ids ids = map.get(key);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        return decode(ids);
+    }
+
+    @Override
+    public synchronized int countValues(K key) {
+        init();
+        Ids ids = map.get(key);
+        if (ids == null) {
+            return 0;
+        }
+        return ids.size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O extends V> Stream<O> values(K key, @SuppressWarnings("unused") Class<O> classType) {
+        return (Stream<O>) getValues(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
+        init();
+        List<OWLAxiom> toReturn = new ArrayList<>();
+        for (AxiomType<?> at : filter.getAxiomTypes()) {
+            // This method is only used for MapPointer<AxiomType, OWLAxiom>
+            Ids ids = map.get((K) at);
+            if (ids != null) {
+                decode(ids).stream().filter(x -> filter.pass(x, key)).forEach(toReturn::add);
+            }
+        }
+        return toReturn;
+    }
+
+    @Override
+    public synchronized boolean put(K key, V value) {
+        if (frozen) {
+            throw new UnsupportedOperationException(FrozenMapPointer.FROZEN);
+        }
+        // lazy init: no elements added until a recall is made
+        if (!initialized) {
+            return false;
+        }
+        return putInternal(key, value);
+    }
+
+    @Override
+    public synchronized List<V> putAll(K key, Collection<? extends V> values) {
+        return putEach(key, values);
+    }
+
+    @Override
+    public synchronized boolean remove(K key, V value) {
+        if (frozen) {
+            throw new UnsupportedOperationException(FrozenMapPointer.FROZEN);
+        }
+        if (!initialized) {
+            return false;
+        }
+        Ids ids = map.get(key);
+        if (ids == null) {
+            return false;
+        }
+        int id = store.idOf(value);
+        if (id < 0 || !ids.remove(id)) {
+            return false;
+        }
+        if (ids.size == 0) {
+            map.remove(key);
+            iris = null;
+        }
+        store.release(id);
+        size--;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean containsKey(K key) {
+        init();
+        return map.containsKey(key);
+    }
+
+    @Override
+    public synchronized boolean contains(K key, V value) {
+        init();
+        Ids ids = map.get(key);
+        if (ids == null) {
+            return false;
+        }
+        int id = store.idOf(value);
+        return id >= 0 && ids.contains(id);
+    }
+
+    @Override
+    public synchronized Stream<V> getAllValues() {
+        init();
+        List<V> values = new ArrayList<>(size);
+        for (ObjectObjectCursor<K, Ids> c : map) {
+            values.addAll(decode(c.value));
+        }
+        return values.stream();
+    }
+
+    @Override
+    public synchronized int size() {
+        init();
+        return size;
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        init();
+        return size == 0;
+    }
+
+    private boolean putInternal(@Nullable K key, V value) {
+        if (key == null) {
+            return false;
+        }
+        Ids ids = map.get(key);
+        int id = store.idOf(value);
+        if (ids != null && id >= 0 && ids.contains(id)) {
+            return false;
+        }
+        if (id < 0) {
+            id = store.acquire(value);
+        } else {
+            store.acquire(id);
+        }
+        if (ids == null) {
+            ids = new Ids();
+            map.put(key, ids);
+            iris = null;
+        }
+        ids.add(id);
+        size++;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V decode(int id) {
+        return (V) store.get(id);
+    }
+
+    private List<V> decode(Ids ids) {
+        List<V> values = new ArrayList<>(ids.size);
+        for (int index = 0; index < ids.size; index++) {
+            values.add(decode(ids.values[index]));
+        }
+        return values;
+    }
+
+    /**
+     * Ids for one key, in insertion order. Large collections also keep the position of each id, so
+     * that lookups and removals do not need a scan.
+     */
+    private static class Ids {
+
+        private static final int INDEX_THRESHOLD = 16;
+        int[] values = new int[1];
+        int size = 0;
+        @Nullable
+        IntIntHashMap positions;
+
+        boolean contains(int id) {
+            return indexOf(id) >= 0;
+        }
+
+        private int indexOf(int id) {
+            IntIntHashMap p = positions;
+            if (p != null) {
+                return p.containsKey(id) ? p.get(id) : -1;
+            }
+            for (int index = 0; index < size; index++) {
+                if (values[index] == id) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        void add(int id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size] = id;
+            IntIntHashMap p = positions;
+            if (p != null) {
+                p.put(id, size);
+            }
+            size++;
+            if (p == null && size > INDEX_THRESHOLD) {
+                p = new IntIntHashMap(size * 2);
+                for (int index = 0; index < size; index++) {
+                    p.put(values[index], index);
+                }
+                positions = p;
+            }
+        }
+
+        boolean remove(int id) {
+            int index = indexOf(id);
+            if (index < 0) {
+                return false;
+            }
+            size--;
+            int last = values[size];
+            values[index] = last;
+            IntIntHashMap p = positions;
+            if (p != null) {
+                p.remove(id);
+                if (index != size) {
+                    p.put(last, index);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(Arrays.copyOf(values, size));
+        }
+    }
+}
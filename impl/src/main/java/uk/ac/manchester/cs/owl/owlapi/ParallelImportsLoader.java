@@ -0,0 +1,277 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.formats.BinaryDocumentFormat;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLMutableOntology;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyFactory;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
+
+/**
+ * Parses an ontology document and the documents in its imports closure concurrently. Each
+ * document is parsed into a private manager that records import requests instead of loading
+ * them; as soon as a document has been parsed, the documents it imports are resolved with the
+ * IRI mappers of the loading manager and submitted to the pool. Imports that have already been
+ * requested, that resolve to a document already requested, or that the loading manager already
+ * contains are skipped, so that cycles in the imports graph terminate.
+ * <p>
+ * Nothing is added to the loading manager here: the caller registers the parsed ontologies in one
+ * step, see {@link ParsedDocument#isComplete()}.
+ *
+ * @author ignazio
+ */
+class ParallelImportsLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelImportsLoader.class);
+    /**
+     * Formats whose parsers do not look at imported ontologies. Documents in other formats, e.g.,
+     * RDF, use the imports closure to decide entity types, so their parse is only final if they do
+     * not import anything.
+     */
+    private static final Set<Class<?>> IMPORTS_INDEPENDENT_FORMATS =
+        new HashSet<>(Arrays.asList(FunctionalSyntaxDocumentFormat.class,
+            OWLXMLDocumentFormat.class, OBODocumentFormat.class, BinaryDocumentFormat.class));
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private final OWLDataFactory dataFactory;
+    private final List<OWLOntologyFactory> factories = new ArrayList<>();
+    private final List<OWLParserFactory> parsers = new ArrayList<>();
+    private final OWLOntologyLoaderConfiguration configuration;
+    private final OWLOntologyLoaderConfiguration parseConfiguration;
+    private final Predicate<IRI> loaded;
+    private final Function<IRI, IRI> documentIRIs;
+    private final Set<IRI> requestedImports = new HashSet<>();
+    private final Set<IRI> requestedDocuments = new HashSet<>();
+
+    /**
+     * @param manager loading manager, used for its data factory, ontology factories and parsers
+     * @param configuration configuration for the load
+     * @param loaded true for import IRIs and document IRIs already loaded in the manager
+     * @param documentIRIs maps import IRIs to document IRIs, or to null if there is no mapping
+     */
+    ParallelImportsLoader(OWLOntologyManager manager, OWLOntologyLoaderConfiguration configuration,
+        Predicate<IRI> loaded, Function<IRI, IRI> documentIRIs) {
+        dataFactory = manager.getOWLDataFactory();
+        // the factories are wrapped, so that private managers cannot change their locks
+        manager.getOntologyFactories().forEach(f -> factories.add(new PrivateFactory(f)));
+        manager.getOntologyParsers().forEach(parsers::add);
+        this.configuration = configuration;
+        // options that need the imports closure are applied by the loading manager
+        parseConfiguration = configuration.setLoadImportsInParallel(false)
+            .setRepairIllegalPunnings(false).setTrimToSize(false).setFreezeAfterLoad(false)
+            .setInitializeIndexesAfterLoad(false);
+        this.loaded = loaded;
+        this.documentIRIs = documentIRIs;
+    }
+
+    /**
+     * @param source root document
+     * @return parsed documents, root first
+     * @throws OWLOntologyCreationException if the load is interrupted
+     */
+    List<ParsedDocument> load(OWLOntologyDocumentSource source)
+        throws OWLOntologyCreationException {
+        requestedDocuments.add(source.getDocumentIRI());
+        ExecutorService pool =
+            Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "owlapi-imports-" + THREADS.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        try {
+            CompletionService<ParsedDocument> service = new ExecutorCompletionService<>(pool);
+            ParsedDocument root = new ParsedDocument(source);
+            service.submit(() -> parse(root));
+            int pending = 1;
+            List<ParsedDocument> documents = new ArrayList<>();
+            while (pending > 0) {
+                ParsedDocument document = service.take().get();
+                pending--;
+                documents.add(document);
+                for (OWLImportsDeclaration declaration : document.imports) {
+                    ParsedDocument imported = resolve(declaration.getIRI());
+                    if (imported != null) {
+                        service.submit(() -> parse(imported));
+                        pending++;
+                    }
+                }
+            }
+            return documents;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLOntologyCreationException(e);
+        } catch (ExecutionException e) {
+            // parse() does not throw
+            throw new OWLOntologyCreationException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Nullable
+    private ParsedDocument resolve(IRI importIRI) {
+        if (configuration.isIgnoredImport(importIRI) || !requestedImports.add(importIRI)
+            || loaded.test(importIRI)) {
+            return null;
+        }
+        IRI documentIRI = documentIRIs.apply(importIRI);
+        if (documentIRI == null || loaded.test(documentIRI)
+            || !requestedDocuments.add(documentIRI)) {
+            // missing mappings are reported when the import is requested from the manager
+            return null;
+        }
+        return new ParsedDocument(new IRIDocumentSource(documentIRI, null, null));
+    }
+
+    private ParsedDocument parse(ParsedDocument document) {
+        ImportsRecorder recorder = new ImportsRecorder(dataFactory);
+        recorder.getOntologyFactories().set(factories);
+        recorder.getOntologyParsers().set(parsers);
+        try {
+            OWLOntology ontology =
+                recorder.loadOntologyFromOntologyDocument(document.source, parseConfiguration);
+            document.ontology = ontology;
+            document.format = recorder.getOntologyFormat(ontology);
+        } catch (OWLOntologyCreationException | RuntimeException e) {
+            // the document is loaded again by the manager, which reports the error as usual
+            LOGGER.debug("Document {} not parsed in parallel: {}",
+                document.source.getDocumentIRI(), e.getMessage());
+        }
+        document.imports = recorder.imports;
+        return document;
+    }
+
+    /**
+     * The outcome of parsing one document.
+     */
+    static class ParsedDocument {
+
+        final OWLOntologyDocumentSource source;
+        @Nullable
+        OWLOntology ontology;
+        @Nullable
+        OWLDocumentFormat format;
+        List<OWLImportsDeclaration> imports = Collections.emptyList();
+
+        ParsedDocument(OWLOntologyDocumentSource source) {
+            this.source = source;
+        }
+
+        /**
+         * @return true if the ontology was parsed and would be parsed the same way with its
+         *         imports loaded
+         */
+        boolean isComplete() {
+            OWLDocumentFormat f = format;
+            return ontology != null && f != null
+                && (imports.isEmpty() || IMPORTS_INDEPENDENT_FORMATS.contains(f.getClass()));
+        }
+    }
+
+    /**
+     * A private manager that records import requests without loading the imports. Its ontologies
+     * do not take any lock, since only one thread accesses them before they are moved.
+     */
+    private static class ImportsRecorder extends OWLOntologyManagerImpl {
+
+        final List<OWLImportsDeclaration> imports = new ArrayList<>();
+
+        ImportsRecorder(OWLDataFactory dataFactory) {
+            super(dataFactory, new NoOpReadWriteLock());
+        }
+
+        @Override
+        public void makeLoadImportRequest(OWLImportsDeclaration declaration,
+            OWLOntologyLoaderConfiguration config) {
+            imports.add(declaration);
+        }
+
+        @Override
+        public void ontologyCreated(OWLOntology ontology) {
+            if (ontology instanceof OWLMutableOntology) {
+                ((OWLMutableOntology) ontology).setLock(new NoOpReadWriteLock());
+            }
+            super.ontologyCreated(ontology);
+        }
+    }
+
+    /**
+     * Delegates to an ontology factory of the loading manager, but does not pass on lock changes.
+     */
+    private static class PrivateFactory implements OWLOntologyFactory {
+
+        private final OWLOntologyFactory delegate;
+
+        PrivateFactory(OWLOntologyFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OWLOntology createOWLOntology(OWLOntologyManager manager, OWLOntologyID ontologyID,
+            IRI documentIRI, OWLOntologyCreationHandler handler)
+            throws OWLOntologyCreationException {
+            return delegate.createOWLOntology(manager, ontologyID, documentIRI, handler);
+        }
+
+        @Override
+        public OWLOntology loadOWLOntology(OWLOntologyManager manager,
+            OWLOntologyDocumentSource documentSource, OWLOntologyCreationHandler handler,
+            OWLOntologyLoaderConfiguration config) throws OWLOntologyCreationException {
+            return delegate.loadOWLOntology(manager, documentSource, handler, config);
+        }
+
+        @Override
+        public boolean canCreateFromDocumentIRI(IRI documentIRI) {
+            return delegate.canCreateFromDocumentIRI(documentIRI);
+        }
+
+        @Override
+        public boolean canAttemptLoading(OWLOntologyDocumentSource documentSource) {
+            return delegate.canAttemptLoading(documentSource);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAsymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLFunctionalDataPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLHasKeyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLIrreflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+
+/**
+ * Indexes of an ontology as they were when a snapshot was taken. Nothing is copied from the live
+ * indexes except imports declarations and ontology annotations; instead, the live indexes keep two
+ * small sets of indexes up to date, one for the axioms added since the snapshot and one for the
+ * axioms removed since the snapshot, and each index of the snapshot is a
+ * {@link SnapshotMapPointer} that combines the three. An axiom added and then removed again, or
+ * removed and then added again, does not appear in either set.
+ * <p>
+ * Each query on an index of the snapshot reads the live index and the two sets while the live
+ * indexes cannot change, see {@link #read(Supplier)}, and returns a copy, so queries see the
+ * content of the snapshot even when a lazy stream is consumed after a concurrent ontology has
+ * released its lock. The snapshot is frozen: it cannot be changed.
+ *
+ * @author ignazio
+ */
+class SnapshotInternals extends Internals {
+
+    private final transient Internals live;
+    private final transient Internals added = new Internals();
+    private final transient Internals removed = new Internals();
+
+    /**
+     * @param live indexes to take a snapshot of
+     */
+    @SuppressWarnings("null")
+    SnapshotInternals(Internals live) {
+        this.live = live;
+        live.getImportsDeclarations().forEach(importsDeclarations::add);
+        live.getOntologyAnnotations().forEach(ontologyAnnotations::add);
+        importsDeclarations.freeze();
+        ontologyAnnotations.freeze();
+        //@formatter:off
+        classAssertionAxiomsByClass = view(i -> i.classAssertionAxiomsByClass, OWLClassAssertionAxiom.class);
+        annotationAssertionAxiomsBySubject = view(i -> i.annotationAssertionAxiomsBySubject, OWLAnnotationAssertionAxiom.class);
+        subClassAxiomsBySubPosition = view(i -> i.subClassAxiomsBySubPosition, OWLSubClassOfAxiom.class);
+        subClassAxiomsBySuperPosition = view(i -> i.subClassAxiomsBySuperPosition, OWLSubClassOfAxiom.class);
+        objectSubPropertyAxiomsBySubPosition = view(i -> i.objectSubPropertyAxiomsBySubPosition, OWLSubObjectPropertyOfAxiom.class);
+        objectSubPropertyAxiomsBySuperPosition = view(i -> i.objectSubPropertyAxiomsBySuperPosition, OWLSubObjectPropertyOfAxiom.class);
+        dataSubPropertyAxiomsBySubPosition = view(i -> i.dataSubPropertyAxiomsBySubPosition, OWLSubDataPropertyOfAxiom.class);
+        dataSubPropertyAxiomsBySuperPosition = view(i -> i.dataSubPropertyAxiomsBySuperPosition, OWLSubDataPropertyOfAxiom.class);
+        classAxiomsByClass = view(i -> i.classAxiomsByClass, OWLClassAxiom.class);
+        equivalentClassesAxiomsByClass = view(i -> i.equivalentClassesAxiomsByClass, OWLEquivalentClassesAxiom.class);
+        disjointClassesAxiomsByClass = view(i -> i.disjointClassesAxiomsByClass, OWLDisjointClassesAxiom.class);
+        disjointUnionAxiomsByClass = view(i -> i.disjointUnionAxiomsByClass, OWLDisjointUnionAxiom.class);
+        hasKeyAxiomsByClass = view(i -> i.hasKeyAxiomsByClass, OWLHasKeyAxiom.class);
+        equivalentObjectPropertyAxiomsByProperty = view(i -> i.equivalentObjectPropertyAxiomsByProperty, OWLEquivalentObjectPropertiesAxiom.class);
+        disjointObjectPropertyAxiomsByProperty = view(i -> i.disjointObjectPropertyAxiomsByProperty, OWLDisjointObjectPropertiesAxiom.class);
+        objectPropertyDomainAxiomsByProperty = view(i -> i.objectPropertyDomainAxiomsByProperty, OWLObjectPropertyDomainAxiom.class);
+        objectPropertyRangeAxiomsByProperty = view(i -> i.objectPropertyRangeAxiomsByProperty, OWLObjectPropertyRangeAxiom.class);
+        functionalObjectPropertyAxiomsByProperty = view(i -> i.functionalObjectPropertyAxiomsByProperty, OWLFunctionalObjectPropertyAxiom.class);
+        inverseFunctionalPropertyAxiomsByProperty = view(i -> i.inverseFunctionalPropertyAxiomsByProperty, OWLInverseFunctionalObjectPropertyAxiom.class);
+        symmetricPropertyAxiomsByProperty = view(i -> i.symmetricPropertyAxiomsByProperty, OWLSymmetricObjectPropertyAxiom.class);
+        asymmetricPropertyAxiomsByProperty = view(i -> i.asymmetricPropertyAxiomsByProperty, OWLAsymmetricObjectPropertyAxiom.class);
+        reflexivePropertyAxiomsByProperty = view(i -> i.reflexivePropertyAxiomsByProperty, OWLReflexiveObjectPropertyAxiom.class);
+        irreflexivePropertyAxiomsByProperty = view(i -> i.irreflexivePropertyAxiomsByProperty, OWLIrreflexiveObjectPropertyAxiom.class);
+        transitivePropertyAxiomsByProperty = view(i -> i.transitivePropertyAxiomsByProperty, OWLTransitiveObjectPropertyAxiom.class);
+        inversePropertyAxiomsByProperty = view(i -> i.inversePropertyAxiomsByProperty, OWLInverseObjectPropertiesAxiom.class);
+        equivalentDataPropertyAxiomsByProperty = view(i -> i.equivalentDataPropertyAxiomsByProperty, OWLEquivalentDataPropertiesAxiom.class);
+        disjointDataPropertyAxiomsByProperty = view(i -> i.disjointDataPropertyAxiomsByProperty, OWLDisjointDataPropertiesAxiom.class);
+        dataPropertyDomainAxiomsByProperty = view(i -> i.dataPropertyDomainAxiomsByProperty, OWLDataPropertyDomainAxiom.class);
+        dataPropertyRangeAxiomsByProperty = view(i -> i.dataPropertyRangeAxiomsByProperty, OWLDataPropertyRangeAxiom.class);
+        functionalDataPropertyAxiomsByProperty = view(i -> i.functionalDataPropertyAxiomsByProperty, OWLFunctionalDataPropertyAxiom.class);
+        classAssertionAxiomsByIndividual = view(i -> i.classAssertionAxiomsByIndividual, OWLClassAssertionAxiom.class);
+        objectPropertyAssertionsByIndividual = view(i -> i.objectPropertyAssertionsByIndividual, OWLObjectPropertyAssertionAxiom.class);
+        dataPropertyAssertionsByIndividual = view(i -> i.dataPropertyAssertionsByIndividual, OWLDataPropertyAssertionAxiom.class);
+        negativeObjectPropertyAssertionAxiomsByIndividual = view(i -> i.negativeObjectPropertyAssertionAxiomsByIndividual, OWLNegativeObjectPropertyAssertionAxiom.class);
+        negativeDataPropertyAssertionAxiomsByIndividual = view(i -> i.negativeDataPropertyAssertionAxiomsByIndividual, OWLNegativeDataPropertyAssertionAxiom.class);
+        differentIndividualsAxiomsByIndividual = view(i -> i.differentIndividualsAxiomsByIndividual, OWLDifferentIndividualsAxiom.class);
+        sameIndividualsAxiomsByIndividual = view(i -> i.sameIndividualsAxiomsByIndividual, OWLSameIndividualAxiom.class);
+        axiomsByType = view(i -> i.axiomsByType, OWLAxiom.class);
+        owlClassReferences = view(i -> i.owlClassReferences, OWLAxiom.class);
+        owlObjectPropertyReferences = view(i -> i.owlObjectPropertyReferences, OWLAxiom.class);
+        owlDataPropertyReferences = view(i -> i.owlDataPropertyReferences, OWLAxiom.class);
+        owlIndividualReferences = view(i -> i.owlIndividualReferences, OWLAxiom.class);
+        owlAnonymousIndividualReferences = view(i -> i.owlAnonymousIndividualReferences, OWLAxiom.class);
+        owlDatatypeReferences = view(i -> i.owlDatatypeReferences, OWLAxiom.class);
+        owlAnnotationPropertyReferences = view(i -> i.owlAnnotationPropertyReferences, OWLAxiom.class);
+        declarationsByEntity = view(i -> i.declarationsByEntity, OWLDeclarationAxiom.class);
+        //@formatter:on
+    }
+
+    private <K, V extends OWLAxiom> MapPointer<K, V> view(
+        Function<Internals, MapPointer<K, V>> pointer, Class<V> valueWithness) {
+        return new SnapshotMapPointer<>(pointer.apply(live), pointer.apply(added),
+            pointer.apply(removed), this, valueWithness);
+    }
+
+    /**
+     * @param axiom axiom added to the live indexes
+     */
+    void axiomAdded(OWLAxiom axiom) {
+        if (!removed.removeAxiom(axiom)) {
+            added.addAxiom(axiom);
+        }
+    }
+
+    /**
+     * @param axiom axiom removed from the live indexes
+     */
+    void axiomRemoved(OWLAxiom axiom) {
+        if (!added.removeAxiom(axiom)) {
+            removed.addAxiom(axiom);
+        }
+    }
+
+    /**
+     * @param query query combining the live indexes with the changes since the snapshot
+     * @param <T> result type
+     * @return result of the query, computed while the live indexes cannot change
+     */
+    <T> T read(Supplier<T> query) {
+        return live.readForSnapshot(query);
+    }
+
+    /**
+     * @return true if the live indexes have the same axioms as when the snapshot was taken
+     */
+    boolean isUnchanged() {
+        return added.getAxiomCount() == 0 && removed.getAxiomCount() == 0;
+    }
+
+    /**
+     * @param axiom axiom in the live indexes
+     * @return true if the axiom was added after the snapshot was taken
+     */
+    boolean isAdded(OWLAxiom axiom) {
+        return contains(added.getAxiomsByType(), axiom.getAxiomType(), axiom);
+    }
+
+    @Override
+    void setDataFactory(OWLDataFactory df) {
+        super.setDataFactory(df);
+        added.setDataFactory(df);
+        removed.setDataFactory(df);
+    }
+
+    @Override
+    public Internals snapshot() {
+        return this;
+    }
+
+    @Override
+    public Stream<OWLClassAxiom> getGeneralClassAxioms() {
+        return read(() -> asList(Stream.concat(
+            live.getGeneralClassAxioms().filter(ax -> !isAdded(ax)),
+            removed.getGeneralClassAxioms()).sorted())).stream();
+    }
+
+    @Override
+    public synchronized void freeze() {
+        // already read only
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return true;
+    }
+
+    /**
+     * Serialize a plain, frozen copy of the snapshot, since the live indexes are not part of it.
+     */
+    private Object writeReplace() {
+        Internals copy = new Internals();
+        copy.addAxioms(asList(getAxioms()));
+        getImportsDeclarations().forEach(copy::addImportsDeclaration);
+        getOntologyAnnotations().forEach(copy::addOntologyAnnotation);
+        copy.freeze();
+        return copy;
+    }
+}
@@ -0,0 +1,250 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.HasIRI;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+/**
+ * A read only view of a {@link MapPointer} as it was when a snapshot was taken. The view reads the
+ * live pointer and corrects its content with the pointers of the same index over the axioms added
+ * and removed since the snapshot: entries for added axioms are skipped, and entries for removed
+ * axioms are put back. Each method reads the three pointers in one
+ * {@link SnapshotInternals#read(Supplier) read} of the snapshot, so that a concurrent change
+ * cannot be seen half applied, and all results are computed when the method is called, since the
+ * live pointer can change as soon as the read ends.
+ *
+ * @author ignazio
+ * @param <K> key
+ * @param <V> value
+ */
+class SnapshotMapPointer<K, V extends OWLAxiom> extends MapPointer<K, V> {
+
+    private final MapPointer<K, V> live;
+    private final MapPointer<K, V> added;
+    private final MapPointer<K, V> removed;
+    private final SnapshotInternals snapshot;
+
+    /**
+     * @param live pointer of the snapshotted indexes
+     * @param added same pointer over the axioms added since the snapshot
+     * @param removed same pointer over the axioms removed since the snapshot
+     * @param snapshot internals containing this pointer
+     * @param valueWithness witness for the value type
+     */
+    SnapshotMapPointer(MapPointer<K, V> live, MapPointer<K, V> added, MapPointer<K, V> removed,
+        SnapshotInternals snapshot, Class<V> valueWithness) {
+        super(live.type, live.visitor, true, snapshot, valueWithness);
+        this.live = live;
+        this.added = added;
+        this.removed = removed;
+        this.snapshot = snapshot;
+    }
+
+    private List<V> list(K key) {
+        return snapshot.read(() -> {
+            if (snapshot.isUnchanged()) {
+                return new ArrayList<>(live.getValuesAsCollection(key));
+            }
+            List<V> list = new ArrayList<>();
+            // copy first, so that the added axioms are not checked while the live pointer is locked
+            for (V v : new ArrayList<>(live.getValuesAsCollection(key))) {
+                if (!snapshot.isAdded(v)) {
+                    list.add(v);
+                }
+            }
+            list.addAll(removed.getValuesAsCollection(key));
+            return list;
+        });
+    }
+
+    private int count(K key) {
+        return live.countValues(key) - added.countValues(key) + removed.countValues(key);
+    }
+
+    private List<K> keys() {
+        List<K> keys = new ArrayList<>();
+        if (snapshot.isUnchanged()) {
+            live.keySet().forEach(keys::add);
+            return keys;
+        }
+        Set<K> set = new LinkedHashSet<>();
+        live.keySet().filter(k -> !added.containsKey(k) || count(k) > 0).forEach(set::add);
+        removed.keySet().forEach(set::add);
+        keys.addAll(set);
+        return keys;
+    }
+
+    private <T> T read(Supplier<T> query) {
+        return snapshot.read(query);
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return true;
+    }
+
+    @Override
+    public SnapshotMapPointer<K, V> init() {
+        return this;
+    }
+
+    @Override
+    public boolean containsReference(K e) {
+        return containsKey(e);
+    }
+
+    @Override
+    public boolean containsReference(IRI e) {
+        return read(() -> Boolean.valueOf(containsIRI(e))).booleanValue();
+    }
+
+    private boolean containsIRI(IRI e) {
+        if (removed.containsReference(e)) {
+            return true;
+        }
+        if (!live.containsReference(e)) {
+            return false;
+        }
+        if (!added.containsReference(e)) {
+            return true;
+        }
+        return keys().stream()
+            .anyMatch(k -> k instanceof HasIRI ? ((HasIRI) k).getIRI().equals(e) : e.equals(k));
+    }
+
+    @Override
+    public String toString() {
+        return "snapshot of " + live;
+    }
+
+    @Override
+    public Stream<K> keySet() {
+        return read(this::keys).stream();
+    }
+
+    @Override
+    public Stream<V> getValues(K key) {
+        return list(key).stream();
+    }
+
+    @Override
+    public void forEach(K key, Consumer<V> function) {
+        list(key).forEach(function);
+    }
+
+    @Override
+    protected void forEachUnlocked(K key, Consumer<V> function) {
+        forEach(key, function);
+    }
+
+    @Override
+    public boolean matchOnValues(K key, Predicate<V> function) {
+        return list(key).stream().anyMatch(function);
+    }
+
+    @Override
+    public Collection<V> getValuesAsCollection(K key) {
+        return list(key);
+    }
+
+    @Override
+    public int countValues(K key) {
+        return read(() -> Integer.valueOf(count(key))).intValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O extends V> Stream<O> values(K key,
+        @SuppressWarnings("unused") Class<O> classType) {
+        return (Stream<O>) list(key).stream();
+    }
+
+    @Override
+    public <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
+        return read(() -> {
+            List<OWLAxiom> toReturn = new ArrayList<>();
+            boolean unchanged = snapshot.isUnchanged();
+            for (OWLAxiom ax : live.filterAxioms(filter, key)) {
+                if (unchanged || !snapshot.isAdded(ax)) {
+                    toReturn.add(ax);
+                }
+            }
+            if (!unchanged) {
+                toReturn.addAll(removed.filterAxioms(filter, key));
+            }
+            return toReturn;
+        });
+    }
+
+    @Override
+    public boolean put(K key, V value) {
+        throw new UnsupportedOperationException(FrozenMapPointer.FROZEN);
+    }
+
+    @Override
+    public List<V> putAll(K key, Collection<? extends V> values) {
+        throw new UnsupportedOperationException(FrozenMapPointer.FROZEN);
+    }
+
+    @Override
+    public boolean remove(K key, V value) {
+        throw new UnsupportedOperationException(FrozenMapPointer.FROZEN);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return countValues(key) > 0;
+    }
+
+    @Override
+    public boolean contains(K key, V value) {
+        return read(() -> Boolean.valueOf(removed.contains(key, value)
+            || !snapshot.isAdded(value) && live.contains(key, value))).booleanValue();
+    }
+
+    @Override
+    public Stream<V> getAllValues() {
+        return read(() -> {
+            List<V> list = new ArrayList<>();
+            boolean unchanged = snapshot.isUnchanged();
+            live.getAllValues().filter(v -> unchanged || !snapshot.isAdded(v)).forEach(list::add);
+            if (!unchanged) {
+                removed.getAllValues().forEach(list::add);
+            }
+            return list;
+        }).stream();
+    }
+
+    @Override
+    public int size() {
+        return read(() -> Integer.valueOf(live.size() - added.size() + removed.size())).intValue();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,94 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLObject;
+
+/**
+ * The sorted signature of an ontology for one kind of primitive. The sorted set is built from the
+ * reference index on the first request, and from then on it is kept up to date by the index
+ * owner, which calls {@link #add(OWLObject)} and {@link #remove(OWLObject)} when a primitive
+ * starts or stops being referenced. Requests are answered with an immutable copy of the set, so
+ * that callers can change the ontology while iterating over a signature; the copy is only made
+ * again after the set has changed.
+ *
+ * @author ignazio
+ * @param <E> primitive type
+ */
+class SortedSignature<E extends OWLObject> {
+
+    /** Null until the first request; after that, the keys are tracked. Guarded by this. */
+    @Nullable
+    private volatile TreeSet<E> keys;
+    /** Copy of the keys, null if the keys have changed since it was made. Guarded by this. */
+    @Nullable
+    private List<E> snapshot;
+
+    /**
+     * @return true if changes to the signature need to be reported to this object
+     */
+    boolean isTracking() {
+        return keys != null;
+    }
+
+    /**
+     * @param initialKeys supplier of the referenced primitives, used on the first request only;
+     *        the stream may contain duplicates
+     * @return the sorted signature, as an immutable list
+     */
+    synchronized List<E> get(Supplier<Stream<E>> initialKeys) {
+        List<E> list = snapshot;
+        if (list != null) {
+            return list;
+        }
+        TreeSet<E> set = keys;
+        if (set == null) {
+            // start tracking before reading the index, so that no concurrent update is lost
+            set = new TreeSet<>();
+            keys = set;
+            initialKeys.get().forEach(set::add);
+        }
+        list = Collections.unmodifiableList(new ArrayList<>(set));
+        snapshot = list;
+        return list;
+    }
+
+    /**
+     * @param e primitive that is now referenced
+     */
+    synchronized void add(E e) {
+        TreeSet<E> set = keys;
+        if (set != null && set.add(e)) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * @param e primitive that is no longer referenced
+     */
+    synchronized void remove(E e) {
+        TreeSet<E> set = keys;
+        if (set != null && set.remove(e)) {
+            snapshot = null;
+        }
+    }
+}
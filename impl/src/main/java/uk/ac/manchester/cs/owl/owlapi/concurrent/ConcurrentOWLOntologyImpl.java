@@ -16,7 +16,9 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -113,6 +115,9 @@ import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 
+import uk.ac.manchester.cs.owl.owlapi.HasFreeze;
+import uk.ac.manchester.cs.owl.owlapi.HasInitializeIndexes;
+import uk.ac.manchester.cs.owl.owlapi.HasSnapshot;
 import uk.ac.manchester.cs.owl.owlapi.HasTrimToSize;
 
 /**
@@ -125,7 +130,8 @@ import uk.ac.manchester.cs.owl.owlapi.HasTrimToSize;
  * Matthew Horridge Stanford Center for Biomedical Informatics Research 03/04/15
  */
 @SuppressWarnings({"deprecation"})
-public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToSize {
+public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToSize, HasFreeze,
+    HasInitializeIndexes, HasSnapshot {
 
     private final OWLOntology delegate;
     private ReadWriteLock lock;
@@ -230,6 +236,47 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         }
     }
 
+    @Override
+    public Map<String, Long> initializeIndexes() {
+        // indexes synchronize their own initialization; queries can proceed while they are built
+        return withReadLock(() -> delegate instanceof HasInitializeIndexes
+            ? ((HasInitializeIndexes) delegate).initializeIndexes() : Collections.emptyMap());
+    }
+
+    @Override
+    public void freeze() {
+        callWriteLock(this::freezeInternal);
+    }
+
+    protected void freezeInternal() {
+        if (delegate instanceof HasFreeze) {
+            ((HasFreeze) delegate).freeze();
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return withBooleanReadLock(
+            () -> delegate instanceof HasFreeze && ((HasFreeze) delegate).isFrozen());
+    }
+
+    /**
+     * {@inheritDoc} The snapshot shares the lock of this ontology: each query on the snapshot holds
+     * the read lock while it runs, but changes can be applied between queries. Streams returned by
+     * queries can be consumed after the lock is released; the snapshot indexes exclude changes
+     * themselves while they are read, so such streams still see the content of the snapshot.
+     */
+    @Override
+    public OWLOntology snapshot() {
+        return withReadLock(() -> {
+            if (!(delegate instanceof HasSnapshot)) {
+                throw new UnsupportedOperationException(
+                    "Snapshots are not supported by " + delegate.getClass().getName());
+            }
+            return new ConcurrentOWLOntologyImpl(((HasSnapshot) delegate).snapshot(), lock);
+        });
+    }
+
     @Override
     public void accept(OWLNamedObjectVisitor owlNamedObjectVisitor) {
         delegate.accept(owlNamedObjectVisitor);
@@ -1410,6 +1457,11 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         return withWriteLock(() -> getMutableOntology().addAxioms(set));
     }
 
+    @Override
+    public ChangeApplied addAxiomsInBulk(Collection<? extends OWLAxiom> axioms) {
+        return withWriteLock(() -> getMutableOntology().addAxiomsInBulk(axioms));
+    }
+
     @Override
     public ChangeApplied addAxioms(OWLAxiom... set) {
         return withWriteLock(() -> getMutableOntology().addAxioms(set));
@@ -1502,6 +1554,11 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         return withWriteLock(() -> delegate.applyDirectChange(change));
     }
 
+    @Override
+    public ChangeApplied applyDirectBulkAdd(Collection<? extends OWLAxiom> axioms) {
+        return withWriteLock(() -> getMutableOntology().applyDirectBulkAdd(axioms));
+    }
+
     @Override
     public Stream<OWLDisjointObjectPropertiesAxiom> disjointObjectPropertiesAxioms(
         OWLObjectPropertyExpression property) {
@@ -0,0 +1,86 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+class CompactSignatureTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    private List<OWLObject> objects() {
+        List<OWLObject> list = new ArrayList<>();
+        OWLClass c = df.getOWLClass("urn:test:C");
+        OWLClass d = df.getOWLClass("urn:test:D");
+        OWLObjectProperty p = df.getOWLObjectProperty("urn:test:p");
+        OWLDataProperty q = df.getOWLDataProperty("urn:test:q");
+        OWLAnonymousIndividual y = df.getOWLAnonymousIndividual("_:y");
+        list.add(c);
+        list.add(df.getOWLObjectSomeValuesFrom(p, d));
+        list.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(p, d)));
+        list.add(
+            df.getOWLObjectPropertyAssertionAxiom(p, df.getOWLNamedIndividual("urn:test:i"), y));
+        list.add(df.getOWLDataPropertyAssertionAxiom(q, y, 1));
+        list.add(df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), y, df.getOWLLiteral("l")));
+        list.add(df.getOWLDataPropertyRangeAxiom(q, df.getOWLDatatype("urn:test:dt")));
+        list.add(df.getOWLDeclarationAxiom(df.getOWLAnnotationProperty("urn:test:ap")));
+        list.add(df.getOWLEquivalentClassesAxiom(df.getOWLThing(), df.getOWLNothing()));
+        list.add(df.getOWLLiteral(true));
+        return list;
+    }
+
+    @Test
+    void shouldMatchTreeSetSignature() {
+        for (OWLObject o : objects()) {
+            Set<OWLEntity> entities = new TreeSet<>();
+            ((HasIncrementalSignatureGenerationSupport) o).addSignatureEntitiesToSet(entities);
+            Set<OWLAnonymousIndividual> anonymous = new TreeSet<>();
+            ((HasIncrementalSignatureGenerationSupport) o).addAnonymousIndividualsToSet(anonymous);
+            assertEquals(new ArrayList<>(entities), asList(o.signature()));
+            assertEquals(new ArrayList<>(anonymous), asList(o.anonymousIndividuals()));
+            assertType(entities, OWLEntity::isOWLClass, o.classesInSignature());
+            assertType(entities, OWLEntity::isOWLObjectProperty, o.objectPropertiesInSignature());
+            assertType(entities, OWLEntity::isOWLDataProperty, o.dataPropertiesInSignature());
+            assertType(entities, OWLEntity::isOWLNamedIndividual, o.individualsInSignature());
+            assertType(entities, OWLEntity::isOWLDatatype, o.datatypesInSignature());
+            assertType(entities, OWLEntity::isOWLAnnotationProperty,
+                o.annotationPropertiesInSignature());
+            for (OWLEntity e : entities) {
+                assertTrue(o.containsEntityInSignature(e));
+            }
+            assertFalse(o.containsEntityInSignature(df.getOWLClass("urn:test:absent")));
+        }
+    }
+
+    private static void assertType(Set<OWLEntity> entities, Predicate<OWLEntity> p,
+        Stream<? extends OWLEntity> actual) {
+        assertEquals(asList(entities.stream().filter(p)), asList(actual));
+    }
+
+    @Test
+    void shouldNotSortAgain() {
+        OWLAxiom ax = df.getOWLSubClassOfAxiom(df.getOWLClass("urn:test:B"),
+            df.getOWLClass("urn:test:A"));
+        assertEquals(asList(ax.classesInSignature()), asList(ax.classesInSignature().sorted()));
+        assertTrue(ax.classesInSignature().spliterator().hasCharacteristics(Spliterator.SORTED));
+    }
+}
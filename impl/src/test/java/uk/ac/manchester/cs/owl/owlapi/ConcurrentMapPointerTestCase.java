@@ -0,0 +1,88 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+class ConcurrentMapPointerTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass a = df.getOWLClass("urn:test:A");
+    private final OWLClass b = df.getOWLClass("urn:test:B");
+
+    private List<OWLAxiom> axioms(int n) {
+        List<OWLAxiom> list = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(df.getOWLSubClassOfAxiom(a, df.getOWLClass("urn:test:C" + i)));
+        }
+        return list;
+    }
+
+    @Test
+    void shouldBehaveLikeMapPointer() {
+        Internals ints = new Internals();
+        MapPointer<OWLClass, OWLAxiom> expected =
+            new MapPointer<>(null, null, true, ints, OWLAxiom.class);
+        MapPointer<OWLClass, OWLAxiom> actual =
+            new ConcurrentMapPointer<>(null, null, true, ints, OWLAxiom.class);
+        // enough values to go past the copy on write threshold
+        List<OWLAxiom> values = axioms(40);
+        for (OWLAxiom ax : values) {
+            assertEquals(Boolean.valueOf(expected.put(a, ax)), Boolean.valueOf(actual.put(a, ax)));
+            assertFalse(actual.put(a, ax));
+        }
+        actual.put(b, values.get(0));
+        expected.put(b, values.get(0));
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.countValues(a), actual.countValues(a));
+        assertEquals(expected.getValues(a).collect(Collectors.toSet()),
+            actual.getValues(a).collect(Collectors.toSet()));
+        assertEquals(expected.keySet().collect(Collectors.toSet()),
+            actual.keySet().collect(Collectors.toSet()));
+        for (int i = 0; i < 35; i++) {
+            assertTrue(actual.remove(a, values.get(i)));
+            expected.remove(a, values.get(i));
+            assertFalse(actual.contains(a, values.get(i)));
+        }
+        assertEquals(expected.getAllValues().collect(Collectors.toSet()),
+            actual.getAllValues().collect(Collectors.toSet()));
+        assertEquals(6, actual.size());
+    }
+
+    @Test
+    void shouldTrackReferencesByIRI() {
+        MapPointer<OWLClass, OWLAxiom> pointer =
+            new ConcurrentMapPointer<>(null, null, true, new Internals(), OWLAxiom.class);
+        OWLAxiom ax = axioms(1).get(0);
+        assertFalse(pointer.containsReference(a.getIRI()));
+        pointer.put(a, ax);
+        assertTrue(pointer.containsReference(a.getIRI()));
+        pointer.remove(a, ax);
+        assertFalse(pointer.containsReference(a.getIRI()));
+    }
+
+    @Test
+    void shouldReadWhileWriting() throws InterruptedException {
+        MapPointer<OWLClass, OWLAxiom> pointer =
+            new ConcurrentMapPointer<>(null, null, true, new Internals(), OWLAxiom.class);
+        List<OWLAxiom> values = axioms(1000);
+        Thread writer = new Thread(() -> values.forEach(ax -> pointer.put(a, ax)));
+        writer.start();
+        while (writer.isAlive()) {
+            Set<OWLAxiom> seen = pointer.getValues(a).collect(Collectors.toSet());
+            assertTrue(values.containsAll(seen));
+        }
+        writer.join();
+        assertEquals(1000, pointer.countValues(a));
+    }
+}
@@ -0,0 +1,85 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+class EntityDictionaryTestCase {
+
+    private final OWLDataFactory df =
+        new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().setUseDenseEntityIds(true));
+
+    @Test
+    void shouldInternEntitiesAndIRIs() {
+        OWLClass a = df.getOWLClass(IRI.create("urn:test:dense#A"));
+        OWLClass b = df.getOWLClass(IRI.create("urn:test:dense#", "A"));
+        assertSame(a, b);
+        assertSame(a.getIRI(), df.getOWLObjectProperty(IRI.create("urn:test:dense#A")).getIRI());
+        int id = EntityDictionary.id(a.getIRI());
+        assertTrue(id >= 0 && id < EntityDictionary.size());
+        assertSame(a.getIRI(), EntityDictionary.iri(id));
+        assertEquals(-1, EntityDictionary.id(IRI.create("urn:test:dense#A")));
+    }
+
+    @Test
+    void shouldGiveDistinctIdsToPunnedEntities() {
+        OWLClass c = df.getOWLClass(IRI.create("urn:test:dense#P"));
+        OWLObjectProperty p = df.getOWLObjectProperty(IRI.create("urn:test:dense#P"));
+        OWLClass d = df.getOWLClass(IRI.create("urn:test:dense#Q"));
+        assertNotEquals(EntityDictionary.id(c), EntityDictionary.id(p));
+        assertNotEquals(EntityDictionary.id(c), EntityDictionary.id(d));
+        assertNotEquals(EntityDictionary.id(c.getIRI()), EntityDictionary.id(d.getIRI()));
+        assertEquals(-1, EntityDictionary.id(new OWLClassImpl(IRI.create("urn:test:dense#P"))));
+    }
+
+    @Test
+    void shouldPurgeOnlyEntitiesOfOneFactory() {
+        OWLDataFactoryImpl other =
+            new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().setUseDenseEntityIds(true));
+        IRI iri = IRI.create("urn:test:dense#Purged");
+        OWLClass kept = df.getOWLClass(iri);
+        OWLClass purged = other.getOWLClass(iri);
+        assertEquals(kept, purged);
+        assertEquals(EntityDictionary.id(kept), EntityDictionary.id(purged));
+        other.purge();
+        assertSame(kept, df.getOWLClass(iri));
+        assertNotSame(purged, other.getOWLClass(iri));
+        assertSame(kept.getIRI(), other.getOWLClass(iri).getIRI());
+    }
+
+    @Test
+    void shouldBeEqualToPlainIRIs() throws Exception {
+        IRI plain = IRI.create("urn:test:dense#E");
+        IRI dense = df.getOWLClass(plain).getIRI();
+        assertEquals(plain, dense);
+        assertEquals(dense, plain);
+        assertEquals(plain.hashCode(), dense.hashCode());
+        assertEquals(0, dense.compareTo(plain));
+        assertEquals(new OWLClassImpl(plain), df.getOWLClass(plain));
+        assertNotEquals(dense, df.getOWLClass(IRI.create("urn:test:dense#F")).getIRI());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(dense);
+        }
+        try (ObjectInputStream stream =
+            new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            Object copy = stream.readObject();
+            assertEquals(IRI.class, copy.getClass());
+            assertEquals(plain, copy);
+        }
+    }
+}
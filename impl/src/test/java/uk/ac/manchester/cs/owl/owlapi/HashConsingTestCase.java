@@ -0,0 +1,84 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+class HashConsingTestCase {
+
+    private final OWLDataFactory shared =
+        new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().setUseHashConsing(true));
+    private final OWLDataFactory plain =
+        new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().setUseHashConsing(false));
+
+    private static OWLClassExpression some(OWLDataFactory df, int i) {
+        OWLObjectProperty p = df.getOWLObjectProperty("urn:test:p" + i % 3);
+        OWLClass c = df.getOWLClass("urn:test:C" + i);
+        return df.getOWLObjectIntersectionOf(c, df.getOWLObjectSomeValuesFrom(p, c));
+    }
+
+    @Test
+    void shouldShareEqualObjects() {
+        OWLClassExpression e = some(shared, 1);
+        assertSame(e, some(shared, 1));
+        OWLClass a = shared.getOWLClass("urn:test:A");
+        OWLAxiom ax = shared.getOWLSubClassOfAxiom(a, e);
+        assertSame(ax, shared.getOWLSubClassOfAxiom(a, some(shared, 1)));
+        OWLAxiom annotated = shared.getOWLSubClassOfAxiom(a, e,
+            Collections.singleton(shared.getRDFSComment("x")));
+        assertNotSame(ax, annotated);
+        assertEquals(ax, annotated.getAxiomWithoutAnnotations());
+        assertEquals(some(plain, 1), e);
+        assertNotSame(some(plain, 1), some(plain, 1));
+    }
+
+    @Test
+    void shouldStartOverAfterPurge() {
+        OWLClassExpression e = some(shared, 2);
+        shared.purge();
+        OWLClassExpression f = some(shared, 2);
+        assertEquals(e, f);
+        assertSame(f, some(shared, 2));
+    }
+
+    @Test
+    void shouldShareAcrossThreads() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<OWLClassExpression>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(pool.submit(() -> {
+                    List<OWLClassExpression> list = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        list.add(some(shared, i));
+                    }
+                    return list;
+                }));
+            }
+            List<OWLClassExpression> first = results.get(0).get();
+            for (Future<List<OWLClassExpression>> f : results) {
+                List<OWLClassExpression> list = f.get();
+                for (int i = 0; i < list.size(); i++) {
+                    assertSame(first.get(i), list.get(i));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
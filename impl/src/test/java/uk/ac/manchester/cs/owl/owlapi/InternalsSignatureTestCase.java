@@ -0,0 +1,118 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+class InternalsSignatureTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    private List<OWLAxiom> axioms() {
+        List<OWLAxiom> list = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            OWLClass c = df.getOWLClass("urn:test:C" + i);
+            OWLClass d = df.getOWLClass("urn:test:C" + (i + 3) % 8);
+            OWLObjectProperty p = df.getOWLObjectProperty("urn:test:p" + i % 3);
+            OWLDataProperty q = df.getOWLDataProperty("urn:test:q" + i % 3);
+            OWLNamedIndividual x = df.getOWLNamedIndividual("urn:test:i" + i);
+            OWLAnonymousIndividual y = df.getOWLAnonymousIndividual("_:y" + i % 2);
+            OWLAnnotationProperty ap = df.getOWLAnnotationProperty("urn:test:ap" + i % 2);
+            list.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(p, d)));
+            list.add(df.getOWLDeclarationAxiom(c));
+            list.add(df.getOWLClassAssertionAxiom(c, x));
+            list.add(df.getOWLObjectPropertyAssertionAxiom(p, x, y));
+            list.add(df.getOWLDataPropertyAssertionAxiom(q, x, i % 2 == 0 ? "v" : "w"));
+            list.add(df.getOWLDataPropertyRangeAxiom(q, df.getOWLDatatype("urn:test:dt" + i % 4)));
+            list.add(df.getOWLAnnotationAssertionAxiom(ap, c.getIRI(), df.getOWLLiteral(i)));
+        }
+        return list;
+    }
+
+    private List<OWLAnnotation> annotations() {
+        List<OWLAnnotation> list = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            list.add(df.getOWLAnnotation(df.getOWLAnnotationProperty("urn:test:ap" + i),
+                df.getOWLLiteral("x", df.getOWLDatatype("urn:test:dt" + i))));
+        }
+        return list;
+    }
+
+    @Test
+    void shouldMatchRecomputedSignatureAfterEachChange() {
+        Internals ints = new Internals();
+        List<OWLAxiom> axioms = axioms();
+        List<OWLAnnotation> annotations = annotations();
+        Random random = new Random(42);
+        for (int step = 0; step < 2000; step++) {
+            int n = random.nextInt(axioms.size() + annotations.size());
+            boolean add = random.nextBoolean();
+            if (n < axioms.size()) {
+                if (add) {
+                    ints.addAxiom(axioms.get(n));
+                } else {
+                    ints.removeAxiom(axioms.get(n));
+                }
+            } else if (add) {
+                ints.addOntologyAnnotation(annotations.get(n - axioms.size()));
+            } else {
+                ints.removeOntologyAnnotation(annotations.get(n - axioms.size()));
+            }
+            if (step % 3 == 0) {
+                assertSignature(ints);
+            }
+        }
+    }
+
+    private static void assertSignature(Internals ints) {
+        assertEquals(sorted(ints.owlClassReferences.keySet()), ints.getClassesInSignature());
+        assertEquals(sorted(ints.owlObjectPropertyReferences.keySet()),
+            ints.getObjectPropertiesInSignature());
+        assertEquals(sorted(ints.owlDataPropertyReferences.keySet()),
+            ints.getDataPropertiesInSignature());
+        assertEquals(sorted(ints.owlIndividualReferences.keySet()),
+            ints.getIndividualsInSignature());
+        assertEquals(sorted(ints.owlAnonymousIndividualReferences.keySet()),
+            ints.getAnonymousIndividualsInSignature());
+        assertEquals(
+            sorted(Stream.concat(ints.owlDatatypeReferences.keySet(),
+                ints.getOntologyAnnotations().flatMap(OWLAnnotation::datatypesInSignature))),
+            ints.getDatatypesInSignature());
+        assertEquals(sorted(Stream.concat(ints.owlAnnotationPropertyReferences.keySet(),
+            ints.getOntologyAnnotations().flatMap(OWLAnnotation::annotationPropertiesInSignature))),
+            ints.getAnnotationPropertiesInSignature());
+    }
+
+    private static <T> List<T> sorted(Stream<T> s) {
+        return asList(s.distinct().sorted());
+    }
+
+    @Test
+    void shouldNotChangeReturnedSignature() {
+        Internals ints = new Internals();
+        OWLClass a = df.getOWLClass("urn:test:A");
+        OWLClass b = df.getOWLClass("urn:test:B");
+        ints.addAxiom(df.getOWLDeclarationAxiom(a));
+        List<OWLClass> before = ints.getClassesInSignature();
+        ints.addAxiom(df.getOWLDeclarationAxiom(b));
+        assertEquals(1, before.size());
+        assertEquals(2, ints.getClassesInSignature().size());
+        ints.removeAxiom(df.getOWLDeclarationAxiom(a));
+        assertEquals(asList(Stream.of(b)), ints.getClassesInSignature());
+    }
+}
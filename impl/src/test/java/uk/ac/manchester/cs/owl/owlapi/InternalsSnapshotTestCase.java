@@ -0,0 +1,213 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitor;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
+
+class InternalsSnapshotTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    private List<OWLAxiom> axioms() {
+        List<OWLAxiom> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            OWLClass c = df.getOWLClass("urn:test:C" + i);
+            OWLClass d = df.getOWLClass("urn:test:C" + (i + 3) % 10);
+            OWLObjectProperty p = df.getOWLObjectProperty("urn:test:p" + i % 3);
+            OWLNamedIndividual x = df.getOWLNamedIndividual("urn:test:i" + i % 4);
+            list.add(df.getOWLSubClassOfAxiom(c, d));
+            list.add(df.getOWLSubClassOfAxiom(df.getOWLObjectSomeValuesFrom(p, c), d));
+            list.add(df.getOWLDeclarationAxiom(c));
+            list.add(df.getOWLClassAssertionAxiom(c, x));
+            list.add(df.getOWLObjectPropertyAssertionAxiom(p, x, x));
+            list.add(df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), c.getIRI(),
+                df.getOWLLiteral(i)));
+        }
+        return list;
+    }
+
+    private static Internals copy(Internals ints) {
+        Internals copy = new Internals();
+        ints.getAxioms().forEach(copy::addAxiom);
+        return copy;
+    }
+
+    @Test
+    void shouldKeepContentWhileLiveIndexesChange() {
+        List<OWLAxiom> axioms = axioms();
+        Random random = new Random(7);
+        Internals live = new Internals();
+        axioms.stream().filter(ax -> random.nextBoolean()).forEach(live::addAxiom);
+        // some indexes are built before the snapshot, others after
+        live.subClassAxiomsBySubPosition.init();
+        List<Internals> snapshots = new ArrayList<>();
+        List<Internals> expected = new ArrayList<>();
+        for (int step = 0; step < 600; step++) {
+            if (step % 100 == 0) {
+                snapshots.add(live.snapshot());
+                expected.add(copy(live));
+            }
+            OWLAxiom ax = axioms.get(random.nextInt(axioms.size()));
+            if (random.nextBoolean()) {
+                live.addAxiom(ax);
+            } else {
+                live.removeAxiom(ax);
+            }
+            if (step % 7 == 0) {
+                for (int i = 0; i < snapshots.size(); i++) {
+                    assertSameContent(expected.get(i), snapshots.get(i), axioms);
+                }
+            }
+        }
+        assertSameContent(copy(live), live.snapshot(), axioms);
+    }
+
+    private void assertSameContent(Internals expected, Internals actual, List<OWLAxiom> axioms) {
+        assertEquals(asUnorderedSet(expected.getAxioms()), asUnorderedSet(actual.getAxioms()));
+        assertEquals(expected.getAxiomCount(), actual.getAxiomCount());
+        assertEquals(expected.getAxiomCount(AxiomType.SUBCLASS_OF),
+            actual.getAxiomCount(AxiomType.SUBCLASS_OF));
+        assertEquals(asUnorderedSet(expected.getGeneralClassAxioms()),
+            asUnorderedSet(actual.getGeneralClassAxioms()));
+        assertEquals(expected.getClassesInSignature(), actual.getClassesInSignature());
+        assertEquals(expected.getIndividualsInSignature(), actual.getIndividualsInSignature());
+        assertPointer(expected.owlClassReferences, actual.owlClassReferences);
+        assertPointer(expected.declarationsByEntity, actual.declarationsByEntity);
+        assertPointer(expected.subClassAxiomsBySubPosition, actual.subClassAxiomsBySubPosition);
+        assertPointer(expected.subClassAxiomsBySuperPosition, actual.subClassAxiomsBySuperPosition);
+        assertPointer(expected.classAxiomsByClass, actual.classAxiomsByClass);
+        assertPointer(expected.classAssertionAxiomsByIndividual,
+            actual.classAssertionAxiomsByIndividual);
+        assertPointer(expected.annotationAssertionAxiomsBySubject,
+            actual.annotationAssertionAxiomsBySubject);
+        for (OWLAxiom ax : axioms) {
+            assertEquals(Internals.contains(expected.getAxiomsByType(), ax.getAxiomType(), ax),
+                Internals.contains(actual.getAxiomsByType(), ax.getAxiomType(), ax));
+        }
+        for (int i = 0; i < 10; i++) {
+            OWLClass c = df.getOWLClass("urn:test:C" + i);
+            assertEquals(Boolean.valueOf(expected.owlClassReferences.containsReference(c.getIRI())),
+                Boolean.valueOf(actual.owlClassReferences.containsReference(c.getIRI())));
+        }
+    }
+
+    private static <K, V extends OWLAxiom> void assertPointer(MapPointer<K, V> expected,
+        MapPointer<K, V> actual) {
+        Set<K> keys = asUnorderedSet(expected.keySet());
+        assertEquals(keys, asUnorderedSet(actual.keySet()));
+        assertEquals(expected.size(), actual.size());
+        assertEquals(asUnorderedSet(expected.getAllValues()), asUnorderedSet(actual.getAllValues()));
+        for (K k : keys) {
+            assertTrue(actual.containsKey(k));
+            assertEquals(expected.countValues(k), actual.countValues(k));
+            assertEquals(new HashSet<>(expected.getValuesAsCollection(k)),
+                asUnorderedSet(actual.getValues(k)));
+            expected.getValues(k).forEach(v -> assertTrue(actual.contains(k, v)));
+        }
+    }
+
+    /**
+     * An axiom that stops the thread adding it half way through the change, after it has been
+     * put in the axioms by type index and before the snapshots have been told about it.
+     */
+    private static class PausingAxiom extends OWLSubClassOfAxiomImpl {
+
+        final CountDownLatch paused = new CountDownLatch(1);
+        final CountDownLatch resume = new CountDownLatch(1);
+        private final AtomicBoolean first = new AtomicBoolean(true);
+
+        PausingAxiom(OWLClass subClass, OWLClass superClass) {
+            super(subClass, superClass, Collections.emptyList());
+        }
+
+        private void pause() {
+            if (first.getAndSet(false)) {
+                paused.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void accept(OWLAxiomVisitor visitor) {
+            pause();
+            super.accept(visitor);
+        }
+
+        @Override
+        public void accept(OWLObjectVisitor visitor) {
+            pause();
+            super.accept(visitor);
+        }
+    }
+
+    @Test
+    void shouldNotSeeChangesHalfApplied() throws InterruptedException {
+        Internals live = new Internals();
+        axioms().forEach(live::addAxiom);
+        Internals snapshot = live.snapshot();
+        int count = snapshot.getAxiomCount();
+        PausingAxiom ax =
+            new PausingAxiom(df.getOWLClass("urn:test:X"), df.getOWLClass("urn:test:C0"));
+        Thread writer = new Thread(() -> live.addAxiom(ax));
+        writer.start();
+        ax.paused.await();
+        AtomicInteger read = new AtomicInteger();
+        AtomicBoolean contains = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            read.set(snapshot.getAxiomCount());
+            contains.set(Internals.contains(snapshot.getAxiomsByType(), ax.getAxiomType(), ax));
+        });
+        reader.start();
+        // the reader either waits for the change to complete or, if it is not excluded, sees
+        // the change half applied; resume the writer only once either has happened
+        while (reader.isAlive() && reader.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        ax.resume.countDown();
+        writer.join();
+        reader.join();
+        assertEquals(count, read.get());
+        assertFalse(contains.get());
+        assertEquals(count + 1, live.getAxiomCount());
+        assertEquals(count, snapshot.getAxiomCount());
+    }
+
+    @Test
+    void shouldRejectChanges() {
+        Internals live = new Internals();
+        axioms().forEach(live::addAxiom);
+        Internals snapshot = live.snapshot();
+        assertTrue(snapshot.isFrozen());
+        assertFalse(live.isFrozen());
+        OWLAxiom ax = df.getOWLDeclarationAxiom(df.getOWLClass("urn:test:X"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addAxiom(ax));
+        assertEquals(live.getAxiomCount(), snapshot.getAxiomCount());
+        assertEquals(asUnorderedSet(live.getAxioms()), asUnorderedSet(snapshot.getAxioms()));
+    }
+}
@@ -0,0 +1,100 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+class LiteralDictionaryTestCase {
+
+    private static final String LONG =
+        "A disorder characterized by inflammation of the joints, with pain and swelling ";
+
+    private final OWLDataFactory plain = new OWLDataFactoryImpl();
+    private final OWLDataFactory dictionary = new OWLDataFactoryImpl(
+        new OWLOntologyLoaderConfiguration().setUseLiteralDictionary(true));
+    private final OWLDataFactory deflated = new OWLDataFactoryImpl(
+        new OWLOntologyLoaderConfiguration().setUseLiteralDictionary(true).setDeflateLiterals(true));
+
+    @Test
+    void shouldInternEqualLiterals() {
+        String s = "synonym";
+        OWLLiteral a = dictionary.getOWLLiteral(new String(s));
+        assertSame(a, dictionary.getOWLLiteral(new String(s)));
+        assertSame(a, dictionary.getOWLLiteral(s, ""));
+        assertSame(a, dictionary.getOWLLiteral(s, OWL2Datatype.XSD_STRING));
+        OWLLiteral en = dictionary.getOWLLiteral(s, "EN ");
+        assertSame(en, dictionary.getOWLLiteral(s, "en"));
+        assertEquals("en", en.getLang());
+        assertNotSame(a, plain.getOWLLiteral(s));
+    }
+
+    @Test
+    void shouldEqualOtherImplementations() {
+        for (OWLDataFactory f : new OWLDataFactory[] {dictionary, deflated}) {
+            for (int i = 0; i < 2000; i++) {
+                String s = (i % 2 == 0 ? LONG : "short ") + i;
+                assertLiteral(plain.getOWLLiteral(s), f.getOWLLiteral(s));
+                assertLiteral(plain.getOWLLiteral(s, "en"), f.getOWLLiteral(s, "en"));
+            }
+        }
+    }
+
+    private static void assertLiteral(OWLLiteral expected, OWLLiteral actual) {
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(expected.getLiteral(), actual.getLiteral());
+        assertEquals(expected.getDatatype(), actual.getDatatype());
+        assertEquals(expected.getLang(), actual.getLang());
+        assertEquals(0, expected.compareTo(actual));
+    }
+
+    @Test
+    void shouldRoundTripCompactForms() {
+        String[] forms = {LONG + LONG, "été " + LONG, "日本語 " + LONG, "😀 " + LONG};
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            b.append(LONG).append(i);
+        }
+        byte[] preset = b.toString().getBytes();
+        for (String s : forms) {
+            for (byte[] p : new byte[][] {null, preset}) {
+                CompactLexicalForm form = CompactLexicalForm.encode(s, p);
+                assertEquals(s, form.decode());
+                assertEquals(s.hashCode(), form.stringHash());
+            }
+        }
+        assertTrue(CompactLexicalForm.encode(LONG + 7, preset).storedBytes() < LONG.length() / 2);
+    }
+
+    @Test
+    void shouldSerializeAsPlainLiterals() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 1000; i++) {
+            deflated.getOWLLiteral(LONG + i);
+        }
+        OWLLiteral l = deflated.getOWLLiteral(LONG + "x", "en");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(l);
+        }
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            Object read = in.readObject();
+            assertEquals(OWLLiteralImplPlain.class, read.getClass());
+            assertEquals(l, read);
+        }
+    }
+}
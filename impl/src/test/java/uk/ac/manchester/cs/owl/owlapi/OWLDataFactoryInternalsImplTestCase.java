@@ -0,0 +1,76 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+class OWLDataFactoryInternalsImplTestCase {
+
+    private final OWLOntologyLoaderConfiguration config =
+        new OWLOntologyLoaderConfiguration().setRecordCacheStatistics(true);
+
+    @Test
+    void shouldNotShareCachesBetweenFactories() {
+        OWLDataFactoryImpl f1 = new OWLDataFactoryImpl(config);
+        OWLDataFactoryImpl f2 = new OWLDataFactoryImpl(config);
+        IRI iri = IRI.create("urn:test:scoped#A");
+        OWLClass a = f1.getOWLClass(iri);
+        assertSame(a, f1.getOWLClass(iri));
+        OWLClass b = f2.getOWLClass(iri);
+        assertNotSame(a, b);
+        assertEquals(a, b);
+        f2.purge();
+        assertSame(a, f1.getOWLClass(iri));
+        CacheStats stats = f1.getCacheStats().get("classes");
+        assertEquals(1, stats.missCount());
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, f2.getCacheStats().get("classes").missCount());
+        assertEquals(0, f2.getCacheStats().get("individuals").requestCount());
+    }
+
+    @Test
+    void shouldEvictBeyondConfiguredSize() throws InterruptedException {
+        OWLDataFactoryImpl f = new OWLDataFactoryImpl(config.setEntityCacheSize(10));
+        assertEvictions(f);
+    }
+
+    @Test
+    void shouldEvictBeyondConfiguredWeight() throws InterruptedException {
+        OWLDataFactoryImpl f = new OWLDataFactoryImpl(config.setEntityCacheWeight(200));
+        assertEvictions(f);
+    }
+
+    private static void assertEvictions(OWLDataFactoryImpl f) throws InterruptedException {
+        // keys are weak, so keep the IRIs alive while the cache is filled
+        List<IRI> iris = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            iris.add(IRI.create("urn:test:bounded#C" + i));
+        }
+        // eviction runs asynchronously; keep using the cache until it has happened
+        for (int round = 0; round < 100
+            && f.getCacheStats().get("classes").evictionCount() == 0; round++) {
+            iris.forEach(f::getOWLClass);
+            Thread.sleep(10);
+        }
+        assertTrue(f.getCacheStats().get("classes").evictionCount() > 0);
+        assertEquals(0, f.getCacheStats().get("objectProperties").evictionCount());
+    }
+
+    @Test
+    void shouldReportNoStatisticsWhenDisabled() {
+        OWLDataFactoryImpl f = new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration());
+        f.getOWLClass(IRI.create("urn:test:scoped#A"));
+        assertEquals(0, f.getCacheStats().get("classes").requestCount());
+    }
+}
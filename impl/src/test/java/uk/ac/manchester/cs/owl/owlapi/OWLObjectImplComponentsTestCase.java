@@ -0,0 +1,102 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.compareIterators;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.equalStreams;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+class OWLObjectImplComponentsTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    private List<OWLObject> objects(String suffix) {
+        OWLClass a = df.getOWLClass("urn:test:A" + suffix);
+        OWLClass b = df.getOWLClass("urn:test:B");
+        OWLObjectProperty p = df.getOWLObjectProperty("urn:test:p" + suffix);
+        OWLObjectProperty q = df.getOWLObjectProperty("urn:test:q");
+        OWLDataProperty d = df.getOWLDataProperty("urn:test:d" + suffix);
+        OWLAnnotationProperty ap = df.getOWLAnnotationProperty("urn:test:ap" + suffix);
+        OWLNamedIndividual i = df.getOWLNamedIndividual("urn:test:i" + suffix);
+        OWLNamedIndividual j = df.getOWLNamedIndividual("urn:test:j");
+        OWLDatatype dt = df.getOWLDatatype("urn:test:dt" + suffix);
+        OWLAnnotation ann = df.getRDFSComment("comment" + suffix);
+        List<OWLAnnotation> anns = Collections.singletonList(ann);
+        OWLClassExpression some = df.getOWLObjectSomeValuesFrom(p, a);
+        return new ArrayList<>(Arrays.asList(a, p, d, ap, i, dt, ann,
+            df.getOWLAnonymousIndividual("_:x" + suffix), df.getOWLObjectInverseOf(p), some,
+            df.getOWLObjectAllValuesFrom(p, b), df.getOWLDataSomeValuesFrom(d, dt),
+            df.getOWLObjectMinCardinality(3, p, a), df.getOWLDataExactCardinality(200, d, dt),
+            df.getOWLObjectHasValue(p, i), df.getOWLDataHasValue(d, df.getOWLLiteral(suffix)),
+            df.getOWLObjectHasSelf(p), df.getOWLObjectComplementOf(a), df.getOWLObjectOneOf(i, j),
+            df.getOWLObjectIntersectionOf(a, b, some), df.getOWLObjectUnionOf(a, b),
+            df.getOWLSubClassOfAxiom(some, b, anns), df.getOWLEquivalentClassesAxiom(a, some),
+            df.getOWLDisjointClassesAxiom(Arrays.asList(a, b), anns),
+            df.getOWLDisjointUnionAxiom(a, Arrays.asList(b, some)),
+            df.getOWLClassAssertionAxiom(a, i), df.getOWLSameIndividualAxiom(i, j),
+            df.getOWLObjectPropertyAssertionAxiom(p, i, j, anns),
+            df.getOWLDataPropertyAssertionAxiom(d, i, 7),
+            df.getOWLHasKeyAxiom(a, Arrays.asList(p, d)),
+            df.getOWLEquivalentObjectPropertiesAxiom(p, q),
+            df.getOWLSubObjectPropertyOfAxiom(p, q),
+            df.getOWLSubPropertyChainOfAxiom(Arrays.asList(p, q), q, anns),
+            df.getOWLObjectPropertyDomainAxiom(p, a), df.getOWLDataPropertyRangeAxiom(d, dt),
+            df.getOWLTransitiveObjectPropertyAxiom(p), df.getOWLFunctionalDataPropertyAxiom(d),
+            df.getOWLAnnotationAssertionAxiom(ap, a.getIRI(), df.getOWLLiteral(suffix), anns),
+            df.getOWLAnnotationPropertyDomainAxiom(ap, b.getIRI()),
+            df.getOWLAnnotationPropertyRangeAxiom(ap, b.getIRI()),
+            df.getOWLSubAnnotationPropertyOfAxiom(ap, df.getRDFSLabel()),
+            df.getOWLDeclarationAxiom(a, anns), df.getOWLDatatypeDefinitionAxiom(dt,
+                df.getIntegerOWLDatatype())));
+    }
+
+    @Test
+    void shouldMatchComponentsStream() {
+        for (OWLObject o : objects("")) {
+            OWLObjectImpl impl = (OWLObjectImpl) o;
+            List<Object> indexed = new ArrayList<>();
+            for (int i = 0; i < impl.componentCount(); i++) {
+                indexed.add(impl.component(i));
+            }
+            assertEquals(asList(o.components()), indexed, o.toString());
+        }
+    }
+
+    @Test
+    void shouldAgreeWithStreamComparison() {
+        List<OWLObject> all = objects("1");
+        all.addAll(objects("2"));
+        all.addAll(objects("1"));
+        for (OWLObject o1 : all) {
+            for (OWLObject o2 : all) {
+                String message = o1 + " " + o2;
+                boolean expectedEquals = o1.typeIndex() == o2.typeIndex()
+                    && equalStreams(o1.components(), o2.components());
+                assertEquals(Boolean.valueOf(expectedEquals), Boolean.valueOf(o1.equals(o2)),
+                    message);
+                if (o1.typeIndex() == o2.typeIndex()) {
+                    int expected = compareIterators(o1.components().iterator(),
+                        o2.components().iterator());
+                    assertEquals(Integer.signum(expected), Integer.signum(o1.compareTo(o2)),
+                        message);
+                }
+            }
+        }
+    }
+}
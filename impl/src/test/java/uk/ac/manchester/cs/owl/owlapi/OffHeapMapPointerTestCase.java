@@ -0,0 +1,110 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+class OffHeapMapPointerTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass a = df.getOWLClass("urn:test:A");
+    private final OWLClass b = df.getOWLClass("urn:test:B");
+
+    private List<OWLAxiom> axioms(int n) {
+        List<OWLAxiom> list = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(df.getOWLSubClassOfAxiom(a, df.getOWLClass("urn:test:C" + i)));
+        }
+        return list;
+    }
+
+    @Test
+    void shouldBehaveLikeMapPointer() {
+        Internals ints = new Internals();
+        OffHeapAxiomStore store = new OffHeapAxiomStore();
+        MapPointer<OWLClass, OWLAxiom> expected =
+            new MapPointer<>(null, null, true, ints, OWLAxiom.class);
+        MapPointer<OWLClass, OWLAxiom> actual =
+            new OffHeapMapPointer<>(null, null, true, ints, OWLAxiom.class, store);
+        // enough values to go past the position index threshold
+        List<OWLAxiom> values = axioms(40);
+        for (OWLAxiom ax : values) {
+            assertEquals(Boolean.valueOf(expected.put(a, ax)), Boolean.valueOf(actual.put(a, ax)));
+            assertFalse(actual.put(a, ax));
+        }
+        actual.put(b, values.get(0));
+        expected.put(b, values.get(0));
+        assertEquals(40, store.size());
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.countValues(a), actual.countValues(a));
+        assertEquals(expected.getValues(a).collect(Collectors.toSet()),
+            actual.getValues(a).collect(Collectors.toSet()));
+        assertEquals(expected.keySet().collect(Collectors.toSet()),
+            actual.keySet().collect(Collectors.toSet()));
+        for (int i = 0; i < 35; i++) {
+            assertTrue(actual.remove(a, values.get(i)));
+            expected.remove(a, values.get(i));
+            assertFalse(actual.contains(a, values.get(i)));
+        }
+        assertEquals(expected.getAllValues().collect(Collectors.toSet()),
+            actual.getAllValues().collect(Collectors.toSet()));
+        assertEquals(6, actual.size());
+        // the first axiom is still referenced through b
+        assertEquals(6, store.size());
+    }
+
+    @Test
+    void shouldShareAxiomsAcrossPointers() {
+        Internals ints = new Internals();
+        OffHeapAxiomStore store = new OffHeapAxiomStore();
+        MapPointer<OWLClass, OWLAxiom> first =
+            new OffHeapMapPointer<>(null, null, true, ints, OWLAxiom.class, store);
+        MapPointer<OWLClass, OWLAxiom> second =
+            new OffHeapMapPointer<>(null, null, true, ints, OWLAxiom.class, store);
+        List<OWLAxiom> values = axioms(3000);
+        values.forEach(ax -> first.put(a, ax));
+        values.forEach(ax -> second.put(b, ax));
+        assertEquals(3000, store.size());
+        values.forEach(ax -> first.remove(a, ax));
+        assertEquals(3000, store.size());
+        assertEquals(values, second.getValues(b).collect(Collectors.toList()));
+        values.forEach(ax -> second.remove(b, ax));
+        assertEquals(0, store.size());
+        // released ids are reused
+        values.forEach(ax -> first.put(a, ax));
+        assertEquals(3000, first.countValues(a));
+    }
+
+    @Test
+    void shouldTrackReferencesByIRI() {
+        MapPointer<OWLClass, OWLAxiom> pointer = new OffHeapMapPointer<>(null, null, true,
+            new Internals(), OWLAxiom.class, new OffHeapAxiomStore());
+        OWLAxiom ax = axioms(1).get(0);
+        assertFalse(pointer.containsReference(a.getIRI()));
+        pointer.put(a, ax);
+        assertTrue(pointer.containsReference(a.getIRI()));
+        pointer.remove(a, ax);
+        assertFalse(pointer.containsReference(a.getIRI()));
+    }
+
+    @Test
+    void shouldRejectChangesOnceFrozen() {
+        OffHeapMapPointer<OWLClass, OWLAxiom> pointer = new OffHeapMapPointer<>(null, null, true,
+            new Internals(), OWLAxiom.class, new OffHeapAxiomStore());
+        List<OWLAxiom> values = axioms(2);
+        pointer.put(a, values.get(0));
+        pointer.freeze();
+        assertThrows(UnsupportedOperationException.class, () -> pointer.put(a, values.get(1)));
+        assertEquals(1, pointer.countValues(a));
+    }
+}
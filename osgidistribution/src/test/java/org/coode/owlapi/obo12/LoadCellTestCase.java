@@ -18,7 +18,7 @@ class LoadCellTestCase {
     void shouldParse() throws OWLOntologyCreationException {
         OWLOntologyManager m = OWLManager.createOWLOntologyManager();
         m.getOntologyParsers().add(new OBO12ParserFactory());
-        assertEquals(21, m.getOntologyParsers().size());
+        assertEquals(23, m.getOntologyParsers().size());
         OWLOntologyDocumentSource source =
             new StreamDocumentSource(getClass().getResourceAsStream("/celltype.obo"), "obo",
                 new OBO12DocumentFormat(), null);
@@ -29,7 +29,7 @@ class LoadCellTestCase {
     void shouldParseOBO12() throws OWLOntologyCreationException {
         OWLOntologyManager m = OWLManager.createOWLOntologyManager();
         m.getOntologyParsers().add(new OBO12ParserFactory());
-        assertEquals(21, m.getOntologyParsers().size());
+        assertEquals(23, m.getOntologyParsers().size());
         OWLOntologyDocumentSource source =
             new StreamDocumentSource(getClass().getResourceAsStream("/behavior.obo"), "obo",
                 new OBO12DocumentFormat(), null);
@@ -40,7 +40,7 @@ class LoadCellTestCase {
     void shouldParseGenericOBO() throws OWLOntologyCreationException {
         OWLOntologyManager m = OWLManager.createOWLOntologyManager();
         m.getOntologyParsers().add(new OBO12ParserFactory());
-        assertEquals(21, m.getOntologyParsers().size());
+        assertEquals(23, m.getOntologyParsers().size());
         OWLOntologyDocumentSource source =
             new StreamDocumentSource(getClass().getResourceAsStream("/behavior.obo"),
                 IRI.generateDocumentIRI(), new OBO12DocumentFormat(), null);
@@ -0,0 +1,205 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.binary.parser;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.binary.internal.BinaryObjectReader;
+import org.semanticweb.owlapi.binary.internal.BinaryVocabulary;
+import org.semanticweb.owlapi.formats.BinaryDocumentFormat;
+import org.semanticweb.owlapi.formats.BinaryDocumentFormatFactory;
+import org.semanticweb.owlapi.io.AbstractOWLParser;
+import org.semanticweb.owlapi.io.DocumentSources;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SetOntologyID;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
+
+/**
+ * Parser for binary snapshots. Files are memory mapped; other sources are read into memory. Input
+ * that does not start with the snapshot header is rejected before any parsing takes place, so that
+ * other parsers can be tried.
+ *
+ * @author ignazio
+ * @since 5.1.18
+ */
+public class BinaryOWLParser extends AbstractOWLParser {
+
+    private static final int HEADER = 8;
+
+    @Override
+    public OWLDocumentFormatFactory getSupportedFormat() {
+        return new BinaryDocumentFormatFactory();
+    }
+
+    @Override
+    public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config) {
+        try {
+            ByteBuffer in = input(source, config);
+            if (in.remaining() < HEADER || in.getInt() != BinaryVocabulary.MAGIC) {
+                throw new OWLParserException("Input is not an OWL binary snapshot");
+            }
+            int version = in.getInt();
+            if (version != BinaryVocabulary.VERSION) {
+                throw new OWLParserException("Unsupported binary snapshot version: " + version);
+            }
+            return load(in, ontology, config);
+        } catch (OWLOntologyInputSourceException | IOException e) {
+            throw new OWLParserException(e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+            | ClassCastException e) {
+            // truncated or corrupt input
+            throw new OWLParserException("Corrupt or truncated binary snapshot", e);
+        }
+    }
+
+    private static OWLDocumentFormat load(ByteBuffer in, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config) {
+        OWLOntologyManager man = ontology.getOWLOntologyManager();
+        OWLDataFactory df = man.getOWLDataFactory();
+        BinaryObjectReader reader = new BinaryObjectReader(in, df,
+            new RemappingIndividualProvider(man.getOntologyConfigurator(), df));
+        IRI ontologyIRI = reader.readOptionalIRI();
+        IRI versionIRI = reader.readOptionalIRI();
+        if (ontologyIRI != null) {
+            man.applyChange(new SetOntologyID(ontology,
+                new OWLOntologyID(optional(ontologyIRI), optional(versionIRI))));
+        }
+        BinaryDocumentFormat format = new BinaryDocumentFormat();
+        for (int i = reader.readCount(); i > 0; i--) {
+            format.setPrefix(reader.readString(), reader.readString());
+        }
+        for (int i = reader.readCount(); i > 0; i--) {
+            OWLImportsDeclaration decl = df.getOWLImportsDeclaration(reader.readIRI());
+            man.applyChange(new AddImport(ontology, decl));
+            man.makeLoadImportRequest(decl, config);
+        }
+        for (OWLAnnotation a : reader.<OWLAnnotation>readList()) {
+            man.applyChange(new AddOntologyAnnotation(ontology, a));
+        }
+        int count = reader.readCount();
+        List<OWLAxiom> axioms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OWLAxiom ax = reader.read();
+            if (!(ax instanceof OWLAnnotationAxiom) || config.isLoadAnnotationAxioms()) {
+                axioms.add(ax);
+            }
+        }
+        if (config.shouldAddAxiomsInBulk()) {
+            ontology.addAxiomsInBulk(axioms);
+        } else {
+            ontology.addAxioms(axioms);
+        }
+        return format;
+    }
+
+    private static ByteBuffer input(OWLOntologyDocumentSource source,
+        OWLOntologyLoaderConfiguration config) throws OWLOntologyInputSourceException, IOException {
+        File file = file(source);
+        if (file != null) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new OWLParserException(
+                        "Binary snapshots larger than 2GB are not supported: " + file);
+                }
+                return channel.map(MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        Optional<InputStream> stream = source.getInputStream();
+        if (stream.isPresent()) {
+            try (InputStream s = stream.get()) {
+                return read(s);
+            }
+        }
+        Optional<Reader> reader = source.getReader();
+        if (reader.isPresent()) {
+            reader.get().close();
+            throw new OWLParserException("Binary snapshots cannot be read from a character stream");
+        }
+        if (!source.getFormat().filter(BinaryDocumentFormat.class::isInstance).isPresent()) {
+            // do not resolve remote IRIs unless a snapshot is expected
+            throw new OWLParserException("Input is not known to be an OWL binary snapshot");
+        }
+        try (InputStream s = DocumentSources.wrapInput(source, config)) {
+            return read(s);
+        }
+    }
+
+    @Nullable
+    private static File file(OWLOntologyDocumentSource source) {
+        IRI iri = source.getDocumentIRI();
+        if (!"file".equals(iri.getScheme())
+            || !(source instanceof FileDocumentSource || source instanceof IRIDocumentSource)) {
+            return null;
+        }
+        File file = new File(iri.toURI());
+        // missing files are reported by the parsers that can read them
+        return file.isFile() ? file : null;
+    }
+
+    private static ByteBuffer read(InputStream s) throws IOException {
+        byte[] buffer = new byte[8192];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // check the header before copying the whole input
+        int read = s.read(buffer, 0, HEADER);
+        while (read >= 0 && read < HEADER) {
+            int more = s.read(buffer, read, HEADER - read);
+            if (more < 0) {
+                break;
+            }
+            read += more;
+        }
+        if (read < HEADER || ByteBuffer.wrap(buffer).getInt() != BinaryVocabulary.MAGIC) {
+            throw new OWLParserException("Input is not an OWL binary snapshot");
+        }
+        out.write(buffer, 0, read);
+        for (int n = s.read(buffer); n >= 0; n = s.read(buffer)) {
+            out.write(buffer, 0, n);
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
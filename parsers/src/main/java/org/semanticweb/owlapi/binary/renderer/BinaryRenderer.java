@@ -0,0 +1,97 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.binary.renderer;
+
+import static org.semanticweb.owlapi.binary.internal.BinaryObjectRenderer.bytes;
+import static org.semanticweb.owlapi.binary.internal.BinaryObjectRenderer.writeInt;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.binary.internal.BinaryObjectRenderer;
+import org.semanticweb.owlapi.binary.internal.BinaryVocabulary;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+
+/**
+ * Writes an ontology as a binary snapshot.
+ *
+ * @author ignazio
+ * @since 5.1.18
+ * @see BinaryVocabulary
+ */
+public class BinaryRenderer {
+
+    /**
+     * @param ontology ontology to render
+     * @param format format holding the prefixes to save
+     * @param out output stream; not closed by this method
+     * @throws IOException if writing fails
+     */
+    public void render(OWLOntology ontology, OWLDocumentFormat format, OutputStream out)
+        throws IOException {
+        BinaryObjectRenderer renderer = new BinaryObjectRenderer();
+        OWLOntologyID id = ontology.getOntologyID();
+        writeOptionalIRI(renderer, id.getOntologyIRI().orElse(null));
+        writeOptionalIRI(renderer, id.getVersionIRI().orElse(null));
+        Map<String, String> prefixes = format.isPrefixOWLDocumentFormat()
+            ? format.asPrefixOWLDocumentFormat().getPrefixName2PrefixMap()
+            : Collections.<String, String>emptyMap();
+        renderer.writeInt(prefixes.size());
+        prefixes.forEach((name, prefix) -> {
+            renderer.writeString(name);
+            renderer.writeString(prefix);
+        });
+        List<OWLImportsDeclaration> imports = asList(ontology.importsDeclarations().sorted());
+        renderer.writeInt(imports.size());
+        imports.forEach(i -> renderer.writeIRI(i.getIRI()));
+        renderer.write(asList(ontology.annotations().sorted()));
+        // axioms are written in no particular order; sorting is not needed to reload them
+        renderer.write(asList(ontology.axioms()));
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(BinaryVocabulary.MAGIC);
+        data.writeInt(BinaryVocabulary.VERSION);
+        ByteArrayOutputStream tables = new ByteArrayOutputStream(1 << 16);
+        List<String> strings = renderer.getStringTable();
+        writeInt(tables, strings.size());
+        for (String s : strings) {
+            byte[] b = bytes(s);
+            writeInt(tables, b.length);
+            tables.write(b, 0, b.length);
+        }
+        List<IRI> iris = renderer.getIRITable();
+        writeInt(tables, iris.size());
+        for (IRI iri : iris) {
+            writeInt(tables, renderer.stringIndex(iri.getNamespace()));
+            writeInt(tables, renderer.stringIndex(iri.getFragment()));
+        }
+        tables.writeTo(data);
+        renderer.getBody().writeTo(data);
+        data.flush();
+    }
+
+    private static void writeOptionalIRI(BinaryObjectRenderer renderer, @Nullable IRI iri) {
+        renderer.writeInt(iri == null ? 0 : renderer.iriIndex(iri) + 1);
+    }
+}
@@ -0,0 +1,225 @@
+package org.semanticweb.owlapi.functional.parser;
+
+/**
+ * Finds the start offsets of the axioms in a functional syntax document, one character at a time,
+ * following the lexical rules of {@link CustomTokenizer} for comments, string literals and full
+ * IRIs. Axioms are the elements nested directly in {@code Ontology(...)}, except imports and
+ * ontology annotations; the {@code Prefix(...)} declarations before the ontology are skipped.
+ * <p>
+ * Characters must be passed in document order, but the document never has to be held in memory
+ * whole: offsets count the characters passed so far, and the scanning state carries over between
+ * calls. The UTF-8 bytes of a document can be passed in place of its characters; offsets are then
+ * byte offsets.
+ */
+class AxiomSplitter {
+
+    private static final int NORMAL = 0;
+    private static final int COMMENT = 1;
+    private static final int STRING = 2;
+    private static final int ESCAPE = 3;
+    private static final int IRI = 4;
+    private static final int WORD = 5;
+    private static final int DONE = 6;
+    private int state = NORMAL;
+    private long position = 0;
+    private int line = 1;
+    private int depth = 0;
+    private boolean inOntology = false;
+    /** Offset of the last word, or -1 if a token other than a word followed it. */
+    private long word = -1;
+    private int wordLine = 1;
+    /** Text of the last word, kept only for words that can be keywords of interest. */
+    private final StringBuilder keyword = new StringBuilder();
+    private int axiomCount = 0;
+    private int axiomLine = 1;
+    private long end = -1;
+
+    /**
+     * @param c next character of the document
+     * @return offset of the axiom opened by this character, or -1 if it does not open an axiom
+     */
+    long next(char c) {
+        long axiom = -1;
+        switch (state) {
+            case COMMENT:
+                if (c == '\n') {
+                    state = NORMAL;
+                }
+                break;
+            case STRING:
+                if (c == '\\') {
+                    state = ESCAPE;
+                } else if (c == '"') {
+                    state = NORMAL;
+                }
+                break;
+            case ESCAPE:
+                state = STRING;
+                break;
+            case IRI:
+                if (c == '>') {
+                    state = NORMAL;
+                }
+                break;
+            case WORD:
+                if (!isDelimiter(c)) {
+                    if (depth <= 1) {
+                        keyword.append(c);
+                    }
+                    break;
+                }
+                state = NORMAL;
+                axiom = delimiter(c);
+                break;
+            case DONE:
+                break;
+            default:
+                axiom = delimiter(c);
+        }
+        if (c == '\n') {
+            line++;
+        }
+        position++;
+        return axiom;
+    }
+
+    private long delimiter(char c) {
+        switch (c) {
+            case '#':
+                state = COMMENT;
+                return -1;
+            case '"':
+                state = STRING;
+                word = -1;
+                return -1;
+            case '<':
+                state = IRI;
+                word = -1;
+                return -1;
+            case '(':
+                return open();
+            case ')':
+                close();
+                return -1;
+            case ' ':
+            case '\t':
+            case '\r':
+            case '\n':
+                return -1;
+            case '=':
+            case '>':
+            case '@':
+            case '^':
+                word = -1;
+                return -1;
+            default:
+                word = position;
+                wordLine = line;
+                keyword.setLength(0);
+                if (depth <= 1) {
+                    keyword.append(c);
+                }
+                state = WORD;
+                return -1;
+        }
+    }
+
+    private long open() {
+        long axiom = -1;
+        if (depth == 0) {
+            if (word < 0) {
+                return fail();
+            }
+            // Prefix(...) declarations are skipped whole; the axioms are in Ontology(...)
+            String k = keyword.toString();
+            if ("Ontology".equals(k)) {
+                inOntology = true;
+            } else if (!"Prefix".equals(k)) {
+                return fail();
+            }
+        } else if (depth == 1 && inOntology) {
+            if (word < 0) {
+                return fail();
+            }
+            String k = keyword.toString();
+            if (!"Import".equals(k) && !"Annotation".equals(k) || axiomCount > 0) {
+                axiomCount++;
+                axiomLine = wordLine;
+                axiom = word;
+            }
+        }
+        depth++;
+        word = -1;
+        return axiom;
+    }
+
+    private void close() {
+        depth--;
+        if (depth == 0 && inOntology) {
+            if (axiomCount == 0) {
+                fail();
+            } else {
+                end = position;
+                state = DONE;
+            }
+        } else if (depth < 0) {
+            fail();
+        }
+        word = -1;
+    }
+
+    private long fail() {
+        state = DONE;
+        return -1;
+    }
+
+    /**
+     * @return true if the ontology has been closed or the document does not have the expected
+     *         shape; further characters are ignored
+     */
+    boolean isDone() {
+        return state == DONE;
+    }
+
+    /**
+     * @return offset of the parenthesis closing the ontology, or -1 if it has not been found or the
+     *         document does not have the expected shape
+     */
+    long end() {
+        return end;
+    }
+
+    /**
+     * @return number of axioms found so far
+     */
+    int axiomCount() {
+        return axiomCount;
+    }
+
+    /**
+     * @return line of the last axiom found, starting from 1
+     */
+    int axiomLine() {
+        return axiomLine;
+    }
+
+    private static boolean isDelimiter(char c) {
+        switch (c) {
+            case '=':
+            case '"':
+            case '(':
+            case ')':
+            case '<':
+            case '>':
+            case '@':
+            case '^':
+            case '\r':
+            case '\n':
+            case ' ':
+            case '\t':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -5,6 +5,11 @@ import static org.semanticweb.owlapi.functional.parser.OWLFunctionalSyntaxParser
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,14 +19,163 @@ import org.slf4j.LoggerFactory;
  */
 class CustomTokenizer implements TokenManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(CustomTokenizer.class);
+    private static final Map<String, Integer> KEYWORDS = new HashMap<>();
+    /** Open addressing table of the keywords, looked up by their bytes in the mapped fast path. */
+    private static final int KEYWORD_MASK = 511;
+    private static final byte[][] KEYWORD_BYTES = new byte[KEYWORD_MASK + 1][];
+    private static final String[] KEYWORD_IMAGES = new String[KEYWORD_MASK + 1];
+    static {
+        keyword("Ontology", ONTOLOGY);
+        keyword("Label", LABEL);
+        keyword("Import", IMPORT);
+        keyword("Comment", COMMENT);
+        keyword("SubClassOf", SUBCLASSOF);
+        keyword("EquivalentClasses", EQUIVALENTCLASSES);
+        keyword("DisjointClasses", DISJOINTCLASSES);
+        keyword("DisjointUnion", DISJOINTUNION);
+        keyword("Annotation", ANNOTATION);
+        keyword("AnnotationProperty", ANNOTATIONPROPERTY);
+        keyword("AnnotationAssertion", ANNOTATIONASSERTION);
+        keyword("SubAnnotationPropertyOf", SUBANNOTATIONPROPERTYOF);
+        keyword("AnnotationPropertyDomain", ANNOTATIONPROPERTYDOMAIN);
+        keyword("AnnotationPropertyRange", ANNOTATIONPROPERTYRANGE);
+        keyword("HasKey", HASKEY);
+        keyword("Declaration", DECLARATION);
+        keyword("Documentation", DOCUMENTATION);
+        keyword("Class", CLASS);
+        keyword("ObjectProperty", OBJECTPROP);
+        keyword("DataProperty", DATAPROP);
+        keyword("NamedIndividual", NAMEDINDIVIDUAL);
+        keyword("Datatype", DATATYPE);
+        keyword("DataOneOf", DATAONEOF);
+        keyword("DataUnionOf", DATAUNIONOF);
+        keyword("DataIntersectionOf", DATAINTERSECTIONOF);
+        keyword("ObjectOneOf", OBJECTONEOF);
+        keyword("ObjectUnionOf", OBJECTUNIONOF);
+        keyword("ObjectHasValue", OBJECTHASVALUE);
+        keyword("ObjectInverseOf", OBJECTINVERSEOF);
+        keyword("InverseObjectProperties", INVERSEOBJECTPROPERTIES);
+        keyword("DataComplementOf", DATACOMPLEMENTOF);
+        keyword("DatatypeRestriction", DATATYPERESTRICTION);
+        keyword("DatatypeDefinition", DATATYPEDEFINITION);
+        keyword("ObjectIntersectionOf", OBJECTINTERSECTIONOF);
+        keyword("ObjectComplementOf", OBJECTCOMPLEMENTOF);
+        keyword("ObjectAllValuesFrom", OBJECTALLVALUESFROM);
+        keyword("ObjectSomeValuesFrom", OBJECTSOMEVALUESFROM);
+        keyword("ObjectHasSelf", OBJECTHASSELF);
+        keyword("ObjectMinCardinality", OBJECTMINCARDINALITY);
+        keyword("ObjectMaxCardinality", OBJECTMAXCARDINALITY);
+        keyword("ObjectExactCardinality", OBJECTEXACTCARDINALITY);
+        keyword("DataAllValuesFrom", DATAALLVALUESFROM);
+        keyword("DataSomeValuesFrom", DATASOMEVALUESFROM);
+        keyword("DataHasValue", DATAHASVALUE);
+        keyword("DataMinCardinality", DATAMINCARDINALITY);
+        keyword("DataMaxCardinality", DATAMAXCARDINALITY);
+        keyword("DataExactCardinality", DATAEXACTCARDINALITY);
+        keyword("ObjectPropertyChain", SUBOBJECTPROPERTYCHAIN);
+        keyword("SubObjectPropertyOf", SUBOBJECTPROPERTYOF);
+        keyword("EquivalentObjectProperties", EQUIVALENTOBJECTPROPERTIES);
+        keyword("DisjointObjectProperties", DISJOINTOBJECTPROPERTIES);
+        keyword("ObjectPropertyDomain", OBJECTPROPERTYDOMAIN);
+        keyword("ObjectPropertyRange", OBJECTPROPERTYRANGE);
+        keyword("FunctionalObjectProperty", FUNCTIONALOBJECTPROPERTY);
+        keyword("InverseFunctionalObjectProperty", INVERSEFUNCTIONALOBJECTPROPERTY);
+        keyword("ReflexiveObjectProperty", REFLEXIVEOBJECTPROPERTY);
+        keyword("IrreflexiveObjectProperty", IRREFLEXIVEOBJECTPROPERTY);
+        keyword("SymmetricObjectProperty", SYMMETRICOBJECTPROPERTY);
+        keyword("AsymmetricObjectProperty", ASYMMETRICOBJECTPROPERTY);
+        keyword("TransitiveObjectProperty", TRANSITIVEOBJECTPROPERTY);
+        keyword("SubDataPropertyOf", SUBDATAPROPERTYOF);
+        keyword("EquivalentDataProperties", EQUIVALENTDATAPROPERTIES);
+        keyword("DisjointDataProperties", DISJOINTDATAPROPERTIES);
+        keyword("DataPropertyDomain", DATAPROPERTYDOMAIN);
+        keyword("DataPropertyRange", DATAPROPERTYRANGE);
+        keyword("FunctionalDataProperty", FUNCTIONALDATAPROPERTY);
+        keyword("SameIndividual", SAMEINDIVIDUAL);
+        keyword("DifferentIndividuals", DIFFERENTINDIVIDUALS);
+        keyword("ClassAssertion", CLASSASSERTION);
+        keyword("ObjectPropertyAssertion", OBJECTPROPERTYASSERTION);
+        keyword("NegativeObjectPropertyAssertion", NEGATIVEOBJECTPROPERTYASSERTION);
+        keyword("DataPropertyAssertion", DATAPROPERTYASSERTION);
+        keyword("NegativeDataPropertyAssertion", NEGATIVEDATAPROPERTYASSERTION);
+        keyword("Prefix", PREFIX);
+        keyword("length", LENGTH);
+        keyword("minLength", MINLENGTH);
+        keyword("maxLength", MAXLENGTH);
+        keyword("pattern", PATTERN);
+        keyword("minInclusive", MININCLUSIVE);
+        keyword("maxInclusive", MAXINCLUSIVE);
+        keyword("minExclusive", MINEXCLUSIVE);
+        keyword("maxExclusive", MAXEXCLUSIVE);
+        keyword("totalDigits", TOTALDIGITS);
+        keyword("DLSafeRule", DLSAFERULE);
+        keyword("Body", BODY);
+        keyword("Head", HEAD);
+        keyword("ClassAtom", CLASSATOM);
+        keyword("DataRangeAtom", DATARANGEATOM);
+        keyword("ObjectPropertyAtom", OBJECTPROPERTYATOM);
+        keyword("DataPropertyAtom", DATAPROPERTYATOM);
+        keyword("BuiltInAtom", BUILTINATOM);
+        keyword("SameIndividualAtom", SAMEINDIVIDUALATOM);
+        keyword("DifferentIndividualsAtom", DIFFERENTINDIVIDUALSATOM);
+        keyword("Variable", VARIABLE);
+        keyword("DescriptionGraphRule", DGRULE);
+        keyword("DescriptionGraph", DESCRIPTIONGRAPH);
+        keyword("Nodes", NODES);
+        keyword("NodeAssertion", NODEASSERTION);
+        keyword("Edges", EDGES);
+        keyword("EdgeAssertion", EDGEASSERTION);
+        keyword("MainClasses", MAINCLASSES);
+    }
 
     private int unreadChar = -1;
+    @Nullable
     private final Reader in;
     private boolean eofSeen = false;
     private final StringBuilder buf = new StringBuilder();
+    /** Mapped input for the byte level fast path; null when reading from a reader. */
+    @Nullable
+    private final MappedFileProvider bytes;
+    private long pos;
 
     public CustomTokenizer(Reader reader) {
         in = reader;
+        bytes = null;
+    }
+
+    /**
+     * Tokenize UTF-8 bytes directly from a mapped file. Only IRIs, prefixed names, literals and
+     * numbers are decoded into strings; keywords and punctuation reuse constant images.
+     *
+     * @param mapped mapped file
+     */
+    public CustomTokenizer(MappedFileProvider mapped) {
+        in = null;
+        bytes = mapped;
+        // skip the byte order mark, if present
+        if (mapped.length() >= 3 && mapped.byteAt(0) == (byte) 0xEF
+            && mapped.byteAt(1) == (byte) 0xBB && mapped.byteAt(2) == (byte) 0xBF) {
+            pos = 3;
+        }
+    }
+
+    private static void keyword(String image, int kind) {
+        KEYWORDS.put(image, Integer.valueOf(kind));
+        byte[] b = image.getBytes(StandardCharsets.US_ASCII);
+        int slot = hash(b, b.length) & KEYWORD_MASK;
+        while (KEYWORD_BYTES[slot] != null) {
+            slot = (slot + 1) & KEYWORD_MASK;
+        }
+        KEYWORD_BYTES[slot] = b;
+        KEYWORD_IMAGES[slot] = image;
+    }
+
+    private static int hash(byte[] b, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + b[i];
+        }
+        return h;
     }
 
     /**
@@ -30,6 +184,10 @@ class CustomTokenizer implements TokenManager {
      */
     @Override
     public Token getNextToken() {
+        MappedFileProvider mapped = bytes;
+        if (mapped != null) {
+            return nextMappedToken(mapped);
+        }
         while (true) {
             char c;
             try {
@@ -165,212 +323,8 @@ class CustomTokenizer implements TokenManager {
                 return makeToken(PNAME_LN, s);
             }
         }
-        switch (s) {
-            case "Ontology":
-                return makeToken(ONTOLOGY, s);
-            case "Label":
-                return makeToken(LABEL, s);
-            case "Import":
-                return makeToken(IMPORT, s);
-            case "Comment":
-                return makeToken(COMMENT, s);
-            case "SubClassOf":
-                return makeToken(SUBCLASSOF, s);
-            case "EquivalentClasses":
-                return makeToken(EQUIVALENTCLASSES, s);
-            case "DisjointClasses":
-                return makeToken(DISJOINTCLASSES, s);
-            case "DisjointUnion":
-                return makeToken(DISJOINTUNION, s);
-            case "Annotation":
-                return makeToken(ANNOTATION, s);
-            case "AnnotationProperty":
-                return makeToken(ANNOTATIONPROPERTY, s);
-            case "AnnotationAssertion":
-                return makeToken(ANNOTATIONASSERTION, s);
-            case "SubAnnotationPropertyOf":
-                return makeToken(SUBANNOTATIONPROPERTYOF, s);
-            case "AnnotationPropertyDomain":
-                return makeToken(ANNOTATIONPROPERTYDOMAIN, s);
-            case "AnnotationPropertyRange":
-                return makeToken(ANNOTATIONPROPERTYRANGE, s);
-            case "HasKey":
-                return makeToken(HASKEY, s);
-            case "Declaration":
-                return makeToken(DECLARATION, s);
-            case "Documentation":
-                return makeToken(DOCUMENTATION, s);
-            case "Class":
-                return makeToken(CLASS, s);
-            case "ObjectProperty":
-                return makeToken(OBJECTPROP, s);
-            case "DataProperty":
-                return makeToken(DATAPROP, s);
-            case "NamedIndividual":
-                return makeToken(NAMEDINDIVIDUAL, s);
-            case "Datatype":
-                return makeToken(DATATYPE, s);
-            case "DataOneOf":
-                return makeToken(DATAONEOF, s);
-            case "DataUnionOf":
-                return makeToken(DATAUNIONOF, s);
-            case "DataIntersectionOf":
-                return makeToken(DATAINTERSECTIONOF, s);
-            case "ObjectOneOf":
-                return makeToken(OBJECTONEOF, s);
-            case "ObjectUnionOf":
-                return makeToken(OBJECTUNIONOF, s);
-            case "ObjectHasValue":
-                return makeToken(OBJECTHASVALUE, s);
-            case "ObjectInverseOf":
-                return makeToken(OBJECTINVERSEOF, s);
-            case "InverseObjectProperties":
-                return makeToken(INVERSEOBJECTPROPERTIES, s);
-            case "DataComplementOf":
-                return makeToken(DATACOMPLEMENTOF, s);
-            case "DatatypeRestriction":
-                return makeToken(DATATYPERESTRICTION, s);
-            case "DatatypeDefinition":
-                return makeToken(DATATYPEDEFINITION, s);
-            case "ObjectIntersectionOf":
-                return makeToken(OBJECTINTERSECTIONOF, s);
-            case "ObjectComplementOf":
-                return makeToken(OBJECTCOMPLEMENTOF, s);
-            case "ObjectAllValuesFrom":
-                return makeToken(OBJECTALLVALUESFROM, s);
-            case "ObjectSomeValuesFrom":
-                return makeToken(OBJECTSOMEVALUESFROM, s);
-            case "ObjectHasSelf":
-                return makeToken(OBJECTHASSELF, s);
-            case "ObjectMinCardinality":
-                return makeToken(OBJECTMINCARDINALITY, s);
-            case "ObjectMaxCardinality":
-                return makeToken(OBJECTMAXCARDINALITY, s);
-            case "ObjectExactCardinality":
-                return makeToken(OBJECTEXACTCARDINALITY, s);
-            case "DataAllValuesFrom":
-                return makeToken(DATAALLVALUESFROM, s);
-            case "DataSomeValuesFrom":
-                return makeToken(DATASOMEVALUESFROM, s);
-            case "DataHasValue":
-                return makeToken(DATAHASVALUE, s);
-            case "DataMinCardinality":
-                return makeToken(DATAMINCARDINALITY, s);
-            case "DataMaxCardinality":
-                return makeToken(DATAMAXCARDINALITY, s);
-            case "DataExactCardinality":
-                return makeToken(DATAEXACTCARDINALITY, s);
-            case "ObjectPropertyChain":
-                return makeToken(SUBOBJECTPROPERTYCHAIN, s);
-            case "SubObjectPropertyOf":
-                return makeToken(SUBOBJECTPROPERTYOF, s);
-            case "EquivalentObjectProperties":
-                return makeToken(EQUIVALENTOBJECTPROPERTIES, s);
-            case "DisjointObjectProperties":
-                return makeToken(DISJOINTOBJECTPROPERTIES, s);
-            case "ObjectPropertyDomain":
-                return makeToken(OBJECTPROPERTYDOMAIN, s);
-            case "ObjectPropertyRange":
-                return makeToken(OBJECTPROPERTYRANGE, s);
-            case "FunctionalObjectProperty":
-                return makeToken(FUNCTIONALOBJECTPROPERTY, s);
-            case "InverseFunctionalObjectProperty":
-                return makeToken(INVERSEFUNCTIONALOBJECTPROPERTY, s);
-            case "ReflexiveObjectProperty":
-                return makeToken(REFLEXIVEOBJECTPROPERTY, s);
-            case "IrreflexiveObjectProperty":
-                return makeToken(IRREFLEXIVEOBJECTPROPERTY, s);
-            case "SymmetricObjectProperty":
-                return makeToken(SYMMETRICOBJECTPROPERTY, s);
-            case "AsymmetricObjectProperty":
-                return makeToken(ASYMMETRICOBJECTPROPERTY, s);
-            case "TransitiveObjectProperty":
-                return makeToken(TRANSITIVEOBJECTPROPERTY, s);
-            case "SubDataPropertyOf":
-                return makeToken(SUBDATAPROPERTYOF, s);
-            case "EquivalentDataProperties":
-                return makeToken(EQUIVALENTDATAPROPERTIES, s);
-            case "DisjointDataProperties":
-                return makeToken(DISJOINTDATAPROPERTIES, s);
-            case "DataPropertyDomain":
-                return makeToken(DATAPROPERTYDOMAIN, s);
-            case "DataPropertyRange":
-                return makeToken(DATAPROPERTYRANGE, s);
-            case "FunctionalDataProperty":
-                return makeToken(FUNCTIONALDATAPROPERTY, s);
-            case "SameIndividual":
-                return makeToken(SAMEINDIVIDUAL, s);
-            case "DifferentIndividuals":
-                return makeToken(DIFFERENTINDIVIDUALS, s);
-            case "ClassAssertion":
-                return makeToken(CLASSASSERTION, s);
-            case "ObjectPropertyAssertion":
-                return makeToken(OBJECTPROPERTYASSERTION, s);
-            case "NegativeObjectPropertyAssertion":
-                return makeToken(NEGATIVEOBJECTPROPERTYASSERTION, s);
-            case "DataPropertyAssertion":
-                return makeToken(DATAPROPERTYASSERTION, s);
-            case "NegativeDataPropertyAssertion":
-                return makeToken(NEGATIVEDATAPROPERTYASSERTION, s);
-            case "Prefix":
-                return makeToken(PREFIX, s);
-            case "length":
-                return makeToken(LENGTH, s);
-            case "minLength":
-                return makeToken(MINLENGTH, s);
-            case "maxLength":
-                return makeToken(MAXLENGTH, s);
-            case "pattern":
-                return makeToken(PATTERN, s);
-            case "minInclusive":
-                return makeToken(MININCLUSIVE, s);
-            case "maxInclusive":
-                return makeToken(MAXINCLUSIVE, s);
-            case "minExclusive":
-                return makeToken(MINEXCLUSIVE, s);
-            case "maxExclusive":
-                return makeToken(MAXEXCLUSIVE, s);
-            case "totalDigits":
-                return makeToken(TOTALDIGITS, s);
-            case "DLSafeRule":
-                return makeToken(DLSAFERULE, s);
-            case "Body":
-                return makeToken(BODY, s);
-            case "Head":
-                return makeToken(HEAD, s);
-            case "ClassAtom":
-                return makeToken(CLASSATOM, s);
-            case "DataRangeAtom":
-                return makeToken(DATARANGEATOM, s);
-            case "ObjectPropertyAtom":
-                return makeToken(OBJECTPROPERTYATOM, s);
-            case "DataPropertyAtom":
-                return makeToken(DATAPROPERTYATOM, s);
-            case "BuiltInAtom":
-                return makeToken(BUILTINATOM, s);
-            case "SameIndividualAtom":
-                return makeToken(SAMEINDIVIDUALATOM, s);
-            case "DifferentIndividualsAtom":
-                return makeToken(DIFFERENTINDIVIDUALSATOM, s);
-            case "Variable":
-                return makeToken(VARIABLE, s);
-            case "DescriptionGraphRule":
-                return makeToken(DGRULE, s);
-            case "DescriptionGraph":
-                return makeToken(DESCRIPTIONGRAPH, s);
-            case "Nodes":
-                return makeToken(NODES, s);
-            case "NodeAssertion":
-                return makeToken(NODEASSERTION, s);
-            case "Edges":
-                return makeToken(EDGES, s);
-            case "EdgeAssertion":
-                return makeToken(EDGEASSERTION, s);
-            case "MainClasses":
-                return makeToken(MAINCLASSES, s);
-            default:
-                return makeToken(PN_LOCAL, s);
-        }
+        Integer kind = KEYWORDS.get(s);
+        return makeToken(kind == null ? PN_LOCAL : kind.intValue(), s);
     }
 
     private Token readNumber(char input) throws IOException {
@@ -441,4 +395,186 @@ class CustomTokenizer implements TokenManager {
             return (char) c;
         }
     }
+
+    // Byte level fast path over a mapped file. Mirrors the reader based methods above; columns
+    // count characters, not bytes.
+
+    private Token nextMappedToken(MappedFileProvider b) {
+        long length = b.length();
+        while (true) {
+            while (pos < length && isSpace(b.byteAt(pos))) {
+                step(b.byteAt(pos));
+            }
+            if (pos >= length) {
+                return makeToken(EOF, "");
+            }
+            startLine = lineNo;
+            startCol = colNo + 1;
+            byte c = b.byteAt(pos);
+            switch (c) {
+                case '(':
+                    step(c);
+                    return makeToken(OPENPAR, "(");
+                case ')':
+                    step(c);
+                    return makeToken(CLOSEPAR, ")");
+                case '@':
+                    step(c);
+                    return makeToken(LANGIDENTIFIER, "@");
+                case '^':
+                    step(c);
+                    if (pos >= length) {
+                        return makeToken(EOF, "");
+                    }
+                    byte next = b.byteAt(pos);
+                    step(next);
+                    if (next == '^') {
+                        return makeToken(DATATYPEIDENTIFIER, "^^");
+                    }
+                    return makeToken(ERROR, "^" + (char) next);
+                case '=':
+                    step(c);
+                    return makeToken(EQUALS, "=");
+                case '#':
+                    while (pos < length && b.byteAt(pos) != '\n') {
+                        step(b.byteAt(pos));
+                    }
+                    if (pos < length) {
+                        step((byte) '\n');
+                    }
+                    break;
+                case '"':
+                    return mappedStringLiteral(b, length);
+                case '<':
+                    return mappedFullIRI(b, length);
+                default:
+                    return mappedTextualToken(b, length, c);
+            }
+        }
+    }
+
+    private Token mappedStringLiteral(MappedFileProvider b, long length) {
+        long start = pos;
+        step((byte) '"');
+        while (pos < length) {
+            byte c = b.byteAt(pos);
+            step(c);
+            if (c == '"') {
+                return makeToken(STRINGLITERAL, b.decode(start, pos));
+            }
+            if (c == '\\') {
+                if (pos >= length) {
+                    break;
+                }
+                c = b.byteAt(pos);
+                step(c);
+                if (c != '\\' && c != '"') {
+                    return makeToken(ERROR, "Bad escape sequence in StringLiteral");
+                }
+            }
+        }
+        return makeToken(EOF, "");
+    }
+
+    private Token mappedFullIRI(MappedFileProvider b, long length) {
+        long start = pos;
+        step((byte) '<');
+        while (pos < length) {
+            byte c = b.byteAt(pos);
+            step(c);
+            if (c == '>') {
+                return makeToken(FULLIRI, b.decode(start, pos));
+            }
+        }
+        return makeToken(ERROR, "<");
+    }
+
+    private Token mappedTextualToken(MappedFileProvider b, long length, byte first) {
+        long start = pos;
+        if (first >= '0' && first <= '9') {
+            while (pos < length && b.byteAt(pos) >= '0' && b.byteAt(pos) <= '9') {
+                step(b.byteAt(pos));
+            }
+            return makeToken(INT, b.decode(start, pos));
+        }
+        long colon = -1;
+        int h = 0;
+        while (pos < length) {
+            byte c = b.byteAt(pos);
+            if (isDelimiter(c)) {
+                break;
+            }
+            if (c == ':') {
+                colon = pos;
+            }
+            h = 31 * h + c;
+            step(c);
+        }
+        if (colon >= 0) {
+            String s = b.decode(start, pos);
+            if (colon == pos - 1) {
+                return makeToken(PNAME_NS, s);
+            }
+            if (s.startsWith("_:")) {
+                return makeToken(NODEID, s);
+            }
+            return makeToken(PNAME_LN, s);
+        }
+        int size = (int) (pos - start);
+        for (int slot = h & KEYWORD_MASK; KEYWORD_BYTES[slot] != null;
+            slot = (slot + 1) & KEYWORD_MASK) {
+            if (matches(b, start, size, KEYWORD_BYTES[slot])) {
+                String image = KEYWORD_IMAGES[slot];
+                return makeToken(KEYWORDS.get(image).intValue(), image);
+            }
+        }
+        return makeToken(PN_LOCAL, b.decode(start, pos));
+    }
+
+    private static boolean matches(MappedFileProvider b, long start, int size, byte[] keyword) {
+        if (keyword.length != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (b.byteAt(start + i) != keyword[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void step(byte c) {
+        pos++;
+        if (c == '\n') {
+            lineNo++;
+            colNo = 0;
+        } else if ((c & 0xC0) != 0x80) {
+            // UTF-8 continuation bytes do not start a new character
+            colNo++;
+        }
+    }
+
+    private static boolean isSpace(byte c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    private static boolean isDelimiter(byte c) {
+        switch (c) {
+            case '=':
+            case '"':
+            case '(':
+            case ')':
+            case '<':
+            case '>':
+            case '@':
+            case '^':
+            case '\r':
+            case '\n':
+            case ' ':
+            case '\t':
+                return true;
+            default:
+                return false;
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package org.semanticweb.owlapi.functional.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.semanticweb.owlapi.io.MappedFileDocumentSource;
+
+/**
+ * Random access to the bytes of a file mapped by {@link MappedFileDocumentSource}, addressed with
+ * absolute positions across region boundaries.
+ */
+class MappedFileProvider {
+
+    private static final int MASK = (1 << MappedFileDocumentSource.REGION_BITS) - 1;
+    private final ByteBuffer[] regions;
+    /** Position of the first byte of this provider in the mapped file. */
+    private final long offset;
+    private final long length;
+    private byte[] scratch = new byte[256];
+
+    MappedFileProvider(ByteBuffer[] regions) {
+        this(regions, 0, total(regions));
+    }
+
+    private MappedFileProvider(ByteBuffer[] regions, long offset, long length) {
+        this.regions = regions;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private static long total(ByteBuffer[] regions) {
+        long total = 0;
+        for (ByteBuffer b : regions) {
+            total += b.limit();
+        }
+        return total;
+    }
+
+    /**
+     * @param from first byte, inclusive
+     * @param to last byte, exclusive
+     * @return a provider for the bytes in the range, addressed from 0; providers of the same file
+     *         can be read by different threads
+     */
+    MappedFileProvider range(long from, long to) {
+        return new MappedFileProvider(regions, offset + from, to - from);
+    }
+
+    long length() {
+        return length;
+    }
+
+    byte byteAt(long pos) {
+        long p = offset + pos;
+        return regions[(int) (p >>> MappedFileDocumentSource.REGION_BITS)].get((int) (p & MASK));
+    }
+
+    /**
+     * @param from first byte, inclusive
+     * @param to last byte, exclusive
+     * @return the bytes in the range decoded as UTF-8
+     */
+    String decode(long from, long to) {
+        int size = (int) (to - from);
+        if (scratch.length < size) {
+            scratch = new byte[Math.max(size, scratch.length * 2)];
+        }
+        for (int i = 0; i < size; i++) {
+            scratch[i] = byteAt(from + i);
+        }
+        return new String(scratch, 0, size, StandardCharsets.UTF_8);
+    }
+}
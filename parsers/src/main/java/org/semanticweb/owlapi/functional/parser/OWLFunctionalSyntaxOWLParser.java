@@ -13,18 +13,33 @@
 package org.semanticweb.owlapi.functional.parser;
 
 import java.io.IOException;
+import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
 import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormatFactory;
 import org.semanticweb.owlapi.io.AbstractOWLParser;
 import org.semanticweb.owlapi.io.DocumentSources;
+import org.semanticweb.owlapi.io.MappedFileDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
 import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
@@ -32,6 +47,14 @@ import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
  */
 public class OWLFunctionalSyntaxOWLParser extends AbstractOWLParser {
 
+    /**
+     * Smallest number of axioms worth handing to a worker; documents with fewer than two chunks
+     * worth of axioms are parsed sequentially.
+     */
+    private static final int MIN_AXIOMS_PER_CHUNK = 1000;
+    /** Axioms in each chunk of a streamed document, whose size is not known in advance. */
+    private static final int STREAMED_AXIOMS_PER_CHUNK = 4 * MIN_AXIOMS_PER_CHUNK;
+
     @Override
     public OWLDocumentFormatFactory getSupportedFormat() {
         return new FunctionalSyntaxDocumentFormatFactory();
@@ -40,15 +63,245 @@ public class OWLFunctionalSyntaxOWLParser extends AbstractOWLParser {
     @Override
     public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
         OWLOntologyLoaderConfiguration config) {
+        return read(source, ontology, config, null);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config, Consumer<OWLAxiom> consumer) {
+        return read(source, ontology, config, consumer);
+    }
+
+    private static OWLDocumentFormat read(OWLOntologyDocumentSource source, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config, @Nullable Consumer<OWLAxiom> consumer) {
+        if (source instanceof MappedFileDocumentSource) {
+            return readMapped((MappedFileDocumentSource) source, ontology, config, consumer);
+        }
         try (Reader r = DocumentSources.wrapInputAsReader(source, config)) {
-            OWLFunctionalSyntaxParser parser =
-                new OWLFunctionalSyntaxParser(new CustomTokenizer(r));
-            parser.setUp(ontology, config);
-            return parser.parse();
+            if (config.shouldParseInParallel()) {
+                return parseInParallel(r, ontology, config, consumer);
+            }
+            return parse(new CustomTokenizer(r), ontology, config, consumer);
         } catch (ParseException e) {
             throw new OWLParserException(e.getMessage(), e, 0, 0);
         } catch (OWLOntologyInputSourceException | IOException e) {
             throw new OWLParserException(e);
         }
     }
+
+    private static OWLDocumentFormat readMapped(MappedFileDocumentSource source,
+        OWLOntology ontology, OWLOntologyLoaderConfiguration config,
+        @Nullable Consumer<OWLAxiom> consumer) {
+        try {
+            MappedFileProvider mapped = new MappedFileProvider(source.map());
+            if (config.shouldParseInParallel()) {
+                return parseInParallel(mapped, ontology, config, consumer);
+            }
+            return parse(new CustomTokenizer(mapped), ontology, config, consumer);
+        } catch (ParseException e) {
+            throw new OWLParserException(e.getMessage(), e, 0, 0);
+        } catch (IOException e) {
+            throw new OWLParserException(e);
+        }
+    }
+
+    private static FunctionalSyntaxDocumentFormat parse(CustomTokenizer tokenizer,
+        OWLOntology ontology, OWLOntologyLoaderConfiguration config,
+        @Nullable Consumer<OWLAxiom> consumer) throws ParseException {
+        OWLFunctionalSyntaxParser parser = new OWLFunctionalSyntaxParser(tokenizer);
+        parser.setUp(ontology, config);
+        parser.setAxiomConsumer(consumer);
+        return parser.parse();
+    }
+
+    /**
+     * Split a mapped file into chunks of about the same size at top level element boundaries, and
+     * parse the chunks in parallel. The file is scanned once to find the boundaries; the chunks
+     * are read from the mapped regions, so the document is never copied on heap.
+     */
+    private static OWLDocumentFormat parseInParallel(MappedFileProvider mapped,
+        OWLOntology ontology, OWLOntologyLoaderConfiguration config,
+        @Nullable Consumer<OWLAxiom> consumer) throws ParseException {
+        long length = mapped.length();
+        // skip the byte order mark, if present
+        long bom = length >= 3 && mapped.byteAt(0) == (byte) 0xEF
+            && mapped.byteAt(1) == (byte) 0xBB && mapped.byteAt(2) == (byte) 0xBF ? 3 : 0;
+        int chunkCount = ForkJoinPool.getCommonPoolParallelism() * 4;
+        long[] starts = new long[chunkCount + 1];
+        int[] lines = new int[chunkCount];
+        int found = 0;
+        AxiomSplitter splitter = new AxiomSplitter();
+        // bytes of multi byte UTF-8 sequences are never mistaken for delimiters
+        for (long pos = bom; pos < length && !splitter.isDone(); pos++) {
+            long start = splitter.next((char) (mapped.byteAt(pos) & 0xFF));
+            // each chunk starts at the first axiom past its share of the file
+            if (start >= 0 && found < chunkCount && start >= found * length / chunkCount) {
+                starts[found] = bom + start;
+                lines[found] = splitter.axiomLine();
+                found++;
+            }
+        }
+        if (splitter.end() < 0 || splitter.axiomCount() < 2 * MIN_AXIOMS_PER_CHUNK) {
+            return parse(new CustomTokenizer(mapped), ontology, config, consumer);
+        }
+        starts[found] = bom + splitter.end();
+        Workers workers = new Workers(mapped.decode(bom, starts[0]), ontology, config, consumer);
+        try {
+            for (int i = 0; i < found; i++) {
+                workers.submit(new CustomTokenizer(mapped.range(starts[i], starts[i + 1])),
+                    lines[i]);
+            }
+            workers.drain(0);
+        } catch (RuntimeException e) {
+            workers.cancel();
+            throw e;
+        }
+        return workers.format;
+    }
+
+    /**
+     * Split a streamed document into chunks of {@link #STREAMED_AXIOMS_PER_CHUNK} axioms at top
+     * level element boundaries while it is read, and parse the chunks in parallel. Only the chunks
+     * being parsed are held in memory; documents that fit in one chunk are parsed sequentially.
+     */
+    private static OWLDocumentFormat parseInParallel(Reader r, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config, @Nullable Consumer<OWLAxiom> consumer)
+        throws IOException, ParseException {
+        int maxPending = ForkJoinPool.getCommonPoolParallelism() * 4;
+        AxiomSplitter splitter = new AxiomSplitter();
+        // input read so far, from offset base on
+        StringBuilder text = new StringBuilder();
+        long base = 0;
+        long chunkStart = -1;
+        int chunkLine = 1;
+        int chunkAxioms = 0;
+        Workers workers = null;
+        char[] buffer = new char[65536];
+        try {
+            for (int n = r.read(buffer); n >= 0 && !splitter.isDone(); n = r.read(buffer)) {
+                text.append(buffer, 0, n);
+                for (int i = 0; i < n && !splitter.isDone(); i++) {
+                    long start = splitter.next(buffer[i]);
+                    if (start >= 0 && ++chunkAxioms > STREAMED_AXIOMS_PER_CHUNK) {
+                        if (workers == null) {
+                            workers = new Workers(text.substring(0, (int) (chunkStart - base)),
+                                ontology, config, consumer);
+                        }
+                        workers.submit(new CustomTokenizer(new StringReader(text
+                            .substring((int) (chunkStart - base), (int) (start - base)))),
+                            chunkLine);
+                        text.delete(0, (int) (start - base));
+                        base = start;
+                        chunkAxioms = 1;
+                        workers.drain(maxPending);
+                    }
+                    if (start >= 0 && chunkAxioms == 1) {
+                        chunkStart = start;
+                        chunkLine = splitter.axiomLine();
+                    }
+                }
+            }
+            if (workers == null) {
+                // the document fits in one chunk, or does not have the expected shape; the
+                // sequential parser reports errors with their position
+                PushbackReader all = new PushbackReader(r, Math.max(1, text.length()));
+                all.unread(text.toString().toCharArray());
+                return parse(new CustomTokenizer(all), ontology, config, consumer);
+            }
+            if (splitter.end() < 0) {
+                throw new OWLParserException(
+                    "Malformed axiom or unexpected end of document after line "
+                        + splitter.axiomLine(),
+                    splitter.axiomLine(), 0);
+            }
+            workers.submit(new CustomTokenizer(new StringReader(
+                text.substring((int) (chunkStart - base), (int) (splitter.end() - base)))),
+                chunkLine);
+            workers.drain(0);
+            return workers.format;
+        } catch (RuntimeException e) {
+            if (workers != null) {
+                workers.cancel();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Chunks of axioms parsed on the common fork join pool. The prefixes and the ontology header
+     * are parsed first, sequentially; workers share the prefixes, the data factory and the
+     * anonymous individual mapping. The axioms of each chunk are added to the ontology, or passed
+     * to the consumer, in document order.
+     */
+    private static class Workers {
+
+        final OWLOntology ontology;
+        final OWLOntologyLoaderConfiguration config;
+        @Nullable
+        final Consumer<OWLAxiom> consumer;
+        final FunctionalSyntaxDocumentFormat format;
+        final RemappingIndividualProvider anonProvider;
+        final Deque<ForkJoinTask<List<OWLAxiom>>> pending = new ArrayDeque<>();
+
+        Workers(String header, OWLOntology ontology, OWLOntologyLoaderConfiguration config,
+            @Nullable Consumer<OWLAxiom> consumer) throws ParseException {
+            this.ontology = ontology;
+            this.config = config;
+            this.consumer = consumer;
+            OWLFunctionalSyntaxParser parser =
+                new OWLFunctionalSyntaxParser(new CustomTokenizer(new StringReader(header + ')')));
+            parser.setUp(ontology, config);
+            format = parser.parse();
+            anonProvider = parser.anonProvider;
+        }
+
+        void submit(CustomTokenizer tokenizer, int line) {
+            pending.add(ForkJoinPool.commonPool().submit(() -> parse(tokenizer, line)));
+        }
+
+        /**
+         * Wait for the oldest chunks and add their axioms, until no more than max chunks are
+         * pending.
+         *
+         * @param max number of chunks that can be left pending
+         */
+        void drain(int max) {
+            while (pending.size() > max) {
+                List<OWLAxiom> axioms = pending.removeFirst().join();
+                if (consumer != null) {
+                    axioms.forEach(consumer);
+                } else if (config.shouldAddAxiomsInBulk()) {
+                    ontology.addAxiomsInBulk(axioms);
+                } else {
+                    ontology.addAxioms(axioms);
+                }
+            }
+        }
+
+        void cancel() {
+            pending.forEach(t -> t.cancel(false));
+            pending.clear();
+        }
+
+        List<OWLAxiom> parse(CustomTokenizer tokenizer, int line) {
+            List<OWLAxiom> axioms = new ArrayList<>();
+            OWLFunctionalSyntaxParser parser = new OWLFunctionalSyntaxParser(tokenizer);
+            parser.setUp(ontology, config);
+            parser.setPrefixes(format);
+            parser.anonProvider = anonProvider;
+            parser.setAxiomConsumer(axioms::add);
+            try {
+                parser.parseAxioms();
+            } catch (ParseException e) {
+                throw new OWLParserException(
+                    "Error in axioms starting at line " + line + ": " + e.getMessage(), e, line, 0);
+            }
+            return axioms;
+        }
+    }
 }
@@ -6,6 +6,7 @@ import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.vocab.*;
 import java.net.*;
 import java.util.*;
+import java.util.function.Consumer;
 import org.semanticweb.owlapi.util.*;
 import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
 import java.io.IOException;
@@ -23,11 +24,16 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
     private boolean ignoreAnnotationsAndDeclarations = false;
     private Set<OWLAnnotation> currentAnnotations;
     protected RemappingIndividualProvider anonProvider;
+    private Consumer<OWLAxiom> axiomConsumer;
+    private static final int AXIOM_BATCH_SIZE = 10000;
+    private final List<OWLAxiom> pendingAxioms = new ArrayList<OWLAxiom>();
+    private boolean addAxiomsInBulk = false;
 
     public void setUp(OWLOntology ontology, OWLOntologyLoaderConfiguration configuration) {
         this.man = ontology.getOWLOntologyManager();
         this.ontology = ontology;
         this.configuration = configuration;
+        this.addAxiomsInBulk = configuration.shouldAddAxiomsInBulk();
         this.df = man.getOWLDataFactory();
         anonProvider=new RemappingIndividualProvider(man.getOntologyConfigurator(), df);
         this.currentAnnotations = new HashSet<OWLAnnotation>();
@@ -71,9 +77,33 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
         man.applyChange(chg);
     }
 
+    public void setAxiomConsumer(Consumer<OWLAxiom> axiomConsumer) {
+        this.axiomConsumer = axiomConsumer;
+    }
+
     protected void addAxiom(OWLAxiom ax) {
         if (!(ax instanceof OWLAnnotationAxiom) || configuration.isLoadAnnotationAxioms()) {
-            ontology.addAxiom(ax);
+            if (axiomConsumer != null) {
+                axiomConsumer.accept(ax);
+            } else if (addAxiomsInBulk) {
+                pendingAxioms.add(ax);
+                if (pendingAxioms.size() >= AXIOM_BATCH_SIZE) {
+                    flushAxioms();
+                }
+            } else {
+                ontology.addAxiom(ax);
+            }
+        }
+    }
+
+    /**
+     * Add the axioms parsed so far to the ontology, in one bulk operation. Axioms are only held
+     * back when the configuration asks for bulk loading.
+     */
+    protected void flushAxioms() {
+        if (!pendingAxioms.isEmpty()) {
+            ontology.addAxiomsInBulk(pendingAxioms);
+            pendingAxioms.clear();
         }
     }
 
@@ -84,6 +114,17 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
         prefixMap.putAll(nsm.getPrefixName2PrefixMap());
     }
 
+    /**
+     * Parse a sequence of axioms, with no prefixes or ontology header, up to the end of the input.
+     * The parser must have been set up with the prefixes of the document the axioms come from.
+     */
+    public void parseAxioms() throws ParseException {
+        while (getToken(1).kind != EOF) {
+            addAxiom(Axiom());
+            currentAnnotations.clear();
+        }
+    }
+
   final public FunctionalSyntaxDocumentFormat parse() throws ParseException, OWLParserException, UnloadableImportException {
     label_1:
     while (true) {
@@ -100,7 +141,8 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
     }
     Ontology();
     jj_consume_token(0);
-FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
+flushAxioms();
+        FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
         for(String pn : prefixMap.keySet()) {
             format.setPrefix(pn, prefixMap.get(pn));
         }
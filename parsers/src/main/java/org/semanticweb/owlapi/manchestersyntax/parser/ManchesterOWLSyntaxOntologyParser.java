@@ -15,12 +15,17 @@ package org.semanticweb.owlapi.manchestersyntax.parser;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
 import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormatFactory;
 import org.semanticweb.owlapi.io.AbstractOWLParser;
 import org.semanticweb.owlapi.io.DocumentSources;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
 import org.semanticweb.owlapi.manchestersyntax.renderer.ParserException;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -50,6 +55,22 @@ public class ManchesterOWLSyntaxOntologyParser extends AbstractOWLParser {
     @Override
     public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
         OWLOntologyLoaderConfiguration config) {
+        return read(source, ontology, config, null);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config, Consumer<OWLAxiom> consumer) {
+        return read(source, ontology, config, consumer);
+    }
+
+    private static OWLDocumentFormat read(OWLOntologyDocumentSource source, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config, @Nullable Consumer<OWLAxiom> consumer) {
         try (Reader r = DocumentSources.wrapInputAsReader(source, config);
             BufferedReader reader = new BufferedReader(r)) {
             StringBuilder sb = new StringBuilder();
@@ -90,6 +111,9 @@ public class ManchesterOWLSyntaxOntologyParser extends AbstractOWLParser {
                 .getOWLOntologyManager().getOWLDataFactory());
             parser.setOntologyLoaderConfiguration(config);
             parser.setStringToParse(s);
+            if (consumer != null) {
+                return parser.parseOntology(ontology, consumer);
+            }
             return parser.parseOntology(ontology);
         } catch (ParserException e) {
             throw new ManchesterOWLSyntaxParserException(e.getMessage(), e, e.getLineNumber(),
@@ -115,6 +115,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -2138,9 +2139,44 @@ public class ManchesterOWLSyntaxParserImpl implements ManchesterOWLSyntaxParser
     @Override
     public ManchesterSyntaxDocumentFormat parseOntology(OWLOntology ont) {
         Set<OntologyAxiomPair> axioms = new HashSet<>();
-        OWLOntologyID ontologyID = new OWLOntologyID();
         Set<AddImport> imports = new HashSet<>();
         Set<AddOntologyAnnotation> ontologyAnnotations = new HashSet<>();
+        OWLOntologyID ontologyID = parseSections(ont, axioms::addAll, imports, ontologyAnnotations);
+        List<OWLOntologyChange> changes = new ArrayList<>(axioms.size());
+        changes.addAll(imports);
+        changes.addAll(ontologyAnnotations);
+        for (OntologyAxiomPair pair : axioms) {
+            changes.add(new AddAxiom(ont, pair.getAxiom()));
+        }
+        changes.add(new SetOntologyID(ont, ontologyID));
+        ont.getOWLOntologyManager().applyChanges(changes);
+        ManchesterSyntaxDocumentFormat format = new ManchesterSyntaxDocumentFormat();
+        format.copyPrefixesFrom(pm);
+        return format;
+    }
+
+    @Override
+    public ManchesterSyntaxDocumentFormat parseOntology(OWLOntology ont,
+        Consumer<OWLAxiom> consumer) {
+        Set<AddImport> imports = new HashSet<>();
+        Set<AddOntologyAnnotation> ontologyAnnotations = new HashSet<>();
+        OWLOntologyID ontologyID = parseSections(ont,
+            frame -> frame.forEach(pair -> consumer.accept(pair.getAxiom())), imports,
+            ontologyAnnotations);
+        List<OWLOntologyChange> changes = new ArrayList<>();
+        changes.addAll(imports);
+        changes.addAll(ontologyAnnotations);
+        changes.add(new SetOntologyID(ont, ontologyID));
+        ont.getOWLOntologyManager().applyChanges(changes);
+        ManchesterSyntaxDocumentFormat format = new ManchesterSyntaxDocumentFormat();
+        format.copyPrefixesFrom(pm);
+        return format;
+    }
+
+    private OWLOntologyID parseSections(OWLOntology ont,
+        Consumer<Collection<OntologyAxiomPair>> axioms,
+        Set<AddImport> imports, Set<AddOntologyAnnotation> ontologyAnnotations) {
+        OWLOntologyID ontologyID = new OWLOntologyID();
         defaultOntology = ont;
         processDeclaredEntities();
         while (true) {
@@ -2148,31 +2184,31 @@ public class ManchesterOWLSyntaxParserImpl implements ManchesterOWLSyntaxParser
             if (ONTOLOGY.matches(section)) {
                 ontologyID = handleOntology(ont, imports, ontologyAnnotations);
             } else if (DISJOINT_CLASSES.matches(section)) {
-                axioms.addAll(parseDisjointClasses());
+                axioms.accept(parseDisjointClasses());
             } else if (EQUIVALENT_CLASSES.matches(section)) {
-                axioms.addAll(parseNaryEquivalentClasses());
+                axioms.accept(parseNaryEquivalentClasses());
             } else if (EQUIVALENT_PROPERTIES.matches(section)) {
-                axioms.addAll(parseNaryEquivalentProperties());
+                axioms.accept(parseNaryEquivalentProperties());
             } else if (DISJOINT_PROPERTIES.matches(section)) {
-                axioms.addAll(parseDisjointProperties());
+                axioms.accept(parseDisjointProperties());
             } else if (DIFFERENT_INDIVIDUALS.matches(section)) {
-                axioms.addAll(parseDifferentIndividuals());
+                axioms.accept(parseDifferentIndividuals());
             } else if (SAME_INDIVIDUAL.matches(section)) {
-                axioms.addAll(parseSameIndividual());
+                axioms.accept(parseSameIndividual());
             } else if (CLASS.matches(section)) {
-                axioms.addAll(parseClassFrame());
+                axioms.accept(parseClassFrame());
             } else if (OBJECT_PROPERTY.matches(section)) {
-                axioms.addAll(parseObjectPropertyFrame());
+                axioms.accept(parseObjectPropertyFrame());
             } else if (DATA_PROPERTY.matches(section)) {
-                axioms.addAll(parseDataPropertyFrame());
+                axioms.accept(parseDataPropertyFrame());
             } else if (INDIVIDUAL.matches(section)) {
-                axioms.addAll(parseIndividualFrame());
+                axioms.accept(parseIndividualFrame());
             } else if (DATATYPE.matches(section)) {
-                axioms.addAll(parseDatatypeFrame());
+                axioms.accept(parseDatatypeFrame());
             } else if (ANNOTATION_PROPERTY.matches(section)) {
-                axioms.addAll(parseAnnotationPropertyFrame());
+                axioms.accept(parseAnnotationPropertyFrame());
             } else if (VALUE_PARTITION.matches(section)) {
-                axioms.addAll(parseValuePartitionFrame());
+                axioms.accept(parseValuePartitionFrame());
             } else if (IMPORT.matches(section)) {
                 OWLImportsDeclaration decl = parseImportsDeclaration();
                 ont.getOWLOntologyManager().makeLoadImportRequest(decl,
@@ -2185,7 +2221,7 @@ public class ManchesterOWLSyntaxParserImpl implements ManchesterOWLSyntaxParser
             } else if (PREFIX.matches(section)) {
                 parsePrefixDeclaration().forEach((k, v) -> pm.setPrefix(k, v.toString()));
             } else if (RULE.matches(section)) {
-                axioms.addAll(parseRuleFrame());
+                axioms.accept(parseRuleFrame());
             } else if (eof(section)) {
                 break;
             } else {
@@ -2196,17 +2232,7 @@ public class ManchesterOWLSyntaxParserImpl implements ManchesterOWLSyntaxParser
                     DIFFERENT_INDIVIDUALS, SAME_INDIVIDUAL).build();
             }
         }
-        List<OWLOntologyChange> changes = new ArrayList<>(axioms.size());
-        changes.addAll(imports);
-        changes.addAll(ontologyAnnotations);
-        for (OntologyAxiomPair pair : axioms) {
-            changes.add(new AddAxiom(ont, pair.getAxiom()));
-        }
-        changes.add(new SetOntologyID(ont, ontologyID));
-        ont.getOWLOntologyManager().applyChanges(changes);
-        ManchesterSyntaxDocumentFormat format = new ManchesterSyntaxDocumentFormat();
-        format.copyPrefixesFrom(pm);
-        return format;
+        return ontologyID;
     }
 
     protected OWLOntologyID handleOntology(OWLOntology ont, Set<AddImport> imports,
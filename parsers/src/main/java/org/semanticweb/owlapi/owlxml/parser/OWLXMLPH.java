@@ -114,12 +114,15 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
@@ -155,6 +158,8 @@ class OWLXMLPH extends DefaultHandler implements AnonymousIndividualByIdProvider
     private final RemappingIndividualProvider anonProvider;
     @Nullable
     private Locator locator;
+    @Nullable
+    private Consumer<OWLAxiom> axiomConsumer;
     private boolean atLeastOneValidTagFound = false;
 
     /**
@@ -407,6 +412,26 @@ class OWLXMLPH extends DefaultHandler implements AnonymousIndividualByIdProvider
         }
     }
 
+    /**
+     * @param axiomConsumer consumer for parsed axioms; if set, axioms are passed to the consumer
+     *        instead of being added to the ontology
+     */
+    public void setAxiomConsumer(@Nullable Consumer<OWLAxiom> axiomConsumer) {
+        this.axiomConsumer = axiomConsumer;
+    }
+
+    void addAxiom(OWLAxiom axiom) {
+        if (axiom.isAnnotationAxiom() && !configuration.isLoadAnnotationAxioms()) {
+            return;
+        }
+        Consumer<OWLAxiom> consumer = axiomConsumer;
+        if (consumer != null) {
+            consumer.accept(axiom);
+        } else {
+            owlOntologyManager.applyChange(new AddAxiom(ontology, axiom));
+        }
+    }
+
     /**
      * @return ontology
      */
@@ -15,6 +15,9 @@ package org.semanticweb.owlapi.owlxml.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
 import org.semanticweb.owlapi.formats.OWLXMLDocumentFormatFactory;
@@ -23,6 +26,7 @@ import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
 import org.semanticweb.owlapi.io.OWLParserException;
 import org.semanticweb.owlapi.io.XMLUtils;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -45,10 +49,27 @@ public class OWLXMLParser extends AbstractOWLParser {
     @Override
     public OWLDocumentFormat parse(OWLOntologyDocumentSource documentSource, OWLOntology ontology,
         OWLOntologyLoaderConfiguration configuration) {
+        return read(documentSource, ontology, configuration, null);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public OWLDocumentFormat parse(OWLOntologyDocumentSource documentSource, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration configuration, Consumer<OWLAxiom> consumer) {
+        return read(documentSource, ontology, configuration, consumer);
+    }
+
+    private OWLDocumentFormat read(OWLOntologyDocumentSource documentSource, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration configuration, @Nullable Consumer<OWLAxiom> consumer) {
         InputSource isrc = null;
         try {
             isrc = getInputSource(documentSource, configuration);
             OWLXMLPH handler = new OWLXMLPH(ontology, configuration);
+            handler.setAxiomConsumer(consumer);
             SAXParsers.initParserWithOWLAPIStandards(null, configuration.getEntityExpansionLimit())
                 .parse(isrc, handler);
             if (!handler.atLeastOneTagFound()) {
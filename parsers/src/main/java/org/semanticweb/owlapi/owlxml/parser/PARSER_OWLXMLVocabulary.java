@@ -126,7 +126,6 @@ import javax.annotation.Nullable;
 import javax.inject.Provider;
 
 import org.semanticweb.owlapi.io.XMLUtils;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.HasIRI;
@@ -533,10 +532,7 @@ abstract class OWLEH<O, B extends Builder<O>> {
     }
 
     void handleChild(AxiomEH<? extends OWLAxiom, ?> h) {
-        OWLAxiom axiom = h.getOWLObject();
-        if (!axiom.isAnnotationAxiom() || handler.getConfiguration().isLoadAnnotationAxioms()) {
-            handler.getOWLOntologyManager().applyChange(new AddAxiom(handler.getOntology(), axiom));
-        }
+        handler.addAxiom(h.getOWLObject());
     }
 
     void handleChild(ClassEH<? extends OWLClassExpression, ?> h) {}
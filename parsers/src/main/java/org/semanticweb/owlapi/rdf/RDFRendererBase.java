@@ -150,6 +150,7 @@ public abstract class RDFRendererBase {
     private final Set<RDFResourceBlankNode> renderedNodes = new HashSet<>();
     private final Map<Object, Integer> blankNodeMap = new IdentityHashMap<>();
     private final OWLObjectDesharer desharer;
+    private final boolean sharingFactory;
 
     /**
      * @param ontology ontology
@@ -166,6 +167,7 @@ public abstract class RDFRendererBase {
         OWLOntologyManager m = this.ontology.getOWLOntologyManager();
         desharer = new OWLObjectDesharer(m);
         df = m.getOWLDataFactory();
+        sharingFactory = df.getUnsharedFactory() != df;
         this.format = format;
         if (m.getOntologyWriterConfiguration().shouldSaveIdsForAllAnonymousIndividuals()) {
             occurrences = x -> true;
@@ -496,7 +498,8 @@ public abstract class RDFRendererBase {
     }
 
     protected OWLObject deshare(OWLObject o) {
-        if (o.hasSharedStructure()) {
+        // a sharing data factory can also return the same expression in different axioms
+        if (sharingFactory || o.hasSharedStructure()) {
             return o.accept(desharer);
         }
         return o;
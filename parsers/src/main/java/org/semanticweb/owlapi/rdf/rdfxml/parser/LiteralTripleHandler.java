@@ -27,4 +27,26 @@ interface LiteralTripleHandler {
      * @return true if can handle streaming
      */
     boolean canHandleStreaming(IRI subject, IRI predicate, OWLLiteral object);
+
+    /**
+     * Check on the predicate alone, used to select the candidate handlers for a predicate once
+     * for all its triples; the result must not depend on the state of the parse.
+     *
+     * @param predicate predicate
+     * @return false if no triple with the predicate can be handled in streaming mode
+     */
+    default boolean mayHandleStreaming(IRI predicate) {
+        return true;
+    }
+
+    /**
+     * Check on the predicate alone, used to select the candidate handlers for a predicate once
+     * for all its triples; the result must not depend on the state of the parse.
+     *
+     * @param predicate predicate
+     * @return false if no triple with the predicate can be handled
+     */
+    default boolean mayHandle(IRI predicate) {
+        return true;
+    }
 }
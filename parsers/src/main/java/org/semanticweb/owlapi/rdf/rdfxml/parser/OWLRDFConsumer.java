@@ -95,6 +95,8 @@ import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDFS_LITERAL;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDFS_RANGE;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDFS_SUBCLASS_OF;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDFS_SUB_PROPERTY_OF;
+import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_FIRST;
+import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_REST;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_TYPE;
 
 import java.util.ArrayList;
@@ -109,6 +111,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -209,38 +212,65 @@ public class OWLRDFConsumer
      * The configuration.
      */
     private final OWLOntologyLoaderConfiguration configuration;
+    /**
+     * Options of the configuration read for most triples or axioms; looking them up goes through
+     * the system properties, so they are read once.
+     */
+    private final boolean strict;
+    private final boolean loadAnnotationAxioms;
+    /**
+     * True if the annotation literals of a named subject are translated when the statements about
+     * the subject end, rather than buffered until the end of the model.
+     */
+    private final boolean streamingTranslation;
+    /**
+     * Subject of the last statement, in streaming translation mode.
+     */
+    @Nullable
+    private IRI currentSubject;
+    /**
+     * Annotation literals of the current subject, held back until the subject changes; the
+     * subject may still turn out to be an ontology, axiom, annotation or rule node, in which case
+     * the translation is undone at the end of the model.
+     */
+    private final List<IRI> heldPredicates = new ArrayList<>();
+    private final List<OWLLiteral> heldLiterals = new ArrayList<>();
+    /**
+     * Ids of the terms in the type sets and in the buffered triples.
+     */
+    private final TermDictionary terms = new TermDictionary();
     /**
      * The class expression iris.
      */
-    private final Set<IRI> classIRIs = createSet();
+    private final TermSet classIRIs = new TermSet(terms);
     /**
      * The object property iris.
      */
-    private final Set<IRI> objectPropertyIRIs = createSet();
+    private final TermSet objectPropertyIRIs = new TermSet(terms);
     /**
      * The data property iris.
      */
-    private final Set<IRI> dataPropertyIRIs = createSet();
+    private final TermSet dataPropertyIRIs = new TermSet(terms);
     /**
      * The RDF property iris, for RDF properties neither typed as a data or object property - bad!
      */
-    private final Set<IRI> propertyIRIs = createSet();
+    private final TermSet propertyIRIs = new TermSet(terms);
     /**
      * Set of IRIs that are typed by non-system types and also owl:Thing
      */
-    private final Set<IRI> individualIRIs = createSet();
+    private final TermSet individualIRIs = new TermSet(terms);
     /**
      * The annotation property iris.
      */
-    private final Set<IRI> annPropertyIRIs = createSet();
+    private final TermSet annPropertyIRIs = new TermSet(terms);
     /**
      * The annotation iris.
      */
-    private final Set<IRI> annotationIRIs = createSet();
+    private final TermSet annotationIRIs = new TermSet(terms);
     /**
      * IRIs that had a type triple to rdfs:Datatange
      */
-    private final Set<IRI> dataRangeIRIs = createSet();
+    private final TermSet dataRangeIRIs = new TermSet(terms);
     /**
      * IRIs that had a type triple to owl:Ontology
      */
@@ -248,23 +278,19 @@ public class OWLRDFConsumer
     /**
      * IRIs that had a type triple to owl:Restriction
      */
-    private final Set<IRI> restrictionIRIs = createSet();
+    private final TermSet restrictionIRIs = new TermSet(terms);
     /**
-     * Maps rdf:next triple subjects to objects
+     * rdf:first and rdf:rest triples with resource objects, one object per subject
      */
-    private final Map<IRI, IRI> listRestTripleMap = createMap();
+    private final TripleTable<IRI> listTriples = new TripleTable<>(terms);
     /**
-     * The list first resource triple map.
+     * rdf:first triples with literal objects, one object per subject
      */
-    private final Map<IRI, IRI> listFirstResourceTripleMap = createMap();
-    /**
-     * The list first literal triple map.
-     */
-    private final Map<IRI, OWLLiteral> listFirstLiteralTripleMap = createMap();
+    private final TripleTable<OWLLiteral> listLiteralTriples = new TripleTable<>(terms);
     /**
      * The axioms.
      */
-    private final Set<IRI> axioms = createSet();
+    private final TermSet axioms = new TermSet(terms);
     /**
      * The shared anonymous nodes.
      */
@@ -297,35 +323,35 @@ public class OWLRDFConsumer
     /**
      * The SWRL individual property atoms.
      */
-    private final Set<IRI> swrlIndividualPropertyAtoms = createSet();
+    private final TermSet swrlIndividualPropertyAtoms = new TermSet(terms);
     /**
      * The SWRL data valued property atoms.
      */
-    private final Set<IRI> swrlDataValuedPropertyAtoms = createSet();
+    private final TermSet swrlDataValuedPropertyAtoms = new TermSet(terms);
     /**
      * The SWRL class atoms.
      */
-    private final Set<IRI> swrlClassAtoms = createSet();
+    private final TermSet swrlClassAtoms = new TermSet(terms);
     /**
      * The SWRL data range atoms.
      */
-    private final Set<IRI> swrlDataRangeAtoms = createSet();
+    private final TermSet swrlDataRangeAtoms = new TermSet(terms);
     /**
      * The SWRL built in atoms.
      */
-    private final Set<IRI> swrlBuiltInAtoms = createSet();
+    private final TermSet swrlBuiltInAtoms = new TermSet(terms);
     /**
      * The SWRL variables.
      */
-    private final Set<IRI> swrlVariables = createSet();
+    private final TermSet swrlVariables = new TermSet(terms);
     /**
      * The SWRL same as atoms.
      */
-    private final Set<IRI> swrlSameAsAtoms = createSet();
+    private final TermSet swrlSameAsAtoms = new TermSet(terms);
     /**
      * The SWRL different from atoms.
      */
-    private final Set<IRI> swrlDifferentFromAtoms = createSet();
+    private final TermSet swrlDifferentFromAtoms = new TermSet(terms);
     /**
      * A cache of annotation axioms to be added at the end - saves some peek memory doing this.
      */
@@ -341,22 +367,13 @@ public class OWLRDFConsumer
      */
     private final Map<IRI, OWLObjectPropertyExpression> translatedProperties = createMap();
     /**
-     * Subject, predicate, object
-     */
-    private final Map<IRI, Map<IRI, Collection<IRI>>> resTriplesBySubject = createMap();
-    /**
-     * Predicate, subject, object
+     * Resource triples not consumed yet
      */
-    private final Map<IRI, Map<IRI, IRI>> singleValuedResTriplesByPredicate = createMap();
+    private final TripleTable<IRI> resourceTriples = new TripleTable<>(terms);
     /**
-     * Literal triples
+     * Literal triples not consumed yet
      */
-    private final Map<IRI, Map<IRI, Collection<OWLLiteral>>> litTriplesBySubject = createMap();
-    // Resource triples
-    /**
-     * Predicate, subject, object
-     */
-    private final Map<IRI, Map<IRI, OWLLiteral>> singleValuedLitTriplesByPredicate = createMap();
+    private final TripleTable<OWLLiteral> literalTriples = new TripleTable<>(terms);
     private final Map<IRI, IRI> remappedIRIs = createMap();
     private final Map<String, IRI> remappedIRIStrings = createMap();
     // Caching IRIs here helps save memory. This cache is local to a particular
@@ -411,12 +428,17 @@ public class OWLRDFConsumer
         anonProvider = new RemappingIndividualProvider(
             ontology.getOWLOntologyManager().getOntologyConfigurator(), df);
         this.configuration = configuration;
+        strict = configuration.isStrict();
+        loadAnnotationAxioms = configuration.isLoadAnnotationAxioms();
+        // the translations are undone from the parsed annotation axioms, so they must be kept
+        streamingTranslation =
+            configuration.shouldStreamRDFTranslation() && !strict && loadAnnotationAxioms;
         handlerAccessor = new HandlerAccessor(this);
         translatorAccessor = new TranslatorAccessor(this);
         BUILT_IN_AP_IRIS.forEach(annPropertyIRIs::add);
         dataRangeIRIs.add(RDFS_LITERAL.getIRI());
         Stream.of(OWL2Datatype.values()).forEach(v -> dataRangeIRIs.add(v.getIRI()));
-        if (!configuration.isStrict()) {
+        if (!strict) {
             Stream.of(XSDVocabulary.values()).forEach(v -> dataRangeIRIs.add(v.getIRI()));
         }
         classIRIs.add(OWL_THING.getIRI());
@@ -487,7 +509,10 @@ public class OWLRDFConsumer
         Stream
             .of(OWL_ON_PROPERTY, OWL_SOME_VALUES_FROM, OWL_ALL_VALUES_FROM, OWL_ON_CLASS,
                 OWL_ON_DATA_RANGE)
-            .forEach(v -> singleValuedResTriplesByPredicate.put(v.getIRI(), createMap()));
+            .forEach(v -> resourceTriples.singleValued(v.getIRI()));
+        listTriples.singleValued(RDF_FIRST.getIRI());
+        listTriples.singleValued(RDF_REST.getIRI());
+        listLiteralTriples.singleValued(RDF_FIRST.getIRI());
     }
 
     private void setupSynonymMap() {
@@ -497,7 +522,7 @@ public class OWLRDFConsumer
         synonymMap.clear();
         // Legacy protege-owlapi representation of qualified cardinality restrictions
         synonymMap.put(IRI.create(OWL.getPrefixIRI(), "valuesFrom"), OWL_ON_CLASS.getIRI());
-        if (!configuration.isStrict()) {
+        if (!strict) {
             addDAMLOILVocabulary();
             addIntermediateOWLSpecVocabulary();
         }
@@ -727,7 +752,7 @@ public class OWLRDFConsumer
      */
     protected void addAxiom(OWLAxiom axiom) {
         if (axiom.isAnnotationAxiom()) {
-            if (configuration.isLoadAnnotationAxioms()) {
+            if (loadAnnotationAxioms) {
                 parsedAnnotationAxioms.add((OWLAnnotationAxiom) axiom);
             }
         } else {
@@ -928,8 +953,8 @@ public class OWLRDFConsumer
         addType(iri, restrictionIRIs, explicitlyTyped);
     }
 
-    private void addType(IRI iri, Set<IRI> types, boolean explicitlyTyped) {
-        if (configuration.isStrict() && !explicitlyTyped) {
+    private void addType(IRI iri, TermSet types, boolean explicitlyTyped) {
+        if (strict && !explicitlyTyped) {
             LOGGER.warn("STRICT: Not adding implicit type iri={} types={}", iri, types);
             return;
         }
@@ -1162,18 +1187,6 @@ public class OWLRDFConsumer
         }
     }
 
-    protected <T> boolean contains(Map<IRI, Map<IRI, Collection<T>>> map, IRI subject,
-        IRI predicate, T value) {
-        Map<IRI, Collection<T>> resPredObjMap = map.get(subject);
-        if (resPredObjMap != null) {
-            Collection<T> collection = resPredObjMap.get(predicate);
-            if (collection != null) {
-                return collection.contains(value);
-            }
-        }
-        return false;
-    }
-
     /**
      * Adds the SWRL rule.
      *
@@ -1352,16 +1365,11 @@ public class OWLRDFConsumer
         // if info logging is disabled or all collections are empty, do not
         // output anything
         if (LOGGER.isInfoEnabled()
-            && singleValuedResTriplesByPredicate.size() + singleValuedLitTriplesByPredicate.size()
-                + resTriplesBySubject.size() + litTriplesBySubject.size() > 0) {
-            singleValuedResTriplesByPredicate
-                .forEach((p, map) -> map.forEach((s, o) -> printTriple(s, p, o)));
-            singleValuedLitTriplesByPredicate
-                .forEach((p, map) -> map.forEach((s, o) -> printTriple(s, p, o)));
-            resTriplesBySubject
-                .forEach((p, map) -> map.forEach((s, o) -> o.forEach(x -> printTriple(s, p, x))));
-            litTriplesBySubject
-                .forEach((p, map) -> map.forEach((s, o) -> o.forEach(x -> printTriple(s, p, x))));
+            && !(resourceTriples.isEmpty() && literalTriples.isEmpty())) {
+            resourceTriples.forEachSingleValued(OWLRDFConsumer::printTriple);
+            literalTriples.forEachSingleValued(OWLRDFConsumer::printTriple);
+            resourceTriples.forEach(OWLRDFConsumer::printTriple);
+            literalTriples.forEach(OWLRDFConsumer::printTriple);
         }
     }
 
@@ -1381,6 +1389,8 @@ public class OWLRDFConsumer
 
     @Override
     public void endModel() {
+        translateHeldTriples();
+        reclassifyTranslatedTriples();
         parsedAllTriples = true;
         // We are now left with triples that could not be consumed during
         // streaming parsing
@@ -1459,7 +1469,7 @@ public class OWLRDFConsumer
             }
         } else {
             // We have multiple to choose from
-            if (configuration.isStrict()) {
+            if (strict) {
                 throw new OWLRDFXMLParserException(
                     "Expected one ontology declaration, found multiple ones: " + ontologyIRIs);
             }
@@ -1498,15 +1508,12 @@ public class OWLRDFConsumer
         dataPropertyIRIs.clear();
         dataRangeIRIs.clear();
         restrictionIRIs.clear();
-        listFirstLiteralTripleMap.clear();
-        listFirstResourceTripleMap.clear();
-        listRestTripleMap.clear();
+        listLiteralTriples.clear();
+        listTriples.clear();
         // XXX clean new members
         translatorAccessor.cleanup();
-        resTriplesBySubject.clear();
-        litTriplesBySubject.clear();
-        singleValuedLitTriplesByPredicate.clear();
-        singleValuedResTriplesByPredicate.clear();
+        resourceTriples.clear();
+        literalTriples.clear();
         guessedDeclarations.clear();
     }
 
@@ -1527,7 +1534,7 @@ public class OWLRDFConsumer
      * @return the synonym
      */
     protected IRI getSynonym(IRI original) {
-        if (!configuration.isStrict()) {
+        if (!strict) {
             IRI synonymIRI = synonymMap.get(original);
             if (synonymIRI != null) {
                 return synonymIRI;
@@ -1541,6 +1548,7 @@ public class OWLRDFConsumer
         @Nullable String language, @Nullable String datatype) {
         tripleLogger.logTriple(subject, predicate, object, language, datatype);
         IRI subjectIRI = getIRI(remapOnlyIfRemapped(subject));
+        nextStatement(subjectIRI);
         IRI predicateIRI = getIRI(predicate);
         predicateIRI = getSynonym(predicateIRI);
         handlerAccessor.handleStreaming(subjectIRI, predicateIRI, object,
@@ -1551,6 +1559,7 @@ public class OWLRDFConsumer
     public void statementWithLiteralValue(IRI subject, IRI predicate, String object,
         @Nullable String language, @Nullable IRI datatype) {
         tripleLogger.logTriple(subject, predicate, object, language, datatype);
+        nextStatement(subject);
         handlerAccessor.handleStreaming(subject, getSynonym(predicate), object, datatype, language);
     }
 
@@ -1558,6 +1567,7 @@ public class OWLRDFConsumer
     public void statementWithResourceValue(String subject, String predicate, String object) {
         tripleLogger.logTriple(subject, predicate, object);
         IRI subjectIRI = getIRI(subject);
+        nextStatement(subjectIRI);
         IRI predicateIRI = getSynonym(getIRI(predicate));
         IRI objectIRI = getSynonym(getIRI(object));
         handlerAccessor.handleStreaming(subjectIRI, predicateIRI, objectIRI);
@@ -1566,9 +1576,75 @@ public class OWLRDFConsumer
     @Override
     public void statementWithResourceValue(IRI subject, IRI predicate, IRI object) {
         tripleLogger.logTriple(subject, predicate, object);
+        nextStatement(subject);
         handlerAccessor.handleStreaming(subject, getSynonym(predicate), getSynonym(object));
     }
 
+    /**
+     * In streaming translation mode, a change of subject ends the statements about the previous
+     * subject, so its held annotation literals can be translated.
+     *
+     * @param subject subject of the next statement
+     */
+    private void nextStatement(IRI subject) {
+        if (streamingTranslation && !subject.equals(currentSubject)) {
+            translateHeldTriples();
+            currentSubject = subject;
+        }
+    }
+
+    /**
+     * Translates the annotation literals held for the current subject as annotation assertions,
+     * or buffers them with the other triples if the subject is a node whose annotations are
+     * translated with it.
+     */
+    private void translateHeldTriples() {
+        IRI subject = currentSubject;
+        if (subject == null || heldLiterals.isEmpty()) {
+            return;
+        }
+        boolean translate = !isAxiom(subject) && !isAnnotation(subject) && !isSWRLRule(subject);
+        for (int i = 0; i < heldLiterals.size(); i++) {
+            if (translate) {
+                handlerAccessor.apply(subject, heldPredicates.get(i), heldLiterals.get(i));
+            } else {
+                literalTriples.add(subject, heldPredicates.get(i), heldLiterals.get(i));
+            }
+        }
+        heldPredicates.clear();
+        heldLiterals.clear();
+    }
+
+    /**
+     * Undoes the translation of the held annotation literals whose subject has turned out to be an
+     * ontology, axiom, annotation or rule node after the statements about it ended, and buffers
+     * the literals with the other triples, so that they are translated as in buffered mode. Until
+     * the remaining triples are consumed, the annotation assertions with a literal value are only
+     * added by the translation of the held literals.
+     */
+    private void reclassifyTranslatedTriples() {
+        if (!streamingTranslation) {
+            return;
+        }
+        parsedAnnotationAxioms.removeIf(ax -> {
+            if (!(ax instanceof OWLAnnotationAssertionAxiom)) {
+                return false;
+            }
+            OWLAnnotationAssertionAxiom assertion = (OWLAnnotationAssertionAxiom) ax;
+            Optional<IRI> subject = assertion.getSubject().asIRI();
+            Optional<OWLLiteral> value = assertion.getValue().asLiteral();
+            if (!subject.isPresent() || !value.isPresent()) {
+                return false;
+            }
+            IRI s = subject.get();
+            if (!isOntology(s) && !isAxiom(s) && !isAnnotation(s) && !isSWRLRule(s)) {
+                return false;
+            }
+            literalTriples.add(s, assertion.getProperty().getIRI(), value.get());
+            return true;
+        });
+    }
+
     /**
      * A convenience method to obtain an {@code OWLLiteral}.
      *
@@ -1614,7 +1690,7 @@ public class OWLRDFConsumer
      *         OWLDatatype with the given IRI is returned.
      */
     public OWLDataRange translateDataRange(IRI n) {
-        if (!isDataRange(n) && configuration.isStrict()) {
+        if (!isDataRange(n) && strict) {
             // Can't translated ANY according to Table 12
             return generateAndLogParseError(EntityType.DATATYPE, n);
         }
@@ -1632,7 +1708,7 @@ public class OWLRDFConsumer
         // The plain complement of triple predicate is in here for legacy
         // reasons
         IRI not = getResourceObject(n, OWL_DATATYPE_COMPLEMENT_OF, true);
-        if (!configuration.isStrict() && not == null) {
+        if (!strict && not == null) {
             not = getResourceObject(n, OWL_COMPLEMENT_OF, true);
         }
         if (not != null) {
@@ -1659,7 +1735,7 @@ public class OWLRDFConsumer
             IRI facets = getResourceObject(n, OWL_WITH_RESTRICTIONS, true);
             if (facets != null) {
                 restrictions = translatorAccessor.translateToFacetRestrictionSet(facets);
-            } else if (!configuration.isStrict()) {
+            } else if (!strict) {
                 // Try the legacy encoding
                 for (IRI facetIRI : OWLFacet.getFacetIRIs()) {
                     OWLLiteral val = getLiteralObject(n, facetIRI, true);
@@ -1808,7 +1884,7 @@ public class OWLRDFConsumer
             "Error" + ERRORCOUNTER.incrementAndGet());
         LOGGER.error("Entity not properly recognized, missing triples in input? {} for type {}",
             iri, entityType);
-        if (configuration.isStrict()) {
+        if (strict) {
             throw new OWLParserException(
                 "Entity not properly recognized, missing triples in input? " + iri + " for type "
                     + entityType);
@@ -1872,14 +1948,8 @@ public class OWLRDFConsumer
      */
     protected Set<IRI> getPredicatesBySubject(IRI subject) {
         Set<IRI> iris = createLinkedSet();
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            iris.addAll(predObjMap.keySet());
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMapLit = litTriplesBySubject.get(subject);
-        if (predObjMapLit != null) {
-            iris.addAll(predObjMapLit.keySet());
-        }
+        resourceTriples.predicates(subject, iris);
+        literalTriples.predicates(subject, iris);
         return iris;
     }
 
@@ -1906,32 +1976,7 @@ public class OWLRDFConsumer
      */
     @Nullable
     protected IRI getResourceObject(IRI subject, IRI predicate, boolean consume) {
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj;
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null && !objects.isEmpty()) {
-                IRI object = objects.iterator().next();
-                if (consume) {
-                    objects.remove(object);
-                }
-                if (objects.isEmpty()) {
-                    predObjMap.remove(predicate);
-                    if (predObjMap.isEmpty()) {
-                        resTriplesBySubject.remove(subject);
-                    }
-                }
-                return object;
-            }
-        }
-        return null;
+        return resourceTriples.first(subject, predicate, consume);
     }
 
     /**
@@ -1943,20 +1988,7 @@ public class OWLRDFConsumer
      */
     protected Set<IRI> getResourceObjects(IRI subject, IRI predicate) {
         Set<IRI> result = createLinkedSet();
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (obj != null) {
-                result.add(obj);
-            }
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
-            }
-        }
+        resourceTriples.objects(subject, predicate, result);
         return result;
     }
 
@@ -1984,29 +2016,7 @@ public class OWLRDFConsumer
      */
     @Nullable
     protected OWLLiteral getLiteralObject(IRI subject, IRI predicate, boolean consume) {
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj;
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null && !objects.isEmpty()) {
-                OWLLiteral object = objects.iterator().next();
-                if (consume) {
-                    objects.remove(object);
-                }
-                if (objects.isEmpty()) {
-                    predObjMap.remove(predicate);
-                }
-                return object;
-            }
-        }
-        return null;
+        return literalTriples.first(subject, predicate, consume);
     }
 
     /**
@@ -2018,20 +2028,7 @@ public class OWLRDFConsumer
      */
     protected Set<OWLLiteral> getLiteralObjects(IRI subject, IRI predicate) {
         Set<OWLLiteral> result = createLinkedSet();
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (obj != null) {
-                result.add(obj);
-            }
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
-            }
-        }
+        literalTriples.objects(subject, predicate, result);
         return result;
     }
 
@@ -2045,31 +2042,7 @@ public class OWLRDFConsumer
      * @return true, if is triple present
      */
     protected boolean isTriplePresent(IRI subject, IRI predicate, IRI object, boolean consume) {
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj != null;
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null && objects.contains(object)) {
-                if (consume) {
-                    objects.remove(object);
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                        if (predObjMap.isEmpty()) {
-                            resTriplesBySubject.remove(subject);
-                        }
-                    }
-                }
-                return true;
-            }
-        }
-        return false;
+        return resourceTriples.contains(subject, predicate, object, consume);
     }
 
     /**
@@ -2083,31 +2056,7 @@ public class OWLRDFConsumer
      */
     protected boolean isTriplePresent(IRI subject, IRI predicate, OWLLiteral object,
         boolean consume) {
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj != null;
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null && objects.contains(object)) {
-                if (consume) {
-                    objects.remove(object);
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                        if (predObjMap.isEmpty()) {
-                            litTriplesBySubject.remove(subject);
-                        }
-                    }
-                }
-                return true;
-            }
-        }
-        return false;
+        return literalTriples.contains(subject, predicate, object, consume);
     }
 
     /**
@@ -2118,23 +2067,8 @@ public class OWLRDFConsumer
      * @return true, if successful
      */
     protected boolean hasPredicate(IRI subject, IRI predicate) {
-        Map<IRI, IRI> resPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (resPredMap != null) {
-            return resPredMap.containsKey(subject);
-        }
-        Map<IRI, OWLLiteral> litPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (litPredMap != null) {
-            return litPredMap.containsKey(subject);
-        }
-        Map<IRI, Collection<IRI>> resPredObjMap = resTriplesBySubject.get(subject);
-        if (resPredObjMap != null && resPredObjMap.containsKey(predicate)) {
-            return true;
-        }
-        Map<IRI, Collection<OWLLiteral>> litPredObjMap = litTriplesBySubject.get(subject);
-        if (litPredObjMap != null) {
-            return litPredObjMap.containsKey(predicate);
-        }
-        return false;
+        return resourceTriples.hasPredicate(subject, predicate)
+            || literalTriples.hasPredicate(subject, predicate);
     }
 
     /**
@@ -2144,7 +2078,7 @@ public class OWLRDFConsumer
      * @param object the object
      */
     protected void addRest(IRI subject, IRI object) {
-        listRestTripleMap.put(subject, object);
+        listTriples.add(subject, RDF_REST.getIRI(), object);
     }
 
     /**
@@ -2154,7 +2088,7 @@ public class OWLRDFConsumer
      * @param object the object
      */
     protected void addFirst(IRI subject, IRI object) {
-        listFirstResourceTripleMap.put(subject, object);
+        listTriples.add(subject, RDF_FIRST.getIRI(), object);
     }
 
     /**
@@ -2166,10 +2100,7 @@ public class OWLRDFConsumer
      */
     @Nullable
     protected IRI getFirstResource(IRI subject, boolean consume) {
-        if (consume) {
-            return listFirstResourceTripleMap.remove(subject);
-        }
-        return listFirstResourceTripleMap.get(subject);
+        return listTriples.first(subject, RDF_FIRST.getIRI(), consume);
     }
 
     /**
@@ -2180,7 +2111,7 @@ public class OWLRDFConsumer
      */
     @Nullable
     protected OWLLiteral getFirstLiteral(IRI subject) {
-        return listFirstLiteralTripleMap.get(subject);
+        return listLiteralTriples.first(subject, RDF_FIRST.getIRI(), false);
     }
 
     /**
@@ -2192,10 +2123,7 @@ public class OWLRDFConsumer
      */
     @Nullable
     protected IRI getRest(IRI subject, boolean consume) {
-        if (consume) {
-            return listRestTripleMap.remove(subject);
-        }
-        return listRestTripleMap.get(subject);
+        return listTriples.first(subject, RDF_REST.getIRI(), consume);
     }
 
     /**
@@ -2205,7 +2133,7 @@ public class OWLRDFConsumer
      * @param object the object
      */
     protected void addFirst(IRI subject, OWLLiteral object) {
-        listFirstLiteralTripleMap.put(subject, object);
+        listLiteralTriples.add(subject, RDF_FIRST.getIRI(), object);
     }
 
     /**
@@ -2260,8 +2188,8 @@ public class OWLRDFConsumer
     }
 
     protected boolean isAxiomIRI(IRI s) {
-        return contains(resTriplesBySubject, s, OWLRDFVocabulary.RDF_TYPE.getIRI(),
-            OWLRDFVocabulary.OWL_AXIOM.getIRI());
+        return resourceTriples.contains(s, OWLRDFVocabulary.RDF_TYPE.getIRI(),
+            OWLRDFVocabulary.OWL_AXIOM.getIRI(), false);
     }
 
     /**
@@ -2279,6 +2207,13 @@ public class OWLRDFConsumer
         return configuration;
     }
 
+    /**
+     * @return true if the configuration is strict
+     */
+    boolean isStrict() {
+        return strict;
+    }
+
     // Triple Stuff
 
     /**
@@ -2287,9 +2222,7 @@ public class OWLRDFConsumer
      * @param iterator the iterator
      */
     protected void iterateResources(ResourceTripleIterator iterator) {
-        new ArrayList<>(resTriplesBySubject.entrySet()).forEach(
-            e -> new ArrayList<>(e.getValue().entrySet()).forEach(p -> new ArrayList<>(p.getValue())
-                .forEach(object -> iterator.handleResourceTriple(e.getKey(), p.getKey(), object))));
+        resourceTriples.forEach(iterator::handleResourceTriple);
     }
 
     /**
@@ -2298,9 +2231,39 @@ public class OWLRDFConsumer
      * @param iterator the iterator
      */
     protected void iterateLiterals(LiteralTripleIterator iterator) {
-        new ArrayList<>(litTriplesBySubject.entrySet()).forEach(
-            e -> new ArrayList<>(e.getValue().entrySet()).forEach(p -> new ArrayList<>(p.getValue())
-                .forEach(object -> iterator.handleLiteralTriple(e.getKey(), p.getKey(), object))));
+        literalTriples.forEach(iterator::handleLiteralTriple);
+    }
+
+    /**
+     * Iterate resource triples with a predicate; only the triples with the predicate are visited.
+     *
+     * @param predicate the predicate
+     * @param iterator the iterator
+     */
+    void iterateResources(IRI predicate, ResourceTripleIterator iterator) {
+        resourceTriples.forEach(predicate, iterator::handleResourceTriple);
+    }
+
+    /**
+     * Iterate resource triples whose predicate passes a filter; only the triples with matching
+     * predicates are visited.
+     *
+     * @param predicates filter for the predicates
+     * @param iterator the iterator
+     */
+    void iterateResources(Predicate<IRI> predicates, ResourceTripleIterator iterator) {
+        resourceTriples.forEach(predicates, iterator::handleResourceTriple);
+    }
+
+    /**
+     * Iterate literal triples whose predicate passes a filter; only the triples with matching
+     * predicates are visited.
+     *
+     * @param predicates filter for the predicates
+     * @param iterator the iterator
+     */
+    void iterateLiterals(Predicate<IRI> predicates, LiteralTripleIterator iterator) {
+        literalTriples.forEach(predicates, iterator::handleLiteralTriple);
     }
 
     @Override
@@ -2327,22 +2290,18 @@ public class OWLRDFConsumer
     }
 
     protected void addTriple(IRI subject, IRI predicate, IRI object) {
-        Map<IRI, IRI> subjObjMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjObjMap != null) {
-            subjObjMap.put(subject, object);
-        } else {
-            resTriplesBySubject.computeIfAbsent(subject, x -> createMap())
-                .computeIfAbsent(predicate, x -> createLinkedSet()).add(object);
-        }
+        resourceTriples.add(subject, predicate, object);
     }
 
     protected void addTriple(IRI subject, IRI predicate, OWLLiteral con) {
-        Map<IRI, OWLLiteral> subjObjMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjObjMap != null) {
-            subjObjMap.put(subject, con);
-        } else {
-            litTriplesBySubject.computeIfAbsent(subject, x -> createMap())
-                .computeIfAbsent(predicate, x -> createLinkedSet()).add(con);
+        if (streamingTranslation && subject.equals(currentSubject) && !isAnonymousNode(subject)
+            && isGeneralPredicate(predicate) && isAnnotationProperty(predicate)) {
+            // annotation properties win over data properties in lax mode, so the translation
+            // does not depend on later statements about the property
+            heldPredicates.add(predicate);
+            heldLiterals.add(con);
+            return;
         }
+        literalTriples.add(subject, predicate, con);
     }
 }
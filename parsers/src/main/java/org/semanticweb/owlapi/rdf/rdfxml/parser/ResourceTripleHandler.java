@@ -26,4 +26,26 @@ interface ResourceTripleHandler {
      * @return true if can handle
      */
     boolean canHandle(IRI subject, IRI predicate, IRI object);
+
+    /**
+     * Check on the predicate alone, used to select the candidate handlers for a predicate once
+     * for all its triples; the result must not depend on the state of the parse.
+     *
+     * @param predicate predicate
+     * @return false if no triple with the predicate can be handled in streaming mode
+     */
+    default boolean mayHandleStreaming(IRI predicate) {
+        return true;
+    }
+
+    /**
+     * Check on the predicate alone, used to select the candidate handlers for a predicate once
+     * for all its triples; the result must not depend on the state of the parse.
+     *
+     * @param predicate predicate
+     * @return false if no triple with the predicate can be handled
+     */
+    default boolean mayHandle(IRI predicate) {
+        return true;
+    }
 }
@@ -0,0 +1,112 @@
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * Assigns dense int ids to the terms seen by an {@link OWLRDFConsumer}, i.e., IRIs, blank node
+ * IRIs and literals, so that triples and type sets can be stored as ints. Ids are assigned in order
+ * of first use and are never reused until the dictionary is cleared. The index is an open
+ * addressing table of ids; the hash of each term is kept next to it, so that probing only calls
+ * {@code equals} on terms with the same hash, which matters for literals.
+ */
+class TermDictionary {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private Object[] terms = new Object[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    /** Open addressing table of ids plus one; zero marks an empty slot. */
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    private static int hash(Object term) {
+        int h = term.hashCode();
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * @param term term to look up or add
+     * @return id of the term; the term is added if not already present
+     */
+    int id(Object term) {
+        int h = hash(term);
+        int mask = slots.length - 1;
+        int i = h & mask;
+        for (int slot = slots[i]; slot != 0; slot = slots[i]) {
+            if (hashes[slot - 1] == h && terms[slot - 1].equals(term)) {
+                return slot - 1;
+            }
+            i = i + 1 & mask;
+        }
+        if (size == terms.length) {
+            terms = Arrays.copyOf(terms, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        terms[size] = term;
+        hashes[size] = h;
+        slots[i] = ++size;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return size - 1;
+    }
+
+    /**
+     * @param term term to look up
+     * @return id of the term, or -1 if the term has no id
+     */
+    int find(@Nullable Object term) {
+        if (term == null) {
+            return -1;
+        }
+        int h = hash(term);
+        int mask = slots.length - 1;
+        int i = h & mask;
+        for (int slot = slots[i]; slot != 0; slot = slots[i]) {
+            if (hashes[slot - 1] == h && terms[slot - 1].equals(term)) {
+                return slot - 1;
+            }
+            i = i + 1 & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param id id of a term
+     * @return the term
+     */
+    Object term(int id) {
+        return terms[id];
+    }
+
+    /**
+     * @return number of terms with an id
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all terms; previously returned ids become invalid.
+     */
+    void clear() {
+        terms = new Object[INITIAL_CAPACITY];
+        hashes = new int[INITIAL_CAPACITY];
+        slots = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int i = hashes[id] & mask;
+            while (table[i] != 0) {
+                i = i + 1 & mask;
+            }
+            table[i] = id + 1;
+        }
+        slots = table;
+    }
+}
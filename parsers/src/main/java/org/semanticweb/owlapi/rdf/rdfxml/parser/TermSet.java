@@ -0,0 +1,59 @@
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import java.util.BitSet;
+import java.util.StringJoiner;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.IRI;
+
+/**
+ * A set of IRIs stored as a bit set over the ids of a {@link TermDictionary}. The type sets of
+ * {@link OWLRDFConsumer} share one dictionary, so that a member costs one bit per set instead of a
+ * hash set entry.
+ */
+class TermSet {
+
+    private final TermDictionary terms;
+    private final BitSet members = new BitSet();
+
+    TermSet(TermDictionary terms) {
+        this.terms = terms;
+    }
+
+    /**
+     * @param iri IRI to add
+     * @return true if the IRI was not already in the set
+     */
+    boolean add(IRI iri) {
+        int id = terms.id(iri);
+        if (members.get(id)) {
+            return false;
+        }
+        members.set(id);
+        return true;
+    }
+
+    /**
+     * @param iri IRI to check
+     * @return true if the IRI is in the set
+     */
+    boolean contains(@Nullable IRI iri) {
+        int id = terms.find(iri);
+        return id >= 0 && members.get(id);
+    }
+
+    /**
+     * Removes all members.
+     */
+    void clear() {
+        members.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        members.stream().forEach(id -> joiner.add(terms.term(id).toString()));
+        return joiner.toString();
+    }
+}
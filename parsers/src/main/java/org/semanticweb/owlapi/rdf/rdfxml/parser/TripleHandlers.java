@@ -98,6 +98,7 @@ import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_SUBJECT;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_TYPE;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -195,6 +196,10 @@ public class TripleHandlers {
          * The non built in type handler.
          */
         private final TPTypeHandler nonBuiltInTypes;
+        /**
+         * Candidate handlers by predicate, selected on first use of each predicate.
+         */
+        private final Map<IRI, Candidates> candidates = new HashMap<>();
 
         HandlerAccessor(OWLRDFConsumer r) {
             consumer = r;
@@ -298,9 +303,19 @@ public class TripleHandlers {
             return map;
         }
 
+        private Candidates candidates(IRI p) {
+            Candidates c = candidates.get(p);
+            if (c == null) {
+                c = new Candidates(p, predicates.get(p), resources, literals);
+                candidates.put(p, c);
+            }
+            return c;
+        }
+
         void apply(IRI s, IRI p, OWLLiteral o) {
-            if (OWLRDFConsumer.isGeneralPredicate(p)) {
-                for (LiteralTripleHandler lhandler : literals) {
+            Candidates c = candidates(p);
+            if (c.general) {
+                for (LiteralTripleHandler lhandler : c.literals) {
                     if (lhandler.canHandle(s, p, o)) {
                         lhandler.handleTriple(s, p, o);
                         return;
@@ -310,8 +325,9 @@ public class TripleHandlers {
         }
 
         void apply(IRI s, IRI p, IRI o) {
-            if (OWLRDFConsumer.isGeneralPredicate(p)) {
-                for (ResourceTripleHandler handler : resources) {
+            Candidates c = candidates(p);
+            if (c.general) {
+                for (ResourceTripleHandler handler : c.resources) {
                     if (handler.canHandle(s, p, o)) {
                         handler.handleTriple(s, p, o);
                         return;
@@ -328,12 +344,13 @@ public class TripleHandlers {
         }
 
         public void consumeNonReservedPredicateTriples() {
-            consumer.iterateResources(this::apply);
-            consumer.iterateLiterals(this::apply);
+            consumer.iterateResources(p -> candidates(p).general, this::apply);
+            consumer.iterateLiterals(p -> candidates(p).general, this::apply);
         }
 
         public void consumeAnnotatedAxioms() {
-            consumer.iterateResources(this::applyAnns);
+            // axiom types are only matched on rdf:type triples
+            consumer.iterateResources(RDF_TYPE.getIRI(), this::applyAnns);
         }
 
         /**
@@ -363,14 +380,15 @@ public class TripleHandlers {
                     consumer.addAxiom(s);
                 }
             } else {
-                ResourceTripleHandler handler = predicates.get(p);
+                Candidates c = candidates(p);
+                ResourceTripleHandler handler = c.predicateHandler;
                 if (handler != null) {
                     if (handler.canHandleStreaming(s, p, o)) {
                         handler.handleTriple(s, p, o);
                         consumed = true;
                     }
                 } else {
-                    for (ResourceTripleHandler r : resources) {
+                    for (ResourceTripleHandler r : c.streamingResources) {
                         if (r.canHandleStreaming(s, p, o)) {
                             r.handleTriple(s, p, o);
                             consumed = true;
@@ -393,7 +411,7 @@ public class TripleHandlers {
         }
 
         private void handleStreaming(IRI s, IRI p, OWLLiteral con) {
-            for (LiteralTripleHandler handler : literals) {
+            for (LiteralTripleHandler handler : candidates(p).streamingLiterals) {
                 if (handler.canHandleStreaming(s, p, con)) {
                     handler.handleTriple(s, p, con);
                     return;
@@ -423,11 +441,12 @@ public class TripleHandlers {
                         consumer.getPendingAnnotations()));
                 }
             } else {
-                TriplePredicateHandler handler = predicates.get(p);
+                Candidates c = candidates(p);
+                TriplePredicateHandler handler = c.predicateHandler;
                 if (handler != null && handler.canHandle(s, p, o)) {
                     handler.handleTriple(s, p, o);
                 } else {
-                    for (ResourceTripleHandler resHandler : resources) {
+                    for (ResourceTripleHandler resHandler : c.resources) {
                         if (resHandler.canHandle(s, p, o)) {
                             resHandler.handleTriple(s, p, o);
                             break;
@@ -438,7 +457,7 @@ public class TripleHandlers {
         }
 
         protected void handle(IRI s, IRI p, OWLLiteral o) {
-            for (LiteralTripleHandler handler : literals) {
+            for (LiteralTripleHandler handler : candidates(p).literals) {
                 if (handler.canHandle(s, p, o)) {
                     handler.handleTriple(s, p, o);
                     break;
@@ -533,6 +552,38 @@ public class TripleHandlers {
             add(predicateHandlers, new TPDatatypeComplementOfHandler(r));
             return predicateHandlers;
         }
+
+        /**
+         * The handlers that can take the triples with one predicate: the handler for the
+         * predicate, if it is built in, and the general handlers whose checks on the predicate
+         * alone pass, in order of precedence, for streaming and non streaming mode. Selecting
+         * these once per predicate leaves only the checks that depend on the subject, the object
+         * or the state of the parse to be done for each triple.
+         */
+        private static final class Candidates {
+
+            final boolean general;
+            @Nullable
+            final TriplePredicateHandler predicateHandler;
+            final ResourceTripleHandler[] streamingResources;
+            final ResourceTripleHandler[] resources;
+            final LiteralTripleHandler[] streamingLiterals;
+            final LiteralTripleHandler[] literals;
+
+            Candidates(IRI p, @Nullable TriplePredicateHandler predicateHandler,
+                List<ResourceTripleHandler> resources, List<LiteralTripleHandler> literals) {
+                general = OWLRDFConsumer.isGeneralPredicate(p);
+                this.predicateHandler = predicateHandler;
+                streamingResources = resources.stream().filter(h -> h.mayHandleStreaming(p))
+                    .toArray(ResourceTripleHandler[]::new);
+                this.resources = resources.stream().filter(h -> h.mayHandle(p))
+                    .toArray(ResourceTripleHandler[]::new);
+                streamingLiterals = literals.stream().filter(h -> h.mayHandleStreaming(p))
+                    .toArray(LiteralTripleHandler[]::new);
+                this.literals = literals.stream().filter(h -> h.mayHandle(p))
+                    .toArray(LiteralTripleHandler[]::new);
+            }
+        }
     }
 
     /**
@@ -647,7 +698,7 @@ public class TripleHandlers {
         }
 
         protected boolean isStrict() {
-            return consumer.getConfiguration().isStrict();
+            return consumer.isStrict();
         }
 
         protected boolean isAnnotationPropertyOnly(IRI iri) {
@@ -937,6 +988,11 @@ public class TripleHandlers {
             super(consumer);
         }
 
+        @Override
+        public boolean mayHandleStreaming(IRI predicate) {
+            return false;
+        }
+
         @Override
         public boolean canHandleStreaming(IRI s, IRI p, OWLLiteral o) {
             return false;
@@ -979,15 +1035,24 @@ public class TripleHandlers {
             super(consumer);
         }
 
+        @Override
+        public boolean mayHandleStreaming(IRI predicate) {
+            return false;
+        }
+
         @Override
         public boolean canHandleStreaming(IRI s, IRI p, IRI o) {
             return false;
         }
 
+        @Override
+        public boolean mayHandle(IRI predicate) {
+            return BUILT_IN_AP_IRIS.contains(predicate) || !predicate.isReservedVocabulary();
+        }
+
         @Override
         public boolean canHandle(IRI s, IRI p, IRI o) {
-            return !consumer.isAxiom(s) && !consumer.isAnnotation(s)
-                && (BUILT_IN_AP_IRIS.contains(p) || !p.isReservedVocabulary());
+            return !consumer.isAxiom(s) && !consumer.isAnnotation(s) && mayHandle(p);
         }
 
         @Override
@@ -1022,6 +1087,11 @@ public class TripleHandlers {
             super(consumer);
         }
 
+        @Override
+        public boolean mayHandleStreaming(IRI predicate) {
+            return false;
+        }
+
         @Override
         public boolean canHandle(IRI s, IRI p, OWLLiteral o) {
             if (isStrict()) {
@@ -1075,6 +1145,11 @@ public class TripleHandlers {
             super(consumer);
         }
 
+        @Override
+        public boolean mayHandleStreaming(IRI predicate) {
+            return false;
+        }
+
         @Override
         public boolean canHandle(IRI s, IRI p, IRI o) {
             if (isStrict()) {
@@ -1448,6 +1523,16 @@ public class TripleHandlers {
             super(consumer);
         }
 
+        @Override
+        public boolean mayHandleStreaming(IRI predicate) {
+            return predicate.equals(RDF_FIRST.getIRI());
+        }
+
+        @Override
+        public boolean mayHandle(IRI predicate) {
+            return predicate.equals(RDF_FIRST.getIRI());
+        }
+
         @Override
         public boolean canHandle(IRI s, @Nullable IRI p, OWLLiteral o) {
             return p != null && p.equals(RDF_FIRST.getIRI());
@@ -0,0 +1,635 @@
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.IRI;
+
+/**
+ * The triples buffered by an {@link OWLRDFConsumer} until they can be translated, stored as term
+ * ids from a {@link TermDictionary}. Triples are kept in parallel int arrays in insertion order;
+ * three chains thread through them, one linking the triples with the same subject and predicate,
+ * whose head is found through a primitive hash map, one linking the triples with the same
+ * subject, whose head is found by subject id, and one linking the triples with the same
+ * predicate, whose head is found by predicate id. Consumed triples are marked in a bit set and
+ * unlinked lazily when a chain is walked; the arrays are compacted before iterating if most
+ * triples have been consumed.
+ * <p>
+ * Single valued predicates keep one object per subject, in a map from predicate and subject to
+ * object; as in the map based store this replaced, adding a triple overwrites the previous object,
+ * checking a triple ignores its object, and these triples are neither iterated nor listed as
+ * predicates of their subject.
+ *
+ * @param <O> type of the objects, i.e., IRI or OWLLiteral
+ */
+class TripleTable<O> {
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 256;
+    private final TermDictionary terms;
+    private final Set<IRI> singleValuedPredicates = new HashSet<>();
+    private final LongIntMap singleValues = new LongIntMap();
+    private final LongIntMap firstBySubjectPredicate = new LongIntMap();
+    private final BitSet consumed = new BitSet();
+    private int[] subjects = new int[INITIAL_CAPACITY];
+    private int[] predicates = new int[INITIAL_CAPACITY];
+    private int[] objects = new int[INITIAL_CAPACITY];
+    private int[] nextBySubjectPredicate = new int[INITIAL_CAPACITY];
+    private int[] nextBySubject = new int[INITIAL_CAPACITY];
+    private int[] nextByPredicate = new int[INITIAL_CAPACITY];
+    private int[] firstBySubject = new int[0];
+    private int[] lastBySubject = new int[0];
+    private int[] firstByPredicate = new int[0];
+    private int[] lastByPredicate = new int[0];
+    /** Ids of the predicates with a chain, in order of first use. */
+    private int[] predicateIds = new int[16];
+    private int predicateCount;
+    private int count;
+    private int live;
+    private int iterating;
+
+    TripleTable(TermDictionary terms) {
+        this.terms = terms;
+    }
+
+    /**
+     * A consumer of triples.
+     *
+     * @param <O> type of the objects
+     */
+    @FunctionalInterface
+    interface TripleConsumer<O> {
+
+        /**
+         * @param subject subject
+         * @param predicate predicate
+         * @param object object
+         */
+        void accept(IRI subject, IRI predicate, O object);
+    }
+
+    private static long key(int first, int second) {
+        return (long) first << 32 | second;
+    }
+
+    /**
+     * @param predicate predicate whose triples keep only the last object for each subject
+     */
+    void singleValued(IRI predicate) {
+        singleValuedPredicates.add(predicate);
+    }
+
+    /**
+     * @return true if no triple is stored
+     */
+    boolean isEmpty() {
+        return live == 0 && singleValues.size() == 0;
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     */
+    void add(IRI subject, IRI predicate, O object) {
+        int s = terms.id(subject);
+        int p = terms.id(predicate);
+        int o = terms.id(object);
+        if (singleValuedPredicates.contains(predicate)) {
+            singleValues.put(key(p, s), o);
+        } else {
+            insert(s, p, o);
+        }
+    }
+
+    private void insert(int s, int p, int o) {
+        long key = key(s, p);
+        int last = NONE;
+        for (int t = head(key); t != NONE; t = next(t)) {
+            if (objects[t] == o) {
+                return;
+            }
+            last = t;
+        }
+        int t = append(s, p, o);
+        if (last == NONE) {
+            firstBySubjectPredicate.put(key, t);
+        } else {
+            nextBySubjectPredicate[last] = t;
+        }
+        if (s >= firstBySubject.length) {
+            int length = Math.max(s + 1, firstBySubject.length * 2);
+            int from = firstBySubject.length;
+            firstBySubject = Arrays.copyOf(firstBySubject, length);
+            lastBySubject = Arrays.copyOf(lastBySubject, length);
+            Arrays.fill(firstBySubject, from, length, NONE);
+        }
+        if (firstBySubject[s] == NONE) {
+            firstBySubject[s] = t;
+        } else {
+            nextBySubject[lastBySubject[s]] = t;
+        }
+        lastBySubject[s] = t;
+        if (p >= firstByPredicate.length) {
+            int length = Math.max(p + 1, firstByPredicate.length * 2);
+            int from = firstByPredicate.length;
+            firstByPredicate = Arrays.copyOf(firstByPredicate, length);
+            lastByPredicate = Arrays.copyOf(lastByPredicate, length);
+            Arrays.fill(firstByPredicate, from, length, NONE);
+            Arrays.fill(lastByPredicate, from, length, NONE);
+        }
+        if (firstByPredicate[p] == NONE) {
+            // the last triple outlives the chain, so a predicate is only listed on first use
+            if (lastByPredicate[p] == NONE) {
+                if (predicateCount == predicateIds.length) {
+                    predicateIds = Arrays.copyOf(predicateIds, predicateCount * 2);
+                }
+                predicateIds[predicateCount++] = p;
+            }
+            firstByPredicate[p] = t;
+        } else {
+            nextByPredicate[lastByPredicate[p]] = t;
+        }
+        lastByPredicate[p] = t;
+    }
+
+    private int append(int s, int p, int o) {
+        if (count == subjects.length) {
+            int length = count * 2;
+            subjects = Arrays.copyOf(subjects, length);
+            predicates = Arrays.copyOf(predicates, length);
+            objects = Arrays.copyOf(objects, length);
+            nextBySubjectPredicate = Arrays.copyOf(nextBySubjectPredicate, length);
+            nextBySubject = Arrays.copyOf(nextBySubject, length);
+            nextByPredicate = Arrays.copyOf(nextByPredicate, length);
+        }
+        subjects[count] = s;
+        predicates[count] = p;
+        objects[count] = o;
+        nextBySubjectPredicate[count] = NONE;
+        nextBySubject[count] = NONE;
+        nextByPredicate[count] = NONE;
+        live++;
+        return count++;
+    }
+
+    /**
+     * @return first live triple with the subject and predicate in the key, or NONE; consumed
+     *         triples at the head of the chain are unlinked
+     */
+    private int head(long key) {
+        int first = firstBySubjectPredicate.get(key);
+        int t = first;
+        while (t != NONE && consumed.get(t)) {
+            t = nextBySubjectPredicate[t];
+        }
+        if (t != first) {
+            if (t == NONE) {
+                firstBySubjectPredicate.remove(key);
+            } else {
+                firstBySubjectPredicate.put(key, t);
+            }
+        }
+        return t;
+    }
+
+    /**
+     * @return next live triple with the same subject and predicate as t, or NONE; consumed
+     *         triples in between are unlinked
+     */
+    private int next(int t) {
+        int n = nextBySubjectPredicate[t];
+        while (n != NONE && consumed.get(n)) {
+            n = nextBySubjectPredicate[n];
+        }
+        nextBySubjectPredicate[t] = n;
+        return n;
+    }
+
+    private int headOfSubject(int s) {
+        if (s < 0 || s >= firstBySubject.length) {
+            return NONE;
+        }
+        int t = firstBySubject[s];
+        while (t != NONE && consumed.get(t)) {
+            t = nextBySubject[t];
+        }
+        firstBySubject[s] = t;
+        if (t == NONE) {
+            lastBySubject[s] = NONE;
+        }
+        return t;
+    }
+
+    private int nextOfSubject(int t) {
+        int n = nextBySubject[t];
+        while (n != NONE && consumed.get(n)) {
+            n = nextBySubject[n];
+        }
+        nextBySubject[t] = n;
+        if (n == NONE) {
+            lastBySubject[subjects[t]] = t;
+        }
+        return n;
+    }
+
+    private int nextOfPredicate(int t) {
+        int n = nextByPredicate[t];
+        while (n != NONE && consumed.get(n)) {
+            n = nextByPredicate[n];
+        }
+        nextByPredicate[t] = n;
+        if (n == NONE) {
+            lastByPredicate[predicates[t]] = t;
+        }
+        return n;
+    }
+
+    private void consume(int t) {
+        consumed.set(t);
+        live--;
+    }
+
+    @SuppressWarnings("unchecked")
+    private O object(int o) {
+        return (O) terms.term(o);
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param consume true if the triple found should be removed
+     * @return the object of the first triple with the subject and predicate, or null
+     */
+    @Nullable
+    O first(IRI subject, IRI predicate, boolean consume) {
+        int s = terms.find(subject);
+        int p = terms.find(predicate);
+        if (s < 0 || p < 0) {
+            return null;
+        }
+        if (singleValuedPredicates.contains(predicate)) {
+            long key = key(p, s);
+            int o = singleValues.get(key);
+            if (o == NONE) {
+                return null;
+            }
+            if (consume) {
+                singleValues.remove(key);
+            }
+            return object(o);
+        }
+        int t = head(key(s, p));
+        if (t == NONE) {
+            return null;
+        }
+        if (consume) {
+            consume(t);
+        }
+        return object(objects[t]);
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param into collection to add the objects of all triples with the subject and predicate to
+     */
+    void objects(IRI subject, IRI predicate, Collection<? super O> into) {
+        int s = terms.find(subject);
+        int p = terms.find(predicate);
+        if (s < 0 || p < 0) {
+            return;
+        }
+        if (singleValuedPredicates.contains(predicate)) {
+            int o = singleValues.get(key(p, s));
+            if (o != NONE) {
+                into.add(object(o));
+            }
+            return;
+        }
+        for (int t = head(key(s, p)); t != NONE; t = next(t)) {
+            into.add(object(objects[t]));
+        }
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object; ignored for single valued predicates
+     * @param consume true if the triple found should be removed
+     * @return true if the triple is present
+     */
+    boolean contains(IRI subject, IRI predicate, O object, boolean consume) {
+        int s = terms.find(subject);
+        int p = terms.find(predicate);
+        if (s < 0 || p < 0) {
+            return false;
+        }
+        if (singleValuedPredicates.contains(predicate)) {
+            long key = key(p, s);
+            int o = singleValues.get(key);
+            if (consume) {
+                singleValues.remove(key);
+            }
+            return o != NONE;
+        }
+        int o = terms.find(object);
+        if (o < 0) {
+            return false;
+        }
+        for (int t = head(key(s, p)); t != NONE; t = next(t)) {
+            if (objects[t] == o) {
+                if (consume) {
+                    consume(t);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @return true if a triple with the subject and predicate is present
+     */
+    boolean hasPredicate(IRI subject, IRI predicate) {
+        int s = terms.find(subject);
+        int p = terms.find(predicate);
+        if (s < 0 || p < 0) {
+            return false;
+        }
+        if (singleValuedPredicates.contains(predicate)) {
+            return singleValues.get(key(p, s)) != NONE;
+        }
+        return head(key(s, p)) != NONE;
+    }
+
+    /**
+     * @param subject subject
+     * @param into collection to add the predicates of the triples with the subject to, in order
+     *        of insertion; single valued predicates are not included
+     */
+    void predicates(IRI subject, Collection<IRI> into) {
+        for (int t = headOfSubject(terms.find(subject)); t != NONE; t = nextOfSubject(t)) {
+            into.add((IRI) terms.term(predicates[t]));
+        }
+    }
+
+    /**
+     * Passes the triples present when the call starts to the consumer, in order of insertion;
+     * triples consumed before their turn are skipped. Single valued predicates are not included.
+     *
+     * @param consumer consumer for the triples
+     */
+    void forEach(TripleConsumer<O> consumer) {
+        compactIfSparse();
+        int end = count;
+        iterating++;
+        try {
+            for (int t = 0; t < end; t++) {
+                if (!consumed.get(t)) {
+                    consumer.accept((IRI) terms.term(subjects[t]),
+                        (IRI) terms.term(predicates[t]), object(objects[t]));
+                }
+            }
+        } finally {
+            iterating--;
+        }
+    }
+
+    /**
+     * Passes the triples present when the call starts whose predicate passes the filter to the
+     * consumer, grouped by predicate in order of first use of the predicate, and in order of
+     * insertion for each predicate; triples consumed before their turn are skipped. Only the
+     * predicate chains are walked, so the cost depends on the number of matching triples rather
+     * than on the number of triples. Single valued predicates are not included.
+     *
+     * @param filter filter for the predicates, called once for each predicate
+     * @param consumer consumer for the triples
+     */
+    void forEach(Predicate<IRI> filter, TripleConsumer<O> consumer) {
+        compactIfSparse();
+        int end = count;
+        int predicatesAtStart = predicateCount;
+        iterating++;
+        try {
+            for (int i = 0; i < predicatesAtStart; i++) {
+                int p = predicateIds[i];
+                IRI predicate = (IRI) terms.term(p);
+                if (filter.test(predicate)) {
+                    forEach(p, predicate, end, consumer);
+                }
+            }
+        } finally {
+            iterating--;
+        }
+    }
+
+    /**
+     * Passes the triples present when the call starts with the predicate to the consumer, in
+     * order of insertion; triples consumed before their turn are skipped.
+     *
+     * @param predicate predicate of the triples
+     * @param consumer consumer for the triples
+     */
+    void forEach(IRI predicate, TripleConsumer<O> consumer) {
+        int p = terms.find(predicate);
+        if (p < 0 || p >= firstByPredicate.length) {
+            return;
+        }
+        compactIfSparse();
+        int end = count;
+        iterating++;
+        try {
+            forEach(p, predicate, end, consumer);
+        } finally {
+            iterating--;
+        }
+    }
+
+    private void forEach(int p, IRI predicate, int end, TripleConsumer<O> consumer) {
+        int t = firstByPredicate[p];
+        while (t != NONE && consumed.get(t)) {
+            t = nextByPredicate[t];
+        }
+        firstByPredicate[p] = t;
+        for (; t != NONE && t < end; t = nextOfPredicate(t)) {
+            if (!consumed.get(t)) {
+                consumer.accept((IRI) terms.term(subjects[t]), predicate, object(objects[t]));
+            }
+        }
+    }
+
+    /**
+     * @param consumer consumer for the triples with single valued predicates
+     */
+    void forEachSingleValued(TripleConsumer<O> consumer) {
+        singleValues.forEach((key, o) -> consumer.accept((IRI) terms.term((int) key),
+            (IRI) terms.term((int) (key >>> 32)), object(o)));
+    }
+
+    private void compactIfSparse() {
+        if (iterating == 0 && count > INITIAL_CAPACITY && live < count / 2) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int[] s = subjects;
+        int[] p = predicates;
+        int[] o = objects;
+        BitSet gone = (BitSet) consumed.clone();
+        int end = count;
+        clearTriples(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(live) * 2));
+        for (int t = gone.nextClearBit(0); t < end; t = gone.nextClearBit(t + 1)) {
+            insert(s[t], p[t], o[t]);
+        }
+    }
+
+    private void clearTriples(int capacity) {
+        subjects = new int[capacity];
+        predicates = new int[capacity];
+        objects = new int[capacity];
+        nextBySubjectPredicate = new int[capacity];
+        nextBySubject = new int[capacity];
+        nextByPredicate = new int[capacity];
+        Arrays.fill(firstBySubject, NONE);
+        Arrays.fill(firstByPredicate, NONE);
+        Arrays.fill(lastByPredicate, NONE);
+        predicateCount = 0;
+        firstBySubjectPredicate.clear();
+        consumed.clear();
+        count = 0;
+        live = 0;
+    }
+
+    /**
+     * Removes all triples.
+     */
+    void clear() {
+        clearTriples(INITIAL_CAPACITY);
+        firstBySubject = new int[0];
+        lastBySubject = new int[0];
+        firstByPredicate = new int[0];
+        lastByPredicate = new int[0];
+        predicateIds = new int[16];
+        singleValues.clear();
+    }
+
+    /**
+     * A map from long keys to non negative int values, with open addressing and linear probing.
+     */
+    private static class LongIntMap {
+
+        private long[] keys = new long[16];
+        /** Values plus one; zero marks an empty slot. */
+        private int[] values = new int[16];
+        private int size;
+
+        @FunctionalInterface
+        interface Entry {
+
+            void accept(long key, int value);
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ h >>> 32) & mask;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); values[i] != 0; i = i + 1 & mask) {
+                if (keys[i] == key) {
+                    return values[i] - 1;
+                }
+            }
+            return NONE;
+        }
+
+        void put(long key, int value) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            for (; values[i] != 0; i = i + 1 & mask) {
+                if (keys[i] == key) {
+                    values[i] = value + 1;
+                    return;
+                }
+            }
+            keys[i] = key;
+            values[i] = value + 1;
+            if (++size * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != key) {
+                if (values[i] == 0) {
+                    return;
+                }
+                i = i + 1 & mask;
+            }
+            if (values[i] == 0) {
+                return;
+            }
+            values[i] = 0;
+            size--;
+            // shift back the entries that would no longer be reachable across the new hole
+            for (int j = i + 1 & mask; values[j] != 0; j = j + 1 & mask) {
+                int k = slot(keys[j], mask);
+                if (i <= j ? k <= i || k > j : k <= i && k > j) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    values[j] = 0;
+                    i = j;
+                }
+            }
+        }
+
+        void forEach(Entry entry) {
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != 0) {
+                    entry.accept(keys[i], values[i] - 1);
+                }
+            }
+        }
+
+        void clear() {
+            keys = new long[16];
+            values = new int[16];
+            size = 0;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) {
+                    int j = slot(oldKeys[i], mask);
+                    while (values[j] != 0) {
+                        j = j + 1 & mask;
+                    }
+                    keys[j] = oldKeys[i];
+                    values[j] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package org.semanticweb.owlapi.rdf.turtle.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.NodeID;
+import org.semanticweb.owlapi.model.PrefixManager;
+import org.semanticweb.owlapi.util.DefaultPrefixManager;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.semanticweb.owlapi.vocab.XSDVocabulary;
+
+/**
+ * Recursive descent Turtle parser on a {@link TurtleLexer}. It accepts the language of
+ * {@link TurtleParser}, resolves IRIs, prefixed names and blank node labels in the same way, and
+ * passes the same triples to the {@link TripleHandler} in the same order. IRIs, prefixed names and
+ * blank node labels are resolved once per document through {@link TermCache}s; the prefixed name
+ * cache is cleared when a prefix is declared, and the IRI cache when the base changes.
+ */
+class FastTurtleParser implements TurtleParserConstants {
+
+    private static final IRI RDF_TYPE = OWLRDFVocabulary.RDF_TYPE.getIRI();
+    private static final IRI RDF_FIRST = OWLRDFVocabulary.RDF_FIRST.getIRI();
+    private static final IRI RDF_REST = OWLRDFVocabulary.RDF_REST.getIRI();
+    private static final IRI RDF_LIST = OWLRDFVocabulary.RDF_LIST.getIRI();
+    private static final IRI RDF_NIL = OWLRDFVocabulary.RDF_NIL.getIRI();
+    private final TurtleLexer lexer;
+    private final TripleHandler handler;
+    private final PrefixManager pm = new DefaultPrefixManager();
+    private final TermCache iris = new TermCache();
+    private final TermCache names = new TermCache();
+    private final TermCache nodes = new TermCache();
+    private final Function<String, IRI> createIRI = this::createIRI;
+    private final Function<String, IRI> createFromName = this::createFromName;
+    private final Function<String, IRI> createNode = FastTurtleParser::createNode;
+    private IRI base;
+
+    /**
+     * @param reader document
+     * @param handler handler for the triples
+     * @param base document IRI, used to resolve relative IRIs
+     */
+    FastTurtleParser(Reader reader, TripleHandler handler, IRI base) {
+        lexer = new TurtleLexer(reader);
+        this.handler = handler;
+        this.base = base;
+        pm.setDefaultPrefix("http://www.semanticweb.org/owl/owlapi/turtle#");
+    }
+
+    /**
+     * @return the prefixes declared in the document
+     */
+    PrefixManager getPrefixManager() {
+        return pm;
+    }
+
+    /**
+     * Parses the document; a document must have at least one directive or statement.
+     *
+     * @throws IOException if the document cannot be read
+     * @throws TurtleParserException if the document is not valid
+     */
+    void parseDocument() throws IOException {
+        lexer.next();
+        do {
+            if (lexer.kind == PREFIX) {
+                parsePrefixDirective();
+            } else if (lexer.kind == BASE) {
+                parseBaseDirective();
+            } else {
+                parseTriples();
+            }
+            expect(DOT);
+        } while (lexer.kind != EOF);
+        handler.handleEnd();
+    }
+
+    private void expect(int kind) throws IOException {
+        if (lexer.kind != kind) {
+            throw unexpected(tokenImage[kind]);
+        }
+        lexer.next();
+    }
+
+    private TurtleParserException unexpected(String expected) {
+        String found = lexer.kind == EOF ? tokenImage[EOF] : '"' + lexer.image() + '"';
+        return lexer.error("Encountered " + found + ", expected " + expected);
+    }
+
+    private void parsePrefixDirective() throws IOException {
+        lexer.next();
+        if (lexer.kind != PNAME_NS) {
+            throw unexpected(tokenImage[PNAME_NS]);
+        }
+        String prefixName = lexer.image();
+        lexer.next();
+        String ns = parseIRI().toString();
+        pm.setPrefix(prefixName, ns);
+        names.clear();
+        handler.handlePrefixDirective(prefixName, ns);
+    }
+
+    private void parseBaseDirective() throws IOException {
+        if (lexer.next() != FULLIRI) {
+            throw unexpected(tokenImage[FULLIRI]);
+        }
+        base = IRI.create(lexer.image());
+        iris.clear();
+        lexer.next();
+        handler.handleBaseDirective(base);
+    }
+
+    private void parseTriples() throws IOException {
+        IRI subject = parseSubject();
+        if (isVerb()) {
+            parsePredicateObjectList(subject);
+        }
+    }
+
+    private IRI parseSubject() throws IOException {
+        IRI iri = parseResourceOrBlankNode();
+        if (iri == null) {
+            throw unexpected("a subject");
+        }
+        return iri;
+    }
+
+    private boolean isVerb() {
+        return lexer.kind == A || isResource();
+    }
+
+    private boolean isResource() {
+        return lexer.kind == FULLIRI || lexer.kind == PNAME_LN || lexer.kind == PNAME_NS;
+    }
+
+    private void parsePredicateObjectList(IRI subject) throws IOException {
+        parseObjectList(subject, parseVerb());
+        while (lexer.kind == SEMICOLON) {
+            while (lexer.next() == SEMICOLON) {
+                // repeated semicolons are allowed
+            }
+            if (!isVerb()) {
+                return;
+            }
+            parseObjectList(subject, parseVerb());
+        }
+    }
+
+    private IRI parseVerb() throws IOException {
+        if (lexer.kind == A) {
+            lexer.next();
+            return RDF_TYPE;
+        }
+        if (!isResource()) {
+            throw unexpected("a predicate");
+        }
+        return parseResource();
+    }
+
+    private void parseObjectList(IRI subject, IRI predicate) throws IOException {
+        parseObject(subject, predicate);
+        while (lexer.kind == COMMA) {
+            lexer.next();
+            parseObject(subject, predicate);
+        }
+    }
+
+    private void parseObject(IRI subject, IRI predicate) throws IOException {
+        if (parseLiteral(subject, predicate)) {
+            return;
+        }
+        IRI object = parseResourceOrBlankNode();
+        if (object == null) {
+            throw unexpected("an object");
+        }
+        handler.handleTriple(subject, predicate, object);
+    }
+
+    @Nullable
+    private IRI parseResourceOrBlankNode() throws IOException {
+        switch (lexer.kind) {
+            case FULLIRI:
+            case PNAME_LN:
+            case PNAME_NS:
+                return parseResource();
+            case NODEID:
+                IRI node = nodes.get(lexer.text(), lexer.offset, lexer.length, createNode);
+                lexer.next();
+                return node;
+            case OPEN_SQUARE_BRACKET:
+                return parseBlankNodePropertyList();
+            case OPENPAR:
+                return parseCollection();
+            default:
+                return null;
+        }
+    }
+
+    private IRI parseResource() throws IOException {
+        if (lexer.kind == FULLIRI) {
+            return parseIRI();
+        }
+        IRI iri = names.get(lexer.text(), lexer.offset, lexer.length, createFromName);
+        lexer.next();
+        return iri;
+    }
+
+    private IRI parseIRI() throws IOException {
+        if (lexer.kind != FULLIRI) {
+            throw unexpected(tokenImage[FULLIRI]);
+        }
+        String escaped = lexer.value;
+        IRI iri = escaped == null ? iris.get(lexer.text(), lexer.offset, lexer.length, createIRI)
+            : createIRI(escaped);
+        lexer.next();
+        return iri;
+    }
+
+    private IRI parseBlankNodePropertyList() throws IOException {
+        IRI node = IRI.create(NodeID.nextAnonymousIRI());
+        if (lexer.next() != CLOSE_SQUARE_BRACKET) {
+            parsePredicateObjectList(node);
+            if (lexer.kind == DOT) {
+                lexer.next();
+            }
+        }
+        expect(CLOSE_SQUARE_BRACKET);
+        return node;
+    }
+
+    private IRI parseCollection() throws IOException {
+        IRI firstSubject = RDF_NIL;
+        IRI subject = null;
+        lexer.next();
+        while (lexer.kind != CLOSEPAR) {
+            IRI previous = subject;
+            subject = IRI.create(NodeID.nextAnonymousIRI());
+            if (previous != null) {
+                handler.handleTriple(previous, RDF_REST, subject);
+            } else {
+                firstSubject = subject;
+            }
+            handler.handleTriple(subject, RDF_TYPE, RDF_LIST);
+            parseObject(subject, RDF_FIRST);
+        }
+        if (subject != null) {
+            handler.handleTriple(subject, RDF_REST, RDF_NIL);
+        }
+        lexer.next();
+        return firstSubject;
+    }
+
+    private boolean parseLiteral(IRI subject, IRI predicate) throws IOException {
+        String literal = lexer.value;
+        switch (lexer.kind) {
+            case STRING:
+                lexer.next();
+                if (lexer.kind == DOUBLE_CARET) {
+                    lexer.next();
+                    if (!isResource()) {
+                        throw unexpected("a datatype");
+                    }
+                    handler.handleTriple(subject, predicate, literal, parseResource());
+                } else if (lexer.kind == AT) {
+                    handler.handleTriple(subject, predicate, literal, lexer.value);
+                    lexer.next();
+                } else {
+                    handler.handleTriple(subject, predicate, literal);
+                }
+                return true;
+            case INTEGER:
+                return literal(subject, predicate, literal, XSDVocabulary.INTEGER.getIRI());
+            case DOUBLE:
+                return literal(subject, predicate, literal, XSDVocabulary.DOUBLE.getIRI());
+            case DECIMAL:
+                return literal(subject, predicate, literal, XSDVocabulary.DECIMAL.getIRI());
+            case TRUE:
+            case FALSE:
+                return literal(subject, predicate, literal, XSDVocabulary.BOOLEAN.getIRI());
+            default:
+                return false;
+        }
+    }
+
+    private boolean literal(IRI subject, IRI predicate, @Nullable String literal, IRI datatype)
+        throws IOException {
+        handler.handleTriple(subject, predicate, literal, datatype);
+        lexer.next();
+        return true;
+    }
+
+    private IRI createIRI(String s) {
+        IRI iri = IRI.create(s);
+        if (!iri.isAbsolute()) {
+            String namespace = base.getNamespace();
+            iri = IRI.create(namespace.substring(0, namespace.lastIndexOf('/') + 1), s);
+        }
+        return iri;
+    }
+
+    private IRI createFromName(String qname) {
+        String prefix = qname.substring(0, qname.indexOf(':') + 1);
+        if (!pm.containsPrefixMapping(prefix)) {
+            throw lexer.error("Prefix not declared: " + prefix);
+        }
+        return pm.getIRI(qname);
+    }
+
+    private static IRI createNode(String id) {
+        return IRI.create(NodeID.isAnonymousNodeID(id) ? id : NodeID.getIRIFromNodeID(id));
+    }
+}
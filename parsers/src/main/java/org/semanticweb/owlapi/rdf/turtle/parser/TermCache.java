@@ -0,0 +1,102 @@
+package org.semanticweb.owlapi.rdf.turtle.parser;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.semanticweb.owlapi.model.IRI;
+
+/**
+ * Maps the text of a token to its {@link IRI}, looking the token up directly in the character
+ * buffer of {@link TurtleLexer}: a string is only created the first time a term is seen, and
+ * repeated subjects, predicates and prefixed names resolve to the same {@link IRI} instance. The
+ * index is an open addressing table; the hash of a key is the hash of the equivalent string.
+ */
+class TermCache {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private IRI[] values = new IRI[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param text buffer
+     * @param offset offset of the token
+     * @param length length of the token
+     * @param create function from the token text to its IRI, for tokens not seen before
+     * @return IRI of the token
+     */
+    IRI get(char[] text, int offset, int length, Function<String, IRI> create) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + text[i];
+        }
+        int mask = keys.length - 1;
+        int i = (h ^ h >>> 16) & mask;
+        for (String key = keys[i]; key != null; key = keys[i]) {
+            if (hashes[i] == h && matches(key, text, offset, length)) {
+                return values[i];
+            }
+            i = i + 1 & mask;
+        }
+        String key = new String(text, offset, length);
+        IRI value = create.apply(key);
+        keys[i] = key;
+        values[i] = value;
+        hashes[i] = h;
+        if (++size * 2 > keys.length) {
+            rehash();
+        }
+        return value;
+    }
+
+    private static boolean matches(String key, char[] text, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != text[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return number of cached terms
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all terms, e.g., when the prefix or base they were resolved against changes.
+     */
+    void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void rehash() {
+        String[] oldKeys = keys;
+        IRI[] oldValues = values;
+        int[] oldHashes = hashes;
+        keys = new String[oldKeys.length * 2];
+        values = new IRI[keys.length];
+        hashes = new int[keys.length];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != null) {
+                int h = oldHashes[j];
+                int i = (h ^ h >>> 16) & mask;
+                while (keys[i] != null) {
+                    i = i + 1 & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+                hashes[i] = h;
+            }
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package org.semanticweb.owlapi.rdf.turtle.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * Hand written lexer for {@link FastTurtleParser}. The document is read in blocks into a single
+ * character buffer, and the text of the current token is always contiguous in the buffer, so that
+ * IRIs, prefixed names and blank node labels can be resolved through a {@link TermCache} without
+ * creating a string per token. Token kinds are those of {@link TurtleParserConstants}: all string
+ * forms are {@link #STRING}, both forms of prefixed name are {@link #PNAME_LN} or
+ * {@link #PNAME_NS}, and a language tag is {@link #AT}.
+ */
+class TurtleLexer implements TurtleParserConstants {
+
+    private static final int BLOCK_SIZE = 65536;
+    private final Reader reader;
+    private char[] buffer = new char[BLOCK_SIZE];
+    private int limit;
+    private boolean eof;
+    /** Position of the next character to scan. */
+    private int pos;
+    /** Start of the text that must stay in the buffer, i.e., of the token being scanned. */
+    private int start;
+    private int line = 1;
+    private int lineStart;
+    /** Kind of the current token. */
+    int kind;
+    /** Offset of the text of the current token in {@link #text()}. */
+    int offset;
+    /** Length of the text of the current token. */
+    int length;
+    /**
+     * Value of the current string, number, boolean or language tag, or of an IRI with escape
+     * sequences.
+     */
+    @Nullable
+    String value;
+    private int tokenLine;
+    private int tokenColumn;
+
+    /**
+     * @param reader document
+     */
+    TurtleLexer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return buffer containing the text of the current token; valid until the next call to
+     *         {@link #next()}
+     */
+    char[] text() {
+        return buffer;
+    }
+
+    /**
+     * @return text of the current token
+     */
+    String image() {
+        return value != null ? value : new String(buffer, offset, length);
+    }
+
+    /**
+     * @param message error message
+     * @return exception for an error at the current token
+     */
+    TurtleParserException error(String message) {
+        return new TurtleParserException(message, tokenLine, tokenColumn);
+    }
+
+    /**
+     * Scans the next token.
+     *
+     * @return kind of the token
+     * @throws IOException if the document cannot be read
+     */
+    int next() throws IOException {
+        value = null;
+        skipSpace();
+        start = pos;
+        tokenLine = line;
+        tokenColumn = pos - lineStart + 1;
+        int c = ch(0);
+        switch (c) {
+            case -1:
+                return token(EOF, 0);
+            case '<':
+                return iri();
+            case '"':
+            case '\'':
+                return string((char) c);
+            case '.':
+                return isDigit(ch(1)) ? number() : token(DOT, 1);
+            case ';':
+                return token(SEMICOLON, 1);
+            case ',':
+                return token(COMMA, 1);
+            case '[':
+                return token(OPEN_SQUARE_BRACKET, 1);
+            case ']':
+                return token(CLOSE_SQUARE_BRACKET, 1);
+            case '(':
+                return token(OPENPAR, 1);
+            case ')':
+                return token(CLOSEPAR, 1);
+            case '^':
+                if (ch(1) == '^') {
+                    return token(DOUBLE_CARET, 2);
+                }
+                throw error("Expected '^^'");
+            case '@':
+                return at();
+            case '+':
+            case '-':
+                return number();
+            case '_':
+                if (ch(1) == ':') {
+                    pos += 2;
+                    if (!isLocalStart(ch(0))) {
+                        throw error("Expected a blank node label");
+                    }
+                    name();
+                    return token(NODEID);
+                }
+                throw error("Unexpected character: " + (char) c);
+            default:
+                if (isDigit(c)) {
+                    return number();
+                }
+                if (c == ':' || isNameStart(c)) {
+                    return word();
+                }
+                throw error("Unexpected character: " + (char) c);
+        }
+    }
+
+    private int token(int k, int size) {
+        pos += size;
+        return token(k);
+    }
+
+    private int token(int k) {
+        kind = k;
+        offset = start;
+        length = pos - start;
+        return k;
+    }
+
+    /**
+     * @param ahead distance from the current position
+     * @return character at the given distance, or -1 at the end of the document
+     */
+    private int ch(int ahead) throws IOException {
+        while (pos + ahead >= limit) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return buffer[pos + ahead];
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, limit - start);
+            pos -= start;
+            limit -= start;
+            lineStart -= start;
+            start = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private void newLine() {
+        line++;
+        lineStart = pos;
+    }
+
+    private void skipSpace() throws IOException {
+        for (int c = ch(0); c != -1; c = ch(0)) {
+            if (c == '#') {
+                while (c != -1 && c != '\n') {
+                    pos++;
+                    start = pos;
+                    c = ch(0);
+                }
+                continue;
+            }
+            if (c != ' ' && c != '\t' && c != '\r' && c != '\n') {
+                return;
+            }
+            pos++;
+            start = pos;
+            if (c == '\n') {
+                newLine();
+            }
+        }
+    }
+
+    private int iri() throws IOException {
+        pos++;
+        boolean escaped = false;
+        for (int c = ch(0); c != '>'; c = ch(0)) {
+            if (c == -1 || c == ' ' || c == '\n') {
+                throw error("Unterminated IRI");
+            }
+            escaped |= c == '\\';
+            pos++;
+        }
+        pos++;
+        kind = FULLIRI;
+        offset = start + 1;
+        length = pos - start - 2;
+        if (escaped) {
+            value = unescape(offset, offset + length);
+        }
+        return kind;
+    }
+
+    private int string(char quote) throws IOException {
+        boolean isLong = ch(1) == quote && ch(2) == quote;
+        pos += isLong ? 3 : 1;
+        int contentStart = pos - start;
+        boolean escaped = false;
+        for (int c = ch(0);; c = ch(0)) {
+            if (c == -1) {
+                throw error("Unterminated string");
+            }
+            if (c == quote && (!isLong || ch(1) == quote && ch(2) == quote)) {
+                break;
+            }
+            if (c == '\\') {
+                escaped = true;
+                pos++;
+                c = ch(0);
+            }
+            if (c == '\n') {
+                newLine();
+            }
+            pos++;
+        }
+        int from = start + contentStart;
+        value = escaped ? unescape(from, pos) : new String(buffer, from, pos - from);
+        pos += isLong ? 3 : 1;
+        kind = STRING;
+        offset = start;
+        length = pos - start;
+        return kind;
+    }
+
+    /**
+     * Decodes the escape sequences of Turtle strings and IRIs; the backslash of an unknown escape
+     * sequence is dropped, as with the JavaCC parser.
+     */
+    private String unescape(int from, int to) {
+        StringBuilder b = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = buffer[i];
+            if (c != '\\' || i + 1 == to) {
+                b.append(c);
+                continue;
+            }
+            char e = buffer[++i];
+            switch (e) {
+                case 't':
+                    b.append('\t');
+                    break;
+                case 'b':
+                    b.append('\b');
+                    break;
+                case 'n':
+                    b.append('\n');
+                    break;
+                case 'r':
+                    b.append('\r');
+                    break;
+                case 'f':
+                    b.append('\f');
+                    break;
+                case 'u':
+                case 'U':
+                    int digits = e == 'u' ? 4 : 8;
+                    if (i + digits >= to) {
+                        throw error("Incomplete Unicode escape sequence");
+                    }
+                    try {
+                        b.appendCodePoint(Integer.parseInt(new String(buffer, i + 1, digits), 16));
+                    } catch (IllegalArgumentException ex) {
+                        throw error("Illegal Unicode escape sequence");
+                    }
+                    i += digits;
+                    break;
+                default:
+                    b.append(e);
+            }
+        }
+        return b.toString();
+    }
+
+    private int at() throws IOException {
+        pos++;
+        while (isNameChar(ch(0))) {
+            pos++;
+        }
+        if (pos == start + 1) {
+            throw error("Expected a language tag");
+        }
+        value = new String(buffer, start + 1, pos - start - 1);
+        if ("prefix".equals(value)) {
+            value = null;
+            return token(PREFIX);
+        }
+        if ("base".equals(value)) {
+            value = null;
+            return token(BASE);
+        }
+        return token(AT);
+    }
+
+    private int number() throws IOException {
+        if (ch(0) == '+' || ch(0) == '-') {
+            pos++;
+        }
+        int digits = digits();
+        int k = INTEGER;
+        if (ch(0) == '.' && isDigit(ch(1))) {
+            pos++;
+            digits += digits();
+            k = DECIMAL;
+        }
+        if (digits == 0) {
+            throw error("Expected a number");
+        }
+        int e = ch(0);
+        if (e == 'e' || e == 'E') {
+            int sign = ch(1) == '+' || ch(1) == '-' ? 1 : 0;
+            if (isDigit(ch(1 + sign))) {
+                pos += 1 + sign;
+                digits();
+                k = DOUBLE;
+            }
+        }
+        token(k);
+        value = new String(buffer, offset, length);
+        return k;
+    }
+
+    private int digits() throws IOException {
+        int count = 0;
+        while (isDigit(ch(0))) {
+            pos++;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Scans a prefixed name, or one of the keywords {@code a}, {@code true} and {@code false}.
+     */
+    private int word() throws IOException {
+        boolean colon = name();
+        if (colon) {
+            return token(buffer[pos - 1] == ':' ? PNAME_NS : PNAME_LN);
+        }
+        token(ERROR);
+        if (length == 1 && buffer[offset] == 'a') {
+            kind = A;
+        } else if (matches("true")) {
+            kind = TRUE;
+        } else if (matches("false")) {
+            kind = FALSE;
+        } else {
+            throw error("Unexpected name: " + image());
+        }
+        value = new String(buffer, offset, length);
+        return kind;
+    }
+
+    private boolean matches(String keyword) {
+        if (length != keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[offset + i] != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scans name characters, colons, dots and escaped characters; a trailing dot ends the
+     * statement rather than the name.
+     *
+     * @return true if the name contains a colon
+     */
+    private boolean name() throws IOException {
+        boolean colon = false;
+        for (int c = ch(0);; c = ch(0)) {
+            if (c == '\\' && ch(1) != -1) {
+                pos += 2;
+            } else if (c == ':') {
+                colon = true;
+                pos++;
+            } else if (c == '.' || isNameChar(c)) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        while (buffer[pos - 1] == '.') {
+            pos--;
+        }
+        return colon;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNameStart(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= 0x80 && isNameBase(c);
+    }
+
+    private static boolean isLocalStart(int c) {
+        return isNameStart(c) || c == '_' || isDigit(c);
+    }
+
+    private static boolean isNameChar(int c) {
+        if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '_' || c == '-') {
+            return true;
+        }
+        return c >= 0x80 && (isNameBase(c) || c == 0xB7 || c >= 0x300 && c <= 0x36F
+            || c >= 0x203F && c <= 0x2040);
+    }
+
+    /**
+     * @return true for the characters of PN_CHARS_BASE outside ASCII
+     */
+    private static boolean isNameBase(int c) {
+        return c >= 0xC0 && c <= 0xD6 || c >= 0xD8 && c <= 0xF6 || c >= 0xF8 && c <= 0x2FF
+            || c >= 0x370 && c <= 0x37D || c >= 0x37F && c <= 0x1FFF
+            || c >= 0x200C && c <= 0x200D || c >= 0x2070 && c <= 0x218F
+            || c >= 0x2C00 && c <= 0x2FEF || c >= 0x3001 && c <= 0xD7FF
+            || c >= 0xF900 && c <= 0xFDCF || c >= 0xFDF0 && c <= 0xFFFD;
+    }
+}
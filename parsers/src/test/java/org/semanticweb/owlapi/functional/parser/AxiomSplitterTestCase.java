@@ -0,0 +1,74 @@
+package org.semanticweb.owlapi.functional.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AxiomSplitterTestCase {
+
+    private static final String ONTOLOGY = "Ontology(<urn:test:ontology>\n"
+        + "Import(<urn:test:imported>)\n" + "Annotation(rdfs:comment \"header (\")\n"
+        + "Declaration(Class(:A))\n" + "SubClassOf(:A :B)\n" + ")\n";
+
+    private static List<Long> starts(String text, long expectedEnd) {
+        List<Long> starts = new ArrayList<>();
+        AxiomSplitter splitter = new AxiomSplitter();
+        for (int i = 0; i < text.length() && !splitter.isDone(); i++) {
+            long start = splitter.next(text.charAt(i));
+            if (start >= 0) {
+                starts.add(Long.valueOf(start));
+            }
+        }
+        assertEquals(expectedEnd, splitter.end());
+        return starts;
+    }
+
+    @Test
+    void shouldSplitDocumentWithPrefixes() {
+        String prefixes = "Prefix(:=<urn:test#>)\n"
+            + "Prefix(rdfs:=<http://www.w3.org/2000/01/rdf-schema#>)\n";
+        String text = prefixes + ONTOLOGY;
+        List<Long> starts = starts(text, text.lastIndexOf(')'));
+        assertEquals(Arrays.asList(Long.valueOf(text.indexOf("Declaration")),
+            Long.valueOf(text.indexOf("SubClassOf"))), starts);
+    }
+
+    @Test
+    void shouldSplitDocumentWithoutPrefixes() {
+        assertEquals(2, starts(ONTOLOGY, ONTOLOGY.lastIndexOf(')')).size());
+    }
+
+    @Test
+    void shouldCarryStateAcrossLines() {
+        String text = "Ontology(<urn:test:ontology>\n"
+            + "# comment with ( and \"\n"
+            + "AnnotationAssertion(:p :A \"multi\nline ) \\\" literal\")\n"
+            + "SubClassOf(:A :B))";
+        AxiomSplitter splitter = new AxiomSplitter();
+        List<Long> starts = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            long start = splitter.next(text.charAt(i));
+            if (start >= 0) {
+                starts.add(Long.valueOf(start));
+                assertEquals(text.substring(0, i).split("\n", -1).length,
+                    splitter.axiomLine());
+            }
+        }
+        assertEquals(Arrays.asList(Long.valueOf(text.indexOf("AnnotationAssertion")),
+            Long.valueOf(text.indexOf("SubClassOf"))), starts);
+        assertEquals(text.length() - 1, splitter.end());
+        assertEquals(2, splitter.axiomCount());
+    }
+
+    @Test
+    void shouldRejectUnexpectedShapes() {
+        starts("Prefix(:=<urn:test#>)\n", -1);
+        starts("Other(:A)\n" + ONTOLOGY, -1);
+        starts("Prefix(:=<urn:test#>)\nOntology(<urn:test:ontology>)\n", -1);
+        starts("Ontology(<urn:test:ontology>\nSubClassOf(:A :B)\n", -1);
+    }
+}
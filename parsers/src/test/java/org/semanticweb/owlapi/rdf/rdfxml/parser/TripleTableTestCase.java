@@ -0,0 +1,188 @@
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+class TripleTableTestCase {
+
+    private final IRI[] nodes = new IRI[40];
+    private final IRI[] predicates = new IRI[4];
+    private final IRI single = IRI.create("urn:test:single");
+
+    TripleTableTestCase() {
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = IRI.create("urn:test:n" + i);
+        }
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = IRI.create("urn:test:p" + i);
+        }
+    }
+
+    @Test
+    void shouldMatchMapBasedStore() {
+        TermDictionary terms = new TermDictionary();
+        TripleTable<IRI> table = new TripleTable<>(terms);
+        Map<IRI, Map<IRI, Set<IRI>>> expected = new LinkedHashMap<>();
+        Random random = new Random(7);
+        for (int step = 0; step < 20000; step++) {
+            IRI s = nodes[random.nextInt(nodes.length)];
+            IRI p = predicates[random.nextInt(predicates.length)];
+            IRI o = nodes[random.nextInt(nodes.length)];
+            Set<IRI> objects = expected.computeIfAbsent(s, x -> new LinkedHashMap<>())
+                .computeIfAbsent(p, x -> new LinkedHashSet<>());
+            int op = random.nextInt(4);
+            if (op == 0 || step % 5000 < 2500) {
+                table.add(s, p, o);
+                objects.add(o);
+            } else if (op == 1) {
+                IRI first = objects.isEmpty() ? null : objects.iterator().next();
+                assertEquals(first, table.first(s, p, true));
+                objects.remove(first);
+            } else {
+                assertEquals(objects.contains(o), table.contains(s, p, o, op == 2));
+                if (op == 2) {
+                    objects.remove(o);
+                }
+            }
+            assertEquals(!objects.isEmpty(), table.hasPredicate(s, p));
+            if (step % 97 == 0) {
+                assertSameTriples(expected, table);
+            }
+        }
+        assertSameTriples(expected, table);
+    }
+
+    private void assertSameTriples(Map<IRI, Map<IRI, Set<IRI>>> expected, TripleTable<IRI> table) {
+        Set<List<IRI>> triples = new HashSet<>();
+        expected.forEach((s, map) -> map.forEach((p, objects) -> {
+            Set<IRI> actual = new LinkedHashSet<>();
+            table.objects(s, p, actual);
+            assertEquals(new ArrayList<>(objects), new ArrayList<>(actual));
+            objects.forEach(o -> triples.add(triple(s, p, o)));
+        }));
+        Set<List<IRI>> actual = new HashSet<>();
+        table.forEach((s, p, o) -> assertTrue(actual.add(triple(s, p, o))));
+        assertEquals(triples, actual);
+        Set<List<IRI>> byPredicate = new HashSet<>();
+        for (IRI predicate : predicates) {
+            table.forEach(predicate, (s, p, o) -> {
+                assertEquals(predicate, p);
+                assertTrue(byPredicate.add(triple(s, p, o)));
+            });
+        }
+        assertEquals(triples, byPredicate);
+        Set<List<IRI>> filtered = new HashSet<>();
+        table.forEach(p -> !p.equals(predicates[1]),
+            (s, p, o) -> assertTrue(filtered.add(triple(s, p, o))));
+        triples.removeIf(t -> t.get(1).equals(predicates[1]));
+        assertEquals(triples, filtered);
+        for (IRI s : nodes) {
+            Set<IRI> expectedPredicates = new HashSet<>();
+            expected.getOrDefault(s, new LinkedHashMap<>()).forEach((p, objects) -> {
+                if (!objects.isEmpty()) {
+                    expectedPredicates.add(p);
+                }
+            });
+            Set<IRI> actualPredicates = new HashSet<>();
+            table.predicates(s, actualPredicates);
+            assertEquals(expectedPredicates, actualPredicates);
+        }
+    }
+
+    private static List<IRI> triple(IRI s, IRI p, IRI o) {
+        List<IRI> list = new ArrayList<>(3);
+        list.add(s);
+        list.add(p);
+        list.add(o);
+        return list;
+    }
+
+    @Test
+    void shouldSkipTriplesConsumedDuringIteration() {
+        TripleTable<IRI> table = new TripleTable<>(new TermDictionary());
+        for (IRI s : nodes) {
+            table.add(s, predicates[0], nodes[0]);
+            table.add(s, predicates[1], nodes[1]);
+        }
+        List<IRI> visited = new ArrayList<>();
+        table.forEach((s, p, o) -> {
+            visited.add(s);
+            table.contains(s, predicates[1], nodes[1], true);
+            table.add(nodes[0], predicates[2], s);
+        });
+        assertEquals(nodes.length, visited.size());
+        assertFalse(table.hasPredicate(nodes[3], predicates[1]));
+        assertTrue(table.hasPredicate(nodes[0], predicates[2]));
+    }
+
+    @Test
+    void shouldVisitTriplesByPredicate() {
+        TripleTable<IRI> table = new TripleTable<>(new TermDictionary());
+        for (IRI s : nodes) {
+            table.add(s, predicates[0], nodes[0]);
+            table.add(s, predicates[1], nodes[1]);
+        }
+        List<IRI> visited = new ArrayList<>();
+        table.forEach(predicates[1], (s, p, o) -> {
+            visited.add(s);
+            // consumed before their turn, or added after the start: not visited
+            table.contains(nodes[nodes.length - 1], predicates[1], nodes[1], true);
+            table.add(s, predicates[1], nodes[2]);
+        });
+        assertEquals(nodes.length - 1, visited.size());
+        assertEquals(nodes[0], visited.get(0));
+        List<IRI> filtered = new ArrayList<>();
+        table.forEach(p -> p.equals(predicates[1]), (s, p, o) -> filtered.add(o));
+        assertEquals(2 * (nodes.length - 1), filtered.size());
+        table.forEach(predicates[2], (s, p, o) -> fail("no triples with this predicate"));
+    }
+
+    @Test
+    void shouldKeepLastObjectForSingleValuedPredicates() {
+        TripleTable<IRI> table = new TripleTable<>(new TermDictionary());
+        table.singleValued(single);
+        table.add(nodes[0], single, nodes[1]);
+        table.add(nodes[0], single, nodes[2]);
+        assertEquals(nodes[2], table.first(nodes[0], single, false));
+        Set<IRI> predicatesOfSubject = new HashSet<>();
+        table.predicates(nodes[0], predicatesOfSubject);
+        assertTrue(predicatesOfSubject.isEmpty());
+        table.forEach((s, p, o) -> fail("single valued triples are not iterated"));
+        assertFalse(table.isEmpty());
+        // checking ignores the object
+        assertTrue(table.contains(nodes[0], single, nodes[3], true));
+        assertNull(table.first(nodes[0], single, false));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void shouldStoreSetMembership() {
+        TermDictionary terms = new TermDictionary();
+        TermSet set = new TermSet(terms);
+        for (int i = 0; i < nodes.length; i += 2) {
+            assertTrue(set.add(nodes[i]));
+        }
+        assertFalse(set.add(nodes[0]));
+        for (int i = 0; i < nodes.length; i++) {
+            assertEquals(i % 2 == 0, set.contains(nodes[i]));
+        }
+        assertFalse(set.contains(IRI.create("urn:test:unknown")));
+        set.clear();
+        assertFalse(set.contains(nodes[0]));
+    }
+}
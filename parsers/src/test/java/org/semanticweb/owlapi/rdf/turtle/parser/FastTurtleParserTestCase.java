@@ -0,0 +1,158 @@
+package org.semanticweb.owlapi.rdf.turtle.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+class FastTurtleParserTestCase {
+
+    private static final IRI BASE = IRI.create("http://example.org/doc/base.ttl");
+    private static final String DOCUMENT = "@prefix : <http://example.org/ns#> .\n"
+        + "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+        + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .\n"
+        + "@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .\n"
+        + "@prefix ex.a-b: <http://example.org/other/> .\n" + "# a comment with \"quotes\"\n"
+        + "<http://example.org/ont> a owl:Ontology ; rdfs:comment \"a \\\"quoted\\\" c\"@en-GB .\n"
+        + ":A a owl:Class ; rdfs:subClassOf [ a owl:Restriction ; owl:onProperty :p ;\n"
+        + "    owl:someValuesFrom :B ] .\n"
+        + ":B a owl:Class ; owl:unionOf ( :A :C [ a owl:Class ] ) .\n"
+        + ":C rdfs:label 'single', \"\"\"long\n\"with\" quotes\"\"\", '''long single''' ,\n"
+        + "    \"typed\"^^xsd:string .\n"
+        + ":i :p :j , _:b1 ; :q 1 , -2.5 , 1.0e3 , true , false ; :r () .\n"
+        + "_:b1 :p ex.a-b:x_y.z .\n" + "<relative> :p <http://example.org/\u00E9> .\n"
+        + ":x :p \"\\u00E9\" , <http://example.org/\\u00E9> .\n" + "[] :p :o .\n"
+        + "[ :p :o ] .\n" + ":s :p :o.\n" + "@base <http://example.org/base/> .\n"
+        + "<rel2> :p :o ; .\n";
+
+    /**
+     * Records the handler calls, with anonymous nodes numbered in order of first use, since each
+     * parse allocates fresh node ids.
+     */
+    private static class Recorder implements TripleHandler {
+
+        final List<String> calls = new ArrayList<>();
+        private final Map<IRI, String> nodes = new HashMap<>();
+
+        private String term(IRI iri) {
+            if (iri.toString().startsWith("_:")) {
+                return nodes.computeIfAbsent(iri, x -> "_:n" + nodes.size());
+            }
+            return iri.toString();
+        }
+
+        @Override
+        public void handlePrefixDirective(String prefixName, String prefix) {
+            calls.add("prefix " + prefixName + ' ' + prefix);
+        }
+
+        @Override
+        public void handleBaseDirective(IRI base) {
+            calls.add("base " + base);
+        }
+
+        @Override
+        public void handleComment(String comment) {
+            calls.add("comment " + comment);
+        }
+
+        @Override
+        public void handleTriple(IRI subject, IRI predicate, IRI object) {
+            calls.add(term(subject) + ' ' + term(predicate) + ' ' + term(object));
+        }
+
+        @Override
+        public void handleTriple(IRI subject, IRI predicate, String object) {
+            calls.add(term(subject) + ' ' + term(predicate) + " \"" + object + '"');
+        }
+
+        @Override
+        public void handleTriple(IRI subject, IRI predicate, String object,
+            @Nullable String lang) {
+            calls.add(term(subject) + ' ' + term(predicate) + " \"" + object + "\"@" + lang);
+        }
+
+        @Override
+        public void handleTriple(IRI subject, IRI predicate, String object,
+            @Nullable IRI datatype) {
+            calls.add(term(subject) + ' ' + term(predicate) + " \"" + object + "\"^^" + datatype);
+        }
+
+        @Override
+        public void handleEnd() {
+            calls.add("end");
+        }
+    }
+
+    private static List<String> javacc(String document) throws Exception {
+        Recorder recorder = new Recorder();
+        new TurtleParser(new StringReader(document), recorder, BASE).parseDocument();
+        return recorder.calls;
+    }
+
+    private static List<String> fast(String document) throws IOException {
+        Recorder recorder = new Recorder();
+        new FastTurtleParser(new StringReader(document), recorder, BASE).parseDocument();
+        return recorder.calls;
+    }
+
+    @Test
+    void shouldProduceSameTriplesAsJavaCCParser() throws Exception {
+        List<String> expected = javacc(DOCUMENT);
+        assertEquals(46, expected.size());
+        assertEquals(expected, fast(DOCUMENT));
+    }
+
+    @Test
+    void shouldReadTokensAcrossBlocks() throws Exception {
+        StringBuilder b = new StringBuilder("@prefix : <http://example.org/ns#> .\n");
+        for (int i = 0; i < 5000; i++) {
+            b.append(":C").append(i).append(" :p :C").append(i / 2).append(" ; :label \"label ")
+                .append(i).append("\"@en , \"\"\"").append(i).append("\nx\"\"\" .\n");
+        }
+        // a token longer than a block
+        b.append(":x :p \"");
+        for (int i = 0; i < 100000; i++) {
+            b.append((char) ('a' + i % 26));
+        }
+        b.append("\" .\n");
+        String document = b.toString();
+        assertEquals(javacc(document), fast(document));
+    }
+
+    @Test
+    void shouldReportErrorsWithLineNumbers() {
+        TurtleParserException e = assertThrows(TurtleParserException.class,
+            () -> fast(":a :p :b .\n:a :p undeclared:b .\n"));
+        assertEquals(2, e.getLineNumber());
+        assertTrue(e.getMessage().contains("Prefix not declared: undeclared:"), e.getMessage());
+        assertThrows(TurtleParserException.class, () -> fast(":a :p :b"));
+        assertThrows(TurtleParserException.class, () -> fast(""));
+        assertThrows(TurtleParserException.class, () -> fast(":a :p \"unterminated .\n"));
+    }
+
+    @Test
+    void shouldReuseIRIsOfRepeatedTerms() {
+        TermCache cache = new TermCache();
+        char[] text = "xx:ayy:a".toCharArray();
+        IRI first = cache.get(text, 2, 2, IRI::create);
+        assertTrue(first == cache.get(text, 6, 2, s -> IRI.create("unused")));
+        for (int i = 0; i < 1000; i++) {
+            char[] key = ("k" + i).toCharArray();
+            cache.get(key, 0, key.length, IRI::create);
+        }
+        assertEquals(1001, cache.size());
+        assertTrue(first == cache.get(text, 2, 2, s -> IRI.create("unused")));
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * This file is part of the OWL API.
+ * 
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * 
+ * Copyright (C) 2011, The University of Queensland
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see http://www.gnu.org/licenses/.
+ * 
+ * 
+ * Alternatively, the contents of this file may be used under the terms of the Apache License,
+ * Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable
+ * instead of those above.
+ * 
+ * Copyright 2011, The University of Queensland
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.semanticweb.owlapi.rio;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.semanticweb.owlapi.io.OWLParserException;
+
+/**
+ * Parser for the line based N-Triples and N-Quads formats that tokenises on the common fork join
+ * pool. The document is read in blocks cut at line boundaries; each block is tokenised by a worker
+ * into statements whose IRIs and blank nodes come from a dictionary local to the block, so that a
+ * term repeated in the block is one value with one string. The calling thread is the merge stage:
+ * it passes the statements of the blocks to the handler in document order, so the handler sees the
+ * same statements as with the sequential Rio parser. Only a few blocks per worker are in flight at
+ * any time, so memory use does not grow with the size of the document.
+ */
+class ParallelNTriplesParser {
+
+    /** Characters per block; a block ends at the last line break it contains. */
+    static final int BLOCK_SIZE = 1 << 20;
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+    private final boolean quads;
+    private final int blockSize;
+    /** Blank node labels are scoped to the document, as with the Rio parsers. */
+    private final String blankNodePrefix =
+        "genid-" + UUID.randomUUID().toString().replace("-", "") + '-';
+
+    /**
+     * @param quads true if statements may have a graph label, which is ignored
+     */
+    ParallelNTriplesParser(boolean quads) {
+        this(quads, BLOCK_SIZE);
+    }
+
+    /**
+     * @param quads true if statements may have a graph label, which is ignored
+     * @param blockSize characters per block
+     */
+    ParallelNTriplesParser(boolean quads, int blockSize) {
+        this.quads = quads;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @param format Rio format
+     * @return true if the format can be parsed by this parser
+     */
+    static boolean isLineBased(RDFFormat format) {
+        return RDFFormat.NTRIPLES.equals(format) || RDFFormat.NQUADS.equals(format);
+    }
+
+    /**
+     * @param reader document to parse
+     * @param handler handler for the statements
+     * @throws IOException if the document cannot be read
+     * @throws OWLParserException if a line is not a valid statement; the statements before the
+     *         line have been handled
+     */
+    void parse(Reader reader, RDFHandler handler) throws IOException {
+        handler.startRDF();
+        int maxPending = ForkJoinPool.getCommonPoolParallelism() * 2 + 1;
+        Deque<CompletableFuture<Block>> pending = new ArrayDeque<>();
+        char[] buffer = new char[blockSize];
+        int length = 0;
+        int line = 1;
+        boolean end = false;
+        try {
+            while (!end) {
+                int read = reader.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    end = true;
+                } else if ((length += read) < buffer.length) {
+                    continue;
+                }
+                int cut = end ? length : lastLineBreak(buffer, length) + 1;
+                if (cut == 0) {
+                    if (!end) {
+                        // a line longer than the buffer
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                    continue;
+                }
+                char[] text = Arrays.copyOf(buffer, cut);
+                System.arraycopy(buffer, cut, buffer, 0, length - cut);
+                length -= cut;
+                if (end && pending.isEmpty()) {
+                    // the whole document fits in one block
+                    line = merge(new Block(text).tokenise(), line, handler);
+                } else {
+                    pending.add(CompletableFuture.supplyAsync(() -> new Block(text).tokenise()));
+                    if (pending.size() >= maxPending) {
+                        line = merge(join(pending.remove()), line, handler);
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                line = merge(join(pending.remove()), line, handler);
+            }
+        } finally {
+            pending.forEach(f -> f.cancel(false));
+        }
+        handler.endRDF();
+    }
+
+    private static int lastLineBreak(char[] buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private static Block join(CompletableFuture<Block> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param block tokenised block
+     * @param line line number of the first line of the block
+     * @param handler handler for the statements
+     * @return line number of the first line of the next block
+     */
+    private static int merge(Block block, int line, RDFHandler handler) {
+        for (Statement st : block.statements) {
+            handler.handleStatement(st);
+        }
+        SyntaxError error = block.error;
+        if (error != null) {
+            throw new OWLParserException(error.getMessage(), error.getCause(), line + error.line,
+                error.column);
+        }
+        return line + block.lines;
+    }
+
+    /**
+     * A block of complete lines and the statements tokenised from it. Tokenising stops at the
+     * first invalid line, whose error is kept for the merge stage with a line number relative to
+     * the block.
+     */
+    private class Block {
+
+        private final char[] text;
+        private final List<Statement> statements = new ArrayList<>();
+        private final Map<String, IRI> iris = new HashMap<>();
+        private final Map<String, BNode> nodes = new HashMap<>();
+        private final StringBuilder unescaped = new StringBuilder();
+        @Nullable
+        private SyntaxError error;
+        private int lines;
+        private int lineStart;
+        private int lineEnd;
+        private int pos;
+
+        Block(char[] text) {
+            this.text = text;
+        }
+
+        Block tokenise() {
+            for (lineStart = 0; lineStart < text.length; lineStart = lineEnd + 1) {
+                lineEnd = lineStart;
+                while (lineEnd < text.length && text[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                pos = lineStart;
+                try {
+                    statement();
+                } catch (SyntaxError e) {
+                    error = e;
+                    return this;
+                } catch (IllegalArgumentException e) {
+                    error = new SyntaxError(e.getMessage(), e, lines, pos - lineStart + 1);
+                    return this;
+                }
+                if (lineEnd < text.length) {
+                    lines++;
+                }
+            }
+            return this;
+        }
+
+        private void statement() {
+            skipSpace();
+            if (pos == lineEnd || text[pos] == '#') {
+                return;
+            }
+            Resource subject = resource();
+            skipSpace();
+            IRI predicate = iri();
+            skipSpace();
+            Value object = pos < lineEnd && text[pos] == '"' ? literal() : resource();
+            skipSpace();
+            if (quads && pos < lineEnd && text[pos] != '.') {
+                resource();
+                skipSpace();
+            }
+            expect('.');
+            skipSpace();
+            if (pos < lineEnd && text[pos] != '#') {
+                throw error("Content after '.' is not allowed");
+            }
+            statements.add(VF.createStatement(subject, predicate, object));
+        }
+
+        private void skipSpace() {
+            while (pos < lineEnd && isSpace(text[pos])) {
+                pos++;
+            }
+        }
+
+        private void expect(char c) {
+            if (pos == lineEnd || text[pos] != c) {
+                throw error("Expected '" + c + "', found: " + found());
+            }
+            pos++;
+        }
+
+        private String found() {
+            return pos == lineEnd ? "end of line" : String.valueOf(text[pos]);
+        }
+
+        private SyntaxError error(String message) {
+            return error(pos, message);
+        }
+
+        private SyntaxError error(int at, String message) {
+            return new SyntaxError(message, null, lines, at - lineStart + 1);
+        }
+
+        private Resource resource() {
+            if (pos < lineEnd && text[pos] == '<') {
+                return iri();
+            }
+            if (pos + 1 < lineEnd && text[pos] == '_' && text[pos + 1] == ':') {
+                return blankNode();
+            }
+            throw error("Expected '<' or '_:', found: " + found());
+        }
+
+        private IRI iri() {
+            expect('<');
+            int start = pos;
+            boolean escaped = false;
+            while (pos < lineEnd && text[pos] != '>') {
+                escaped |= text[pos] == '\\';
+                pos++;
+            }
+            if (pos == lineEnd) {
+                throw error("Unterminated IRI");
+            }
+            String iri = escaped ? unescape(start, pos) : new String(text, start, pos - start);
+            pos++;
+            return iris.computeIfAbsent(iri, VF::createIRI);
+        }
+
+        private BNode blankNode() {
+            pos += 2;
+            int start = pos;
+            while (pos < lineEnd && !isSpace(text[pos]) && text[pos] != '<' && text[pos] != '"') {
+                pos++;
+            }
+            // a label cannot end with a dot: it is the end of the statement
+            while (pos > start && text[pos - 1] == '.') {
+                pos--;
+            }
+            if (pos == start) {
+                throw error("Expected a blank node label, found: " + found());
+            }
+            return nodes.computeIfAbsent(new String(text, start, pos - start),
+                label -> VF.createBNode(blankNodePrefix + label));
+        }
+
+        private Literal literal() {
+            expect('"');
+            int start = pos;
+            boolean escaped = false;
+            while (pos < lineEnd && text[pos] != '"') {
+                if (text[pos] == '\\') {
+                    escaped = true;
+                    pos++;
+                }
+                pos++;
+            }
+            if (pos >= lineEnd) {
+                throw error("Unterminated literal");
+            }
+            String label = escaped ? unescape(start, pos) : new String(text, start, pos - start);
+            pos++;
+            if (pos < lineEnd && text[pos] == '@') {
+                int langStart = ++pos;
+                while (pos < lineEnd
+                    && (Character.isLetterOrDigit(text[pos]) || text[pos] == '-')) {
+                    pos++;
+                }
+                if (pos == langStart) {
+                    throw error("Expected a language tag, found: " + found());
+                }
+                return VF.createLiteral(label, new String(text, langStart, pos - langStart));
+            }
+            if (pos + 1 < lineEnd && text[pos] == '^' && text[pos + 1] == '^') {
+                pos += 2;
+                return VF.createLiteral(label, iri());
+            }
+            return VF.createLiteral(label);
+        }
+
+        /**
+         * Decodes the escape sequences of N-Triples strings and IRIs.
+         */
+        private String unescape(int start, int end) {
+            unescaped.setLength(0);
+            for (int i = start; i < end; i++) {
+                char c = text[i];
+                if (c != '\\') {
+                    unescaped.append(c);
+                    continue;
+                }
+                i++;
+                char e = i < end ? text[i] : ' ';
+                switch (e) {
+                    case 't':
+                        unescaped.append('\t');
+                        break;
+                    case 'b':
+                        unescaped.append('\b');
+                        break;
+                    case 'n':
+                        unescaped.append('\n');
+                        break;
+                    case 'r':
+                        unescaped.append('\r');
+                        break;
+                    case 'f':
+                        unescaped.append('\f');
+                        break;
+                    case '"':
+                    case '\'':
+                    case '\\':
+                        unescaped.append(e);
+                        break;
+                    case 'u':
+                    case 'U':
+                        int digits = e == 'u' ? 4 : 8;
+                        if (i + digits >= end) {
+                            throw error(i, "Incomplete Unicode escape sequence");
+                        }
+                        try {
+                            unescaped.appendCodePoint(
+                                Integer.parseInt(new String(text, i + 1, digits), 16));
+                        } catch (IllegalArgumentException ex) {
+                            throw error(i, "Illegal Unicode escape sequence");
+                        }
+                        i += digits;
+                        break;
+                    default:
+                        throw error(i, "Unsupported escape sequence: \\" + e);
+                }
+            }
+            return unescaped.toString();
+        }
+    }
+
+    /**
+     * An invalid line, with a line number relative to its block.
+     */
+    private static class SyntaxError extends RuntimeException {
+
+        final int line;
+        final int column;
+
+        SyntaxError(String message, @Nullable Throwable cause, int line, int column) {
+            super(message, cause);
+            this.line = line;
+            this.column = column;
+        }
+    }
+}
@@ -57,6 +57,7 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
 import org.eclipse.rdf4j.rio.RDFParseException;
@@ -151,7 +152,8 @@ public class RioParserImpl extends AbstractOWLParser implements RioParser {
 
     /**
      * Parse the given document source and return a {@link StatementCollector} containing the RDF
-     * statements found in the source.
+     * statements found in the source. N-Triples and N-Quads documents are tokenised in parallel if
+     * the configuration asks for parallel parsing.
      *
      * @param source An {@link OWLOntologyDocumentSource} containing RDF statements.
      * @param baseUri The base URI to use when parsing the document source.
@@ -181,6 +183,15 @@ public class RioParserImpl extends AbstractOWLParser implements RioParser {
         createParser.setRDFHandler(handler);
         long rioParseStart = System.currentTimeMillis();
         try {
+            if (config.shouldParseInParallel()
+                && ParallelNTriplesParser.isLineBased(owlFormatFactory.getRioFormat())) {
+                try (Reader wrappedInput = wrapInputAsReader(source, config)) {
+                    new ParallelNTriplesParser(
+                        RDFFormat.NQUADS.equals(owlFormatFactory.getRioFormat()))
+                            .parse(wrappedInput, handler);
+                }
+                return;
+            }
             if (owlFormatFactory.isTextual()) {
                 try (Reader wrappedInput = wrapInputAsReader(source, config)) {
                     createParser.parse(wrappedInput, baseUri);